@@ -2,16 +2,37 @@ package me.xmertsalov;
 
 import java.awt.*;
 import java.awt.event.KeyEvent;
+import java.awt.image.BufferedImage;
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import me.xmertsalov.audio.AudioPlayer;
 import me.xmertsalov.background.BackgroundManager;
 import me.xmertsalov.components.PlayerAnimator;
 import me.xmertsalov.config.Config;
 import me.xmertsalov.entities.Player;
+import me.xmertsalov.loop.GameLoop;
+import me.xmertsalov.loop.LoopStats;
+import me.xmertsalov.loop.PowerSaver;
+import me.xmertsalov.loop.RenderLoop;
+import me.xmertsalov.rendering.Culling;
+import me.xmertsalov.rendering.FrameRecorder;
+import me.xmertsalov.rendering.Java2DRenderer;
+import me.xmertsalov.rendering.LogicalResolution;
+import me.xmertsalov.rendering.QualityGovernor;
+import me.xmertsalov.rendering.QualityTier;
+import me.xmertsalov.rendering.RenderTarget;
+import me.xmertsalov.rendering.Renderer;
 import me.xmertsalov.scenes.GameScene;
 import me.xmertsalov.scenes.inGame.*;
 import me.xmertsalov.score.Score;
+import me.xmertsalov.ui.DebugOverlay;
+import me.xmertsalov.utils.AssetManager;
+import me.xmertsalov.utils.BundleLoader;
+import me.xmertsalov.utils.SpriteDiskCache;
+import me.xmertsalov.utils.SpriteRegistry;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -20,17 +41,33 @@ import org.apache.logging.log4j.Logger;
  * It initializes the game, manages the game loop, and handles rendering and updates.
  * This class also manages global game settings, scenes, and modes.
  */
-public class Game implements Runnable {
+public class Game {
     private final GamePanel gamePanel;
 	private Thread gameThread;
+	private volatile GameLoop gameLoop;
+	private Thread renderThread;
+	private RenderLoop renderLoop;
+	private final DebugOverlay debugOverlay = new DebugOverlay();
+	private final QualityGovernor qualityGovernor = new QualityGovernor(FPS_LIMIT);
+	private final RenderTarget renderTarget = new RenderTarget();
+	private final Java2DRenderer renderer = new Java2DRenderer(); // rebound to the graphics context being drawn
+	private LogicalResolution logicalResolution; // null when drawing at the window resolution
+	private final FrameRecorder frameRecorder;
+	private final PowerSaver powerSaver;
+	private GameScene lastScene;
+	private final AssetManager assetManager;
+	private volatile boolean loaded; // set once the required assets are loaded and the menu is built
+	private volatile Future<Score> scenes; // the other scenes, built in the background
+	private final long loadingStartNanos;
 	private final GraphicsEnvironment graphics;
 	private final GraphicsDevice device;
 
 	// Game loop settings
 	public final static int FPS_LIMIT = 120;
-	public final static int UPS_LIMIT = 200;
-
-	private int frameCount = 0;
+	public final static int REFERENCE_UPS = 200; // tick rate that speeds, velocities and animation speeds are defined for
+	public static int UPS_LIMIT = REFERENCE_UPS;
+	public static double TICK_SCALE = 1; // REFERENCE_UPS / UPS_LIMIT, multiplies per-tick movement
+	public static double TICK_SECONDS = 1.0 / UPS_LIMIT; // game time of one tick
 
 	// Game dimensions
 	public final static int TILES_DEFAULT_SIZE = 32;
@@ -48,6 +85,13 @@ public class Game implements Runnable {
 	public final static Color DEBUG_COLOR_SECOND = new Color(255, 0, 0, 80);
 	public static boolean DEBUG_COLLIDERS = false;
 	public static boolean DEBUG_FPS = false;
+	public static boolean DEBUG_PARTICLE_STRESS = false; // keep 50k particles alive to measure the particle system
+	public static boolean SHARED_ANIMATION_CLOCKS = true; // saws, power-ups and palms read their frame from one clock per type
+	public static boolean USE_ASSET_PACK = true; // load decoded assets from the packed asset file when it exists
+	public static boolean USE_SPRITE_DISK_CACHE = true; // keep decoded sprites that are not packed in cache/sprites
+
+	// Rendering quality, adjusted by the QualityGovernor
+	public static volatile QualityTier QUALITY_TIER = QualityTier.HIGH;
 
 	// All scenes
 	private PlayingScene playingScene;
@@ -103,10 +147,17 @@ public class Game implements Runnable {
 		config = Config.loadConfig();
 		WINDOW_WIDTH = config.getResolutionWidth();
 		WINDOW_HEIGHT = config.getResolutionHeight();
+		setUpdateRate(config.getUpdatesPerSecond());
+		powerSaver = new PowerSaver(config.isPowerSaving());
+		frameRecorder = new FrameRecorder(config.getRecordingFormat(), config.getRecordingFrameInterval());
+		Runtime.getRuntime().addShutdownHook(new Thread(frameRecorder::close, "Frame Recorder Shutdown"));
 
+		// Any input wakes the renderer from power saving
+		Toolkit.getDefaultToolkit().addAWTEventListener(event -> powerSaver.wake(),
+				AWTEvent.KEY_EVENT_MASK | AWTEvent.MOUSE_EVENT_MASK | AWTEvent.MOUSE_MOTION_EVENT_MASK | AWTEvent.MOUSE_WHEEL_EVENT_MASK);
 
 		// Game window and panel
-		gamePanel = new GamePanel(this, new Dimension(WINDOW_WIDTH, WINDOW_HEIGHT));
+		gamePanel = new GamePanel(this, new Dimension(WINDOW_WIDTH, WINDOW_HEIGHT), config.getRenderMode());
 		GameWindow gameWindow = new GameWindow(gamePanel, this);
 
 		// if fullscreen mode is enabled
@@ -133,15 +184,48 @@ public class Game implements Runnable {
 		gameWindow.getJFrame().setVisible(true);
 
 		// request focus for inputs
-		gamePanel.requestFocus();
+		gamePanel.requestInputFocus();
+
+		// draw at the native pixel-art resolution and let the final upscale fill the window
+		if (config.isLogicalResolution()) {
+			logicalResolution = new LogicalResolution(WINDOW_WIDTH, WINDOW_HEIGHT);
+			WINDOW_WIDTH = logicalResolution.getWidth();
+			WINDOW_HEIGHT = logicalResolution.getHeight();
+		}
 
 		setScale(WINDOW_WIDTH, WINDOW_HEIGHT);
 
+		loadingStartNanos = System.nanoTime();
+		assetManager = new AssetManager();
+		SpriteRegistry.setReloader(assetManager);
 		startGame();
 
 		startGameLoop();
 	}
 
+	/**
+	 * Constructs a {@code Game} without a window, input, render thread or game loop, for headless tests and benchmarks.
+	 * The assets are loaded and the scenes are built as usual; the caller drives {@link #updateGame()} and
+	 * {@link #renderGame(Renderer)} itself.
+	 *
+	 * @param config the settings to use, they are not loaded from or saved to disk
+	 */
+	Game(Config config) {
+		this.config = config;
+		gamePanel = null;
+		graphics = null;
+		device = null;
+		powerSaver = new PowerSaver(false);
+		frameRecorder = new FrameRecorder(config.getRecordingFormat(), config.getRecordingFrameInterval());
+		setUpdateRate(config.getUpdatesPerSecond());
+		setScale(WINDOW_WIDTH, WINDOW_HEIGHT);
+
+		loadingStartNanos = System.nanoTime();
+		assetManager = new AssetManager();
+		SpriteRegistry.setReloader(assetManager);
+		startGame();
+	}
+
 	/**
 	 * Adjusts the game's scale based on the given width and height.
 	 * Updates the tile size and logs the new scale.
@@ -157,44 +241,124 @@ public class Game implements Runnable {
 	}
 
 	/**
-	 * Starts the game loop in a separate thread.
-	 * This method initializes the game thread and begins execution.
+	 * Sets the number of updates per second and derives the per-tick movement scale and tick duration.
+	 * Must be called before the game objects are created and the game loop is started.
+	 *
+	 * @param ups the number of updates per second
+	 */
+	static void setUpdateRate(int ups) {
+		UPS_LIMIT = ups;
+		TICK_SCALE = (double) REFERENCE_UPS / ups;
+		TICK_SECONDS = 1.0 / ups;
+
+		logger.info("Game updates at {} UPS", ups);
+	}
+
+	/**
+	 * Starts the game loop and the render loop in separate threads.
+	 * The game thread runs the simulation, the render thread draws the frames.
 	 */
 	private void startGameLoop() {
-		gameThread = new Thread(this);
+		gameLoop = new GameLoop(this::updateGame, powerSaver, UPS_LIMIT, config.getMaxUpdatesPerFrame(), config.getSpinWindowMicros());
+		gameThread = new Thread(gameLoop, "Game Loop");
 		gameThread.start();
+
+		renderLoop = new RenderLoop(this, powerSaver, FPS_LIMIT, config.getSpinWindowMicros());
+		renderThread = new Thread(renderLoop, "Render Loop");
+		renderThread.start();
 	}
 
 	/**
-	 * Initializes the game by setting up background, audio, players, scenes, and score.
+	 * Starts loading the game on the worker pool of the {@link AssetManager}, while the {@link LoadingScene} shows
+	 * the progress. Only the background and the menu are required; the other scenes, the players, the audio clips
+	 * and the remaining sprites are loaded in the background after the menu is shown, see {@link #isSceneReady(GameScene)}.
 	 * This method is called once when the game starts.
 	 */
 	private void startGame() {
-		backgroundManager = new BackgroundManager();
-		audioPlayer = new AudioPlayer();
+		loadingScene = new LoadingScene(this);
 
+		// Plays nothing until its clips are loaded, so the menu can use it right away
+		audioPlayer = new AudioPlayer();
 		audioPlayer.setMusicVolume((float) config.getMusicVolume() / 100);
 		audioPlayer.setSfxVolume((float) config.getSfxVolume() / 100);
 
-		players = new ArrayList<>();
-		PlayerAnimator playerAnimator = new PlayerAnimator();
-
-		players.add(new Player(0, 0, KeyEvent.VK_SHIFT, playerAnimator.clone(), "Adventure Boy A"));
-		players.add(new Player(0, 0, KeyEvent.VK_C, playerAnimator.clone(), "Special Knight 1"));
-		players.add(new Player(0, 0, KeyEvent.VK_N, playerAnimator.clone(), "Special Knight 2"));
-		players.add(new Player(0, 0, KeyEvent.VK_L, playerAnimator.clone(), "Adventure Boy B"));
-
-		playingScene = new PlayingScene(this);
-		menuScene = new MenuScene(this);
-		lobbyScene = new LobbyScene(this);
-		creditsScene = new CreditsScene(this);
-		settingsScene = new SettingsScene(this);
-		tutorialScene = new TutorialScene(this);
-		panoramaScene = new PanoramaScene(this);
-		loadingScene = new LoadingScene(this);
+		// Required jobs are submitted first, so the workers start with them
+		assetManager.submit("background", () -> backgroundManager = new BackgroundManager(), true);
+		Future<MenuScene> loadedMenu = assetManager.submit("menu", () -> menuScene = new MenuScene(this), true);
+
+		assetManager.submit("audio", () -> {
+			audioPlayer.loadClips();
+			return null;
+		}, false);
+		Future<ArrayList<Player>> loadedPlayers = assetManager.submit("players", () -> {
+			ArrayList<Player> players = new ArrayList<>();
+			PlayerAnimator playerAnimator = new PlayerAnimator();
+
+			players.add(new Player(0, 0, KeyEvent.VK_SHIFT, playerAnimator.clone(), "Adventure Boy A"));
+			players.add(new Player(0, 0, KeyEvent.VK_C, playerAnimator.clone(), "Special Knight 1"));
+			players.add(new Player(0, 0, KeyEvent.VK_N, playerAnimator.clone(), "Special Knight 2"));
+			players.add(new Player(0, 0, KeyEvent.VK_L, playerAnimator.clone(), "Adventure Boy B"));
+			return players;
+		}, false);
+		scenes = assetManager.submit("scenes", () -> {
+			players = loadedPlayers.get();
+			loadedMenu.get();
+
+			playingScene = new PlayingScene(this);
+			lobbyScene = new LobbyScene(this);
+			creditsScene = new CreditsScene(this);
+			settingsScene = new SettingsScene(this);
+			tutorialScene = new TutorialScene(this);
+			panoramaScene = new PanoramaScene(this);
+
+			return score = new Score(this);
+		}, false);
+
+		// Other skins and the tutorial images, the largest atlas, are decoded last so they are ready when first shown
+		for (String sprite : BundleLoader.getSpriteAtlasNames()) {
+			if (!sprite.equals(BundleLoader.TUTORIAL_IMAGES)) assetManager.loadSprite(sprite, false);
+		}
+		assetManager.loadSprite(BundleLoader.TUTORIAL_IMAGES, false);
+	}
 
-		score = new Score(this);
+	/**
+	 * Returns whether a scene is built and can be shown. The menu is built before the loading screen is left;
+	 * the other scenes are built in the background, and until they are done the loading screen is shown instead.
+	 *
+	 * @param scene the scene to check
+	 * @return {@code true} if the scene can be updated, drawn and receive input
+	 * @throws RuntimeException if building the scenes in the background failed
+	 */
+	public boolean isSceneReady(GameScene scene) {
+		if (scene == GameScene.MENU || scene == GameScene.LOADING || scene == GameScene.EXIT) return true;
+
+		Future<Score> built = scenes;
+		if (built == null || !built.isDone()) return false;
+		try {
+			built.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		} catch (ExecutionException e) {
+			throw new RuntimeException(e.getCause());
+		}
+		return true;
+	}
 
+	/**
+	 * Leaves the loading screen once every required asset is loaded.
+	 * Called by the {@link LoadingScene} on the game loop thread; the scenes built by the asset workers are visible
+	 * to the render thread from here on.
+	 */
+	public void finishLoading() {
+		loaded = true;
+
+		long sinceLaunch = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+		Game.logger.info("Menu ready {} ms after launch ({} ms loading, {} of {} assets still loading in the background)",
+				sinceLaunch, (System.nanoTime() - loadingStartNanos) / 1_000_000,
+				assetManager.getTotalCount() - assetManager.getTotalDone(), assetManager.getTotalCount());
+		SpriteRegistry.logStats();
+		SpriteDiskCache.logStats();
 	}
 
 	/**
@@ -202,13 +366,34 @@ public class Game implements Runnable {
 	 * This includes updating the background, audio, and the current scene based on the game state.
 	 */
 	public void updateGame() {
+		if (!loaded) {
+			loadingScene.update();
+			return;
+		}
+
 		backgroundManager.update();
 		audioPlayer.update();
 		audioPlayer.autoGenerateMusic();
-		switch (GameScene.scene){
+		SpriteRegistry.trim();
+
+		GameScene scene = GameScene.scene; // input may switch the scene while it is updated
+		if (scene != lastScene) {
+			lastScene = scene;
+			powerSaver.wake();
+		}
+
+		// A scene that is still being built in the background waits on the loading screen
+		if (!isSceneReady(scene)) {
+			loadingScene.update();
+			return;
+		}
+
+		switch (scene){
 			case PLAYING: {
 				playingScene.update();
-				score.update();
+				if (!playingScene.isPaused()) score.update();
+				powerSaver.setGamePaused(playingScene.isWaitingForResume());
+				playingScene.publishSnapshot();
 				break;
             }
 			case MENU:
@@ -236,7 +421,7 @@ public class Game implements Runnable {
 				loadingScene.update();
 				break;
 			default:
-				throw new IllegalStateException("Unexpected value: " + GameScene.scene);
+				throw new IllegalStateException("Unexpected value: " + scene);
 		}
 	}
 
@@ -244,116 +429,242 @@ public class Game implements Runnable {
 	 * Renders the game graphics on every frame.
 	 * This includes drawing the background, the current scene, and optionally the FPS counter.
 	 *
-	 * @param g the {@link Graphics} object used for rendering
+	 * @param renderer the {@link Renderer} used for rendering
 	 */
-	public void renderGame(Graphics g) {
-		if (menuScene == null || backgroundManager == null) return;
+	public void renderGame(Renderer renderer) {
+		GameScene scene = GameScene.scene;
+		if (!loaded || !isSceneReady(scene)) {
+			loadingScene.draw(renderer);
+			return;
+		}
 
-		backgroundManager.draw(g);
+		backgroundManager.draw(renderer);
 
-		switch (GameScene.scene) {
+		switch (scene) {
 			case PLAYING:
-				playingScene.draw(g);
+				playingScene.draw(renderer);
 				break;
 			case MENU:
-				menuScene.draw(g);
+				menuScene.draw(renderer);
 				break;
 			case LOBBY:
-				lobbyScene.draw(g);
+				lobbyScene.draw(renderer);
 				break;
 			case SETTINGS:
-				settingsScene.draw(g);
+				settingsScene.draw(renderer);
 				break;
 			case CREDITS:
-				creditsScene.draw(g);
+				creditsScene.draw(renderer);
 				break;
 			case PANORAMA:
-				panoramaScene.draw(g);
+				panoramaScene.draw(renderer);
 				break;
 			case TUTORIAL:
-				tutorialScene.draw(g);
+				tutorialScene.draw(renderer);
 				break;
 			case LOADING:
-				loadingScene.draw(g);
+				loadingScene.draw(renderer);
 				break;
 			case EXIT:
 				break;
 			default:
-				throw new IllegalStateException("Unexpected value: " + GameScene.scene);
+				throw new IllegalStateException("Unexpected value: " + scene);
 		}
 
-		if (DEBUG_FPS) {
-			g.setColor(Color.GREEN);
-			g.setFont(new Font("Arial", Font.BOLD, (int)(8 * Game.SCALE)));
-			g.drawString("FPS: " + frameCount, (int)(Game.WINDOW_WIDTH - 42 * Game.SCALE), (int)(12 * Game.SCALE));
+	}
+
+	/**
+	 * Renders a complete frame: the game at the internal resolution of the current quality tier,
+	 * then the debug overlay at full resolution.
+	 * At the logical resolution the game and the overlay are both drawn in logical pixels and upscaled together.
+	 * All drawing goes through one reused {@link Java2DRenderer}, which also counts the commands of the frame.
+	 *
+	 * @param g the {@link Graphics} object of the screen
+	 */
+	public void renderFrame(Graphics g) {
+		renderer.resetCounters();
+
+		if (logicalResolution != null) {
+			Graphics2D logicalGraphics = logicalResolution.begin();
+			try {
+				renderer.setGraphics(logicalGraphics);
+				renderGame(renderer);
+				Culling.endFrame();
+				frameRecorder.capture(logicalResolution.getImage());
+
+				if (DEBUG_FPS) {
+					renderer.setGraphics(logicalGraphics);
+					debugOverlay.draw(renderer, this);
+				}
+			} finally {
+				logicalGraphics.dispose();
+				renderer.endFrame();
+			}
+			logicalResolution.present(g);
+			return;
+		}
+
+		double renderScale = QUALITY_TIER.getRenderScale();
+
+		if (renderScale < 1) {
+			Graphics2D targetGraphics = renderTarget.begin(WINDOW_WIDTH, WINDOW_HEIGHT, renderScale);
+			try {
+				renderer.setGraphics(targetGraphics);
+				renderGame(renderer);
+			} finally {
+				targetGraphics.dispose();
+			}
+			// Recorded at the internal resolution, from the back buffer the frame is drawn into anyway
+			frameRecorder.capture(renderTarget.getImage());
+			renderTarget.present(g, WINDOW_WIDTH, WINDOW_HEIGHT);
+		}
+		else {
+			renderRecordedGame(g);
 		}
+		Culling.endFrame();
 
+		if (DEBUG_FPS) {
+			renderer.setGraphics(g);
+			debugOverlay.draw(renderer, this);
+		}
+		renderer.endFrame();
 	}
 
 	/**
-	 * The main game loop that handles updates and rendering.
-	 * It maintains a consistent FPS and UPS (updates per second) rate.
+	 * Renders the game, through an image of the {@link FrameRecorder} when the frame is recorded.
+	 * Used when the frame is drawn straight onto the screen; frames drawn into a back buffer are captured from it.
+	 *
+	 * @param g the {@link Graphics} object the game is shown on
 	 */
-	@Override
-	public void run() {
-
-		double timePerFrame = 1000000000.0 / FPS_LIMIT;
-		double timePerUpdate = 1000000000.0 / UPS_LIMIT;
+	private void renderRecordedGame(Graphics g) {
+		BufferedImage frame = frameRecorder.beginFrame(WINDOW_WIDTH, WINDOW_HEIGHT);
+		if (frame == null) {
+			renderer.setGraphics(g);
+			renderGame(renderer);
+			return;
+		}
 
-		long previousTime = System.nanoTime();
+		Graphics2D frameGraphics = frame.createGraphics();
+		try {
+			frameGraphics.setColor(Color.BLACK);
+			frameGraphics.fillRect(0, 0, WINDOW_WIDTH, WINDOW_HEIGHT);
+			renderer.setGraphics(frameGraphics);
+			renderGame(renderer);
+		} finally {
+			frameGraphics.dispose();
+		}
+		frameRecorder.endFrame(g, frame);
+	}
 
-		int frameCount = 0;
-		int updateCount = 0;
-		long lastCheck = System.currentTimeMillis();
+	/**
+	 * Records a frame that was drawn and shown on screen.
+	 * Called from the thread that drew the frame.
+	 *
+	 * @param drawNanos    the time spent drawing the frame in nanoseconds
+	 * @param presentNanos the time spent presenting the frame in nanoseconds, or 0 if unknown
+	 */
+	public void frameDrawn(long drawNanos, long presentNanos) {
+		LoopStats stats = getLoopStats();
+		if (stats != null) stats.recordFrame(drawNanos, presentNanos);
 
-		double deltaUpdate = 0;
-		double deltaFrame = 0;
+		qualityGovernor.recordFrame(drawNanos);
+	}
 
-		// Game loop
-		while (true) {
-			long currentTime = System.nanoTime();
+	/**
+	 * Presents a new frame through the game panel.
+	 * This method is called by the {@link RenderLoop} whenever a frame is due.
+	 */
+	public void drawFrame() {
+		gamePanel.drawFrame();
+	}
 
-			deltaUpdate += (currentTime - previousTime) / timePerUpdate;
-			deltaFrame += (currentTime - previousTime) / timePerFrame;
-			previousTime = currentTime;
+	/**
+	 * Returns the statistics of the game loop.
+	 *
+	 * @return the loop statistics, or {@code null} if the loop has not started yet
+	 */
+	public LoopStats getLoopStats() {
+		return gameLoop == null ? null : gameLoop.getStats();
+	}
 
-			// Update the game
-			if (deltaUpdate >= 1) {
-				updateGame();
-				updateCount++;
-				deltaUpdate--;
-			}
+	/**
+	 * Returns the governor that adjusts the rendering quality.
+	 *
+	 * @return the quality governor
+	 */
+	public QualityGovernor getQualityGovernor() {
+		return qualityGovernor;
+	}
 
-			// Render the game
-			if (deltaFrame >= 1) {
-				gamePanel.repaint();
-				frameCount++;
-				deltaFrame--;
-			}
+	/**
+	 * Returns the power saver that lowers the frame rate of idle, unfocused and minimized windows.
+	 *
+	 * @return the power saver
+	 */
+	public PowerSaver getPowerSaver() {
+		return powerSaver;
+	}
 
-			// FPS and UPS counter
-			if (System.currentTimeMillis() - lastCheck >= 1000) {
-				lastCheck = System.currentTimeMillis();
-//				System.out.println("FPS: " + frameCount + " | UPS: " + updateCount);
-				this.frameCount = frameCount;
-				frameCount = 0;
-				updateCount = 0;
+	/**
+	 * Returns the recorder that writes the presented frames to disk.
+	 *
+	 * @return the frame recorder
+	 */
+	public FrameRecorder getFrameRecorder() {
+		return frameRecorder;
+	}
 
-			}
-		}
+	/**
+	 * Returns the renderer the frames are drawn with, for its command counters.
+	 *
+	 * @return the {@link Java2DRenderer} of the game
+	 */
+	public Java2DRenderer getRenderer() {
+		return renderer;
+	}
 
+	/**
+	 * Returns the render target that upscales frames drawn at the logical resolution.
+	 *
+	 * @return the logical resolution, or {@code null} if the game is drawn at the window resolution
+	 */
+	public LogicalResolution getLogicalResolution() {
+		return logicalResolution;
 	}
 
 	/**
 	 * Handles logic when the game window loses focus.
-	 * This is used to reset certain states when the game is not in focus.
+	 * Lowers the frame rate and pauses a running game when power saving is enabled; the paused game is not updated
+	 * until the window is focused again.
 	 */
 	public void windowFocusLost() {
-		if (GameScene.scene == GameScene.PLAYING) {
-			// logic for reset booleans when window is not focused
+		powerSaver.setFocused(false);
+
+		if (GameScene.scene == GameScene.PLAYING && powerSaver.isEnabled()) {
+			playingScene.pause();
 		}
 	}
 
+	/**
+	 * Handles logic when the game window gains focus.
+	 * Restores the frame rate and resumes a paused game after a countdown.
+	 */
+	public void windowFocusGained() {
+		powerSaver.setFocused(true);
+
+		if (playingScene != null) playingScene.resume();
+	}
+
+	/**
+	 * Handles logic when the game window is minimized or restored.
+	 * No frames are drawn while the window is minimized.
+	 *
+	 * @param minimized whether the window is minimized
+	 */
+	public void windowMinimized(boolean minimized) {
+		powerSaver.setMinimized(minimized);
+	}
+
 	// Game modes getters and setters
 	public boolean isBorderlessMode() {return borderlessMode;}
 	public boolean isSlowMode() {return slowMode;}
@@ -382,5 +693,8 @@ public class Game implements Runnable {
 	public ArrayList<Player> getPlayers() {return players;}
 	public Score getScore() {return score;}
 	public Config getConfig() {return config;}
+	public AssetManager getAssetManager() {return assetManager;}
+	public boolean isLoaded() {return loaded;}
 	public AudioPlayer getAudioPlayer() {return audioPlayer;}
+	public BackgroundManager getBackgroundManager() {return backgroundManager;}
 }
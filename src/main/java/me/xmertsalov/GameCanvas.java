@@ -0,0 +1,68 @@
+package me.xmertsalov;
+
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+
+/**
+ * The {@code GameCanvas} class is the rendering surface used in active rendering mode.
+ * The render thread draws every frame into a {@link BufferStrategy} and shows it itself,
+ * so frames are not merged or dropped by the Swing repaint manager.
+ */
+public class GameCanvas extends Canvas {
+	private static final long serialVersionUID = 1L;
+	private static final int BUFFERS = 3;
+
+	private final Game game;
+	private BufferStrategy bufferStrategy;
+
+	/**
+	 * Constructs a {@code GameCanvas} for the specified game.
+	 *
+	 * @param game the {@code Game} instance to be rendered
+	 */
+	public GameCanvas(Game game) {
+		this.game = game;
+
+		setIgnoreRepaint(true);
+		setFocusable(true);
+		setBackground(Color.BLACK);
+	}
+
+	/**
+	 * Draws one frame of the game and shows it on screen.
+	 * The buffer strategy is created on the first call after the canvas became displayable.
+	 */
+	public void render() {
+		if (!isDisplayable() || getWidth() <= 0 || getHeight() <= 0) return;
+
+		if (bufferStrategy == null) {
+			createBufferStrategy(BUFFERS);
+			bufferStrategy = getBufferStrategy();
+		}
+
+		long drawTime = 0;
+		long presentTime = 0;
+
+		do {
+			do {
+				long drawStart = System.nanoTime();
+				Graphics g = bufferStrategy.getDrawGraphics();
+				try {
+					g.setColor(getBackground());
+					g.fillRect(0, 0, getWidth(), getHeight());
+					game.renderFrame(g);
+				} finally {
+					g.dispose();
+				}
+				drawTime += System.nanoTime() - drawStart;
+			} while (bufferStrategy.contentsRestored());
+
+			long presentStart = System.nanoTime();
+			bufferStrategy.show();
+			Toolkit.getDefaultToolkit().sync();
+			presentTime += System.nanoTime() - presentStart;
+		} while (bufferStrategy.contentsLost());
+
+		game.frameDrawn(drawTime, presentTime);
+	}
+}
@@ -4,6 +4,7 @@ import java.awt.*;
 
 import javax.swing.JPanel;
 
+import me.xmertsalov.config.RenderMode;
 import me.xmertsalov.inputSystem.KeyboardInputSystem;
 import me.xmertsalov.inputSystem.MouseInputSystem;
 
@@ -11,29 +12,43 @@ import me.xmertsalov.inputSystem.MouseInputSystem;
  * The {@code GamePanel} class is a custom JPanel that serves as the main rendering
  * and input handling panel for the game. It integrates mouse and keyboard input systems
  * and provides a rendering surface for the game.
+ *
+ * <p>In {@link RenderMode#ACTIVE} mode the panel hosts a {@link GameCanvas} that the render thread draws on directly.
+ * In {@link RenderMode#PASSIVE} mode the panel paints the game itself whenever Swing repaints it.
  */
 public class GamePanel extends JPanel {
 
 	private MouseInputSystem mouseInputSystem;
 	private KeyboardInputSystem keyboardInputSystem;
 	private Game game;
+	private GameCanvas gameCanvas; // null in passive mode
 
 	/**
 	 * Constructs a {@code GamePanel} with the specified game instance and panel dimensions.
 	 * Initializes input systems and sets up the panel size and listeners.
 	 *
-	 * @param game      the {@code Game} instance to be rendered and interacted with
-	 * @param dimension the {@code Dimension} specifying the size of the panel
+	 * @param game       the {@code Game} instance to be rendered and interacted with
+	 * @param dimension  the {@code Dimension} specifying the size of the panel
+	 * @param renderMode the {@code RenderMode} used to present frames
 	 */
-	public GamePanel(Game game, Dimension dimension) {
+	public GamePanel(Game game, Dimension dimension, RenderMode renderMode) {
 		mouseInputSystem = new MouseInputSystem(this);
 		keyboardInputSystem = new KeyboardInputSystem(this);
 		this.game = game;
 
 		setPanelSize(dimension);
-		addKeyListener(keyboardInputSystem);
-		addMouseListener(mouseInputSystem);
-		addMouseMotionListener(mouseInputSystem);
+
+		Component inputTarget = this;
+		if (renderMode == RenderMode.ACTIVE) {
+			setLayout(new BorderLayout());
+			gameCanvas = new GameCanvas(game);
+			add(gameCanvas, BorderLayout.CENTER);
+			inputTarget = gameCanvas;
+		}
+
+		inputTarget.addKeyListener(keyboardInputSystem);
+		inputTarget.addMouseListener(mouseInputSystem);
+		inputTarget.addMouseMotionListener(mouseInputSystem);
 
 	}
 
@@ -46,6 +61,23 @@ public class GamePanel extends JPanel {
 		setPreferredSize(dimension);
 	}
 
+	/**
+	 * Requests input focus for the component that receives keyboard events.
+	 */
+	public void requestInputFocus() {
+		if (gameCanvas != null) gameCanvas.requestFocus();
+		else requestFocus();
+	}
+
+	/**
+	 * Presents a new frame. In active mode the frame is drawn and shown on the calling thread,
+	 * in passive mode a repaint is requested from Swing.
+	 */
+	public void drawFrame() {
+		if (gameCanvas != null) gameCanvas.render();
+		else repaint();
+	}
+
 	/**
 	 * Paints the game components onto the panel. This method is called automatically
 	 * by the Swing framework whenever the panel needs to be repainted.
@@ -54,8 +86,12 @@ public class GamePanel extends JPanel {
 	 */
 	public void paintComponent(Graphics g) {
 		super.paintComponent(g);
+		if (gameCanvas != null) return;
+
+		long drawStart = System.nanoTime();
+		game.renderFrame(g);
 
-		game.renderGame(g);
+		game.frameDrawn(System.nanoTime() - drawStart, 0);
 
 	}
 
@@ -68,4 +104,4 @@ public class GamePanel extends JPanel {
 		return game;
 	}
 
-}
\ No newline at end of file
+}
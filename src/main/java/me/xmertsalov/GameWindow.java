@@ -3,12 +3,13 @@ package me.xmertsalov;
 import java.awt.*;
 import java.awt.event.WindowEvent;
 import java.awt.event.WindowFocusListener;
+import java.awt.event.WindowStateListener;
 
 import javax.swing.*;
 
 /**
  * The {@code GameWindow} class is responsible for creating and managing the main game window.
- * It initializes a {@link JFrame} to display the game and handles window focus events.
+ * It initializes a {@link JFrame} to display the game and handles window focus and state events.
  */
 public class GameWindow {
 	private JFrame jFrame;
@@ -48,7 +49,16 @@ public class GameWindow {
 
 			@Override
 			public void windowGainedFocus(WindowEvent e) {
-				// No specific action is taken when the window gains focus.
+				// Notify the game when the window gains focus.
+				gamePanel.getGame().windowFocusGained();
+			}
+		});
+
+		// Add a window state listener to stop drawing while the window is minimized.
+		jFrame.addWindowStateListener(new WindowStateListener() {
+			@Override
+			public void windowStateChanged(WindowEvent e) {
+				gamePanel.getGame().windowMinimized((e.getNewState() & Frame.ICONIFIED) != 0);
 			}
 		});
 	}
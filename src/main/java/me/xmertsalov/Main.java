@@ -20,6 +20,14 @@ public class Main {
      *             <ul>
      *                 <li>{@code --debug-colliders} or {@code -dc}: Enables debug mode for colliders.</li>
      *                 <li>{@code --show-fps} or {@code -f}: Displays the frames per second (FPS) counter.</li>
+     *                 <li>{@code --particle-stress} or {@code -ps}: Keeps 50 000 particles alive while playing
+     *                 and shows the particle update and draw cost; implies {@code --show-fps}.</li>
+     *                 <li>{@code --own-animation-clocks} or {@code -oc}: Gives every saw, power-up and palm its own
+     *                 animator instead of a shared animation clock per type.</li>
+     *                 <li>{@code --no-asset-pack} or {@code -np}: Loads every asset from the classpath
+     *                 instead of the packed asset file built with the game.</li>
+     *                 <li>{@code --no-sprite-cache} or {@code -nc}: Decodes sprites that are not packed on every launch
+     *                 instead of keeping them decoded in {@code cache/sprites}.</li>
      *             </ul>
      */
     public static void main(String[] args) {
@@ -35,6 +43,23 @@ public class Main {
             } else if (argsList.contains("--show-fps") || argsList.contains("-f")) {
                 showFps = true;
             }
+
+            if (argsList.contains("--particle-stress") || argsList.contains("-ps")) {
+                Game.DEBUG_PARTICLE_STRESS = true;
+                showFps = true;
+            }
+
+            if (argsList.contains("--own-animation-clocks") || argsList.contains("-oc")) {
+                Game.SHARED_ANIMATION_CLOCKS = false;
+            }
+
+            if (argsList.contains("--no-asset-pack") || argsList.contains("-np")) {
+                Game.USE_ASSET_PACK = false;
+            }
+
+            if (argsList.contains("--no-sprite-cache") || argsList.contains("-nc")) {
+                Game.USE_SPRITE_DISK_CACHE = false;
+            }
         }
 
         // Initialize the game with the specified settings
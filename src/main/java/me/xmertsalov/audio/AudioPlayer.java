@@ -2,6 +2,7 @@ package me.xmertsalov.audio;
 
 import me.xmertsalov.Game;
 import me.xmertsalov.scenes.GameScene;
+import me.xmertsalov.utils.AssetPack;
 
 import javax.sound.sampled.*;
 import java.io.IOException;
@@ -56,8 +57,8 @@ public class AudioPlayer {
     private static final String FILE_MUSIC_3 = "res/Sounds/wav/music3.wav";
 
     // Storage
-    private Clip[] musicClips;
-    private static Clip[] sfxClips;
+    private volatile Clip[] musicClips = new Clip[MUSIC_COUNT]; // replaced by loadClips(), silent until then
+    private static volatile Clip[] sfxClips = new Clip[SFX_COUNT];
 
     // States
     private int currentMusicId;
@@ -65,11 +66,10 @@ public class AudioPlayer {
     private double sfxVolume = 1;
 
     /**
-     * Constructs an {@code AudioPlayer} instance and loads all audio clips into memory.
+     * Constructs an {@code AudioPlayer} instance without clips. It plays nothing until {@link #loadClips()} is done,
+     * so it can be used by the menu while the clips are still loading in the background.
      */
-    public AudioPlayer() {
-        loadClips();
-    }
+    public AudioPlayer() {}
 
     /**
      * Plays the specified music track.
@@ -77,11 +77,13 @@ public class AudioPlayer {
      * @param musicId The identifier of the music track to play.
      */
     public void playMusic(int musicId) {
+        currentMusicId = musicId;
+        if (musicClips[musicId] == null) return;
+
         if (musicClips[musicId].isRunning()) {
             musicClips[musicId].stop();
         }
 
-        currentMusicId = musicId;
         updateMusicVolume();
 
         musicClips[musicId].setMicrosecondPosition(0);
@@ -92,7 +94,7 @@ public class AudioPlayer {
      * Stops the currently playing music track.
      */
     private void stopCurrentMusic() {
-        if (musicClips[currentMusicId].isRunning()) {
+        if (musicClips[currentMusicId] != null && musicClips[currentMusicId].isRunning()) {
             musicClips[currentMusicId].stop();
         }
     }
@@ -107,6 +109,7 @@ public class AudioPlayer {
      * Automatically transitions to the next music track when the current track ends.
      */
     public void autoGenerateMusic() {
+        if (musicClips[currentMusicId] == null) return;
         if (musicClips[currentMusicId].getMicrosecondPosition() >= musicClips[currentMusicId].getMicrosecondLength() - 1 ||
                 !musicClips[currentMusicId].isRunning()) {
             playNextMusic();
@@ -142,6 +145,7 @@ public class AudioPlayer {
      * @param sfxId The identifier of the sound effect to play.
      */
     public void playSfx(int sfxId) {
+        if (sfxClips[sfxId] == null) return;
         sfxClips[sfxId].setMicrosecondPosition(0);
         sfxClips[sfxId].start();
     }
@@ -181,6 +185,7 @@ public class AudioPlayer {
      * Updates the volume of the currently playing music track.
      */
     private void updateMusicVolume() {
+        if (musicClips[currentMusicId] == null) return;
         FloatControl gainControl = (FloatControl) musicClips[currentMusicId].getControl(FloatControl.Type.MASTER_GAIN);
         double value = gainControl.getMinimum() + this.musicVolume * (gainControl.getMaximum() - gainControl.getMinimum());
         try{
@@ -195,6 +200,7 @@ public class AudioPlayer {
      */
     private void updateSfxVolume() {
         for (Clip clip : sfxClips) {
+            if (clip == null) continue;
             FloatControl gainControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
             double value = gainControl.getMinimum() + this.sfxVolume * (gainControl.getMaximum() - gainControl.getMinimum());
             try{
@@ -213,7 +219,7 @@ public class AudioPlayer {
      */
     private void updateSfxVolumeSingle(int sfxId, double volume) {
         for (Clip clip : sfxClips) {
-            if (clip != sfxClips[sfxId]) continue;
+            if (clip == null || clip != sfxClips[sfxId]) continue;
 
             FloatControl gainControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
             double value = gainControl.getMinimum() + volume * (gainControl.getMaximum() - gainControl.getMinimum());
@@ -226,48 +232,55 @@ public class AudioPlayer {
     }
 
     /**
-     * Loads all music and sound effect clips into memory.
+     * Loads all music and sound effect clips into memory. The music starts with the next
+     * {@link #autoGenerateMusic()} after the clips are loaded.
      */
-    private void loadClips(){
-        musicClips = new Clip[MUSIC_COUNT];
-        sfxClips = new Clip[SFX_COUNT];
-
-        musicClips[MUSIC_1] = getClip(FILE_MUSIC_1);
-        musicClips[MUSIC_2] = getClip(FILE_MUSIC_2);
-        musicClips[MUSIC_3] = getClip(FILE_MUSIC_3);
-
-        sfxClips[SFX_COUNTDOWN] = getClip(FILE_SFX_COUNTDOWN);
-        sfxClips[SFX_JUMP] = getClip(FILE_SFX_JUMP);
-        sfxClips[SFX_CLICK] = getClip(FILE_SFX_CLICK);
-        sfxClips[SFX_COIN] = getClip(FILE_SFX_COIN);
-        sfxClips[SFX_COUNTDOWN_F] = getClip(FILE_SFX_COUNTDOWN_FIRST);
-        sfxClips[SFX_COUNTDOWN_S] = getClip(FILE_SFX_COUNTDOWN_SECOND);
-
+    public void loadClips(){
+        Clip[] music = new Clip[MUSIC_COUNT];
+        Clip[] sfx = new Clip[SFX_COUNT];
+
+        music[MUSIC_1] = getClip(FILE_MUSIC_1);
+        music[MUSIC_2] = getClip(FILE_MUSIC_2);
+        music[MUSIC_3] = getClip(FILE_MUSIC_3);
+
+        sfx[SFX_COUNTDOWN] = getClip(FILE_SFX_COUNTDOWN);
+        sfx[SFX_JUMP] = getClip(FILE_SFX_JUMP);
+        sfx[SFX_CLICK] = getClip(FILE_SFX_CLICK);
+        sfx[SFX_COIN] = getClip(FILE_SFX_COIN);
+        sfx[SFX_COUNTDOWN_F] = getClip(FILE_SFX_COUNTDOWN_FIRST);
+        sfx[SFX_COUNTDOWN_S] = getClip(FILE_SFX_COUNTDOWN_SECOND);
+
+        musicClips = music;
+        sfxClips = sfx;
         updateSfxVolume();
     }
 
     /**
-     * Retrieves a {@code Clip} object for the specified audio file.
+     * Retrieves a {@code Clip} object for the specified audio file, from the {@link AssetPack} when it is packed.
      * 
      * @param fileName The path to the audio file.
      * @return A {@code Clip} object representing the audio file, or {@code null} if the file could not be loaded.
      */
     private Clip getClip(String fileName) {
+        AssetPack pack = AssetPack.getInstance();
+        AudioInputStream audioInputStream = pack != null ? pack.getSound(fileName) : null;
         URL url = getClass().getClassLoader().getResource(fileName);
-        AudioInputStream audioInputStream;
 
-        if (url == null) {
+        if (audioInputStream == null && url == null) {
             Game.logger.error("Audio file not found: {}", fileName);
             return null;
         }
 
         try {
-            audioInputStream = AudioSystem.getAudioInputStream(url);
+            if (audioInputStream == null) audioInputStream = AudioSystem.getAudioInputStream(url);
             Clip clip = AudioSystem.getClip();
             clip.open(audioInputStream);
             return clip;
         } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
             Game.logger.error(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            // No mixer supports clips, e.g. a headless machine without a sound device: play without sound
+            Game.logger.warn("Audio is disabled: {}", e.getMessage());
         }
         return null;
     }
@@ -4,12 +4,14 @@ import me.xmertsalov.Game;
 import me.xmertsalov.components.Animator.Animator;
 import me.xmertsalov.components.Animator.LoopingAnimationStrategy;
 import me.xmertsalov.exceptions.BundleLoadException;
+import me.xmertsalov.rendering.Interpolation;
+import me.xmertsalov.rendering.Renderer;
+import me.xmertsalov.rendering.SpriteCache;
 import me.xmertsalov.utils.Aggregation;
 import me.xmertsalov.utils.BundleLoader;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -18,6 +20,10 @@ import java.util.List;
  * The {@code BackgroundManager} class is responsible for managing and rendering the background elements
  * of the game, including clouds and water animations. It handles the generation, updating, and rendering
  * of both small and big clouds, as well as the water animation.
+ *
+ * <p>The static background is pre-rendered once at window size, and the repeating big clouds are pre-rendered
+ * into one wrap-around strip that is drawn with two blits at a scroll offset. Both are rebuilt on the drawing
+ * thread when the window size changes. Small clouds live in a fixed pool that is reused instead of reallocated.
  */
 public class BackgroundManager {
     // Dependencies
@@ -28,39 +34,39 @@ public class BackgroundManager {
     private Cloud[] smallClouds; // 2nd layer
     private Cloud bigCloud; // 3rd layer
 
+    // Pre-rendered layers, built and used on the drawing thread
+    private BufferedImage staticLayer; // background at window size
+    private BufferedImage bigCloudStrip; // big clouds side by side, wraps around horizontally
+    private int layersWidth, layersHeight;
+
     // Constants
     private final double waterSizeK = 2f;
     private final int MAX_SMALL_CLOUDS = 4;
 
     // Storage
-    private ArrayList<Cloud> smallCloudsList;
-    private ArrayList<Cloud> bigCloudsList;
-
-    private ArrayList<Cloud> toAddSmallCloudsList;
-    private ArrayList<Cloud> toRemoveSmallCloudsList;
-
-    private ArrayList<Cloud> toAddBigCloudsList;
-    private ArrayList<Cloud> toRemoveBigCloudsList;
+    private final Cloud[] smallCloudsPool = new Cloud[MAX_SMALL_CLOUDS];
 
     // Position settings
     private double smallCloudsSpeed = 0.15f * Game.SCALE;
     private double bigCloudsSpeed = 0.45f * Game.SCALE;
+    private volatile double bigCloudsScroll = 0; // distance the big clouds moved to the left
+    private volatile double prevBigCloudsScroll = 0;
 
     // Other
-    int smallCloudsTicks = 0;
+    private double smallCloudsSeconds = 0;
+    private volatile long lastUpdateTime = System.nanoTime(); // for render interpolation
+
+    // Draw time statistics (drawing thread)
+    private long drawNanos;
+    private int drawCount;
+    private long drawWindowStart = System.nanoTime();
+    private volatile double averageDrawMillis;
 
     /**
-     * Constructs a new {@code BackgroundManager} instance. Initializes the cloud lists, loads assets,
+     * Constructs a new {@code BackgroundManager} instance. Initializes the cloud pool, loads assets,
      * and sets up the water animation.
      */
     public BackgroundManager() {
-        smallCloudsList = new ArrayList<>();
-        bigCloudsList = new ArrayList<>();
-        toAddSmallCloudsList = new ArrayList<>();
-        toRemoveSmallCloudsList = new ArrayList<>();
-        toAddBigCloudsList = new ArrayList<>();
-        toRemoveBigCloudsList = new ArrayList<>();
-
         HashMap<String, List<Integer>> waterStates = new HashMap<>();
         waterStates.put("WATER", Arrays.asList(0, 4));
 
@@ -77,6 +83,11 @@ public class BackgroundManager {
                 .build_and_load();
 
         loadAssets();
+
+        for (int i = 0; i < smallCloudsPool.length; i++) {
+            smallCloudsPool[i] = smallClouds[0].clone();
+            smallCloudsPool[i].setActive(false);
+        }
     }
 
     /**
@@ -85,115 +96,162 @@ public class BackgroundManager {
      */
     public void update() {
         generateSmallClouds();
-        generateBigClouds();
-        for (Cloud smallCloud : smallCloudsList) {
-            smallCloud.update();
-        }
-        for (Cloud bigCloud : bigCloudsList) {
-            bigCloud.update();
+        for (Cloud smallCloud : smallCloudsPool) {
+            if (smallCloud.isActive()) smallCloud.update();
         }
-        waterAnimator.update();
+
+        prevBigCloudsScroll = bigCloudsScroll;
+        bigCloudsScroll += bigCloudsSpeed * Game.TICK_SCALE; // speed is defined per tick at Game.REFERENCE_UPS
+
+        if (Game.QUALITY_TIER.isAnimateWater()) waterAnimator.update();
+
+        lastUpdateTime = System.nanoTime();
     }
 
     /**
-     * Renders the background elements onto the provided {@link Graphics} object.
+     * Renders the background elements with the provided {@link Renderer}.
      * This includes the background image, clouds, and water animation.
      *
-     * @param g the {@link Graphics} object used for rendering
+     * @param renderer the {@link Renderer} used for rendering
      */
-    public void draw(Graphics g) {
-        g.drawImage(background, 0, 0, Game.WINDOW_WIDTH, Game.WINDOW_HEIGHT, null);
-        renderSmallClouds(g);
-        renderBigClouds(g);
-        waterAnimator.draw(g, (Game.WINDOW_WIDTH - (170 * waterSizeK * Game.SCALE)) / 2, (int) (Game.WINDOW_HEIGHT * 0.825), (int)(170 * waterSizeK * Game.SCALE), (int) (10 * waterSizeK * Game.SCALE));
-    }
+    public void draw(Renderer renderer) {
+        long drawStart = System.nanoTime();
+        double alpha = Interpolation.alpha(lastUpdateTime);
 
-    /**
-     * Renders the big clouds onto the provided {@link Graphics} object.
-     *
-     * @param g the {@link Graphics} object used for rendering
-     */
-    private void renderBigClouds(Graphics g) {
-        List<Cloud> cloudsCopy = new ArrayList<>(bigCloudsList);
-        for (Cloud bigCloud : cloudsCopy) {
-            bigCloud.draw((Graphics2D) g);
-        }
+        buildLayers();
+
+        renderer.drawImage(staticLayer, 0, 0);
+        renderSmallClouds(renderer, alpha);
+        renderBigClouds(renderer, alpha);
+        waterAnimator.draw(renderer, (Game.WINDOW_WIDTH - (170 * waterSizeK * Game.SCALE)) / 2, (int) (Game.WINDOW_HEIGHT * 0.825), (int)(170 * waterSizeK * Game.SCALE), (int) (10 * waterSizeK * Game.SCALE));
+
+        recordDrawTime(drawStart);
     }
 
     /**
-     * Generates new big clouds if the current number of clouds is below the required threshold.
-     * Also removes clouds that have moved out of the screen.
+     * Pre-renders the static background and the big cloud strip if the window size changed since they were built.
      */
-    private void generateBigClouds() {
-        if (bigCloudsList.size() < (Game.WINDOW_WIDTH / bigCloud.getWidth()) * 2) {
-            Cloud newCloud = bigCloud.clone();
-            newCloud.setVelocity_x(-bigCloudsSpeed);
-            newCloud.setY(Game.WINDOW_HEIGHT * 0.37);
-            if (bigCloudsList.isEmpty()) {
-                newCloud.setX(0);
-            } else {
-                Cloud lastCloud = bigCloudsList.get(bigCloudsList.size() - 1);
-                newCloud.setX(lastCloud.getX() + lastCloud.getWidth() - 1); // Subtract 1 to overlap slightly
-            }
-            toAddBigCloudsList.add(newCloud);
+    private void buildLayers() {
+        if (staticLayer != null && layersWidth == Game.WINDOW_WIDTH && layersHeight == Game.WINDOW_HEIGHT) return;
+
+        layersWidth = Game.WINDOW_WIDTH;
+        layersHeight = Game.WINDOW_HEIGHT;
+
+        staticLayer = SpriteCache.createCompatibleImage(layersWidth, layersHeight, Transparency.OPAQUE);
+        Graphics2D g = staticLayer.createGraphics();
+        try {
+            g.drawImage(background, 0, 0, layersWidth, layersHeight, null);
+        } finally {
+            g.dispose();
         }
 
-        for (Cloud bigCloud : bigCloudsList) {
-            if (bigCloud.getX() + bigCloud.getWidth() <= 0) {
-                toRemoveBigCloudsList.add(bigCloud);
+        // Clouds overlap by one pixel, the strip is wide enough to cover the window with two blits
+        int cloudWidth = (int) bigCloud.getWidth();
+        int cloudHeight = (int) bigCloud.getHeight();
+        int step = cloudWidth - 1;
+        int count = (layersWidth + step - 1) / step;
+
+        bigCloudStrip = SpriteCache.createCompatibleImage(count * step, cloudHeight, Transparency.TRANSLUCENT);
+        g = bigCloudStrip.createGraphics();
+        try {
+            for (int i = 0; i < count; i++) {
+                g.drawImage(bigCloud.getImage(), i * step, 0, cloudWidth, cloudHeight, null);
             }
+        } finally {
+            g.dispose();
         }
 
-        bigCloudsList.addAll(toAddBigCloudsList);
-        toAddBigCloudsList.clear();
+        Game.logger.info("Background layers built for {}x{}", layersWidth, layersHeight);
+    }
 
-        bigCloudsList.removeAll(toRemoveBigCloudsList);
-        toRemoveBigCloudsList.clear();
+    /**
+     * Renders the big clouds with the provided {@link Renderer}.
+     *
+     * @param renderer the {@link Renderer} used for rendering
+     * @param alpha    the interpolation factor between the previous and the current tick
+     */
+    private void renderBigClouds(Renderer renderer, double alpha) {
+        int stripWidth = bigCloudStrip.getWidth();
+        double scroll = Interpolation.lerp(prevBigCloudsScroll, bigCloudsScroll, alpha) % stripWidth;
+        int x = -(int) scroll;
+        int y = (int) (Game.WINDOW_HEIGHT * 0.37);
+
+        renderer.drawImage(bigCloudStrip, x, y);
+        if (x + stripWidth < Game.WINDOW_WIDTH) renderer.drawImage(bigCloudStrip, x + stripWidth, y);
     }
 
     /**
-     * Renders the small clouds onto the provided {@link Graphics} object.
+     * Renders the small clouds with the provided {@link Renderer}.
      *
-     * @param g the {@link Graphics} object used for rendering
+     * @param renderer the {@link Renderer} used for rendering
+     * @param alpha    the interpolation factor between the previous and the current tick
      */
-    private void renderSmallClouds(Graphics g) {
-        for (Cloud smallCloud : smallCloudsList) {
-            smallCloud.draw((Graphics2D) g);
+    private void renderSmallClouds(Renderer renderer, double alpha) {
+        for (Cloud smallCloud : smallCloudsPool) {
+            if (smallCloud.isActive()) smallCloud.draw(renderer, alpha);
         }
     }
 
     /**
-     * Generates new small clouds at random positions if the current number of clouds is below
-     * the maximum allowed. Also removes clouds that have moved out of the screen.
+     * Activates a small cloud from the pool at a random position if fewer than the maximum are active.
+     * Also returns clouds that have moved out of the screen to the pool.
      */
     private void generateSmallClouds() {
-        int randomCloud = Aggregation.getRandomNumber(0, smallClouds.length - 1);
-        int randomY = Aggregation.getRandomNumber((int) (Game.WINDOW_HEIGHT * 0.05), (int) (Game.WINDOW_HEIGHT * 0.5));
-        int randomX = Aggregation.getRandomNumber((int) (Game.WINDOW_WIDTH * 0.01), (int) (Game.WINDOW_WIDTH * 0.1));
+        smallCloudsSeconds += Game.TICK_SECONDS;
 
-        smallCloudsTicks++;
+        int active = 0;
+        for (Cloud smallCloud : smallCloudsPool) {
+            if (smallCloud.isActive() && smallCloud.getX() + smallCloud.getWidth() <= 0) {
+                smallCloud.setActive(false);
+            }
+            if (smallCloud.isActive()) active++;
+        }
 
-        if (smallCloudsList.size() < MAX_SMALL_CLOUDS && smallCloudsTicks == Game.UPS_LIMIT * 4) {
-            Cloud newCloud = smallClouds[randomCloud].clone();
-            newCloud.setX(Game.WINDOW_WIDTH + randomX);
-            newCloud.setVelocity_x(-smallCloudsSpeed);
-            newCloud.setY(randomY);
-            toAddSmallCloudsList.add(newCloud);
+        int maxSmallClouds = Math.min(MAX_SMALL_CLOUDS, Game.QUALITY_TIER.getMaxSmallClouds());
+        if (active < maxSmallClouds && smallCloudsSeconds >= 4) {
+            int randomCloud = Aggregation.getRandomNumber(0, smallClouds.length - 1);
+            int randomY = Aggregation.getRandomNumber((int) (Game.WINDOW_HEIGHT * 0.05), (int) (Game.WINDOW_HEIGHT * 0.5));
+            int randomX = Aggregation.getRandomNumber((int) (Game.WINDOW_WIDTH * 0.01), (int) (Game.WINDOW_WIDTH * 0.1));
+
+            for (Cloud smallCloud : smallCloudsPool) {
+                if (!smallCloud.isActive()) {
+                    smallCloud.reset(smallClouds[randomCloud], Game.WINDOW_WIDTH + randomX, randomY, -smallCloudsSpeed);
+                    break;
+                }
+            }
 
-            smallCloudsTicks = 0;
+            smallCloudsSeconds = 0;
         }
+    }
 
-        for (Cloud smallCloud : smallCloudsList) {
-            if (smallCloud.getX() + smallCloud.getWidth() <= 0) {
-                toRemoveSmallCloudsList.add(smallCloud);
+    /**
+     * Adds the time spent drawing the background and publishes the average once per second.
+     *
+     * @param drawStart the time in nanoseconds when drawing started
+     */
+    private void recordDrawTime(long drawStart) {
+        long now = System.nanoTime();
+        drawNanos += now - drawStart;
+        drawCount++;
+
+        if (now - drawWindowStart >= 1_000_000_000L) {
+            averageDrawMillis = drawNanos / (double) drawCount / 1_000_000.0;
+            if (Game.DEBUG_FPS) {
+                Game.logger.info("Background draw {} ms", String.format("%.3f", averageDrawMillis));
             }
+            drawNanos = 0;
+            drawCount = 0;
+            drawWindowStart = now;
         }
+    }
 
-        smallCloudsList.addAll(toAddSmallCloudsList);
-        toAddSmallCloudsList.clear();
-
-        smallCloudsList.removeAll(toRemoveSmallCloudsList);
-        toRemoveSmallCloudsList.clear();
+    /**
+     * Returns the average time spent drawing the background over the last second.
+     *
+     * @return the draw time in milliseconds
+     */
+    public double getAverageDrawMillis() {
+        return averageDrawMillis;
     }
 
     /**
@@ -1,8 +1,10 @@
 package me.xmertsalov.background;
 
 import me.xmertsalov.Game;
+import me.xmertsalov.rendering.Culling;
+import me.xmertsalov.rendering.Interpolation;
+import me.xmertsalov.rendering.Renderer;
 
-import java.awt.*;
 import java.awt.image.BufferedImage;
 
 /**
@@ -13,14 +15,16 @@ import java.awt.image.BufferedImage;
 public class Cloud {
     // Position && Size
     private double x, y; // The x and y coordinates of the cloud.
-    private final double width; // The width of the cloud, scaled from the image.
-    private final double height; // The height of the cloud, scaled from the image.
+    private double prevX; // The x-coordinate at the previous tick, for render interpolation.
+    private double width; // The width of the cloud, scaled from the image.
+    private double height; // The height of the cloud, scaled from the image.
 
     // Image
     private BufferedImage image; // The image representing the cloud.
 
     // States
     private double velocity_x; // The horizontal velocity of the cloud.
+    private volatile boolean active = true; // Inactive clouds wait in a pool and are neither updated nor drawn.
 
     /**
      * Constructs a new {@code Cloud} object with the specified position, velocity, and image.
@@ -32,6 +36,7 @@ public class Cloud {
      */
     public Cloud(double x, double y, double velocity_x, BufferedImage image) {
         this.x = x;
+        this.prevX = x;
         this.y = y;
         this.velocity_x = velocity_x;
         this.image = image;
@@ -48,23 +53,67 @@ public class Cloud {
         return new Cloud(x, y, velocity_x, image);
     }
 
+    /**
+     * Reuses this cloud as a copy of another one at a new position and activates it.
+     *
+     * @param template   The cloud to copy the image and size from.
+     * @param x          The new x-coordinate of the cloud.
+     * @param y          The new y-coordinate of the cloud.
+     * @param velocity_x The new horizontal velocity of the cloud.
+     */
+    public void reset(Cloud template, double x, double y, double velocity_x) {
+        this.image = template.image;
+        this.width = template.width;
+        this.height = template.height;
+        this.y = y;
+        this.velocity_x = velocity_x;
+        setX(x);
+        active = true; // written last: publishes the new state to the drawing thread
+    }
+
     /**
      * Updates the position of the cloud based on its velocity.
      * This method should be called in the game loop to animate the cloud.
      */
     public void update() {
-        x += velocity_x;
+        prevX = x;
+        x += velocity_x * Game.TICK_SCALE; // velocity is defined per tick at Game.REFERENCE_UPS
     }
 
     /**
-     * Draws the cloud on the screen at its current position.
+     * Draws the cloud on the screen between its previous and current position.
      *
-     * @param g The {@code Graphics2D} object used to draw the cloud.
+     * @param renderer The {@link Renderer} used to draw the cloud.
+     * @param alpha    The interpolation factor between the previous and the current tick.
      */
-    public void draw(Graphics2D g) {
-        g.drawImage(image, (int) x, (int) y, (int) (width), (int) (height), null);
+    public void draw(Renderer renderer, double alpha) {
+        int drawX = (int) Interpolation.lerp(prevX, x, alpha);
+        if (!Culling.isVisible(drawX, y, width, height)) return;
+
+        renderer.drawSprite(image, drawX, (int) y, (int) (width), (int) (height));
     }
 
+    /**
+     * Returns whether the cloud is in use.
+     *
+     * @return {@code true} if the cloud is updated and drawn.
+     */
+    public boolean isActive() {return active;}
+
+    /**
+     * Sets whether the cloud is in use.
+     *
+     * @param active {@code true} to update and draw the cloud.
+     */
+    public void setActive(boolean active) {this.active = active;}
+
+    /**
+     * Gets the image of the cloud.
+     *
+     * @return The image of the cloud.
+     */
+    public BufferedImage getImage() {return image;}
+
     /**
      * Gets the current x-coordinate of the cloud.
      *
@@ -84,7 +133,10 @@ public class Cloud {
      *
      * @param x The new x-coordinate of the cloud.
      */
-    public void setX(double x) {this.x = x;}
+    public void setX(double x) {
+        this.x = x;
+        this.prevX = x;
+    }
 
     /**
      * Sets the y-coordinate of the cloud.
@@ -0,0 +1,49 @@
+package me.xmertsalov.components.Animator;
+
+/**
+ * The {@code AnimationClip} class describes one animation of a sprite sheet: the row its frames are in,
+ * the number of frames, how long each frame is shown and whether it loops.
+ * Clips are immutable and are shared by all clones of an {@link Animator}.
+ */
+public final class AnimationClip {
+    /**
+     * How a clip continues after its last frame.
+     */
+    public enum LoopMode {
+        LOOP, // start again from the first frame
+        ONCE // stay on the last frame
+    }
+
+    private final int id;
+    private final String name;
+    private final int row;
+    private final int frameCount;
+    private final int speed; // ticks per frame at Game.REFERENCE_UPS
+    private final LoopMode loopMode;
+
+    /**
+     * Creates a clip.
+     *
+     * @param id         The index of the clip in its {@link AnimationClipSet}.
+     * @param name       The name of the animation state.
+     * @param row        The row of the sprite sheet the frames are in.
+     * @param frameCount The number of frames.
+     * @param speed      The number of ticks each frame is shown at {@code Game.REFERENCE_UPS}.
+     * @param loopMode   How the clip continues after its last frame.
+     */
+    public AnimationClip(int id, String name, int row, int frameCount, int speed, LoopMode loopMode) {
+        this.id = id;
+        this.name = name;
+        this.row = row;
+        this.frameCount = frameCount;
+        this.speed = speed;
+        this.loopMode = loopMode;
+    }
+
+    public int getId() {return id;}
+    public String getName() {return name;}
+    public int getRow() {return row;}
+    public int getFrameCount() {return frameCount;}
+    public int getSpeed() {return speed;}
+    public LoopMode getLoopMode() {return loopMode;}
+}
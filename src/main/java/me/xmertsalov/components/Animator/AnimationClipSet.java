@@ -0,0 +1,75 @@
+package me.xmertsalov.components.Animator;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@code AnimationClipSet} class holds the clips of an {@link Animator}, indexed by int ids.
+ * The names of the animation states are resolved to ids once when the set is built,
+ * so playing and drawing an animation never looks up a string.
+ */
+public final class AnimationClipSet {
+    private final AnimationClip[] clips;
+    private final HashMap<String, Integer> ids;
+
+    private AnimationClipSet(AnimationClip[] clips) {
+        this.clips = clips;
+        this.ids = new HashMap<>();
+        for (AnimationClip clip : clips) {
+            ids.put(clip.getName(), clip.getId());
+        }
+    }
+
+    /**
+     * Builds the clips from animation states in the format of {@link Animator.Builder#setAnimationStates}.
+     *
+     * @param animationStates The animation states, each mapped to its row and number of frames.
+     * @param speed           The number of ticks each frame is shown at {@code Game.REFERENCE_UPS}.
+     * @param playOnce        The names of the states that stay on their last frame instead of looping.
+     * @return The clip set.
+     */
+    public static AnimationClipSet of(Map<String, List<Integer>> animationStates, int speed, Collection<String> playOnce) {
+        AnimationClip[] clips = new AnimationClip[animationStates.size()];
+
+        int id = 0;
+        for (Map.Entry<String, List<Integer>> state : animationStates.entrySet()) {
+            AnimationClip.LoopMode loopMode = playOnce.contains(state.getKey())
+                    ? AnimationClip.LoopMode.ONCE
+                    : AnimationClip.LoopMode.LOOP;
+            clips[id] = new AnimationClip(id, state.getKey(), state.getValue().get(0), state.getValue().get(1), speed, loopMode);
+            id++;
+        }
+        return new AnimationClipSet(clips);
+    }
+
+    /**
+     * Returns a copy of this set with another frame speed for all clips.
+     *
+     * @param speed The number of ticks each frame is shown at {@code Game.REFERENCE_UPS}.
+     * @return The new clip set.
+     */
+    public AnimationClipSet withSpeed(int speed) {
+        AnimationClip[] copy = new AnimationClip[clips.length];
+        for (int i = 0; i < clips.length; i++) {
+            AnimationClip clip = clips[i];
+            copy[i] = new AnimationClip(clip.getId(), clip.getName(), clip.getRow(), clip.getFrameCount(), speed, clip.getLoopMode());
+        }
+        return new AnimationClipSet(copy);
+    }
+
+    /**
+     * Returns the id of the clip of an animation state.
+     *
+     * @param name The name of the animation state.
+     * @return The id, or -1 if there is no such state.
+     */
+    public int getId(String name) {
+        Integer id = ids.get(name);
+        return id == null ? -1 : id;
+    }
+
+    public AnimationClip get(int id) {return clips[id];}
+    public int size() {return clips.length;}
+}
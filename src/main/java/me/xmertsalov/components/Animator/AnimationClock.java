@@ -0,0 +1,55 @@
+package me.xmertsalov.components.Animator;
+
+import java.util.ArrayList;
+
+/**
+ * The {@code AnimationClock} class is a tick counter shared by all objects that show the same animation,
+ * for example all saws. The clocks are advanced together once per tick by {@link #updateAll()};
+ * an object only reads the frame of its clip from the clock, with an optional phase offset,
+ * so it needs neither its own {@link Animator} nor any work per tick.
+ *
+ * <p>Clocks are advanced and read for snapshots on the game thread.
+ */
+public class AnimationClock {
+    private static final ArrayList<AnimationClock> clocks = new ArrayList<>();
+
+    private long ticks;
+
+    private AnimationClock() {}
+
+    /**
+     * Creates a clock that is advanced by {@link #updateAll()}.
+     *
+     * @return the new clock.
+     */
+    public static synchronized AnimationClock create() {
+        AnimationClock clock = new AnimationClock();
+        clocks.add(clock);
+        return clock;
+    }
+
+    /**
+     * Advances all clocks by one tick.
+     */
+    public static synchronized void updateAll() {
+        for (int i = 0; i < clocks.size(); i++) {
+            clocks.get(i).ticks++;
+        }
+    }
+
+    /**
+     * Returns the frame of a clip at the current tick.
+     *
+     * @param clip          the clip that is played.
+     * @param ticksPerFrame the number of ticks each frame is shown at the current update rate.
+     * @param phase         the number of frames this object is ahead of the clock.
+     * @return the index of the frame.
+     */
+    public int getFrameIndex(AnimationClip clip, int ticksPerFrame, int phase) {
+        long frame = ticks / ticksPerFrame + phase;
+        if (clip.getLoopMode() == AnimationClip.LoopMode.ONCE) {
+            return (int) Math.min(frame, clip.getFrameCount() - 1);
+        }
+        return (int) (frame % clip.getFrameCount());
+    }
+}
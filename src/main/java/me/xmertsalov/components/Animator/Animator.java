@@ -3,17 +3,28 @@ package me.xmertsalov.components.Animator;
 import me.xmertsalov.Game;
 import me.xmertsalov.exceptions.AnimatorCreatingException;
 import me.xmertsalov.exceptions.BundleLoadException;
-import me.xmertsalov.utils.BundleLoader;
+import me.xmertsalov.rendering.Renderer;
+import me.xmertsalov.rendering.SpriteSheets;
+import me.xmertsalov.rendering.WorldSnapshot;
+import me.xmertsalov.utils.SpriteHandle;
+import me.xmertsalov.utils.SpriteRegistry;
 
-import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 
 /**
  * The Animator class is responsible for managing and rendering sprite animations.
  * It supports multiple animation states, frame updates, and strategies for playing animations.
  * Animations can be loaded from a sprite atlas or directly from a 2D array of BufferedImages.
+ * Frames of a sprite atlas are held through {@link SpriteHandle}s and looked up on every draw,
+ * so the skins and objects that are not shown can be evicted from the {@link SpriteRegistry}.
+ * The animation states are resolved to {@link AnimationClip}s once when the first animator is built;
+ * clones share the clips, so an instance only keeps the id of its clip and its position in it.
+ * An animator driven by a shared {@link AnimationClock} has no position of its own and is shared by all
+ * copies of its object instead of being cloned, see {@link #useSharedClock()}.
  */
 public class Animator implements IAnimator {
     // Sprite Atlas Settings
@@ -24,20 +35,23 @@ public class Animator implements IAnimator {
     private int cols;
 
     // Animation frames
-    private BufferedImage[][] animations;
+    private SpriteHandle<BufferedImage[][]> animations;
+    private SpriteHandle<BufferedImage[][]> flippedAnimations; // vertically mirrored frames, shared between clones; null unless flippable
+    private int spriteSheetId; // id of the animations in SpriteSheets
+    private int flippedSpriteSheetId = -1; // id of the mirrored frames in SpriteSheets
 
     // Animation variables
     protected int aniTick;
     protected int aniIndex;
-    protected int aniSpeed = 25;
 
     // States
-    private AnimationStrategy animationStrategy;
+    private AnimationStrategy animationStrategy; // null to play the clips by their loop mode
+    private AnimationClock clock; // null when the animator counts its own ticks
     protected boolean inOneWay = false; // if true, animation will be played only once
 
     // Animation states
-    protected String animationState;
-    protected HashMap<String, List<Integer>> animationStates; // first - animation state, second - number of frames in animation
+    protected AnimationClipSet clips; // shared between clones
+    protected int clipId;
 
     /**
      * Constructor for loading from file.
@@ -52,7 +66,7 @@ public class Animator implements IAnimator {
         else if (builder.spriteWidth == 0 || builder.spriteHeight == 0 || builder.rows == 0 || builder.columns == 0) {
             throw new AnimatorCreatingException("Sprite dimensions or rows/columns are zero", AnimatorCreatingException.FieldError.thereAreNotEnoughImageSettings);
         }
-        else if (builder.animationStates == null || builder.currentState == null) {
+        else if ((builder.animationStates == null && builder.clips == null) || builder.currentState == null) {
             throw new AnimatorCreatingException("Animation states or current state are null", AnimatorCreatingException.FieldError.noStates);
         }
         this.imageURL = builder.imageURL;
@@ -61,25 +75,24 @@ public class Animator implements IAnimator {
         this.rows = builder.rows;
         this.cols = builder.columns;
 
-        this.aniSpeed = builder.animationSpeed;
+        setClips(builder);
 
-        this.animationStates = builder.animationStates;
-        this.animationState = builder.currentState;
-
-        loadAnimations();
+        loadAnimations(builder.flippable);
+        spriteSheetId = SpriteSheets.register(animations);
+        if (flippedAnimations != null) flippedSpriteSheetId = SpriteSheets.register(flippedAnimations);
     }
 
     /**
-     * Constructor for loading from BufferedImage.
+     * Constructor for loading from BufferedImage, or from the frames of a cloned animator.
      *
      * @param builder    The Builder instance containing the configuration for the Animator.
-     * @param animations A 2D array of BufferedImages representing the animations.
+     * @param animations The frames of the animations, indexed by row and column.
      * @throws AnimatorCreatingException If any required field is missing or invalid.
      */
-    private Animator(Builder builder, BufferedImage[][] animations) throws AnimatorCreatingException {
-        if (builder.animationStates == null || builder.currentState == null) {
+    private Animator(Builder builder, SpriteHandle<BufferedImage[][]> animations) throws AnimatorCreatingException {
+        if ((builder.animationStates == null && builder.clips == null) || builder.currentState == null) {
             throw new AnimatorCreatingException("Animation states or current state are null", AnimatorCreatingException.FieldError.noStates);
-        } else if (builder.animations.length == 0) {
+        } else if (builder.animations != null && builder.animations.length == 0) {
             throw new AnimatorCreatingException("Animations are empty", AnimatorCreatingException.FieldError.noAnimations);
         }
 
@@ -88,12 +101,27 @@ public class Animator implements IAnimator {
         this.rows = builder.rows;
         this.cols = builder.columns;
 
-        this.animationStates = builder.animationStates;
-        this.animationState = builder.currentState;
-
-        this.aniSpeed = builder.animationSpeed;
+        setClips(builder);
 
         this.animations = animations;
+        this.spriteSheetId = SpriteSheets.register(animations);
+
+        if (builder.flippedAnimations != null) this.flippedAnimations = builder.flippedAnimations;
+        else if (builder.flippable) this.flippedAnimations = SpriteRegistry.getMirroredHandle(animations);
+        if (flippedAnimations != null) this.flippedSpriteSheetId = SpriteSheets.register(flippedAnimations);
+    }
+
+    /**
+     * Takes the clips of the builder, or resolves them from its animation states, and selects the current one.
+     * A current state that is not one of the clips selects the first clip.
+     *
+     * @param builder The Builder instance containing the configuration for the Animator.
+     */
+    private void setClips(Builder builder) {
+        clips = builder.clips != null
+                ? builder.clips
+                : AnimationClipSet.of(builder.animationStates, builder.animationSpeed, builder.playOnce);
+        clipId = Math.max(0, clips.getId(builder.currentState));
     }
 
     /**
@@ -101,29 +129,141 @@ public class Animator implements IAnimator {
      * This method should be called in the game loop to ensure smooth animation playback.
      */
     public void update() {
+        if (clock != null) return;
         updateAnimationTick();
     }
 
     /**
-     * Draws the current frame of the animation onto the provided Graphics object.
+     * Makes the animator show the frames of a new shared {@link AnimationClock} instead of counting its own ticks.
+     * Objects with such an animator share it between their clones, see {@link #cloneOrShare()}.
+     */
+    public void useSharedClock() {
+        clock = AnimationClock.create();
+    }
+
+    /**
+     * Returns an animator for a clone of the object this animator belongs to:
+     * this animator if it is driven by a shared clock, otherwise a copy with its own ticks.
+     *
+     * @return The animator for the clone.
+     */
+    public Animator cloneOrShare() {
+        return clock != null ? this : new Builder().clone(this);
+    }
+
+    /**
+     * Returns whether the animator shows the frames of a shared clock.
+     *
+     * @return {@code true} if the animator is driven by a shared clock.
+     */
+    public boolean isClocked() {
+        return clock != null;
+    }
+
+    /**
+     * Returns the frame to show for an object.
+     *
+     * @param phase The number of frames the object is ahead of the shared clock; ignored without a clock.
+     * @return The index of the frame in the current clip.
+     */
+    private int getFrameIndex(int phase) {
+        if (clock == null) return aniIndex;
+        return clock.getFrameIndex(clips.get(clipId), getTicksPerFrame(), phase);
+    }
+
+    /**
+     * Draws the current frame of the animation with the provided renderer.
+     * A negative height draws the frame upside down above {@code y}, from the pre-mirrored frames if the animator
+     * is flippable, see {@link Builder#setFlippable(boolean)}.
+     *
+     * @param renderer The {@link Renderer} used for rendering.
+     * @param x        The x-coordinate where the animation should be drawn.
+     * @param y        The y-coordinate where the animation should be drawn.
+     * @param width    The width of the animation frame.
+     * @param height   The height of the animation frame.
+     */
+    public void draw(Renderer renderer, double x, double y, int width, int height) {
+        draw(renderer, x, y, width, height, 0);
+    }
+
+    /**
+     * Draws the current frame of the animation with the provided renderer, with a phase offset
+     * when the animator is driven by a shared clock.
+     *
+     * @param renderer The {@link Renderer} used for rendering.
+     * @param x        The x-coordinate where the animation should be drawn.
+     * @param y        The y-coordinate where the animation should be drawn.
+     * @param width    The width of the animation frame.
+     * @param height   The height of the animation frame.
+     * @param phase    The number of frames the object is ahead of the shared clock.
+     */
+    public void draw(Renderer renderer, double x, double y, int width, int height, int phase) {
+        int row = clips.get(clipId).getRow();
+        int frame = getFrameIndex(phase);
+
+        BufferedImage[][] flipped = height < 0 && flippedAnimations != null ? getFramesOrReload(flippedAnimations) : null;
+        if (flipped != null) {
+            renderer.drawSprite(flipped[row][frame],
+                    (int) x, (int) y + height,
+                    width, -height);
+        }
+        else {
+            // Until the mirrored frames are loaded, the negative height mirrors the frame while drawing it
+            BufferedImage[][] frames = getFramesOrReload(animations);
+            if (frames != null) {
+                renderer.drawSprite(frames[row][frame],
+                        (int) x, (int) y,
+                        width, height);
+            }
+        }
+    }
+
+    /**
+     * Adds the current frame of the animation to a world snapshot instead of drawing it.
+     *
+     * @param snapshot The snapshot to write into.
+     * @param prevX    The x-coordinate at the previous tick, for render interpolation.
+     * @param prevY    The y-coordinate at the previous tick, for render interpolation.
+     * @param x        The x-coordinate where the animation should be drawn.
+     * @param y        The y-coordinate where the animation should be drawn.
+     * @param width    The width of the animation frame.
+     * @param height   The height of the animation frame.
+     * @param layer    The layer of the snapshot to draw the frame on.
+     */
+    public void writeSnapshot(WorldSnapshot snapshot, double prevX, double prevY, double x, double y, int width, int height, int layer) {
+        writeSnapshot(snapshot, prevX, prevY, x, y, width, height, layer, 0);
+    }
+
+    /**
+     * Adds the current frame of the animation to a world snapshot, with a phase offset
+     * when the animator is driven by a shared clock.
      *
-     * @param g      The Graphics object used for rendering.
-     * @param x      The x-coordinate where the animation should be drawn.
-     * @param y      The y-coordinate where the animation should be drawn.
-     * @param width  The width of the animation frame.
-     * @param height The height of the animation frame.
+     * @param snapshot The snapshot to write into.
+     * @param prevX    The x-coordinate at the previous tick, for render interpolation.
+     * @param prevY    The y-coordinate at the previous tick, for render interpolation.
+     * @param x        The x-coordinate where the animation should be drawn.
+     * @param y        The y-coordinate where the animation should be drawn.
+     * @param width    The width of the animation frame.
+     * @param height   The height of the animation frame.
+     * @param layer    The layer of the snapshot to draw the frame on.
+     * @param phase    The number of frames the object is ahead of the shared clock.
      */
-    public void draw(Graphics g, double x, double y, int width, int height) {
-        BufferedImage sprite = animations[animationStates.get(animationState).get(0)][aniIndex];
+    public void writeSnapshot(WorldSnapshot snapshot, double prevX, double prevY, double x, double y, int width, int height, int layer, int phase) {
+        int row = clips.get(clipId).getRow();
+        int frame = getFrameIndex(phase);
 
-        g.drawImage(sprite,
-                (int) x, (int) y,
-                width, height, null);
+        if (height < 0 && flippedAnimations != null && isLoaded(flippedAnimations)) {
+            snapshot.addSprite(flippedSpriteSheetId, row, frame, prevX, prevY + height, x, y + height, width, -height, layer);
+        }
+        else {
+            snapshot.addSprite(spriteSheetId, row, frame, prevX, prevY, x, y, width, height, layer);
+        }
     }
 
     /**
      * Sets the animation strategy, which determines how the animation frames are updated.
      * For example, the strategy can define whether the animation loops or plays only once.
+     * Without a strategy, each clip is played by its own {@link AnimationClip.LoopMode}.
      *
      * @param animationStrategy The strategy to use for updating animation frames.
      */
@@ -138,24 +278,67 @@ public class Animator implements IAnimator {
      * @param state The new animation state to switch to.
      */
     public void setAnimationState(String state) {
-        if (!animationStates.containsKey(state) || state.equals(animationState)) {
+        int id = clips.getId(state);
+        if (id < 0) {
+            return;
+        }
+
+        setAnimationState(id);
+    }
+
+    /**
+     * Changes the current animation to the clip with the given id, see {@link #getClipId(String)}.
+     * If the clip is the current one, the method does nothing.
+     *
+     * @param clipId The id of the clip to switch to.
+     */
+    public void setAnimationState(int clipId) {
+        if (clipId == this.clipId) {
             return;
         }
 
         resetAnimTick();
-        animationState = state;
+        this.clipId = clipId;
+    }
+
+    /**
+     * Returns the id of the clip of an animation state, so the state can be switched to without a string lookup.
+     *
+     * @param state The name of the animation state.
+     * @return The id of the clip, or -1 if there is no such state.
+     */
+    public int getClipId(String state) {
+        return clips.getId(state);
+    }
+
+    /**
+     * Returns the clip that is currently played.
+     *
+     * @return The current clip.
+     */
+    public AnimationClip getCurrentClip() {
+        return clips.get(clipId);
     }
 
     /**
      * Updates the animation tick and frame index based on the current animation strategy.
-     * If no strategy is set, a default looping strategy is used.
+     * If no strategy is set, the current clip is played by its loop mode.
      */
     private void updateAnimationTick() {
         if (animationStrategy != null) {
             animationStrategy.updateAnimationTick(this);
+            return;
         }
-        else {
-            animationStrategy = new LoopingAnimationStrategy();
+
+        aniTick++;
+        if (aniTick >= getTicksPerFrame()) {
+            aniTick = 0;
+            AnimationClip clip = clips.get(clipId);
+            if (aniIndex < clip.getFrameCount() - 1) {
+                aniIndex++;
+            } else if (clip.getLoopMode() == AnimationClip.LoopMode.LOOP) {
+                aniIndex = 0;
+            }
         }
     }
 
@@ -171,35 +354,58 @@ public class Animator implements IAnimator {
     /**
      * Loads animations from a sprite atlas specified by the imageURL.
      * The sprite atlas is divided into individual frames based on the sprite dimensions and grid layout.
+     *
+     * @param flippable Whether to keep a handle to mirrored frames; they are made on the first upside-down draw.
      */
-    private void loadAnimations() {
-        // Sprite Atlas
-        BufferedImage image;
+    private void loadAnimations(boolean flippable) {
+        // Frames are sliced and mirrored once per sprite atlas and shared by every animator that uses it
+        animations = SpriteRegistry.getGridHandle(imageURL, spriteWidth, spriteHeight, rows, cols);
+        if (flippable) flippedAnimations = SpriteRegistry.getMirroredGridHandle(imageURL, spriteWidth, spriteHeight, rows, cols);
+
+        // Loaded now, so a missing atlas fails while loading the game rather than on the first draw
+        getFrames(animations);
+    }
 
+    /**
+     * Returns the frames of a handle, loading them again if they were evicted.
+     *
+     * @param frames The handle of the frames.
+     * @return The frames, indexed by row and column.
+     */
+    private static BufferedImage[][] getFrames(SpriteHandle<BufferedImage[][]> frames) {
         try {
-            image = BundleLoader.getSpriteAtlas(imageURL);
+            return frames.get();
         } catch (BundleLoadException e) {
             Game.logger.error(e.getMessage());
             throw new RuntimeException(e);
         }
+    }
 
-        int imgWidth = image.getWidth();
-        int imgHeight = image.getHeight();
-
-        animations = new BufferedImage[rows][cols];
-        for (int j = 0; j < rows; j++) {
-            for (int i = 0; i < cols; i++) {
-                int x = i * spriteWidth;
-                int y = j * spriteHeight;
-                if (x + spriteWidth <= imgWidth && y + spriteHeight <= imgHeight) {
-                    animations[j][i] = image.getSubimage(x, y, spriteWidth, spriteHeight);
-                } else {
-                    Game.logger.warn("ERR: Sub-image coordinates are out of bounds: ({}, {})", x, y);
-                }
-            }
+    /**
+     * Returns the frames of a handle on the render thread, see {@link SpriteHandle#getOrReload()}.
+     *
+     * @param frames The handle of the frames.
+     * @return The frames, or {@code null} while they are loaded again.
+     */
+    private static BufferedImage[][] getFramesOrReload(SpriteHandle<BufferedImage[][]> frames) {
+        try {
+            return frames.getOrReload();
+        } catch (BundleLoadException e) {
+            Game.logger.error(e.getMessage());
+            throw new RuntimeException(e);
         }
     }
 
+    /**
+     * Returns whether the frames of a handle are loaded, and has them loaded in the background if they are not.
+     *
+     * @param frames The handle of the frames.
+     * @return {@code true} if the frames can be drawn now.
+     */
+    private static boolean isLoaded(SpriteHandle<BufferedImage[][]> frames) {
+        return getFramesOrReload(frames) != null;
+    }
+
     /**
      * Builder class for constructing Animator instances.
      * Provides a flexible way to configure and create Animator objects with various settings.
@@ -211,11 +417,16 @@ public class Animator implements IAnimator {
         private int rows;
         private int columns;
         private HashMap<String, List<Integer>> animationStates; // first - animation state, second - number of frames in animation
+        private HashSet<String> playOnce = new HashSet<>(); // states that stay on their last frame
+        private AnimationClipSet clips; // resolved clips of the animator being cloned
         private String currentState;
         private int animationSpeed = 25;
         private AnimationStrategy animationStrategy;
+        private boolean flippable;
 
         private BufferedImage[][] animations;
+        private SpriteHandle<BufferedImage[][]> sheet; // frames of the animator being cloned
+        private SpriteHandle<BufferedImage[][]> flippedAnimations;
 
         public Builder() {}
 
@@ -289,6 +500,18 @@ public class Animator implements IAnimator {
             return this;
         }
 
+        /**
+         * Sets the animation states that are played only once and then stay on their last frame.
+         * All other states loop.
+         *
+         * @param states The names of the states.
+         * @return The Builder instance for method chaining.
+         */
+        public Builder setPlayOnce(String... states) {
+            this.playOnce = new HashSet<>(Arrays.asList(states));
+            return this;
+        }
+
         /**
          * Sets the initial animation state.
          *
@@ -326,6 +549,19 @@ public class Animator implements IAnimator {
             return this;
         }
 
+        /**
+         * Sets whether the animator is drawn upside down, with a negative height, often enough to keep vertically
+         * mirrored frames. Mirrored frames are drawn with a plain blit; they are made on the first upside-down draw.
+         * Animators that are not flippable draw a negative height by mirroring the normal frames.
+         *
+         * @param flippable {@code true} to keep mirrored frames.
+         * @return The Builder instance for method chaining.
+         */
+        public Builder setFlippable(boolean flippable) {
+            this.flippable = flippable;
+            return this;
+        }
+
         /**
          * Builds and loads an Animator instance using the configured settings.
          *
@@ -333,7 +569,7 @@ public class Animator implements IAnimator {
          */
         public Animator build_and_load() {
             try {
-                return new Animator(this);
+                return animations != null ? new Animator(this, SpriteHandle.of("animator frames", animations)) : new Animator(this);
             } catch (AnimatorCreatingException e) {
                 Game.logger.error(e.getMessage());
                 return null;
@@ -356,13 +592,14 @@ public class Animator implements IAnimator {
             this.spriteHeight = animator.spriteHeight;
             this.rows = animator.rows;
             this.columns = animator.cols;
-            this.animationStates = animator.animationStates;
-            this.currentState = animator.animationState;
-            this.animationSpeed = animator.aniSpeed;
-            this.animations = animator.animations;
+            this.clips = animator.clips;
+            this.currentState = animator.getCurrentClip().getName();
+            this.sheet = animator.animations;
+            this.flippedAnimations = animator.flippedAnimations;
+            this.flippable = animator.flippedAnimations != null;
 
             try {
-                return new Animator(this, animations);
+                return new Animator(this, sheet);
             } catch (AnimatorCreatingException e) {
                 Game.logger.error(e.getMessage());
                 return null;
@@ -371,8 +608,33 @@ public class Animator implements IAnimator {
 
     }
 
+    /**
+     * Returns the id of the sprite sheet the animation is drawn from, see {@link SpriteSheets}.
+     *
+     * @return The sprite sheet id.
+     */
+    public int getSpriteSheetId() {
+        return spriteSheetId;
+    }
+
+    /**
+     * Changes the speed of all clips of this animator. The clips are copied, clones keep their speed.
+     *
+     * @param animationSpeed The speed of the animation in ticks per frame.
+     */
     public void setAnimationSpeed(int animationSpeed) {
-        this.aniSpeed = animationSpeed;
+        clips = clips.withSpeed(animationSpeed);
+    }
+
+    /**
+     * Returns the number of ticks each frame is shown at the current update rate.
+     * The animation speed is defined for {@code Game.REFERENCE_UPS}, so animations keep their
+     * duration when the update rate changes.
+     *
+     * @return The number of ticks per frame, at least 1.
+     */
+    protected int getTicksPerFrame() {
+        return Math.max(1, (int) Math.round(clips.get(clipId).getSpeed() / Game.TICK_SCALE));
     }
 
 }
@@ -1,6 +1,6 @@
 package me.xmertsalov.components.Animator;
 
-import java.awt.*;
+import me.xmertsalov.rendering.Renderer;
 
 /**
  * The {@code IAnimator} interface defines the contract for animation components.
@@ -19,15 +19,15 @@ interface IAnimator {
     void setAnimationState(String state);
 
     /**
-     * Draws the current animation frame on the provided {@link Graphics} context.
+     * Draws the current animation frame with the provided {@link Renderer}.
      * 
-     * @param g      the {@link Graphics} context used for rendering.
-     * @param x      the x-coordinate where the animation should be drawn.
-     * @param y      the y-coordinate where the animation should be drawn.
-     * @param width  the width of the animation frame.
-     * @param height the height of the animation frame.
+     * @param renderer the {@link Renderer} used for rendering.
+     * @param x        the x-coordinate where the animation should be drawn.
+     * @param y        the y-coordinate where the animation should be drawn.
+     * @param width    the width of the animation frame.
+     * @param height   the height of the animation frame.
      */
-    void draw(Graphics g, double x, double y, int width, int height);
+    void draw(Renderer renderer, double x, double y, int width, int height);
 
     /**
      * Updates the animation logic. This method is typically called on each frame
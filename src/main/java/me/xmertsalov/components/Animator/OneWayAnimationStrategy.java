@@ -14,7 +14,7 @@ public class OneWayAnimationStrategy implements AnimationStrategy {
      * Updates the animation tick for the given {@link Animator}.
      * <p>
      * This method increments the animation tick (`aniTick`) of the animator. When the tick
-     * reaches or exceeds the animation speed (`aniSpeed`), the tick is reset to 0, and the
+     * reaches or exceeds the ticks per frame of the current clip, the tick is reset to 0, and the
      * animation index (`aniIndex`) is updated. The animation stops updating the index once
      * it reaches the last frame of the current animation state.
      * </p>
@@ -24,9 +24,9 @@ public class OneWayAnimationStrategy implements AnimationStrategy {
     @Override
     public void updateAnimationTick(Animator animator) {
         animator.aniTick++;
-        if (animator.aniTick >= animator.aniSpeed) {
+        if (animator.aniTick >= animator.getTicksPerFrame()) {
             animator.aniTick = 0;
-            if (animator.aniIndex < animator.animationStates.get(animator.animationState).get(1) - 1) {
+            if (animator.aniIndex < animator.getCurrentClip().getFrameCount() - 1) {
                 animator.aniIndex++;
             }
         }
@@ -162,8 +162,10 @@ public class PlayerAnimator {
                     .setImageURL(skinsURL.get(skinName))
                     .setAnimationStates(animationStates)
                     .setCurrentState("IDLE")
+                    .setPlayOnce("DEATH")
                     .setAnimationSpeed(25)
                     .setAnimationStrategy(new LoopingAnimationStrategy())
+                    .setFlippable(true) // players run on the ceiling when their gravity is flipped
                     .build_and_load();
 
             animators.put(skinName, animator);
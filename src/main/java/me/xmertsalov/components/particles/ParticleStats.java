@@ -0,0 +1,99 @@
+package me.xmertsalov.components.particles;
+
+import me.xmertsalov.Game;
+
+/**
+ * The {@code ParticleStats} class measures the cost of the particle system.
+ * Updates are recorded on the game thread and averaged per second of game time,
+ * draws are recorded on the thread that draws frames and averaged per second of wall-clock time.
+ */
+public class ParticleStats {
+    // Current update window, game thread only
+    private double updateWindowSeconds;
+    private long updateNanos;
+    private int updates;
+    private long spawned;
+    private long dropped;
+    private int peakCount;
+
+    // Current draw window, render thread only
+    private long drawWindowStart = System.nanoTime();
+    private long drawNanos;
+    private long drawnParticles;
+    private int draws;
+
+    // Last finished windows
+    private volatile double averageUpdateMillis;
+    private volatile double averageDrawMillis;
+    private volatile double averageDrawn;
+    private volatile int lastPeakCount;
+    private volatile long spawnedPerSecond;
+    private volatile long droppedPerSecond;
+
+    /**
+     * Records one update of the particle system.
+     *
+     * @param nanos   the time spent in the update in nanoseconds.
+     * @param count   the number of live particles after the update.
+     * @param spawned the number of particles spawned since the last update.
+     * @param dropped the number of particles dropped since the last update because of the budget or capacity.
+     */
+    public void recordUpdate(long nanos, int count, int spawned, int dropped) {
+        updateNanos += nanos;
+        updates++;
+        this.spawned += spawned;
+        this.dropped += dropped;
+        peakCount = Math.max(peakCount, count);
+
+        updateWindowSeconds += Game.TICK_SECONDS;
+        if (updateWindowSeconds < 1) return;
+
+        averageUpdateMillis = updateNanos / (double) updates / 1_000_000.0;
+        lastPeakCount = peakCount;
+        spawnedPerSecond = Math.round(this.spawned / updateWindowSeconds);
+        droppedPerSecond = Math.round(this.dropped / updateWindowSeconds);
+
+        if (Game.DEBUG_FPS) {
+            Game.logger.info("Particles: up to {} live, {} spawned and {} dropped per second, update {} ms, draw {} ms for {} particles",
+                    lastPeakCount, spawnedPerSecond, droppedPerSecond, String.format("%.3f", averageUpdateMillis),
+                    String.format("%.3f", averageDrawMillis), String.format("%.0f", averageDrawn));
+        }
+
+        updateWindowSeconds = 0;
+        updateNanos = 0;
+        updates = 0;
+        this.spawned = 0;
+        this.dropped = 0;
+        peakCount = 0;
+    }
+
+    /**
+     * Records the drawing of the particles of one frame.
+     *
+     * @param nanos the time spent drawing in nanoseconds.
+     * @param drawn the number of particles in the snapshot.
+     */
+    public void recordDraw(long nanos, int drawn) {
+        drawNanos += nanos;
+        drawnParticles += drawn;
+        draws++;
+
+        long now = System.nanoTime();
+        if (now - drawWindowStart < 1_000_000_000L) return;
+
+        averageDrawMillis = drawNanos / (double) draws / 1_000_000.0;
+        averageDrawn = drawnParticles / (double) draws;
+
+        drawWindowStart = now;
+        drawNanos = 0;
+        drawnParticles = 0;
+        draws = 0;
+    }
+
+    public double getAverageUpdateMillis() {return averageUpdateMillis;}
+    public double getAverageDrawMillis() {return averageDrawMillis;}
+    public double getAverageDrawn() {return averageDrawn;}
+    public int getPeakCount() {return lastPeakCount;}
+    public long getSpawnedPerSecond() {return spawnedPerSecond;}
+    public long getDroppedPerSecond() {return droppedPerSecond;}
+}
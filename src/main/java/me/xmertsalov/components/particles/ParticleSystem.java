@@ -0,0 +1,256 @@
+package me.xmertsalov.components.particles;
+
+import me.xmertsalov.Game;
+import me.xmertsalov.rendering.SpriteSheets;
+import me.xmertsalov.rendering.WorldSnapshot;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+/**
+ * The {@code ParticleSystem} class simulates short-lived visual effects: dust when a player lands,
+ * sparks when a player flips gravity and a burst when a player dies.
+ *
+ * <p>Particles are stored in parallel primitive arrays with a fixed capacity that are allocated once.
+ * A dead particle is replaced by the last live one, so the live particles are always the first {@code count} entries
+ * and updating them is a single loop over the arrays. Spawning is limited per tick and drawing per snapshot;
+ * particles over these budgets are dropped. Particles are drawn as frames of a small generated sprite sheet,
+ * so the renderer draws them from the sprite cache like any other sprite.
+ */
+public class ParticleSystem {
+    public static final int DEFAULT_CAPACITY = 2048;
+    public static final int DEFAULT_SPAWN_BUDGET = 256; // particles spawned per tick
+    public static final int DEFAULT_DRAW_BUDGET = 1024; // particles written per snapshot
+
+    // Effects, the rows of the sprite sheet
+    public static final int EFFECT_DUST = 0;
+    public static final int EFFECT_SPARK = 1;
+    public static final int EFFECT_DEATH = 2;
+
+    // Sprite sheet
+    private static final int FRAMES = 4; // frames per effect, played over the life of a particle
+    private static final int SPRITE_SIZE = 8; // pixels of a frame, drawn at Game.SCALE
+    private static final Color[] EFFECT_COLORS = {
+            new Color(222, 205, 164), // dust
+            new Color(200, 240, 255), // spark
+            new Color(214, 52, 52) // death
+    };
+    private static int spriteSheetId = -1;
+
+    // Effect settings, indexed by effect; speeds and gravity in pixels per second at Game.SCALE = 1
+    private static final double[] EFFECT_LIFE = {0.35, 0.3, 0.8};
+    private static final double[] EFFECT_SPEED = {90, 160, 260};
+    private static final double[] EFFECT_GRAVITY = {-150, 0, 600}; // along the gravity direction of the player
+
+    // Settings
+    private final int capacity;
+    private final int spawnBudget;
+    private final int drawBudget;
+
+    // Particles
+    private int count;
+    private final float[] x, y;
+    private final float[] prevX, prevY;
+    private final float[] velocityX, velocityY;
+    private final float[] accelerationY;
+    private final float[] life, maxLife;
+    private final int[] effect;
+
+    // States
+    private int spawnedThisTick;
+    private int droppedThisTick;
+    private final Random random = new Random();
+    private final ParticleStats stats = new ParticleStats();
+
+    /**
+     * Creates a particle system with the default capacity and budgets.
+     */
+    public ParticleSystem() {
+        this(DEFAULT_CAPACITY, DEFAULT_SPAWN_BUDGET, DEFAULT_DRAW_BUDGET);
+    }
+
+    /**
+     * Creates a particle system.
+     *
+     * @param capacity    the maximum number of live particles.
+     * @param spawnBudget the maximum number of particles spawned per tick.
+     * @param drawBudget  the maximum number of particles written to a snapshot.
+     */
+    public ParticleSystem(int capacity, int spawnBudget, int drawBudget) {
+        this.capacity = capacity;
+        this.spawnBudget = spawnBudget;
+        this.drawBudget = drawBudget;
+
+        x = new float[capacity];
+        y = new float[capacity];
+        prevX = new float[capacity];
+        prevY = new float[capacity];
+        velocityX = new float[capacity];
+        velocityY = new float[capacity];
+        accelerationY = new float[capacity];
+        life = new float[capacity];
+        maxLife = new float[capacity];
+        effect = new int[capacity];
+
+        loadSpriteSheet();
+    }
+
+    /**
+     * Spawns a burst of particles. Particles over the spawn budget of this tick or the capacity are dropped.
+     *
+     * @param effect           one of {@link #EFFECT_DUST}, {@link #EFFECT_SPARK} or {@link #EFFECT_DEATH}.
+     * @param originX          the x-coordinate of the burst.
+     * @param originY          the y-coordinate of the burst.
+     * @param amount           the number of particles.
+     * @param gravityDirection 1 if the effect falls down, -1 if it falls up.
+     */
+    public void emit(int effect, double originX, double originY, int amount, double gravityDirection) {
+        double speed = EFFECT_SPEED[effect] * Game.SCALE;
+        double gravity = EFFECT_GRAVITY[effect] * Game.SCALE * gravityDirection;
+
+        for (int n = 0; n < amount; n++) {
+            if (count == capacity || spawnedThisTick == spawnBudget) {
+                droppedThisTick += amount - n;
+                return;
+            }
+
+            // Dust spreads sideways away from the ground, the other effects in all directions
+            double angle = effect == EFFECT_DUST
+                    ? Math.PI * random.nextDouble() * -gravityDirection
+                    : 2 * Math.PI * random.nextDouble();
+            double particleSpeed = speed * (0.4 + 0.6 * random.nextDouble());
+
+            spawn(effect, originX, originY,
+                    Math.cos(angle) * particleSpeed, Math.sin(angle) * particleSpeed, gravity,
+                    EFFECT_LIFE[effect] * (0.6 + 0.4 * random.nextDouble()));
+        }
+    }
+
+    /**
+     * Fills the system up to its capacity with particles spread over the window, ignoring the spawn budget.
+     * Used by the {@code --particle-stress} mode, which measures the draw on the screen of the player, and by the
+     * headless {@code ParticleSystemBenchmarkTest}.
+     */
+    public void fillForStress() {
+        while (count < capacity) {
+            int particleEffect = random.nextInt(EFFECT_COLORS.length);
+            double angle = 2 * Math.PI * random.nextDouble();
+            double speed = EFFECT_SPEED[particleEffect] * Game.SCALE * random.nextDouble();
+
+            spawn(particleEffect, random.nextDouble() * Game.WINDOW_WIDTH, random.nextDouble() * Game.WINDOW_HEIGHT,
+                    Math.cos(angle) * speed, Math.sin(angle) * speed, EFFECT_GRAVITY[particleEffect] * Game.SCALE,
+                    EFFECT_LIFE[particleEffect] * (0.5 + random.nextDouble()));
+        }
+    }
+
+    private void spawn(int particleEffect, double originX, double originY, double vx, double vy, double ay, double lifetime) {
+        int i = count++;
+        x[i] = prevX[i] = (float) originX;
+        y[i] = prevY[i] = (float) originY;
+        velocityX[i] = (float) vx;
+        velocityY[i] = (float) vy;
+        accelerationY[i] = (float) ay;
+        life[i] = maxLife[i] = (float) lifetime;
+        effect[i] = particleEffect;
+        spawnedThisTick++;
+    }
+
+    /**
+     * Moves all particles by one tick and removes the ones whose life is over.
+     */
+    public void update() {
+        long start = System.nanoTime();
+        float dt = (float) Game.TICK_SECONDS;
+
+        int i = 0;
+        while (i < count) {
+            float remaining = life[i] - dt;
+            if (remaining <= 0) {
+                // Move the last particle into this slot and check it in the next iteration
+                int last = --count;
+                x[i] = x[last];
+                y[i] = y[last];
+                prevX[i] = prevX[last];
+                prevY[i] = prevY[last];
+                velocityX[i] = velocityX[last];
+                velocityY[i] = velocityY[last];
+                accelerationY[i] = accelerationY[last];
+                life[i] = life[last];
+                maxLife[i] = maxLife[last];
+                effect[i] = effect[last];
+                continue;
+            }
+
+            life[i] = remaining;
+            prevX[i] = x[i];
+            prevY[i] = y[i];
+            velocityY[i] += accelerationY[i] * dt;
+            x[i] += velocityX[i] * dt;
+            y[i] += velocityY[i] * dt;
+            i++;
+        }
+
+        stats.recordUpdate(System.nanoTime() - start, count, spawnedThisTick, droppedThisTick);
+        spawnedThisTick = 0;
+        droppedThisTick = 0;
+    }
+
+    /**
+     * Adds the live particles to a world snapshot, up to the draw budget.
+     * The frame of each particle is chosen by how much of its life has passed.
+     *
+     * @param snapshot the snapshot to write into.
+     * @param layer    the layer of the snapshot to draw the particles on.
+     */
+    public void writeSnapshot(WorldSnapshot snapshot, int layer) {
+        int size = (int) (SPRITE_SIZE * Game.SCALE);
+        int drawn = Math.min(count, drawBudget);
+
+        for (int i = 0; i < drawn; i++) {
+            int frame = (int) ((1 - life[i] / maxLife[i]) * FRAMES);
+            if (frame >= FRAMES) frame = FRAMES - 1;
+
+            snapshot.addSprite(spriteSheetId, effect[i], frame,
+                    prevX[i] - size / 2.0, prevY[i] - size / 2.0, x[i] - size / 2.0, y[i] - size / 2.0,
+                    size, size, layer);
+        }
+    }
+
+    /**
+     * Removes all particles.
+     */
+    public void clear() {
+        count = 0;
+    }
+
+    /**
+     * Generates and registers the sprite sheet of the effects once: a fading and shrinking dot per effect.
+     */
+    private static synchronized void loadSpriteSheet() {
+        if (spriteSheetId >= 0) return;
+
+        BufferedImage[][] frames = new BufferedImage[EFFECT_COLORS.length][FRAMES];
+        for (int row = 0; row < EFFECT_COLORS.length; row++) {
+            for (int column = 0; column < FRAMES; column++) {
+                BufferedImage frame = new BufferedImage(SPRITE_SIZE, SPRITE_SIZE, BufferedImage.TYPE_INT_ARGB);
+                Graphics2D g = frame.createGraphics();
+                try {
+                    int radius = SPRITE_SIZE / 2 - column;
+                    int alpha = 255 - column * 50;
+                    Color color = EFFECT_COLORS[row];
+                    g.setColor(new Color(color.getRed(), color.getGreen(), color.getBlue(), alpha));
+                    g.fillRect(SPRITE_SIZE / 2 - radius, SPRITE_SIZE / 2 - radius, radius * 2, radius * 2);
+                } finally {
+                    g.dispose();
+                }
+                frames[row][column] = frame;
+            }
+        }
+        spriteSheetId = SpriteSheets.register(frames);
+    }
+
+    public int getCount() {return count;}
+    public int getCapacity() {return capacity;}
+    public ParticleStats getStats() {return stats;}
+}
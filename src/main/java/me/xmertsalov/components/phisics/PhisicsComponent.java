@@ -1,5 +1,6 @@
 package me.xmertsalov.components.phisics;
 
+import me.xmertsalov.Game;
 import me.xmertsalov.components.phisics.colliders.BoxCollider;
 import me.xmertsalov.entities.Player;
 
@@ -15,6 +16,7 @@ public class PhisicsComponent {
     private double velocity_x, velocity_y;
 
     private double gravityScale = 3.2f; // Gravity multiplier
+    private double maxFallVelocity = 3.2f; // Fall speed gravity accelerates up to, per tick at Game.REFERENCE_UPS
     private double gravityDirection = 1; // Direction of gravity (1 for down, -1 for up)
 
     private double mass; // Mass of the player, used in force calculations
@@ -65,8 +67,12 @@ public class PhisicsComponent {
         }
 
         // Update velocity based on acceleration
-        velocity_x += acceleration_x;
-        velocity_y += acceleration_y;
+        // Acceleration is defined per tick squared at Game.REFERENCE_UPS, so scale the change to the current tick rate
+        velocity_x += acceleration_x * Game.TICK_SCALE;
+        velocity_y += acceleration_y * Game.TICK_SCALE;
+
+        // Gravity accelerates the player up to the fall speed the levels are tuned for
+        velocity_y = Math.max(-maxFallVelocity, Math.min(maxFallVelocity, velocity_y));
 
         // Limit velocity based on collision states
         if (!ableToDown && velocity_y > 0) {
@@ -77,8 +83,9 @@ public class PhisicsComponent {
         }
 
         // Predict future position and adjust for collisions
-        double futurePosX = player.getPosX() + velocity_x;
-        double futurePosY = player.getPosY() + velocity_y;
+        // Velocity is defined per tick at Game.REFERENCE_UPS, so scale the step to the current tick rate
+        double futurePosX = player.getPosX() + velocity_x * Game.TICK_SCALE;
+        double futurePosY = player.getPosY() + velocity_y * Game.TICK_SCALE;
 
         player.setPosX(futurePosX);
         player.setPosY(futurePosY);
@@ -1,6 +1,7 @@
 package me.xmertsalov.components.phisics;
 
 import me.xmertsalov.Game;
+import me.xmertsalov.components.particles.ParticleSystem;
 import me.xmertsalov.components.phisics.colliders.BoxCollider;
 import me.xmertsalov.components.phisics.colliders.Collider;
 import me.xmertsalov.entities.Player;
@@ -16,10 +17,26 @@ import java.awt.geom.Rectangle2D;
  * The {@code PhysicsController} class manages the physics interactions and collisions
  * in the game. It handles player interactions with tiles, walls, game objects, and other players.
  * Additionally, it manages player states such as falling, velocity resets, and death conditions.
+ *
+ * <p>Tile collisions are swept: when a player or a wall moves further than {@link #MAX_SWEEP_STEP_TILES}
+ * of a tile in one tick, the movement is tested at several points along the way instead of only at its end,
+ * so fast levels and low tick rates do not let players pass through thin platforms.
  */
 public class PhysicsController {
+    // Largest movement between two tested positions, a quarter tile is half of the thinnest platform collider
+    public static final double MAX_SWEEP_STEP_TILES = 0.25;
+
+    // Particle effects
+    private static final int LANDING_PARTICLES = 10;
+    private static final int DEATH_PARTICLES = 40;
+
     private final PlayingScene playingScene;
-    private int ticks;
+    private final PhysicsStats stats = new PhysicsStats();
+    private double powerUpSeconds;
+
+    // Counters of the current tick
+    private int collisionTests;
+    private int maxSweepSamples;
 
     /**
      * Constructs a {@code PhysicsController} for the specified {@link PlayingScene}.
@@ -35,6 +52,10 @@ public class PhysicsController {
      * and handling player interactions.
      */
     public void update() {
+        long start = System.nanoTime();
+        collisionTests = 0;
+        maxSweepSamples = 0;
+
         detectFallingCollisions();
         detectWallsCollisions();
         resetPlayerVelocityX();
@@ -43,6 +64,44 @@ public class PhysicsController {
 
         // Check if the player is in ghost mode
         if (!playingScene.isGhostMode()) playersInteractions();
+
+        stats.recordTick(collisionTests, maxSweepSamples, System.nanoTime() - start, playingScene.getLevelsManager().getSpeed());
+    }
+
+    /**
+     * Returns the number of positions to test for a movement, one for every {@link #MAX_SWEEP_STEP_TILES} of a tile.
+     *
+     * @param displacement the distance moved in one tick
+     * @return the number of positions to test, at least one
+     */
+    private int sweepSamples(double displacement) {
+        double maxStep = Game.TILES_SIZE * MAX_SWEEP_STEP_TILES;
+        int samples = Math.max(1, (int) Math.ceil(Math.abs(displacement) / maxStep));
+        maxSweepSamples = Math.max(maxSweepSamples, samples);
+        return samples;
+    }
+
+    /**
+     * Moves a rectangle by up to ({@code dx}, {@code dy}) in {@code samples} equal steps and returns
+     * the fraction of the movement at which it first intersects the target.
+     *
+     * @param target  the rectangle to test against
+     * @param x       the x position of the moving rectangle
+     * @param y       the y position of the moving rectangle
+     * @param width   the width of the moving rectangle
+     * @param height  the height of the moving rectangle
+     * @param dx      the movement along the x axis
+     * @param dy      the movement along the y axis
+     * @param samples the number of positions to test
+     * @return the fraction of the movement in (0, 1] at the first hit, or -1 if there is none
+     */
+    private double sweep(Rectangle2D target, double x, double y, double width, double height, double dx, double dy, int samples) {
+        for (int i = 1; i <= samples; i++) {
+            double fraction = (double) i / samples;
+            collisionTests++;
+            if (target.intersects(x + dx * fraction, y + dy * fraction, width, height)) return fraction;
+        }
+        return -1;
     }
 
     /**
@@ -62,44 +121,46 @@ public class PhysicsController {
                         double velocityY = player.getPhisicsComponent().getVelocityY();
                         double modVelocityY = Math.abs(velocityY);
 
-                        double k = 1;
+                        double k = Game.TICK_SCALE; // velocity is defined per tick at Game.REFERENCE_UPS
 
-                        // Predict future bounds based on velocity
-                        Rectangle2D.Double playerNextBoundsUp = new Rectangle2D.Double(
-                                boxCollider.getBounds().getX(),
-                                boxCollider.getBounds().getY() + modVelocityY * k * Game.SCALE,
-                                boxCollider.getBounds().getWidth(),
-                                boxCollider.getBounds().getHeight()
-                        );
-
-                        Rectangle2D.Double playerNextBoundsDown = new Rectangle2D.Double(
-                                boxCollider.getBounds().getX(),
-                                boxCollider.getBounds().getY() - modVelocityY * k * Game.SCALE,
-                                boxCollider.getBounds().getWidth(),
-                                boxCollider.getBounds().getHeight()
-                        );
+                        // Sweep the predicted movement of this tick
+                        double displacementY = modVelocityY * k * Game.SCALE;
+                        int samples = sweepSamples(displacementY);
+                        Rectangle2D playerBounds = boxCollider.getBounds();
 
                         if (collider instanceof BoxCollider) {
                             BoxCollider tileBoxCollider = (BoxCollider) collider;
 
                             Rectangle2D tileBounds = tileBoxCollider.getBounds();
 
-                            if (velocityY > 0 && tileBounds.intersects(playerNextBoundsUp)) { // Moving down
+                            if (velocityY > 0 && sweep(tileBounds, playerBounds.getX(), playerBounds.getY(),
+                                    playerBounds.getWidth(), playerBounds.getHeight(), 0, displacementY, samples) > 0) { // Moving down
                                 player.getPhisicsComponent().setAbleToDown(false);
                                 player.getPhisicsComponent().setVelocityY(0);
 
                                 player.setIsTemporarilyDisabled(false);
 
+                                if (player.land()) {
+                                    playingScene.getParticleSystem().emit(ParticleSystem.EFFECT_DUST,
+                                            player.getCenterX(), playerBounds.getMaxY(), LANDING_PARTICLES, 1);
+                                }
+
                                 // Correct player's position to sit exactly on top of the platform
                                 player.setPosY(tileBounds.getY() - tileBounds.getHeight() - boxCollider.getBounds().getHeight());
                             }
 
-                            if (velocityY < 0 && tileBounds.intersects(playerNextBoundsDown)) { // Moving up
+                            if (velocityY < 0 && sweep(tileBounds, playerBounds.getX(), playerBounds.getY(),
+                                    playerBounds.getWidth(), playerBounds.getHeight(), 0, -displacementY, samples) > 0) { // Moving up
                                 player.getPhisicsComponent().setAbleToUp(false);
                                 player.getPhisicsComponent().setVelocityY(0);
 
                                 player.setIsTemporarilyDisabled(false);
 
+                                if (player.land()) {
+                                    playingScene.getParticleSystem().emit(ParticleSystem.EFFECT_DUST,
+                                            player.getCenterX(), playerBounds.getMinY(), LANDING_PARTICLES, -1);
+                                }
+
                                 // Correct player's position to sit exactly below the platform
                                 player.setPosY(tileBounds.getY() - tileBounds.getHeight() + boxCollider.getBounds().getHeight());
                             }
@@ -122,13 +183,14 @@ public class PhysicsController {
 
                     BoxCollider boxCollider = (BoxCollider) collider;
 
-                    // Adjust the future tile collider bounds
-                    Rectangle2D.Double adjustedTileBounds = new Rectangle2D.Double(
-                            boxCollider.getBounds().x + tile.getTilePhisicsComponents().getVelocity_x(),
-                            boxCollider.getBounds().y + boxCollider.getBounds().getHeight() * 0.1,
-                            boxCollider.getBounds().getWidth(),
-                            boxCollider.getBounds().getHeight() * 0.8
-                    );
+                    // Sweep the tile collider over its movement of this tick
+                    double displacementX = tile.getTilePhisicsComponents().getVelocity_x() * Game.TICK_SCALE;
+                    int samples = sweepSamples(displacementX);
+
+                    double tileX = boxCollider.getBounds().x;
+                    double tileY = boxCollider.getBounds().y + boxCollider.getBounds().getHeight() * 0.1;
+                    double tileWidth = boxCollider.getBounds().getWidth();
+                    double tileHeight = boxCollider.getBounds().getHeight() * 0.8;
 
 
                     for (Player player : playingScene.getPlayers()) {
@@ -136,8 +198,9 @@ public class PhysicsController {
                         if (player.getCollider() instanceof BoxCollider && !player.isInActive()) {
                             BoxCollider playerCollider = (BoxCollider) player.getCollider();
 
-                            if (playerCollider.getBounds().intersects(adjustedTileBounds)) {
-                                double overlap = playerCollider.getBounds().getMaxX() - adjustedTileBounds.getMinX();
+                            double hit = sweep(playerCollider.getBounds(), tileX, tileY, tileWidth, tileHeight, displacementX, 0, samples);
+                            if (hit > 0) {
+                                double overlap = playerCollider.getBounds().getMaxX() - (tileX + displacementX * hit);
                                 player.setPosX(player.getPosX() - overlap);
                                 player.getPhisicsComponent().setVelocityX(tile.getTilePhisicsComponents().getVelocity_x());
                             }
@@ -158,11 +221,11 @@ public class PhysicsController {
     public void resetPlayerVelocityX(){
         for (Player player : playingScene.getPlayers()) {
             if (player.isConsumedBonus() && !player.isInActive()) {
-                ticks++;
-                if (ticks >= Game.UPS_LIMIT * Game.TIME_BEFORE_POWER_UP_RESET) { // 3 seconds
+                powerUpSeconds += Game.TICK_SECONDS;
+                if (powerUpSeconds >= Game.TIME_BEFORE_POWER_UP_RESET) {
                     player.setConsumedBonus(false);
                     player.getPhisicsComponent().setVelocityX(0);
-                    ticks = 0;
+                    powerUpSeconds = 0;
                 }
             }
         }
@@ -247,6 +310,15 @@ public class PhysicsController {
         }
     }
 
+    /**
+     * Returns the collision cost statistics.
+     *
+     * @return the physics statistics
+     */
+    public PhysicsStats getStats() {
+        return stats;
+    }
+
     /**
      * Marks a player as dead and adjusts their velocity based on the level's speed.
      *
@@ -255,6 +327,11 @@ public class PhysicsController {
     private void playerDead(Player player){
         double xVelocity = playingScene.getLevelsManager().getSpeed();
 
+        if (!player.isDead()) {
+            playingScene.getParticleSystem().emit(ParticleSystem.EFFECT_DEATH, player.getCenterX(), player.getCenterY(),
+                    DEATH_PARTICLES, player.getPhisicsComponent().getGravityDirection());
+        }
+
         player.setDead(true, xVelocity);
         player.getPhisicsComponent().setVelocityX(-xVelocity);
     }
@@ -287,7 +364,7 @@ public class PhysicsController {
 
                         Rectangle2D.Double detectYBoundPlayer = new Rectangle2D.Double(
                                 boxCPlayer.getBounds().getX() + boxCPlayer.getBounds().getWidth() * 0.1,
-                                boxCPlayer.getBounds().getY() + player.getPhisicsComponent().getVelocityY(),
+                                boxCPlayer.getBounds().getY() + player.getPhisicsComponent().getVelocityY() * Game.TICK_SCALE,
                                 boxCPlayer.getBounds().getWidth() * 0.8,
                                 boxCPlayer.getBounds().getHeight()
                         );
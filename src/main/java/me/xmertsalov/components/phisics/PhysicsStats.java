@@ -0,0 +1,73 @@
+package me.xmertsalov.components.phisics;
+
+import me.xmertsalov.Game;
+
+/**
+ * The {@code PhysicsStats} class measures the cost of collision detection per second of game time.
+ * Counting game time instead of wall-clock time makes runs at different tick rates and speeds comparable:
+ * a lower tick rate needs more swept samples per tick, but should not cost more per game second.
+ *
+ * <p>Values are collected on the game thread and published once per game second.
+ */
+public class PhysicsStats {
+    // Current window
+    private double windowSeconds;
+    private long tests;
+    private long samples;
+    private long nanos;
+    private double speedSum;
+    private int ticks;
+
+    // Last finished window
+    private volatile long testsPerGameSecond;
+    private volatile double averageSweepSamples;
+    private volatile double millisPerGameSecond;
+    private volatile double averageSpeed;
+
+    /**
+     * Records one physics tick.
+     *
+     * @param tests    the number of rectangle intersection tests run in the tick.
+     * @param samples  the largest number of swept samples used for one collider in the tick.
+     * @param duration the time spent in the tick in nanoseconds.
+     * @param speed    the speed of the levels in the tick.
+     */
+    public void recordTick(int tests, int samples, long duration, double speed) {
+        this.tests += tests;
+        this.samples += samples;
+        this.nanos += duration;
+        this.speedSum += speed;
+        this.ticks++;
+
+        windowSeconds += Game.TICK_SECONDS;
+        if (windowSeconds >= 1) publish();
+    }
+
+    /**
+     * Publishes the values of the current window, normalized to one second of game time, and starts a new one.
+     */
+    private void publish() {
+        testsPerGameSecond = Math.round(tests / windowSeconds);
+        averageSweepSamples = samples / (double) ticks;
+        millisPerGameSecond = nanos / windowSeconds / 1_000_000.0;
+        averageSpeed = speedSum / ticks;
+
+        if (Game.DEBUG_FPS) {
+            Game.logger.info("Physics at {} UPS, speed {}: {} collision tests and {} ms per game second, {} sweep samples per tick",
+                    Game.UPS_LIMIT, String.format("%.2f", averageSpeed),
+                    testsPerGameSecond, String.format("%.3f", millisPerGameSecond), String.format("%.1f", averageSweepSamples));
+        }
+
+        windowSeconds = 0;
+        tests = 0;
+        samples = 0;
+        nanos = 0;
+        speedSum = 0;
+        ticks = 0;
+    }
+
+    public long getTestsPerGameSecond() {return testsPerGameSecond;}
+    public double getAverageSweepSamples() {return averageSweepSamples;}
+    public double getMillisPerGameSecond() {return millisPerGameSecond;}
+    public double getAverageSpeed() {return averageSpeed;}
+}
@@ -1,5 +1,6 @@
 package me.xmertsalov.components.phisics;
 
+import me.xmertsalov.Game;
 import me.xmertsalov.gameObjects.Tile;
 
 /**
@@ -27,11 +28,12 @@ public class TilePhisicsComponents {
      * is updated based on the velocity.
      */
     public void update() {
-        // Update velocity based on acceleration
-        velocity_x += acceleration_x;
-        velocity_y += acceleration_y;
+        // Update velocity based on acceleration, defined per tick squared at Game.REFERENCE_UPS
+        velocity_x += acceleration_x * Game.TICK_SCALE;
+        velocity_y += acceleration_y * Game.TICK_SCALE;
 
-        tile.updatePos(tile.getX() + velocity_x, tile.getY() + velocity_y);
+        // Velocity is defined per tick at Game.REFERENCE_UPS
+        tile.updatePos(tile.getX() + velocity_x * Game.TICK_SCALE, tile.getY() + velocity_y * Game.TICK_SCALE);
     }
 
     /**
@@ -1,8 +1,9 @@
 package me.xmertsalov.components.phisics.colliders;
 
 import me.xmertsalov.Game;
+import me.xmertsalov.rendering.Renderer;
+import me.xmertsalov.rendering.WorldSnapshot;
 
-import java.awt.*;
 import java.awt.geom.Rectangle2D;
 
 /**
@@ -49,15 +50,25 @@ public class BoxCollider extends Collider {
      * The fill and outline colors are determined by the {@code Game.DEBUG_COLOR}
      * and {@code Game.DEBUG_COLOR_SECOND} respectively.
      *
-     * @param g The {@code Graphics} object used for rendering.
+     * @param renderer The {@link Renderer} used for rendering.
      */
-    public void draw(Graphics g) {
+    public void draw(Renderer renderer) {
         if (!Game.DEBUG_COLLIDERS) return;
 
-        g.setColor(Game.DEBUG_COLOR);
-        g.fillRect((int) bounds.getX(), (int) bounds.getY(), (int) bounds.getWidth(), (int) bounds.getHeight());
+        renderer.fillRect((int) bounds.getX(), (int) bounds.getY(), (int) bounds.getWidth(), (int) bounds.getHeight(), Game.DEBUG_COLOR);
 
-        g.setColor(Game.DEBUG_COLOR_SECOND);
-        g.drawRect((int) bounds.getX(), (int) bounds.getY(), (int) bounds.getWidth(), (int) bounds.getHeight());
+        renderer.drawRect((int) bounds.getX(), (int) bounds.getY(), (int) bounds.getWidth(), (int) bounds.getHeight(), Game.DEBUG_COLOR_SECOND);
+    }
+
+    /**
+     * Adds the collider's bounds to a world snapshot for debugging purposes.
+     *
+     * @param snapshot The snapshot to write into.
+     * @param layer    The layer of the snapshot to draw the bounds on.
+     */
+    public void writeSnapshot(WorldSnapshot snapshot, int layer) {
+        if (!Game.DEBUG_COLLIDERS) return;
+
+        snapshot.addDebugShape(WorldSnapshot.KIND_DEBUG_RECT, bounds.getX(), bounds.getY(), (int) bounds.getWidth(), (int) bounds.getHeight(), layer);
     }
 }
@@ -1,6 +1,7 @@
 package me.xmertsalov.components.phisics.colliders;
 
-import java.awt.*;
+import me.xmertsalov.rendering.Renderer;
+import me.xmertsalov.rendering.WorldSnapshot;
 
 /**
  * The {@code Collider} abstract class serves as a base for all collider types.
@@ -12,9 +13,18 @@ public abstract class Collider {
     /**
      * Renders the collider's bounds on the screen for debugging purposes.
      *
-     * @param g The {@code Graphics} object used for rendering.
+     * @param renderer The {@link Renderer} used for rendering.
      */
-    public abstract void draw(Graphics g);
+    public abstract void draw(Renderer renderer);
+
+    /**
+     * Adds the collider's bounds to a world snapshot for debugging purposes.
+     * Nothing is added unless {@code Game.DEBUG_COLLIDERS} is enabled.
+     *
+     * @param snapshot The snapshot to write into.
+     * @param layer    The layer of the snapshot to draw the bounds on.
+     */
+    public abstract void writeSnapshot(WorldSnapshot snapshot, int layer);
 
     /**
      * Updates the position of the collider's bounds.
@@ -1,6 +1,8 @@
 package me.xmertsalov.components.phisics.colliders;
 
 import me.xmertsalov.Game;
+import me.xmertsalov.rendering.Renderer;
+import me.xmertsalov.rendering.WorldSnapshot;
 
 import java.awt.*;
 
@@ -27,16 +29,27 @@ public class PolygonCollider extends Collider {
      * The fill and outline colors are determined by the {@code Game.DEBUG_COLOR}
      * and {@code Game.DEBUG_COLOR_SECOND} respectively.
      *
-     * @param g The {@code Graphics} object used for rendering.
+     * @param renderer The {@link Renderer} used for rendering.
      */
     @Override
-    public void draw(Graphics g) {
+    public void draw(Renderer renderer) {
         if (!Game.DEBUG_COLLIDERS) return;
-        g.setColor(Game.DEBUG_COLOR);
-        g.fillPolygon(polygon);
+        renderer.fillPolygon(polygon, Game.DEBUG_COLOR);
 
-        g.setColor(Game.DEBUG_COLOR_SECOND);
-        g.drawPolygon(polygon);
+        renderer.drawPolygon(polygon, Game.DEBUG_COLOR_SECOND);
+    }
+
+    /**
+     * Adds the bounding box of the collider's polygon to a world snapshot for debugging purposes.
+     *
+     * @param snapshot The snapshot to write into.
+     * @param layer    The layer of the snapshot to draw the bounds on.
+     */
+    public void writeSnapshot(WorldSnapshot snapshot, int layer) {
+        if (!Game.DEBUG_COLLIDERS) return;
+
+        Rectangle box = polygon.getBounds();
+        snapshot.addDebugShape(WorldSnapshot.KIND_DEBUG_RECT, box.x, box.y, box.width, box.height, layer);
     }
 
     /**
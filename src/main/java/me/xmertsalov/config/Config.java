@@ -28,6 +28,29 @@ public class Config implements Serializable {
     private int sfxVolume = 100;
     private int musicVolume = 100;
 
+    // Game loop
+    private static final int defaultMaxUpdatesPerFrame = 5;
+    private static final int defaultSpinWindowMicros = 1000;
+    private int maxUpdatesPerFrame = defaultMaxUpdatesPerFrame; // catch-up limit for updates between two frames
+    private int spinWindowMicros = defaultSpinWindowMicros; // time before a deadline spent spinning instead of parking
+
+    private static final int defaultUpdatesPerSecond = 200;
+    private static final int minUpdatesPerSecond = 30;
+    private static final int maxUpdatesPerSecond = 240;
+    private int updatesPerSecond = defaultUpdatesPerSecond; // simulation tick rate, frames are interpolated between ticks
+
+    // Rendering
+    private static final RenderMode defaultRenderMode = RenderMode.ACTIVE;
+    private RenderMode renderMode = defaultRenderMode;
+    private Boolean powerSaving = Boolean.TRUE; // throttle redraws of idle scenes and unfocused or minimized windows
+    private Boolean logicalResolution = Boolean.FALSE; // draw at the native pixel-art resolution and upscale the frame once
+
+    // Recording
+    private static final RecordingFormat defaultRecordingFormat = RecordingFormat.PNG_SEQUENCE;
+    private static final int defaultRecordingFrameInterval = 2;
+    private RecordingFormat recordingFormat = defaultRecordingFormat;
+    private int recordingFrameInterval = defaultRecordingFrameInterval; // record every Nth presented frame
+
     /**
      * Constructs a new {@code Config} object with default settings.
      * Initializes the list of supported resolutions and sets the default resolution.
@@ -73,6 +96,7 @@ public class Config implements Serializable {
             Config config = (Config) ois.readObject();
             config.currentResolution = config.temporaryResolution;
             config.updateResolutionDimensions();
+            config.applyMissingDefaults();
             return config;
         } catch (FileNotFoundException e) {
             System.out.println("Config file not found. Using default settings.");
@@ -114,6 +138,181 @@ public class Config implements Serializable {
         }
     }
 
+    /**
+     * Sets the game loop timing settings.
+     * Ensures that at least one update runs per frame and that the spin window is positive.
+     *
+     * @param maxUpdatesPerFrame the maximum number of catch-up updates between two frames.
+     * @param spinWindowMicros   the time in microseconds spent spinning before an update or frame deadline.
+     */
+    public void setLoopSettings(int maxUpdatesPerFrame, int spinWindowMicros) {
+        if (maxUpdatesPerFrame >= 1 && spinWindowMicros > 0) {
+            this.maxUpdatesPerFrame = maxUpdatesPerFrame;
+            this.spinWindowMicros = spinWindowMicros;
+        } else {
+            System.err.println("Invalid loop settings: " + maxUpdatesPerFrame + " or " + spinWindowMicros);
+        }
+    }
+
+    /**
+     * Sets the number of simulation updates per second. Takes effect after a restart.
+     * Ensures that the value is within the range of 30 to 240.
+     *
+     * @param updatesPerSecond the number of updates per second.
+     */
+    public void setUpdatesPerSecond(int updatesPerSecond) {
+        if (updatesPerSecond >= minUpdatesPerSecond && updatesPerSecond <= maxUpdatesPerSecond) {
+            this.updatesPerSecond = updatesPerSecond;
+        } else {
+            System.err.println("Invalid updates per second: " + updatesPerSecond);
+        }
+    }
+
+    /**
+     * Returns the number of simulation updates per second.
+     *
+     * @return the number of updates per second.
+     */
+    public int getUpdatesPerSecond() {
+        return updatesPerSecond;
+    }
+
+    /**
+     * Returns the maximum number of updates the game loop may run to catch up before drawing a frame.
+     *
+     * @return the maximum number of updates per frame.
+     */
+    public int getMaxUpdatesPerFrame() {
+        return maxUpdatesPerFrame;
+    }
+
+    /**
+     * Returns the time before a deadline that the game loop spins instead of parking the thread.
+     *
+     * @return the spin window in microseconds.
+     */
+    public int getSpinWindowMicros() {
+        return spinWindowMicros;
+    }
+
+    /**
+     * Sets how frames are presented on screen. Takes effect after a restart.
+     *
+     * @param renderMode the render mode to use.
+     */
+    public void setRenderMode(RenderMode renderMode) {
+        if (renderMode != null) {
+            this.renderMode = renderMode;
+        } else {
+            System.err.println("Invalid render mode: null");
+        }
+    }
+
+    /**
+     * Returns how frames are presented on screen.
+     *
+     * @return the render mode.
+     */
+    public RenderMode getRenderMode() {
+        return renderMode;
+    }
+
+    /**
+     * Sets whether idle scenes and unfocused or minimized windows are drawn at a reduced rate.
+     *
+     * @param powerSaving {@code true} to enable power saving.
+     */
+    public void setPowerSaving(boolean powerSaving) {
+        this.powerSaving = powerSaving;
+    }
+
+    /**
+     * Returns whether idle scenes and unfocused or minimized windows are drawn at a reduced rate.
+     *
+     * @return {@code true} if power saving is enabled.
+     */
+    public boolean isPowerSaving() {
+        return powerSaving;
+    }
+
+    /**
+     * Sets whether frames are drawn at the native pixel-art resolution and upscaled to the window in one step.
+     * Takes effect after a restart.
+     *
+     * @param logicalResolution {@code true} to draw at the logical resolution.
+     */
+    public void setLogicalResolution(boolean logicalResolution) {
+        this.logicalResolution = logicalResolution;
+    }
+
+    /**
+     * Returns whether frames are drawn at the native pixel-art resolution and upscaled to the window in one step.
+     *
+     * @return {@code true} if the logical resolution is used.
+     */
+    public boolean isLogicalResolution() {
+        return logicalResolution;
+    }
+
+    /**
+     * Sets the format that recorded frames are written in.
+     *
+     * @param recordingFormat the recording format to use.
+     */
+    public void setRecordingFormat(RecordingFormat recordingFormat) {
+        if (recordingFormat != null) {
+            this.recordingFormat = recordingFormat;
+        } else {
+            System.err.println("Invalid recording format: null");
+        }
+    }
+
+    /**
+     * Returns the format that recorded frames are written in.
+     *
+     * @return the recording format.
+     */
+    public RecordingFormat getRecordingFormat() {
+        return recordingFormat;
+    }
+
+    /**
+     * Sets how many presented frames make up one recorded frame, e.g. 2 records every second frame.
+     *
+     * @param recordingFrameInterval the interval, at least 1.
+     */
+    public void setRecordingFrameInterval(int recordingFrameInterval) {
+        if (recordingFrameInterval >= 1) {
+            this.recordingFrameInterval = recordingFrameInterval;
+        } else {
+            System.err.println("Invalid recording frame interval: " + recordingFrameInterval);
+        }
+    }
+
+    /**
+     * Returns how many presented frames make up one recorded frame.
+     *
+     * @return the recording frame interval.
+     */
+    public int getRecordingFrameInterval() {
+        return recordingFrameInterval;
+    }
+
+    /**
+     * Restores default values for settings that are missing from a config file saved by an older version.
+     * Fields added after the file was written are deserialized as zero or {@code null}.
+     */
+    private void applyMissingDefaults() {
+        if (maxUpdatesPerFrame <= 0) maxUpdatesPerFrame = defaultMaxUpdatesPerFrame;
+        if (spinWindowMicros <= 0) spinWindowMicros = defaultSpinWindowMicros;
+        if (renderMode == null) renderMode = defaultRenderMode;
+        if (powerSaving == null) powerSaving = Boolean.TRUE;
+        if (logicalResolution == null) logicalResolution = Boolean.FALSE;
+        if (recordingFormat == null) recordingFormat = defaultRecordingFormat;
+        if (recordingFrameInterval <= 0) recordingFrameInterval = defaultRecordingFrameInterval;
+        if (updatesPerSecond < minUpdatesPerSecond || updatesPerSecond > maxUpdatesPerSecond) updatesPerSecond = defaultUpdatesPerSecond;
+    }
+
     /**
      * Returns the current resolution.
      *
@@ -0,0 +1,14 @@
+package me.xmertsalov.config;
+
+/**
+ * The {@code RecordingFormat} enum defines how recorded frames are written to disk.
+ *
+ * <ul>
+ *     <li>{@link #PNG_SEQUENCE} - every frame is written to its own numbered PNG file; frames are encoded in parallel.</li>
+ *     <li>{@link #GIF} - all frames are written to one looping animated GIF; frames are encoded one after another.</li>
+ * </ul>
+ */
+public enum RecordingFormat {
+    PNG_SEQUENCE,
+    GIF
+}
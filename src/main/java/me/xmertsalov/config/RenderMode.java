@@ -0,0 +1,14 @@
+package me.xmertsalov.config;
+
+/**
+ * The {@code RenderMode} enum defines how frames are presented on screen.
+ *
+ * <ul>
+ *     <li>{@link #ACTIVE} - the render thread draws into a {@link java.awt.image.BufferStrategy} on a canvas and shows it itself.</li>
+ *     <li>{@link #PASSIVE} - the render thread asks Swing to repaint the game panel, which paints on the event dispatch thread.</li>
+ * </ul>
+ */
+public enum RenderMode {
+    ACTIVE,
+    PASSIVE
+}
@@ -3,13 +3,11 @@ package me.xmertsalov.entities;
 import me.xmertsalov.components.*;
 import me.xmertsalov.Game;
 import me.xmertsalov.components.Animator.Animator;
-import me.xmertsalov.components.Animator.LoopingAnimationStrategy;
-import me.xmertsalov.components.Animator.OneWayAnimationStrategy;
 import me.xmertsalov.components.phisics.colliders.BoxCollider;
 import me.xmertsalov.components.phisics.colliders.Collider;
 import me.xmertsalov.components.phisics.PhisicsComponent;
-
-import java.awt.Graphics;
+import me.xmertsalov.rendering.Renderer;
+import me.xmertsalov.rendering.WorldSnapshot;
 
 /**
  * The {@code Player} class represents the player entity in the game.
@@ -30,12 +28,17 @@ public class Player extends Entity {
 	private Collider collider;
 	private PhisicsComponent phisicsComponent;
 	private Animator animator;
+	private int runningClip; // clip ids of the animator, resolved when it is set
+	private int deathClip;
 	PlayerAnimator playerAnimator;
 
 	// Other
 	private final double mass = 0.5f;
 	private boolean isConsumedBonus = false;
-	private int ticksBeforeTemporlyDisabled = 0;
+	private double secondsTemporarilyDisabled = 0;
+	private double secondsInAir = 0; // since the player last touched a platform
+	private volatile boolean gravityFlipped = false; // set on the Swing event thread, taken on the game thread
+	private static final double MIN_SECONDS_IN_AIR_TO_LAND = 0.15;
 
 	// Player controls
 	private int changeGravityKey;
@@ -49,6 +52,10 @@ public class Player extends Entity {
 	// States
 	private double speed = 0;
 
+	// Position at the previous snapshot, for render interpolation
+	private double prevX, prevY;
+	private boolean hasPrevPosition = false;
+
 
 	/**
 	 * Constructs a {@code Player} with the specified position, control key, animator, and skin.
@@ -72,8 +79,7 @@ public class Player extends Entity {
 		if (playerAnimator == null) {
 			throw new NullPointerException("PlayerAnimator is null");
 		}
-		animator = playerAnimator.getAnimator(playerSkin);
-		animator.setAnimationState("RUNNING");
+		useAnimator(playerAnimator.getAnimator(playerSkin));
 
 		collider = new BoxCollider(x + playerWidth / 3,
 				y + playerHeight / 3,
@@ -92,8 +98,7 @@ public class Player extends Entity {
 		if (inActive) return;
 
 		resetTemporarilyDisabled();
-
-		phisicsComponent.setVelocityY(0);
+		secondsInAir += Game.TICK_SECONDS;
 
 		collider.updateBounds(
 				x + playerWidth / 3,
@@ -106,15 +111,44 @@ public class Player extends Entity {
 	}
 
 	/**
-	 * Renders the player on the screen using the specified {@code Graphics} object.
+	 * Renders the player on the screen using the specified {@code Renderer}.
+	 *
+	 * @param renderer the {@link Renderer} used for rendering
+	 */
+	public void render(Renderer renderer) {
+		if (inActive) return;
+
+		collider.draw(renderer);
+		animator.draw(renderer, x, y + flipY, (int)(playerWidth), (int)(playerHeight * flipH));
+	}
+
+	/**
+	 * Adds the player to the world snapshot of the current tick.
 	 *
-	 * @param g the {@code Graphics} object used for rendering
+	 * @param snapshot the snapshot to write into
 	 */
-	public void render(Graphics g) {
+	public void writeSnapshot(WorldSnapshot snapshot) {
 		if (inActive) return;
 
-		collider.draw(g);
-		animator.draw(g, x, y + flipY, (int)(playerWidth), (int)(playerHeight * flipH));
+		if (!hasPrevPosition) {
+			prevX = x;
+			prevY = y;
+			hasPrevPosition = true;
+		}
+
+		collider.writeSnapshot(snapshot, WorldSnapshot.LAYER_PLAYERS);
+		animator.writeSnapshot(snapshot, prevX, prevY + flipY, x, y + flipY, (int)(playerWidth), (int)(playerHeight * flipH), WorldSnapshot.LAYER_PLAYERS);
+
+		prevX = x;
+		prevY = y;
+	}
+
+	/**
+	 * Makes the next snapshot start from the current position instead of interpolating from the last one.
+	 * Used when the player is placed somewhere instead of moving there.
+	 */
+	public void resetInterpolation() {
+		hasPrevPosition = false;
 	}
 
 	/**
@@ -132,14 +166,14 @@ public class Player extends Entity {
 	}
 
 	/**
-	 * Resets the player's temporarily disabled state after a certain number of ticks.
+	 * Resets the player's temporarily disabled state after {@code Game.TIME_BEFORE_PLAYER_JUMP} seconds.
 	 */
 	private void resetTemporarilyDisabled(){
 		if (!isTemporarilyDisabled) return;
 
-		ticksBeforeTemporlyDisabled++;
-		if (ticksBeforeTemporlyDisabled >= Game.UPS_LIMIT * Game.TIME_BEFORE_PLAYER_JUMP){
-			ticksBeforeTemporlyDisabled = 0;
+		secondsTemporarilyDisabled += Game.TICK_SECONDS;
+		if (secondsTemporarilyDisabled >= Game.TIME_BEFORE_PLAYER_JUMP){
+			secondsTemporarilyDisabled = 0;
 			isTemporarilyDisabled = false;
 		}
 	}
@@ -155,8 +189,45 @@ public class Player extends Entity {
 		phisicsComponent.setAbleToUp(true);
 		phisicsComponent.setAbleToDown(true);
 		isTemporarilyDisabled = true;
+		gravityFlipped = true;
 	}
 
+	/**
+	 * Returns whether the player flipped gravity since the last call, and clears the flag.
+	 *
+	 * @return {@code true} if the gravity was flipped
+	 */
+	public boolean takeGravityFlip() {
+		if (!gravityFlipped) return false;
+		gravityFlipped = false;
+		return true;
+	}
+
+	/**
+	 * Records that the player touches a platform in the direction of gravity.
+	 *
+	 * @return {@code true} if the player was in the air long enough for this to count as a landing
+	 */
+	public boolean land() {
+		boolean landed = secondsInAir >= MIN_SECONDS_IN_AIR_TO_LAND;
+		secondsInAir = 0;
+		return landed;
+	}
+
+	/**
+	 * Gets the x-coordinate of the centre of the player's sprite.
+	 *
+	 * @return the centre x-coordinate
+	 */
+	public double getCenterX() {return x + playerWidth / 2;}
+
+	/**
+	 * Gets the y-coordinate of the centre of the player's sprite.
+	 *
+	 * @return the centre y-coordinate
+	 */
+	public double getCenterY() {return y + playerHeight / 2;}
+
 	/**
 	 * Gets the player's collider component.
 	 *
@@ -229,14 +300,7 @@ public class Player extends Entity {
 	public void setDead(boolean dead, double speed) {
 		this.isDead = dead;
 		this.speed = speed;
-		if (!dead){
-			animator.setAnimationState("RUNNING");
-			animator.setAnimationStrategy(new LoopingAnimationStrategy());
-		}
-		else{
-			animator.setAnimationState("DEATH");
-			animator.setAnimationStrategy(new OneWayAnimationStrategy());
-		}
+		animator.setAnimationState(dead ? deathClip : runningClip);
 	}
 
 	/**
@@ -289,8 +353,20 @@ public class Player extends Entity {
 	 */
 	public void setAnimator(PlayerAnimator playerAnimator, String playerSkin) {
 		this.playerSkin = playerSkin;
-		animator = playerAnimator.getAnimator(playerSkin);
-		animator.setAnimationState("RUNNING");
+		useAnimator(playerAnimator.getAnimator(playerSkin));
+	}
+
+	/**
+	 * Switches to an animator and resolves the ids of the clips the player plays.
+	 * The death clip is played once, see {@link PlayerAnimator}.
+	 *
+	 * @param animator the animator of the skin
+	 */
+	private void useAnimator(Animator animator) {
+		this.animator = animator;
+		runningClip = animator.getClipId("RUNNING");
+		deathClip = animator.getClipId("DEATH");
+		animator.setAnimationState(runningClip);
 	}
 
 	/**
@@ -1,5 +1,7 @@
 package me.xmertsalov.exceptions;
 
+import me.xmertsalov.rendering.Renderer;
+
 import java.awt.*;
 
 /**
@@ -20,14 +22,12 @@ public class LobbyException extends RuntimeException {
     /**
      * Draws the error message on a graphical interface at the specified position and font size.
      *
-     * @param g        The Graphics object used for drawing.
+     * @param renderer The {@link Renderer} used for drawing.
      * @param x        The x-coordinate where the message should be drawn.
      * @param y        The y-coordinate where the message should be drawn.
      * @param fontSize The font size of the error message.
      */
-    public void draw(Graphics g, int x, int y, int fontSize) {
-        g.setColor(Color.RED);
-        g.setFont(new Font("Arial", Font.BOLD, fontSize));
-        g.drawString(getMessage(), x, y);
+    public void draw(Renderer renderer, int x, int y, int fontSize) {
+        renderer.drawText(getMessage(), x, y, new Font("Arial", Font.BOLD, fontSize), Color.RED);
     }
 }
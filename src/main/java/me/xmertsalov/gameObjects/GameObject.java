@@ -1,6 +1,7 @@
 package me.xmertsalov.gameObjects;
 
-import java.awt.*;
+import me.xmertsalov.rendering.Renderer;
+import me.xmertsalov.rendering.WorldSnapshot;
 
 /**
  * The {@code GameObject} class serves as an abstract base class for all game objects in the application.
@@ -19,6 +20,11 @@ public abstract class GameObject {
     protected double y;
 
     protected int zIndex = 0; // -1 - background, 0 - not render, 1 - foreground
+    protected int animationPhase = 0; // frames ahead of the shared animation clock of the object's type
+
+    // Position at the previous snapshot, for render interpolation
+    private double prevX, prevY;
+    private boolean hasPrevPosition = false;
 
     /**
      * Constructs a new {@code GameObject} with the specified initial position.
@@ -67,6 +73,20 @@ public abstract class GameObject {
         this.y = y;
     }
 
+    /**
+     * Sets how many frames the object's animation is ahead of the other objects of its type,
+     * when they are driven by a shared animation clock.
+     *
+     * @param animationPhase the phase offset in frames.
+     */
+    public void setAnimationPhase(int animationPhase) {
+        this.animationPhase = animationPhase;
+    }
+
+    public int getAnimationPhase() {
+        return animationPhase;
+    }
+
     /**
      * Updates the state of the game object. This method is called on each game loop iteration
      * and should be implemented by subclasses to define specific update logic.
@@ -77,9 +97,40 @@ public abstract class GameObject {
      * Renders the game object on the screen. This method is called during the rendering phase
      * and should be implemented by subclasses to define specific drawing logic.
      *
-     * @param g the {@code Graphics} object used for rendering.
+     * @param renderer the {@link Renderer} used for rendering.
+     */
+    public abstract void draw(Renderer renderer);
+
+    /**
+     * Adds the game object to the world snapshot of the current tick. This method is called on the game thread
+     * at the end of each update; the snapshot is then drawn by the render thread instead of calling {@link #draw(Renderer)}.
+     * The position written at the previous tick is passed along, so the renderer can interpolate between them.
+     *
+     * @param snapshot the snapshot to write into.
+     * @param layer    the layer of the snapshot the object belongs to.
      */
-    public abstract void draw(Graphics g);
+    public final void writeSnapshot(WorldSnapshot snapshot, int layer) {
+        if (!hasPrevPosition) {
+            prevX = x;
+            prevY = y;
+            hasPrevPosition = true;
+        }
+
+        addToSnapshot(snapshot, layer, prevX, prevY);
+
+        prevX = x;
+        prevY = y;
+    }
+
+    /**
+     * Adds the game object to a world snapshot. Implemented by subclasses to define what is drawn.
+     *
+     * @param snapshot the snapshot to write into.
+     * @param layer    the layer of the snapshot the object belongs to.
+     * @param prevX    the x-coordinate of the object at the previous snapshot.
+     * @param prevY    the y-coordinate of the object at the previous snapshot.
+     */
+    protected abstract void addToSnapshot(WorldSnapshot snapshot, int layer, double prevX, double prevY);
 
     /**
      * Updates the position of the game object. This method allows subclasses to define
@@ -98,6 +149,16 @@ public abstract class GameObject {
      */
     public abstract GameObject clone();
 
+    /**
+     * Returns the id of the sprite sheet the object is drawn from. Levels order their objects by it,
+     * so objects sharing an atlas are drawn one after another.
+     *
+     * @return the sprite sheet id, or {@code -1} if the object is not drawn from a sprite sheet.
+     */
+    public int getSpriteSheetId() {
+        return -1;
+    }
+
     public int getZIndex() {return zIndex;}
 
     public void setZIndex(int zIndex) {this.zIndex = zIndex;}
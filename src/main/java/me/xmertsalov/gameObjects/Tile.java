@@ -5,8 +5,10 @@ import me.xmertsalov.components.phisics.colliders.Collider;
 import me.xmertsalov.components.phisics.colliders.PolygonCollider;
 import me.xmertsalov.components.phisics.TilePhisicsComponents;
 import me.xmertsalov.Game;
+import me.xmertsalov.rendering.Renderer;
+import me.xmertsalov.rendering.WorldSnapshot;
 
-import java.awt.*;
+import java.awt.image.BufferedImage;
 
 /**
  * The {@code Tile} class represents a single tile in the game world.
@@ -17,7 +19,9 @@ public class Tile extends GameObject {
     private final int tileIndex;
     private final String tileType;
 
-    private java.awt.Image img;
+    private BufferedImage img;
+    private int spriteSheetId;
+    private int spriteIndex;
 
     private Collider collider;
     private TilePhisicsComponents tilePhisicsComponents;
@@ -87,16 +91,32 @@ public class Tile extends GameObject {
     }
 
     /**
-     * Draws the tile and its collider (if present) using the specified graphics context.
+     * Draws the tile and its collider (if present) using the specified renderer.
      *
-     * @param g The graphics context used for drawing.
+     * @param renderer The {@link Renderer} used for drawing.
      */
     @Override
-    public void draw(Graphics g) {
-        g.drawImage(img, (int) this.getX(), (int) this.getY(), Game.TILES_SIZE, Game.TILES_SIZE, null);
+    public void draw(Renderer renderer) {
+        renderer.drawSprite(img, (int) this.getX(), (int) this.getY(), Game.TILES_SIZE, Game.TILES_SIZE);
 
         // For debugging colliders
-        if (this.getCollider() != null) this.getCollider().draw(g);
+        if (this.getCollider() != null) this.getCollider().draw(renderer);
+    }
+
+    /**
+     * Adds the tile and its collider (if present) to a world snapshot.
+     *
+     * @param snapshot The snapshot to write into.
+     * @param layer    The layer of the snapshot the tile belongs to.
+     * @param prevX    The x-coordinate of the tile at the previous snapshot.
+     * @param prevY    The y-coordinate of the tile at the previous snapshot.
+     */
+    @Override
+    protected void addToSnapshot(WorldSnapshot snapshot, int layer, double prevX, double prevY) {
+        snapshot.addSprite(spriteSheetId, 0, spriteIndex, prevX, prevY, x, y, Game.TILES_SIZE, Game.TILES_SIZE, layer);
+
+        // For debugging colliders
+        if (this.getCollider() != null) this.getCollider().writeSnapshot(snapshot, layer);
     }
 
     /**
@@ -147,12 +167,32 @@ public class Tile extends GameObject {
     /**
      * Sets the image to be displayed for this tile.
      *
-     * @param img The {@code Image} object to be used as the tile's visual representation.
+     * @param img The {@code BufferedImage} object to be used as the tile's visual representation.
      */
-    public void setImage(Image img) {
+    public void setImage(BufferedImage img) {
         this.img = img;
     }
 
+    /**
+     * Sets the sprite used for this tile in world snapshots.
+     *
+     * @param spriteSheetId The id of the tileset in {@code SpriteSheets}.
+     * @param spriteIndex   The index of the sprite in the tileset.
+     */
+    public void setSprite(int spriteSheetId, int spriteIndex) {
+        this.spriteSheetId = spriteSheetId;
+        this.spriteIndex = spriteIndex;
+    }
+
+    /**
+     * Retrieves the index of the sprite used for this tile in the tileset.
+     *
+     * @return The sprite index.
+     */
+    public int getSpriteIndex() {
+        return spriteIndex;
+    }
+
     /**
      * Sets the x-coordinate of the tile and updates the collider's bounds.
      *
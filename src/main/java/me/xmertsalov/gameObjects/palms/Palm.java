@@ -3,6 +3,8 @@ package me.xmertsalov.gameObjects.palms;
 import me.xmertsalov.Game;
 import me.xmertsalov.components.Animator.Animator;
 import me.xmertsalov.gameObjects.GameObject;
+import me.xmertsalov.rendering.Renderer;
+import me.xmertsalov.rendering.WorldSnapshot;
 
 import java.awt.*;
 import java.util.Arrays;
@@ -34,6 +36,7 @@ public class Palm extends GameObject {
                 .setAnimationStates(animationStates)
                 .setCurrentState("IDLE")
                 .build_and_load();
+        if (Game.SHARED_ANIMATION_CLOCKS) animator.useSharedClock();
 
     }
 
@@ -48,12 +51,29 @@ public class Palm extends GameObject {
 
     @Override
     public void update() {
+        if (animator.isClocked()) return; // the shared clock is advanced once for all palms of this type
+        if (zIndex < 0 && !Game.QUALITY_TIER.isAnimateBackPalms()) return;
+
+        // Palms are only decoration, do not animate them while they are outside the window
+        double width = spriteWidth * incrementSize * Game.SCALE;
+        if (getX() >= Game.WINDOW_WIDTH || getX() + width <= 0) return;
+
         animator.update();
     }
 
     @Override
-    public void draw(Graphics g) {
-        animator.draw(g, (int) getX(), (int) getY(), (int) (spriteWidth * incrementSize * Game.SCALE), (int) (spriteHeight * incrementSize * Game.SCALE));
+    public void draw(Renderer renderer) {
+        animator.draw(renderer, (int) getX(), (int) getY(), (int) (spriteWidth * incrementSize * Game.SCALE), (int) (spriteHeight * incrementSize * Game.SCALE), animationPhase);
+    }
+
+    @Override
+    protected void addToSnapshot(WorldSnapshot snapshot, int layer, double prevX, double prevY) {
+        animator.writeSnapshot(snapshot, prevX, prevY, getX(), getY(), (int) (spriteWidth * incrementSize * Game.SCALE), (int) (spriteHeight * incrementSize * Game.SCALE), layer, animationPhase);
+    }
+
+    @Override
+    public int getSpriteSheetId() {
+        return animator.getSpriteSheetId();
     }
 
     @Override
@@ -64,7 +84,7 @@ public class Palm extends GameObject {
 
     @Override
     public GameObject clone() {
-        return new Palm(x, y, new Animator.Builder().clone(this.animator), zIndex, spriteWidth, spriteHeight, incrementSize);
+        return new Palm(x, y, animator.cloneOrShare(), zIndex, spriteWidth, spriteHeight, incrementSize);
     }
 
     public void setIncrementSize(double incrementSize) {this.incrementSize = incrementSize;}
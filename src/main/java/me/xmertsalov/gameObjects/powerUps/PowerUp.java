@@ -5,6 +5,8 @@ import me.xmertsalov.components.Animator.Animator;
 import me.xmertsalov.components.Animator.LoopingAnimationStrategy;
 import me.xmertsalov.components.Animator.OneWayAnimationStrategy;
 import me.xmertsalov.gameObjects.GameObject;
+import me.xmertsalov.rendering.Renderer;
+import me.xmertsalov.rendering.WorldSnapshot;
 import me.xmertsalov.utils.BundleLoader;
 
 import java.awt.*;
@@ -57,6 +59,7 @@ public abstract class PowerUp extends GameObject {
                 .setAnimationSpeed(30)
                 .setAnimationStrategy(new OneWayAnimationStrategy())
                 .build_and_load();
+        if (Game.SHARED_ANIMATION_CLOCKS) animator.useSharedClock();
 
         setZIndex(0);
     }
@@ -85,10 +88,33 @@ public abstract class PowerUp extends GameObject {
     /**
      * Draws the power-up on the screen using its animator.
      *
-     * @param g The Graphics object used for rendering.
+     * @param renderer The {@link Renderer} used for rendering.
      */
-    public void draw(Graphics g) {
-        animator.draw(g, x, y, (int) bounds.getWidth(), (int) bounds.getHeight());
+    public void draw(Renderer renderer) {
+        animator.draw(renderer, x, y, (int) bounds.getWidth(), (int) bounds.getHeight(), animationPhase);
+    }
+
+    /**
+     * Adds the power-up to a world snapshot.
+     *
+     * @param snapshot The snapshot to write into.
+     * @param layer    The layer of the snapshot the power-up belongs to.
+     * @param prevX    The x-coordinate of the power-up at the previous snapshot.
+     * @param prevY    The y-coordinate of the power-up at the previous snapshot.
+     */
+    @Override
+    protected void addToSnapshot(WorldSnapshot snapshot, int layer, double prevX, double prevY) {
+        animator.writeSnapshot(snapshot, prevX, prevY, x, y, (int) bounds.getWidth(), (int) bounds.getHeight(), layer, animationPhase);
+    }
+
+    /**
+     * Returns the id of the sprite sheet the power-up is drawn from.
+     *
+     * @return The sprite sheet id of the power-up's animator.
+     */
+    @Override
+    public int getSpriteSheetId() {
+        return animator.getSpriteSheetId();
     }
 
     /**
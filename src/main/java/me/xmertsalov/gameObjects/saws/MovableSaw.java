@@ -3,6 +3,8 @@ package me.xmertsalov.gameObjects.saws;
 import me.xmertsalov.Game;
 import me.xmertsalov.components.Animator.Animator;
 import me.xmertsalov.gameObjects.GameObject;
+import me.xmertsalov.rendering.Renderer;
+import me.xmertsalov.rendering.WorldSnapshot;
 
 import java.awt.*;
 import java.awt.geom.Ellipse2D;
@@ -75,10 +77,10 @@ public class MovableSaw extends Saw {
     public void update() {
         checkPosition();
 
-        x += velocityX;
-        lengthBetweenStartX += velocityX;
-        y += velocityY;
-        lengthBetweenStartY += velocityY;
+        x += velocityX * Game.TICK_SCALE;
+        lengthBetweenStartX += velocityX * Game.TICK_SCALE;
+        y += velocityY * Game.TICK_SCALE;
+        lengthBetweenStartY += velocityY * Game.TICK_SCALE;
 
         bounds.x = x;
         bounds.y = y;
@@ -114,14 +116,30 @@ public class MovableSaw extends Saw {
      * Draws the saw on the screen.
      * If debug mode is enabled, it also draws a line representing the movement path.
      *
-     * @param g The Graphics object used for drawing.
+     * @param renderer The {@link Renderer} used for drawing.
      */
     @Override
-    public void draw(Graphics g) {
-        super.draw(g);
+    public void draw(Renderer renderer) {
+        super.draw(renderer);
         if (Game.DEBUG_COLLIDERS) {
-            g.setColor(Game.DEBUG_COLOR);
-            g.drawLine((int) sx, (int) sy, (int) dx, (int) dy);
+            renderer.drawLine((int) sx, (int) sy, (int) dx, (int) dy, Game.DEBUG_COLOR);
+        }
+    }
+
+    /**
+     * Adds the saw to a world snapshot.
+     * If debug mode is enabled, it also adds a line representing the movement path.
+     *
+     * @param snapshot The snapshot to write into.
+     * @param layer    The layer of the snapshot the saw belongs to.
+     * @param prevX    The X coordinate of the saw at the previous snapshot.
+     * @param prevY    The Y coordinate of the saw at the previous snapshot.
+     */
+    @Override
+    protected void addToSnapshot(WorldSnapshot snapshot, int layer, double prevX, double prevY) {
+        super.addToSnapshot(snapshot, layer, prevX, prevY);
+        if (Game.DEBUG_COLLIDERS) {
+            snapshot.addDebugShape(WorldSnapshot.KIND_DEBUG_LINE, (int) sx, (int) sy, (int) dx - (int) sx, (int) dy - (int) sy, layer);
         }
     }
 
@@ -190,7 +208,7 @@ public class MovableSaw extends Saw {
      */
     @Override
     public GameObject clone() {
-        return new MovableSaw(x, y, new Animator.Builder().clone(this.animator), animationStates, animationState, bounds, zIndex);
+        return new MovableSaw(x, y, animator.cloneOrShare(), animationStates, animationState, bounds, zIndex);
     }
 
     /**
@@ -4,6 +4,8 @@ import me.xmertsalov.Game;
 import me.xmertsalov.components.Animator.Animator;
 import me.xmertsalov.components.Animator.LoopingAnimationStrategy;
 import me.xmertsalov.gameObjects.GameObject;
+import me.xmertsalov.rendering.Renderer;
+import me.xmertsalov.rendering.WorldSnapshot;
 import me.xmertsalov.utils.BundleLoader;
 
 import java.awt.*;
@@ -51,6 +53,7 @@ public class Saw extends GameObject {
                 .setAnimationSpeed(5)
                 .setAnimationStrategy(new LoopingAnimationStrategy())
                 .build_and_load();
+        if (Game.SHARED_ANIMATION_CLOCKS) animator.useSharedClock();
     }
 
     protected Saw(double x, double y, Animator animator, HashMap<String, List<Integer>> animationStates, String animationState, Ellipse2D.Double bounds, int zIndex) {
@@ -87,15 +90,42 @@ public class Saw extends GameObject {
      * Draws the saw on the screen.
      * If debug mode is enabled, it also draws the collider.
      *
-     * @param g The Graphics object used for drawing.
+     * @param renderer The {@link Renderer} used for drawing.
      */
-    public void draw(Graphics g) {
+    public void draw(Renderer renderer) {
         if (Game.DEBUG_COLLIDERS) {
-            g.setColor(Game.DEBUG_COLOR);
-            g.fillOval((int) x, (int) y, (int) bounds.getWidth(), (int) bounds.getHeight());
+            renderer.fillOval((int) x, (int) y, (int) bounds.getWidth(), (int) bounds.getHeight(), Game.DEBUG_COLOR);
         }
 
-        animator.draw(g, x, y, (int) bounds.getWidth(), (int) bounds.getHeight());
+        animator.draw(renderer, x, y, (int) bounds.getWidth(), (int) bounds.getHeight(), animationPhase);
+    }
+
+    /**
+     * Adds the saw to a world snapshot.
+     * If debug mode is enabled, it also adds the collider.
+     *
+     * @param snapshot The snapshot to write into.
+     * @param layer    The layer of the snapshot the saw belongs to.
+     * @param prevX    The X coordinate of the saw at the previous snapshot.
+     * @param prevY    The Y coordinate of the saw at the previous snapshot.
+     */
+    @Override
+    protected void addToSnapshot(WorldSnapshot snapshot, int layer, double prevX, double prevY) {
+        if (Game.DEBUG_COLLIDERS) {
+            snapshot.addDebugShape(WorldSnapshot.KIND_DEBUG_OVAL, x, y, (int) bounds.getWidth(), (int) bounds.getHeight(), layer);
+        }
+
+        animator.writeSnapshot(snapshot, prevX, prevY, x, y, (int) bounds.getWidth(), (int) bounds.getHeight(), layer, animationPhase);
+    }
+
+    /**
+     * Returns the id of the sprite sheet the saw is drawn from.
+     *
+     * @return The sprite sheet id of the saw's animator.
+     */
+    @Override
+    public int getSpriteSheetId() {
+        return animator.getSpriteSheetId();
     }
 
     /**
@@ -114,7 +144,7 @@ public class Saw extends GameObject {
      */
     @Override
     public GameObject clone() {
-        return new Saw(x, y, new Animator.Builder().clone(this.animator), animationStates, animationState, bounds, zIndex);
+        return new Saw(x, y, animator.cloneOrShare(), animationStates, animationState, bounds, zIndex);
     }
 
     /**
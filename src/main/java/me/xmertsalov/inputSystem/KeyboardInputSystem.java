@@ -5,6 +5,7 @@ import java.awt.event.KeyListener;
 
 import me.xmertsalov.GamePanel;
 import me.xmertsalov.scenes.GameScene;
+import me.xmertsalov.utils.SpriteRegistry;
 
 /**
  * The {@code KeyboardInputSystem} class handles keyboard input events for the game.
@@ -41,6 +42,7 @@ public class KeyboardInputSystem implements KeyListener {
 	 */
 	@Override
 	public void keyReleased(KeyEvent e) {
+		if (!gamePanel.getGame().isSceneReady(GameScene.scene)) return; // still being built in the background
 		switch (GameScene.scene){
 			case PLAYING:
 				gamePanel.getGame().getPlayingScene().keyReleased(e);
@@ -72,6 +74,19 @@ public class KeyboardInputSystem implements KeyListener {
 	 */
 	@Override
 	public void keyPressed(KeyEvent e) {
+		// F9 starts or stops recording in any scene
+		if (e.getKeyCode() == KeyEvent.VK_F9) {
+			gamePanel.getGame().getFrameRecorder().toggle();
+			return;
+		}
+
+		// F8 logs the decoded bytes of every sprite in any scene
+		if (e.getKeyCode() == KeyEvent.VK_F8) {
+			SpriteRegistry.logMemoryReport();
+			return;
+		}
+
+		if (!gamePanel.getGame().isSceneReady(GameScene.scene)) return; // still being built in the background
 		switch (GameScene.scene){
 			case PLAYING:
 				gamePanel.getGame().getPlayingScene().keyPressed(e);
@@ -3,6 +3,7 @@ package me.xmertsalov.inputSystem;
 import java.awt.event.*;
 
 import me.xmertsalov.GamePanel;
+import me.xmertsalov.rendering.LogicalResolution;
 import me.xmertsalov.scenes.GameScene;
 
 /**
@@ -32,6 +33,8 @@ public class MouseInputSystem implements MouseListener, MouseMotionListener, Mou
 	 */
 	@Override
 	public void mouseDragged(MouseEvent e) {
+		e = toLogical(e);
+		if (!gamePanel.getGame().isSceneReady(GameScene.scene)) return; // still being built in the background
 		switch (GameScene.scene) {
 			case PLAYING:
 				gamePanel.getGame().getPlayingScene().mouseDragged(e);
@@ -69,6 +72,8 @@ public class MouseInputSystem implements MouseListener, MouseMotionListener, Mou
 	 */
 	@Override
 	public void mouseMoved(MouseEvent e) {
+		e = toLogical(e);
+		if (!gamePanel.getGame().isSceneReady(GameScene.scene)) return; // still being built in the background
 		switch (GameScene.scene) {
 			case PLAYING:
 				gamePanel.getGame().getPlayingScene().mouseMoved(e);
@@ -106,6 +111,8 @@ public class MouseInputSystem implements MouseListener, MouseMotionListener, Mou
 	 */
 	@Override
 	public void mouseClicked(MouseEvent e) {
+		e = toLogical(e);
+		if (!gamePanel.getGame().isSceneReady(GameScene.scene)) return; // still being built in the background
 		switch (GameScene.scene) {
 			case PLAYING:
 				gamePanel.getGame().getPlayingScene().mouseClicked(e);
@@ -143,6 +150,8 @@ public class MouseInputSystem implements MouseListener, MouseMotionListener, Mou
 	 */
 	@Override
 	public void mousePressed(MouseEvent e) {
+		e = toLogical(e);
+		if (!gamePanel.getGame().isSceneReady(GameScene.scene)) return; // still being built in the background
 		switch (GameScene.scene) {
 			case PLAYING:
 				gamePanel.getGame().getPlayingScene().mousePressed(e);
@@ -180,6 +189,8 @@ public class MouseInputSystem implements MouseListener, MouseMotionListener, Mou
 	 */
 	@Override
 	public void mouseReleased(MouseEvent e) {
+		e = toLogical(e);
+		if (!gamePanel.getGame().isSceneReady(GameScene.scene)) return; // still being built in the background
 		switch (GameScene.scene) {
 			case PLAYING:
 				gamePanel.getGame().getPlayingScene().mouseReleased(e);
@@ -235,4 +246,15 @@ public class MouseInputSystem implements MouseListener, MouseMotionListener, Mou
 	 */
 	@Override
 	public void mouseWheelMoved(MouseWheelEvent e) {}
+
+	/**
+	 * Converts the position of a mouse event to logical pixels when the game is drawn at the logical resolution.
+	 *
+	 * @param e the {@link MouseEvent} in window pixels
+	 * @return the event in the coordinates the scenes are drawn in
+	 */
+	private MouseEvent toLogical(MouseEvent e) {
+		LogicalResolution logicalResolution = gamePanel.getGame().getLogicalResolution();
+		return logicalResolution == null ? e : logicalResolution.toLogical(e);
+	}
 }
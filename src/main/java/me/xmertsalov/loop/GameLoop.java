@@ -0,0 +1,154 @@
+package me.xmertsalov.loop;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The {@code GameLoop} class drives the simulation with a fixed-timestep loop.
+ * Updates run on a fixed schedule of {@code ups} ticks per second. Frames are drawn by a separate
+ * {@link RenderLoop}, so the next tick can be simulated while the previous one is being drawn.
+ * Between deadlines the thread is parked instead of busy-spinning; only the last
+ * {@code spinWindow} before a deadline is spent spinning to keep the timing accurate.
+ *
+ * <p>When the loop falls behind, at most {@code maxUpdatesPerFrame} updates are run back to back.
+ * Updates beyond that limit are dropped so the loop does not spiral further behind under load.
+ *
+ * <p>While the {@link PowerSaver} reduces the update rate, the thread sleeps between the reduced wake-ups without
+ * spinning and runs a single tick per wake-up; the ticks in between are skipped, not caught up on, so an idle or
+ * unfocused game costs only a few ticks per second. While the {@code PowerSaver} stops updates, the thread parks until
+ * it is woken and does not catch up on the time it was parked.
+ */
+public class GameLoop implements Runnable {
+    // Dependencies
+    private final Runnable update;
+    private final PowerSaver powerSaver; // null to always update at the full rate
+    private volatile LoopStats stats;
+
+    // Timing settings
+    private final int ups;
+    private final long nanosPerUpdate;
+    private final long spinWindowNanos;
+    private final int maxUpdatesPerFrame;
+    private static final long STOPPED_CHECK_NANOS = 1_000_000_000L;
+
+    // States
+    private volatile boolean running = true;
+
+    /**
+     * Constructs a new {@code GameLoop} that always updates at the full rate.
+     *
+     * @param update             the simulation step, run once per tick, usually {@code Game.updateGame()}.
+     * @param ups                the number of updates per second.
+     * @param maxUpdatesPerFrame the maximum number of catch-up updates run back to back.
+     * @param spinWindowMicros   the time in microseconds spent spinning before a deadline.
+     */
+    public GameLoop(Runnable update, int ups, int maxUpdatesPerFrame, int spinWindowMicros) {
+        this(update, null, ups, maxUpdatesPerFrame, spinWindowMicros);
+    }
+
+    /**
+     * Constructs a new {@code GameLoop}.
+     *
+     * @param update             the simulation step, run once per tick, usually {@code Game.updateGame()}.
+     * @param powerSaver         the power saver that reduces the update rate, or {@code null}.
+     * @param ups                the number of updates per second.
+     * @param maxUpdatesPerFrame the maximum number of catch-up updates run back to back.
+     * @param spinWindowMicros   the time in microseconds spent spinning before a deadline.
+     */
+    public GameLoop(Runnable update, PowerSaver powerSaver, int ups, int maxUpdatesPerFrame, int spinWindowMicros) {
+        this.update = update;
+        this.powerSaver = powerSaver;
+        this.ups = ups;
+        this.nanosPerUpdate = 1_000_000_000L / ups;
+        this.maxUpdatesPerFrame = Math.max(1, maxUpdatesPerFrame);
+        this.spinWindowNanos = spinWindowMicros * 1000L;
+    }
+
+    /**
+     * Runs the loop until {@link #stop()} is called.
+     */
+    @Override
+    public void run() {
+        stats = new LoopStats();
+
+        long nextUpdate = System.nanoTime();
+
+        while (running) {
+            int updateRate = powerSaver == null ? ups : powerSaver.getUpdateRate(ups);
+
+            // Stopped: park until woken, the time spent parked is not caught up on
+            if (updateRate == 0) {
+                powerSaver.sleepUntil(System.nanoTime() + STOPPED_CHECK_NANOS);
+                nextUpdate = System.nanoTime();
+                continue;
+            }
+
+            // Reduced rate: one tick per wake-up, the ticks in between are skipped instead of caught up on
+            if (updateRate < ups) {
+                long now = System.nanoTime();
+                update.run();
+                long updateEnd = System.nanoTime();
+                stats.recordUpdate(now, now, updateEnd - now);
+                stats.tick(updateEnd);
+
+                powerSaver.sleepUntil(now + 1_000_000_000L / updateRate);
+                nextUpdate = System.nanoTime();
+                continue;
+            }
+
+            long now = System.nanoTime();
+
+            // Update the game, catching up on missed ticks up to the limit
+            int updates = 0;
+            while (now >= nextUpdate && updates < maxUpdatesPerFrame) {
+                update.run();
+                long updateEnd = System.nanoTime();
+                stats.recordUpdate(nextUpdate, now, updateEnd - now);
+                nextUpdate += nanosPerUpdate;
+                updates++;
+                now = updateEnd;
+            }
+
+            // Too far behind: drop the backlog instead of running it later
+            if (now >= nextUpdate) {
+                long missed = (now - nextUpdate) / nanosPerUpdate + 1;
+                stats.recordDroppedUpdates((int) Math.min(missed, Integer.MAX_VALUE));
+                nextUpdate += missed * nanosPerUpdate;
+            }
+
+            stats.tick(System.nanoTime());
+            waitUntil(nextUpdate, spinWindowNanos);
+        }
+    }
+
+    /**
+     * Parks the thread until shortly before the deadline, then spins for the rest of the time.
+     *
+     * @param deadline        the time in nanoseconds to wait for.
+     * @param spinWindowNanos the time in nanoseconds before the deadline spent spinning.
+     */
+    static void waitUntil(long deadline, long spinWindowNanos) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > spinWindowNanos) {
+            LockSupport.parkNanos(remaining - spinWindowNanos);
+        }
+        while (deadline - System.nanoTime() > 0) {
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Stops the loop after the current iteration.
+     */
+    public void stop() {
+        running = false;
+    }
+
+    /**
+     * Returns the statistics of the loop, or {@code null} if the loop has not started yet.
+     *
+     * @return the loop statistics.
+     */
+    public LoopStats getStats() {
+        return stats;
+    }
+}
@@ -0,0 +1,167 @@
+package me.xmertsalov.loop;
+
+import me.xmertsalov.Game;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * The {@code LoopStats} class collects timing statistics of the game loop over one-second windows.
+ * It counts updates, measures how late each update starts compared to its scheduled deadline
+ * (tick jitter), counts updates dropped by the catch-up limit and measures the CPU time used by
+ * the loop thread.
+ *
+ * <p>Frames are counted when they are actually drawn, which may happen on another thread than the loop
+ * (the Swing painting thread in passive rendering). The time spent drawing a frame and the time spent
+ * presenting it on screen are measured separately from the update time. The frame counters are guarded by one lock,
+ * so a window never mixes the frame count of one window with the drawing times of another.
+ */
+public class LoopStats {
+    // Dependencies
+    private final ThreadMXBean threadBean;
+
+    // Current window (loop thread)
+    private long windowStart;
+    private long windowCpuStart;
+    private int updates;
+    private long updateNanos;
+    private long jitterSum;
+    private long jitterMax;
+    private int droppedUpdates;
+
+    // Current window (drawing thread), guarded by frameLock
+    private final Object frameLock = new Object();
+    private int frames;
+    private long drawNanos;
+    private long presentNanos;
+
+    // Last finished window
+    private volatile int framesPerSecond;
+    private volatile int updatesPerSecond;
+    private volatile double averageUpdateMillis;
+    private volatile double averageDrawMillis;
+    private volatile double averagePresentMillis;
+    private volatile double averageJitterMicros;
+    private volatile double maxJitterMicros;
+    private volatile int droppedUpdatesPerSecond;
+    private volatile double cpuUsage = -1; // -1 if thread CPU time is not supported
+
+    /**
+     * Constructs a new {@code LoopStats} instance.
+     * Must be created on the thread that runs the loop, because CPU time is measured for the current thread.
+     */
+    public LoopStats() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        threadBean = bean.isCurrentThreadCpuTimeSupported() ? bean : null;
+
+        windowStart = System.nanoTime();
+        windowCpuStart = currentCpuTime();
+    }
+
+    /**
+     * Records an update that was scheduled for {@code deadline}, started at {@code startTime}
+     * and took {@code duration} nanoseconds.
+     *
+     * @param deadline  the scheduled start time in nanoseconds.
+     * @param startTime the actual start time in nanoseconds.
+     * @param duration  the time spent in the update in nanoseconds.
+     */
+    public void recordUpdate(long deadline, long startTime, long duration) {
+        long jitter = Math.abs(startTime - deadline);
+        jitterSum += jitter;
+        jitterMax = Math.max(jitterMax, jitter);
+        updateNanos += duration;
+        updates++;
+    }
+
+    /**
+     * Records a frame that was drawn and shown on screen. May be called from any thread.
+     *
+     * @param drawDuration    the time spent drawing the frame in nanoseconds.
+     * @param presentDuration the time spent presenting the frame in nanoseconds, or 0 if unknown.
+     */
+    public void recordFrame(long drawDuration, long presentDuration) {
+        synchronized (frameLock) {
+            frames++;
+            drawNanos += drawDuration;
+            presentNanos += presentDuration;
+        }
+    }
+
+    /**
+     * Records updates that were skipped because the loop was too far behind.
+     *
+     * @param count the number of skipped updates.
+     */
+    public void recordDroppedUpdates(int count) {
+        droppedUpdates += count;
+    }
+
+    /**
+     * Closes the current window if a second has passed since it started and publishes its values.
+     *
+     * @param now the current time in nanoseconds.
+     */
+    public void tick(long now) {
+        long elapsed = now - windowStart;
+        if (elapsed < 1_000_000_000L) return;
+
+        long cpuNow = currentCpuTime();
+        int frameCount;
+        long frameDrawNanos;
+        long framePresentNanos;
+        synchronized (frameLock) {
+            frameCount = frames;
+            frameDrawNanos = drawNanos;
+            framePresentNanos = presentNanos;
+            frames = 0;
+            drawNanos = 0;
+            presentNanos = 0;
+        }
+
+        framesPerSecond = frameCount;
+        updatesPerSecond = updates;
+        averageUpdateMillis = updates == 0 ? 0 : updateNanos / (double) updates / 1_000_000.0;
+        averageDrawMillis = frameCount == 0 ? 0 : frameDrawNanos / (double) frameCount / 1_000_000.0;
+        averagePresentMillis = frameCount == 0 ? 0 : framePresentNanos / (double) frameCount / 1_000_000.0;
+        averageJitterMicros = updates == 0 ? 0 : jitterSum / (double) updates / 1000.0;
+        maxJitterMicros = jitterMax / 1000.0;
+        droppedUpdatesPerSecond = droppedUpdates;
+        cpuUsage = threadBean == null ? -1 : (cpuNow - windowCpuStart) * 100.0 / elapsed;
+
+        if (Game.DEBUG_FPS) {
+            Game.logger.info("FPS: {} | UPS: {} | update {} ms, draw {} ms, present {} ms | jitter avg {} us, max {} us | dropped {} | loop CPU {}%",
+                    framesPerSecond, updatesPerSecond,
+                    String.format("%.2f", averageUpdateMillis), String.format("%.2f", averageDrawMillis), String.format("%.2f", averagePresentMillis),
+                    String.format("%.1f", averageJitterMicros), String.format("%.1f", maxJitterMicros),
+                    droppedUpdatesPerSecond, String.format("%.1f", cpuUsage));
+        }
+
+        windowStart = now;
+        windowCpuStart = cpuNow;
+        updates = 0;
+        updateNanos = 0;
+        jitterSum = 0;
+        jitterMax = 0;
+        droppedUpdates = 0;
+    }
+
+    /**
+     * Returns the CPU time of the current thread, or 0 if it is not supported.
+     *
+     * @return the CPU time in nanoseconds.
+     */
+    private long currentCpuTime() {
+        return threadBean == null ? 0 : threadBean.getCurrentThreadCpuTime();
+    }
+
+    public int getFramesPerSecond() {return framesPerSecond;}
+    public int getUpdatesPerSecond() {return updatesPerSecond;}
+    public double getAverageUpdateMillis() {return averageUpdateMillis;}
+    public double getAverageDrawMillis() {return averageDrawMillis;}
+    public double getAveragePresentMillis() {return averagePresentMillis;}
+    public double getAverageJitterMicros() {return averageJitterMicros;}
+    public double getMaxJitterMicros() {return maxJitterMicros;}
+    public int getDroppedUpdatesPerSecond() {return droppedUpdatesPerSecond;}
+    public double getCpuUsage() {return cpuUsage;}
+}
@@ -0,0 +1,166 @@
+package me.xmertsalov.loop;
+
+import me.xmertsalov.Game;
+import me.xmertsalov.scenes.GameScene;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The {@code PowerSaver} class decides how often the {@link RenderLoop} draws a frame and how often the
+ * {@link GameLoop} wakes up to update the game.
+ * Static scenes (menu, lobby, settings, credits, tutorial and a paused game waiting to be resumed) are drawn at
+ * {@link #IDLE_FPS} once there was no input for {@link #IDLE_DELAY_SECONDS}, an unfocused window is drawn at
+ * {@link #UNFOCUSED_FPS} and a minimized window is not drawn at all. The game loop wakes up at the same reduced rate
+ * and runs one tick per wake-up, so an idle menu costs {@link #IDLE_FPS} ticks per second instead of the full rate.
+ * While the window is minimized, or unfocused with the game paused, it parks until it is woken.
+ * Any input or scene change restores the full rates and wakes a parked game loop.
+ *
+ * <p>The state is written by the Swing event thread and the game thread and read by the render thread.
+ */
+public class PowerSaver {
+    // Constants
+    public static final int IDLE_FPS = 30;
+    public static final int UNFOCUSED_FPS = 5;
+    public static final double IDLE_DELAY_SECONDS = 2;
+
+    /**
+     * The reason the frame rate is limited.
+     */
+    public enum State {ACTIVE, IDLE, UNFOCUSED, MINIMIZED}
+
+    // Settings
+    private final boolean enabled;
+
+    // States
+    private volatile boolean focused = true;
+    private volatile boolean minimized = false;
+    private volatile long lastActivityTime = System.nanoTime();
+    private volatile State lastState = State.ACTIVE;
+    private volatile boolean gamePaused = false; // a paused game without a running resume countdown
+    private volatile Thread sleeper; // the game loop thread while it sleeps in sleepUntil()
+
+    /**
+     * Constructs a new {@code PowerSaver}.
+     *
+     * @param enabled whether the frame rate is reduced at all.
+     */
+    public PowerSaver(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Marks the game as active, so the next frames are drawn at the full frame rate.
+     * Called on input and on scene changes.
+     */
+    public void wake() {
+        lastActivityTime = System.nanoTime();
+
+        Thread thread = sleeper;
+        if (thread != null) LockSupport.unpark(thread);
+    }
+
+    /**
+     * Parks the current thread until the deadline or until {@link #wake()} is called, whichever comes first.
+     * Used by the game loop while its update rate is reduced.
+     *
+     * @param deadline the time in nanoseconds to sleep until.
+     */
+    public void sleepUntil(long deadline) {
+        long activity = lastActivityTime;
+        sleeper = Thread.currentThread();
+
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0 && lastActivityTime == activity) {
+            LockSupport.parkNanos(this, remaining);
+        }
+        sleeper = null;
+    }
+
+    /**
+     * Returns the current state and logs it when it changed since the last call.
+     *
+     * @return the current state.
+     */
+    public State getState() {
+        State state = computeState();
+        if (state != lastState) {
+            Game.logger.info("Power saving: {} -> {}", lastState, state);
+            lastState = state;
+        }
+        return state;
+    }
+
+    /**
+     * Returns the number of frames per second to draw in the current state.
+     *
+     * @param fps the full frame rate.
+     * @return the frame rate to use, or 0 if no frames should be drawn.
+     */
+    public int getFrameRate(int fps) {
+        return getFrameRate(getState(), fps);
+    }
+
+    private static int getFrameRate(State state, int fps) {
+        switch (state) {
+            case MINIMIZED: return 0;
+            case UNFOCUSED: return Math.min(fps, UNFOCUSED_FPS);
+            case IDLE: return Math.min(fps, IDLE_FPS);
+            default: return fps;
+        }
+    }
+
+    /**
+     * Returns how many times per second the game loop updates the game in the current state.
+     * In reduced states the game loop runs one tick per wake-up and skips the ticks in between.
+     * A paused game in an unfocused window is not updated at all, nothing in it moves until the window is focused.
+     *
+     * @param ups the full update rate.
+     * @return the update rate to use, or 0 if the game loop should park until it is woken.
+     */
+    public int getUpdateRate(int ups) {
+        State state = getState();
+        if (state == State.UNFOCUSED && GameScene.scene == GameScene.PLAYING && gamePaused) return 0;
+        return getFrameRate(state, ups);
+    }
+
+    /**
+     * Computes the state from the window state, the current scene and the time of the last activity.
+     *
+     * @return the current state.
+     */
+    private State computeState() {
+        if (!enabled) return State.ACTIVE;
+        if (minimized) return State.MINIMIZED;
+        if (!focused) return State.UNFOCUSED;
+
+        boolean idle = (System.nanoTime() - lastActivityTime) / 1e9 >= IDLE_DELAY_SECONDS;
+        return idle && isStaticScene(GameScene.scene) ? State.IDLE : State.ACTIVE;
+    }
+
+    /**
+     * Returns whether the scene only changes in response to input.
+     *
+     * @param scene the scene to check.
+     * @return {@code true} if the scene can be drawn and updated at a reduced rate while idle.
+     */
+    private boolean isStaticScene(GameScene scene) {
+        switch (scene) {
+            case MENU:
+            case LOBBY:
+            case SETTINGS:
+            case CREDITS:
+            case TUTORIAL:
+                return true;
+            case PLAYING:
+                return gamePaused;
+            default:
+                return false;
+        }
+    }
+
+    public void setFocused(boolean focused) {this.focused = focused; wake();}
+    public void setMinimized(boolean minimized) {this.minimized = minimized; wake();}
+    public void setGamePaused(boolean gamePaused) {this.gamePaused = gamePaused;}
+    public boolean isEnabled() {return enabled;}
+    public boolean isFocused() {return focused;}
+}
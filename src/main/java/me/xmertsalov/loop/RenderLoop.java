@@ -0,0 +1,75 @@
+package me.xmertsalov.loop;
+
+import me.xmertsalov.Game;
+
+/**
+ * The {@code RenderLoop} class draws frames on its own thread at most {@code fps} times per second.
+ * It runs next to the {@link GameLoop}: the world is drawn from the latest published snapshot,
+ * so drawing never waits for the simulation and the simulation never waits for drawing.
+ *
+ * <p>The frame rate is lowered by the {@link PowerSaver} while the game is idle or unfocused.
+ * While the window is minimized no frames are drawn and the thread only checks the state now and then.
+ */
+public class RenderLoop implements Runnable {
+    // Dependencies
+    private final Game game;
+    private final PowerSaver powerSaver;
+
+    // Timing settings
+    private final int fps;
+    private final long spinWindowNanos;
+    private static final long MINIMIZED_CHECK_NANOS = 100_000_000L;
+
+    // States
+    private volatile boolean running = true;
+
+    /**
+     * Constructs a new {@code RenderLoop}.
+     *
+     * @param game             the game to draw.
+     * @param powerSaver       the power saver that lowers the frame rate.
+     * @param fps              the maximum number of frames per second.
+     * @param spinWindowMicros the time in microseconds spent spinning before a deadline.
+     */
+    public RenderLoop(Game game, PowerSaver powerSaver, int fps, int spinWindowMicros) {
+        this.game = game;
+        this.powerSaver = powerSaver;
+        this.fps = fps;
+        this.spinWindowNanos = spinWindowMicros * 1000L;
+    }
+
+    /**
+     * Runs the loop until {@link #stop()} is called.
+     */
+    @Override
+    public void run() {
+        long nextFrame = System.nanoTime();
+
+        while (running) {
+            int frameRate = powerSaver.getFrameRate(fps);
+
+            // Minimized: draw nothing, check again later
+            if (frameRate == 0) {
+                nextFrame = System.nanoTime() + MINIMIZED_CHECK_NANOS;
+                GameLoop.waitUntil(nextFrame, 0);
+                continue;
+            }
+
+            game.drawFrame();
+
+            long nanosPerFrame = 1_000_000_000L / frameRate;
+            long now = System.nanoTime();
+            nextFrame += nanosPerFrame;
+            if (nextFrame <= now) nextFrame = now + nanosPerFrame;
+
+            GameLoop.waitUntil(nextFrame, spinWindowNanos);
+        }
+    }
+
+    /**
+     * Stops the loop after the current frame.
+     */
+    public void stop() {
+        running = false;
+    }
+}
@@ -0,0 +1,60 @@
+package me.xmertsalov.rendering;
+
+import me.xmertsalov.Game;
+
+/**
+ * The {@code Culling} class decides whether something drawn at a given position is visible in the window
+ * and counts drawn and culled objects per frame for the debug overlay.
+ *
+ * <p>The counters of the current frame are only touched by the thread that draws frames.
+ */
+public class Culling {
+    // Current frame
+    private static int drawn;
+    private static int culled;
+
+    // Last finished frame
+    private static volatile int lastDrawn;
+    private static volatile int lastCulled;
+
+    private Culling() {}
+
+    /**
+     * Returns whether a rectangle intersects the window and counts it as drawn or culled.
+     * A negative width or height means the rectangle extends to the left or upwards, like a mirrored {@code drawImage}.
+     *
+     * @param x      the x position.
+     * @param y      the y position.
+     * @param width  the width.
+     * @param height the height.
+     * @return {@code true} if the rectangle should be drawn.
+     */
+    public static boolean isVisible(double x, double y, double width, double height) {
+        if (width < 0) {
+            x += width;
+            width = -width;
+        }
+        if (height < 0) {
+            y += height;
+            height = -height;
+        }
+
+        boolean visible = x < Game.WINDOW_WIDTH && x + width > 0 && y < Game.WINDOW_HEIGHT && y + height > 0;
+        if (visible) drawn++;
+        else culled++;
+        return visible;
+    }
+
+    /**
+     * Publishes the counters of the finished frame and resets them.
+     */
+    public static void endFrame() {
+        lastDrawn = drawn;
+        lastCulled = culled;
+        drawn = 0;
+        culled = 0;
+    }
+
+    public static int getLastDrawn() {return lastDrawn;}
+    public static int getLastCulled() {return lastCulled;}
+}
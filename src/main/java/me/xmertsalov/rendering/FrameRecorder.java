@@ -0,0 +1,458 @@
+package me.xmertsalov.rendering;
+
+import me.xmertsalov.Game;
+import me.xmertsalov.config.RecordingFormat;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@code FrameRecorder} class records the presented frames to disk, as a PNG sequence or an animated GIF.
+ * Recording is toggled with {@code F9}; each recording goes to its own folder in {@value #OUTPUT_DIRECTORY}.
+ *
+ * <p>While recording, every {@code N}th frame is drawn into an image taken from a small pool and then copied to the screen,
+ * or, when the frame is drawn into a back buffer anyway, the back buffer is copied into such an image at its own size,
+ * see {@link #capture(BufferedImage)}. A bounded pool of worker threads encodes the images and returns them to the pool. When all images are still waiting
+ * to be encoded, the frame is dropped instead of waiting, so recording never stalls the render thread,
+ * and the game thread is not involved at all. GIF frames are timed by when they were captured, so frames that were
+ * skipped or dropped do not speed up the recording.
+ */
+public class FrameRecorder {
+    private static final String OUTPUT_DIRECTORY = "recordings";
+    private static final int POOL_SIZE = 8; // frames being encoded at once
+    private static final int PNG_WORKERS = 2; // a GIF is written by a single worker, frames must stay in order
+    private static final long FINISH_TIMEOUT_SECONDS = 30;
+    private static final int MIN_GIF_DELAY = 2; // hundredths of a second
+
+    // Settings
+    private final RecordingFormat format;
+    private final int frameInterval;
+    private final File outputDirectory;
+
+    // States
+    private volatile Session session;
+    private Session captureSession; // session of the frame between beginFrame and endFrame, render thread only
+
+    // Statistics of the current window, render thread only
+    private long windowStart = System.nanoTime();
+    private long overheadNanos;
+    private int overheadFrames;
+
+    // Last finished window
+    private volatile double averageOverheadMillis;
+
+    /**
+     * Creates a recorder that is not recording yet.
+     *
+     * @param format        the format to write recordings in.
+     * @param frameInterval the number of presented frames per recorded frame.
+     */
+    public FrameRecorder(RecordingFormat format, int frameInterval) {
+        this(format, frameInterval, new File(OUTPUT_DIRECTORY));
+    }
+
+    /**
+     * Creates a recorder that writes its recordings to the given folder.
+     *
+     * @param format          the format to write recordings in.
+     * @param frameInterval   the number of presented frames per recorded frame.
+     * @param outputDirectory the folder each recording gets its own folder in.
+     */
+    FrameRecorder(RecordingFormat format, int frameInterval, File outputDirectory) {
+        this.format = format;
+        this.frameInterval = Math.max(1, frameInterval);
+        this.outputDirectory = outputDirectory;
+    }
+
+    /**
+     * Starts a recording if none is running, otherwise stops it.
+     */
+    public synchronized void toggle() {
+        if (session == null) start();
+        else stop();
+    }
+
+    /**
+     * Starts a new recording in a new folder.
+     */
+    public synchronized void start() {
+        if (session != null) return;
+
+        File directory = new File(outputDirectory, new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date()));
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            Game.logger.error("Could not create recording folder {}", directory.getAbsolutePath());
+            return;
+        }
+
+        try {
+            session = new Session(directory);
+        } catch (IOException e) {
+            Game.logger.error("Could not start recording: {}", e.getMessage());
+            return;
+        }
+
+        Game.logger.info("Recording every {} frame(s) as {} to {}", frameInterval, format, directory.getAbsolutePath());
+    }
+
+    /**
+     * Stops the recording. The frames that are still queued are encoded in the background.
+     */
+    public synchronized void stop() {
+        Session stopped = session;
+        if (stopped == null) return;
+        session = null;
+
+        Thread finisher = new Thread(() -> finish(stopped), "Frame Recorder Finisher");
+        finisher.setDaemon(true);
+        finisher.start();
+    }
+
+    /**
+     * Stops the recording and waits until all queued frames are written. Used when the game exits.
+     */
+    public synchronized void close() {
+        Session stopped = session;
+        if (stopped == null) return;
+        session = null;
+
+        finish(stopped);
+    }
+
+    /**
+     * Returns the image to draw the next frame into, if this frame is recorded. Called by the thread that draws frames.
+     * Every call must be followed by {@link #endFrame(Graphics, BufferedImage)} when an image is returned.
+     *
+     * @param width  the width of the frame.
+     * @param height the height of the frame.
+     * @return the image to draw into, or {@code null} if the frame is not recorded or is dropped.
+     */
+    public BufferedImage beginFrame(int width, int height) {
+        Session current = session;
+        if (current == null || current.frameCounter++ % frameInterval != 0) return null;
+
+        long start = System.nanoTime();
+        BufferedImage frame = current.takeFrame(width, height);
+        if (frame == null) {
+            current.dropped.incrementAndGet();
+            return null;
+        }
+
+        captureSession = current;
+        current.captureTime = start;
+        current.beginNanos = System.nanoTime() - start;
+        return frame;
+    }
+
+    /**
+     * Records a copy of a frame that was already drawn into a back buffer, if this frame is recorded.
+     * The recording has the size of the back buffer, e.g. the internal resolution when rendering at a lower scale.
+     * Called by the thread that draws frames, instead of {@link #beginFrame(int, int)}.
+     *
+     * @param source the back buffer holding the finished frame.
+     */
+    public void capture(BufferedImage source) {
+        Session current = session;
+        if (current == null || current.frameCounter++ % frameInterval != 0) return;
+
+        long start = System.nanoTime();
+        BufferedImage frame = current.takeFrame(source.getWidth(), source.getHeight());
+        if (frame == null) {
+            current.dropped.incrementAndGet();
+            return;
+        }
+
+        Graphics2D frameGraphics = frame.createGraphics();
+        try {
+            frameGraphics.setComposite(AlphaComposite.Src);
+            frameGraphics.drawImage(source, 0, 0, null);
+        } finally {
+            frameGraphics.dispose();
+        }
+        queue(current, frame, start);
+        recordOverhead(System.nanoTime() - start);
+    }
+
+    /**
+     * Copies a recorded frame onto the screen and queues it for encoding.
+     *
+     * @param g     the graphics context the frame is shown on.
+     * @param frame the image returned by {@link #beginFrame(int, int)}.
+     */
+    public void endFrame(Graphics g, BufferedImage frame) {
+        long start = System.nanoTime();
+        Session current = captureSession;
+        captureSession = null;
+
+        g.drawImage(frame, 0, 0, null);
+        queue(current, frame, current.captureTime);
+
+        recordOverhead(current.beginNanos + System.nanoTime() - start);
+    }
+
+    /**
+     * Hands a captured frame to the workers of its session.
+     *
+     * @param current     the session the frame belongs to.
+     * @param frame       the pooled image holding the frame.
+     * @param captureTime the {@link System#nanoTime()} the frame was captured at.
+     */
+    private void queue(Session current, BufferedImage frame, long captureTime) {
+        int number = current.captured++;
+        try {
+            current.workers.execute(() -> current.encode(frame, number, captureTime));
+        } catch (RejectedExecutionException e) {
+            // the recording was stopped while this frame was drawn
+            current.freeFrames.offer(frame);
+            current.dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Adds the time spent on recording one frame to the statistics and publishes them once per second.
+     *
+     * @param nanos the time spent in nanoseconds.
+     */
+    private void recordOverhead(long nanos) {
+        overheadNanos += nanos;
+        overheadFrames++;
+
+        long now = System.nanoTime();
+        if (now - windowStart >= 1_000_000_000L) {
+            averageOverheadMillis = overheadNanos / (double) overheadFrames / 1_000_000.0;
+
+            Session current = session;
+            if (Game.DEBUG_FPS && current != null) {
+                Game.logger.info("Recording: {} frames captured, {} encoded, {} dropped, {} ms per frame",
+                        current.captured, current.encoded.get(), current.dropped.get(), String.format("%.3f", averageOverheadMillis));
+            }
+
+            windowStart = now;
+            overheadNanos = 0;
+            overheadFrames = 0;
+        }
+    }
+
+    /**
+     * Waits for the workers of a session to encode the queued frames and closes its files.
+     *
+     * @param stopped the session to finish.
+     */
+    private void finish(Session stopped) {
+        stopped.workers.shutdown();
+        try {
+            if (!stopped.workers.awaitTermination(FINISH_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                Game.logger.warn("Recording did not finish encoding within {} s", FINISH_TIMEOUT_SECONDS);
+                stopped.workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        stopped.close();
+
+        Game.logger.info("Recorded {} frames ({} dropped) to {}", stopped.encoded.get(), stopped.dropped.get(), stopped.directory.getAbsolutePath());
+    }
+
+    public boolean isRecording() {return session != null;}
+    public double getAverageOverheadMillis() {return averageOverheadMillis;}
+
+    public int getEncodedFrames() {
+        Session current = session;
+        return current == null ? 0 : current.encoded.get();
+    }
+
+    public int getDroppedFrames() {
+        Session current = session;
+        return current == null ? 0 : current.dropped.get();
+    }
+
+    /**
+     * One recording: its folder, its pooled images and its worker threads.
+     */
+    private class Session {
+        private final File directory;
+        private final ThreadPoolExecutor workers;
+        private final ArrayBlockingQueue<BufferedImage> freeFrames = new ArrayBlockingQueue<>(POOL_SIZE);
+        private int allocatedFrames; // render thread only
+
+        // GIF output, used by the single GIF worker
+        private ImageWriter gifWriter;
+        private ImageOutputStream gifStream;
+        private BufferedImage pendingGifFrame; // written once the capture time of the next frame gives its delay
+        private long pendingGifTime;
+        private long firstGifTime;
+        private long writtenCentis; // total delay of the written frames, in hundredths of a second
+
+        // Counters
+        private int frameCounter; // presented frames, render thread only
+        private int captured; // frames queued for encoding, render thread only
+        private long beginNanos; // time spent in beginFrame for the current frame, render thread only
+        private long captureTime; // when the current frame was captured, render thread only
+        private final AtomicInteger encoded = new AtomicInteger();
+        private final AtomicInteger dropped = new AtomicInteger();
+        private volatile boolean failed = false;
+
+        private Session(File directory) throws IOException {
+            this.directory = directory;
+
+            int threads = format == RecordingFormat.GIF ? 1 : PNG_WORKERS;
+            AtomicInteger threadNumber = new AtomicInteger();
+            workers = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(POOL_SIZE), runnable -> {
+                Thread thread = new Thread(runnable, "Frame Encoder " + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+
+            if (format == RecordingFormat.GIF) {
+                gifWriter = ImageIO.getImageWritersByFormatName("gif").next();
+                gifStream = ImageIO.createImageOutputStream(new File(directory, "recording.gif"));
+                gifWriter.setOutput(gifStream);
+                gifWriter.prepareWriteSequence(null);
+            }
+        }
+
+        /**
+         * Takes a free image from the pool, creating one while the pool is not full.
+         *
+         * @return the image, or {@code null} if all images are waiting to be encoded.
+         */
+        private BufferedImage takeFrame(int width, int height) {
+            BufferedImage frame = freeFrames.poll();
+            while (frame != null && (frame.getWidth() != width || frame.getHeight() != height)) {
+                allocatedFrames--;
+                frame = freeFrames.poll();
+            }
+            if (frame == null && allocatedFrames < POOL_SIZE) {
+                frame = SpriteCache.createCompatibleImage(width, height, Transparency.OPAQUE);
+                allocatedFrames++;
+            }
+            return frame;
+        }
+
+        /**
+         * Writes one frame and returns its image to the pool. Runs on a worker thread.
+         * A GIF frame is kept until the next one arrives, see {@link #writeGifFrame(BufferedImage, long)}.
+         */
+        private void encode(BufferedImage frame, int number, long captureTime) {
+            BufferedImage free = frame;
+            try {
+                if (!failed) {
+                    if (format == RecordingFormat.GIF) free = writeGifFrame(frame, captureTime);
+                    else {
+                        ImageIO.write(frame, "png", new File(directory, String.format("frame_%06d.png", number)));
+                        encoded.incrementAndGet();
+                    }
+                }
+            } catch (IOException e) {
+                failed = true;
+                Game.logger.error("Could not write recorded frame: {}", e.getMessage());
+            } finally {
+                if (free != null) freeFrames.offer(free);
+            }
+        }
+
+        /**
+         * Writes the pending GIF frame, shown until the given frame was captured, and keeps the given frame pending.
+         * Delays are rounded so their sum follows the capture times, which makes the GIF play in real time
+         * whatever the frame rate was and however many frames were dropped.
+         *
+         * @param frame       the new frame.
+         * @param captureTime the {@link System#nanoTime()} the new frame was captured at.
+         * @return the image of the written frame, to return to the pool, or {@code null} if none was written.
+         */
+        private BufferedImage writeGifFrame(BufferedImage frame, long captureTime) throws IOException {
+            BufferedImage written = pendingGifFrame;
+            if (written == null) firstGifTime = captureTime;
+            else writePendingGifFrame(captureTime);
+
+            pendingGifFrame = frame;
+            pendingGifTime = captureTime;
+            return written;
+        }
+
+        /**
+         * Writes the pending GIF frame with the delay until the given time.
+         *
+         * @param until the {@link System#nanoTime()} the frame is shown until.
+         */
+        private void writePendingGifFrame(long until) throws IOException {
+            long targetCentis = Math.round((until - firstGifTime) / 10_000_000.0);
+            long delay = Math.max(MIN_GIF_DELAY, targetCentis - writtenCentis); // players stretch shorter delays to 10
+            writtenCentis += delay;
+
+            gifWriter.writeToSequence(new IIOImage(pendingGifFrame, null, createGifMetadata(pendingGifFrame, delay)), null);
+            encoded.incrementAndGet();
+        }
+
+        /**
+         * Creates the metadata of a GIF frame. The first frame also makes the GIF loop forever.
+         *
+         * @param frame the frame.
+         * @param delay the time the frame is shown, in hundredths of a second.
+         * @return the metadata.
+         */
+        private IIOMetadata createGifMetadata(BufferedImage frame, long delay) throws IOException {
+            IIOMetadata metadata = gifWriter.getDefaultImageMetadata(ImageTypeSpecifier.createFromRenderedImage(frame), null);
+            String formatName = metadata.getNativeMetadataFormatName();
+            IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(formatName);
+
+            IIOMetadataNode control = new IIOMetadataNode("GraphicControlExtension");
+            control.setAttribute("disposalMethod", "none");
+            control.setAttribute("userInputFlag", "FALSE");
+            control.setAttribute("transparentColorFlag", "FALSE");
+            control.setAttribute("delayTime", String.valueOf(delay));
+            control.setAttribute("transparentColorIndex", "0");
+            root.appendChild(control);
+
+            if (encoded.get() == 0) {
+                IIOMetadataNode extensions = new IIOMetadataNode("ApplicationExtensions");
+                IIOMetadataNode loop = new IIOMetadataNode("ApplicationExtension");
+                loop.setAttribute("applicationID", "NETSCAPE");
+                loop.setAttribute("authenticationCode", "2.0");
+                loop.setUserObject(new byte[]{1, 0, 0}); // loop forever
+                extensions.appendChild(loop);
+                root.appendChild(extensions);
+            }
+
+            metadata.setFromTree(formatName, root);
+            return metadata;
+        }
+
+        /**
+         * Writes the last GIF frame and closes the GIF file. Called after all workers finished.
+         * The last frame is shown for the average time of the frames before it, as there is no next capture to time it by.
+         */
+        private void close() {
+            if (gifWriter == null) return;
+            try {
+                if (pendingGifFrame != null && !failed) {
+                    int frames = encoded.get();
+                    long average = frames > 0 ? (pendingGifTime - firstGifTime) / frames : 0;
+                    writePendingGifFrame(pendingGifTime + Math.max(average, MIN_GIF_DELAY * 10_000_000L));
+                }
+                gifWriter.endWriteSequence();
+                gifStream.close();
+            } catch (IOException | IllegalStateException e) {
+                Game.logger.error("Could not finish recording: {}", e.getMessage());
+            } finally {
+                gifWriter.dispose();
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package me.xmertsalov.rendering;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * The {@code HeadlessRenderer} class draws frames without a screen, so rendering can be measured on machines
+ * without a display, e.g. with {@code -Djava.awt.headless=true}. It either rasterises the commands into
+ * an offscreen {@link BufferedImage} with the same Java2D code as the game, or only counts them.
+ *
+ * <p>Typical use: draw a scene into the renderer, read the command counters and the time it took, then
+ * {@link #clear()} before the next frame.
+ */
+public class HeadlessRenderer extends Java2DRenderer {
+    private final BufferedImage image; // null when only counting
+    private final Graphics2D graphics;
+
+    /**
+     * Creates a renderer that rasterises into an image of the given size.
+     *
+     * @param width  the width of the image.
+     * @param height the height of the image.
+     */
+    public HeadlessRenderer(int width, int height) {
+        this(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB));
+    }
+
+    private HeadlessRenderer(BufferedImage image) {
+        this(image, image == null ? null : image.createGraphics());
+    }
+
+    private HeadlessRenderer(BufferedImage image, Graphics2D graphics) {
+        super(graphics);
+        this.image = image;
+        this.graphics = graphics;
+    }
+
+    /**
+     * Creates a renderer that only counts commands and does not draw anything.
+     *
+     * @return the counting renderer.
+     */
+    public static HeadlessRenderer countingOnly() {
+        return new HeadlessRenderer((BufferedImage) null);
+    }
+
+    /**
+     * Clears the image to black and resets the command counters.
+     */
+    public void clear() {
+        resetCounters();
+        if (graphics == null) return;
+        graphics.setColor(Color.BLACK);
+        graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+    }
+
+    /**
+     * Publishes the counters of the finished frame and resets them. The renderer keeps drawing into its image.
+     */
+    @Override
+    public void endFrame() {
+        super.endFrame();
+        setGraphics(graphics);
+    }
+
+    /**
+     * Returns the image the commands were rasterised into.
+     *
+     * @return the image, or {@code null} if the renderer only counts commands.
+     */
+    public BufferedImage getImage() {
+        return image;
+    }
+}
@@ -0,0 +1,37 @@
+package me.xmertsalov.rendering;
+
+import me.xmertsalov.Game;
+
+/**
+ * The {@code Interpolation} class provides helpers to draw moving objects between two simulation ticks.
+ * Objects are drawn one tick behind, blended from their previous to their current position by how much
+ * of the next tick has already passed. This keeps motion smooth when frames are drawn more often than ticks.
+ */
+public class Interpolation {
+
+    private Interpolation() {}
+
+    /**
+     * Returns how far the current time is between the tick at {@code tickTime} and the next tick.
+     *
+     * @param tickTime the time in nanoseconds ({@link System#nanoTime()}) the tick was finished.
+     * @return the interpolation factor between 0 and 1.
+     */
+    public static double alpha(long tickTime) {
+        double nanosPerTick = 1_000_000_000.0 / Game.UPS_LIMIT;
+        double alpha = (System.nanoTime() - tickTime) / nanosPerTick;
+        return Math.max(0, Math.min(1, alpha));
+    }
+
+    /**
+     * Blends two values.
+     *
+     * @param from  the value at the previous tick.
+     * @param to    the value at the current tick.
+     * @param alpha the interpolation factor between 0 and 1.
+     * @return the blended value.
+     */
+    public static double lerp(double from, double to, double alpha) {
+        return from + (to - from) * alpha;
+    }
+}
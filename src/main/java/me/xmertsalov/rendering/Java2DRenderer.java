@@ -0,0 +1,149 @@
+package me.xmertsalov.rendering;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * The {@code Java2DRenderer} class draws with AWT {@link Graphics}: sprites through the {@link SpriteCache},
+ * everything else with the matching {@code Graphics} call. One instance is reused for every frame;
+ * {@link #setGraphics(Graphics)} points it at the graphics context of the frame being drawn.
+ *
+ * <p>Commands are counted, so the number of draw calls of a frame can be shown in the debug overlay.
+ * The counters are only touched by the thread that draws frames; {@link #endFrame()} publishes them.
+ */
+public class Java2DRenderer implements Renderer {
+    private Graphics g;
+
+    // Commands since the last reset
+    private int sprites;
+    private int images;
+    private int texts;
+    private int shapes;
+
+    // Commands of the last finished frame
+    private volatile int lastCommands;
+    private volatile int lastSprites;
+    private volatile int lastTexts;
+
+    /**
+     * Creates a renderer without a graphics context; one must be set before drawing.
+     */
+    public Java2DRenderer() {}
+
+    /**
+     * Creates a renderer that draws with the given graphics context.
+     *
+     * @param g the graphics context, or {@code null} to only count commands.
+     */
+    public Java2DRenderer(Graphics g) {
+        this.g = g;
+    }
+
+    /**
+     * Sets the graphics context the following commands draw with.
+     *
+     * @param g the graphics context, or {@code null} to only count commands.
+     */
+    public void setGraphics(Graphics g) {
+        this.g = g;
+    }
+
+    @Override
+    public void drawSprite(BufferedImage sprite, int x, int y, int width, int height) {
+        sprites++;
+        if (g != null) SpriteCache.draw(g, sprite, x, y, width, height);
+    }
+
+    @Override
+    public void drawImage(BufferedImage image, int x, int y) {
+        images++;
+        if (g != null) g.drawImage(image, x, y, null);
+    }
+
+    @Override
+    public void drawText(String text, int x, int y, Font font, Color color) {
+        texts++;
+        if (g == null) return;
+        if (font != null) g.setFont(font);
+        g.setColor(color);
+        g.drawString(text, x, y);
+    }
+
+    @Override
+    public void fillRect(int x, int y, int width, int height, Color color) {
+        shapes++;
+        if (g == null) return;
+        g.setColor(color);
+        g.fillRect(x, y, width, height);
+    }
+
+    @Override
+    public void drawRect(int x, int y, int width, int height, Color color) {
+        shapes++;
+        if (g == null) return;
+        g.setColor(color);
+        g.drawRect(x, y, width, height);
+    }
+
+    @Override
+    public void fillOval(int x, int y, int width, int height, Color color) {
+        shapes++;
+        if (g == null) return;
+        g.setColor(color);
+        g.fillOval(x, y, width, height);
+    }
+
+    @Override
+    public void drawLine(int x1, int y1, int x2, int y2, Color color) {
+        shapes++;
+        if (g == null) return;
+        g.setColor(color);
+        g.drawLine(x1, y1, x2, y2);
+    }
+
+    @Override
+    public void fillPolygon(Polygon polygon, Color color) {
+        shapes++;
+        if (g == null) return;
+        g.setColor(color);
+        g.fillPolygon(polygon);
+    }
+
+    @Override
+    public void drawPolygon(Polygon polygon, Color color) {
+        shapes++;
+        if (g == null) return;
+        g.setColor(color);
+        g.drawPolygon(polygon);
+    }
+
+    /**
+     * Resets the command counters, e.g. at the start of a frame.
+     */
+    public void resetCounters() {
+        sprites = 0;
+        images = 0;
+        texts = 0;
+        shapes = 0;
+    }
+
+    /**
+     * Publishes the counters of the finished frame, resets them and releases the graphics context.
+     */
+    public void endFrame() {
+        lastCommands = getCommandCount();
+        lastSprites = sprites;
+        lastTexts = texts;
+        resetCounters();
+        g = null;
+    }
+
+    public int getCommandCount() {return sprites + images + texts + shapes;}
+    public int getSpriteCount() {return sprites;}
+    public int getImageCount() {return images;}
+    public int getTextCount() {return texts;}
+    public int getShapeCount() {return shapes;}
+    public int getLastCommandCount() {return lastCommands;}
+    public int getLastSpriteCount() {return lastSprites;}
+    public int getLastTextCount() {return lastTexts;}
+}
@@ -0,0 +1,98 @@
+package me.xmertsalov.rendering;
+
+import me.xmertsalov.Game;
+
+import java.awt.*;
+import java.awt.event.MouseEvent;
+import java.awt.image.BufferedImage;
+
+/**
+ * The {@code LogicalResolution} class renders the game at its native pixel-art resolution and upscales
+ * the finished frame onto the screen in one draw call with nearest-neighbour.
+ *
+ * <p>The logical frame is {@link Game#GAME_HEIGHT} pixels high and as wide as the screen's aspect ratio allows.
+ * An integer upscale is used when the black bars it leaves are at most {@link #MAX_BAR_FRACTION} of the screen height,
+ * otherwise the frame is stretched by the exact fractional factor. Mouse positions are mapped back to logical pixels.
+ */
+public class LogicalResolution {
+    private static final double MAX_BAR_FRACTION = 0.05;
+
+    // Dependencies
+    private final RenderTarget renderTarget = new RenderTarget();
+
+    // Geometry
+    private final int width, height; // logical size
+    private final double scale; // screen pixels per logical pixel
+    private final int screenX, screenY; // position of the upscaled frame on the screen
+    private final int screenWidth, screenHeight; // size of the upscaled frame on the screen
+
+    /**
+     * Computes the logical size and the upscale for a screen.
+     *
+     * @param physicalWidth  the width of the screen area in pixels.
+     * @param physicalHeight the height of the screen area in pixels.
+     */
+    public LogicalResolution(int physicalWidth, int physicalHeight) {
+        double exactScale = (double) physicalHeight / Game.GAME_HEIGHT;
+        double integerScale = Math.floor(exactScale);
+
+        boolean useInteger = integerScale >= 1 && physicalHeight - integerScale * Game.GAME_HEIGHT <= physicalHeight * MAX_BAR_FRACTION;
+        scale = useInteger ? integerScale : exactScale;
+
+        height = Game.GAME_HEIGHT;
+        width = Math.max(1, (int) (physicalWidth / scale));
+
+        screenWidth = (int) Math.round(width * scale);
+        screenHeight = (int) Math.round(height * scale);
+        screenX = (physicalWidth - screenWidth) / 2;
+        screenY = (physicalHeight - screenHeight) / 2;
+
+        Game.logger.info("Logical resolution {}x{}, upscaled x{} to {}x{}{}", width, height, String.format("%.3f", scale),
+                screenWidth, screenHeight, useInteger ? " (integer)" : "");
+    }
+
+    /**
+     * Returns a graphics context for drawing a frame in logical pixels.
+     *
+     * @return the graphics context; must be disposed by the caller.
+     */
+    public Graphics2D begin() {
+        return renderTarget.begin(width, height, 1);
+    }
+
+    /**
+     * Returns the image the last frame was drawn into, in logical pixels.
+     *
+     * @return the image, or {@code null} before the first frame.
+     */
+    public BufferedImage getImage() {
+        return renderTarget.getImage();
+    }
+
+    /**
+     * Draws the last frame upscaled onto the screen.
+     *
+     * @param g the graphics context of the screen.
+     */
+    public void present(Graphics g) {
+        renderTarget.present(g, screenX, screenY, screenWidth, screenHeight);
+    }
+
+    /**
+     * Returns a copy of a mouse event with its position converted from screen pixels to logical pixels.
+     *
+     * @param e the mouse event in screen pixels.
+     * @return the mouse event in logical pixels.
+     */
+    public MouseEvent toLogical(MouseEvent e) {
+        int x = (int) ((e.getX() - screenX) / scale);
+        int y = (int) ((e.getY() - screenY) / scale);
+
+        return new MouseEvent(e.getComponent(), e.getID(), e.getWhen(), e.getModifiersEx(), x, y,
+                e.getXOnScreen(), e.getYOnScreen(), e.getClickCount(), e.isPopupTrigger(), e.getButton());
+    }
+
+    public int getWidth() {return width;}
+    public int getHeight() {return height;}
+    public double getScale() {return scale;}
+}
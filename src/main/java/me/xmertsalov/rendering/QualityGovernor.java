@@ -0,0 +1,106 @@
+package me.xmertsalov.rendering;
+
+import me.xmertsalov.Game;
+
+import java.util.Arrays;
+
+/**
+ * The {@code QualityGovernor} class watches the time spent drawing frames and adjusts {@link Game#QUALITY_TIER}.
+ * Frame times are collected in windows of one second worth of frames. When the 95th percentile of a window
+ * misses the frame budget twice in a row, the governor steps down one tier; after several windows with plenty
+ * of headroom it steps back up.
+ *
+ * <p>{@link #recordFrame(long)} must be called from the drawing thread only.
+ */
+public class QualityGovernor {
+    // Constants
+    private static final int WINDOWS_TO_STEP_DOWN = 2;
+    private static final int WINDOWS_TO_STEP_UP = 5;
+    private static final double HEADROOM = 0.5; // step up when the p95 is below this part of the budget
+
+    // Settings
+    private final long budgetNanos;
+
+    // Current window
+    private final long[] frameTimes;
+    private final long[] sorted;
+    private int count;
+
+    // States
+    private int overBudgetWindows;
+    private int headroomWindows;
+    private volatile double lastP95Millis;
+
+    /**
+     * Constructs a new {@code QualityGovernor}.
+     *
+     * @param fps the target number of frames per second, which defines the frame budget and the window size.
+     */
+    public QualityGovernor(int fps) {
+        this.budgetNanos = 1_000_000_000L / fps;
+        this.frameTimes = new long[fps];
+        this.sorted = new long[fps];
+    }
+
+    /**
+     * Records the time spent drawing a frame and re-evaluates the quality tier when a window is full.
+     *
+     * @param drawNanos the time spent drawing the frame in nanoseconds.
+     */
+    public void recordFrame(long drawNanos) {
+        frameTimes[count++] = drawNanos;
+        if (count < frameTimes.length) return;
+
+        System.arraycopy(frameTimes, 0, sorted, 0, count);
+        Arrays.sort(sorted, 0, count);
+        long p95 = sorted[(int) Math.ceil(count * 0.95) - 1];
+        lastP95Millis = p95 / 1_000_000.0;
+        count = 0;
+
+        evaluate(p95);
+    }
+
+    /**
+     * Steps the quality tier down or up based on the 95th percentile of the last window.
+     *
+     * @param p95 the 95th percentile frame time in nanoseconds.
+     */
+    private void evaluate(long p95) {
+        QualityTier tier = Game.QUALITY_TIER;
+
+        if (p95 > budgetNanos) {
+            headroomWindows = 0;
+            if (++overBudgetWindows >= WINDOWS_TO_STEP_DOWN && tier != tier.lower()) {
+                changeTier(tier.lower(), "p95 frame time {} ms is over the {} ms budget", p95);
+            }
+        }
+        else if (p95 < budgetNanos * HEADROOM) {
+            overBudgetWindows = 0;
+            if (++headroomWindows >= WINDOWS_TO_STEP_UP && tier != tier.higher()) {
+                changeTier(tier.higher(), "p95 frame time {} ms leaves headroom in the {} ms budget", p95);
+            }
+        }
+        else {
+            overBudgetWindows = 0;
+            headroomWindows = 0;
+        }
+    }
+
+    private void changeTier(QualityTier tier, String reason, long p95) {
+        Game.logger.info("Quality tier {} -> {}: " + reason, Game.QUALITY_TIER, tier,
+                String.format("%.2f", p95 / 1_000_000.0), String.format("%.2f", budgetNanos / 1_000_000.0));
+
+        Game.QUALITY_TIER = tier;
+        overBudgetWindows = 0;
+        headroomWindows = 0;
+    }
+
+    /**
+     * Returns the 95th percentile frame time of the last finished window.
+     *
+     * @return the frame time in milliseconds.
+     */
+    public double getLastP95Millis() {
+        return lastP95Millis;
+    }
+}
@@ -0,0 +1,47 @@
+package me.xmertsalov.rendering;
+
+/**
+ * The {@code QualityTier} enum defines the rendering quality levels the {@link QualityGovernor} can step through.
+ * Each tier sheds some render work compared to the one above it.
+ */
+public enum QualityTier {
+    HIGH(true, true, Integer.MAX_VALUE, 1.0),
+    MEDIUM(false, true, Integer.MAX_VALUE, 1.0), // back palms stop animating
+    LOW(false, false, 2, 1.0), // water reflection frozen, fewer small clouds
+    LOWEST(false, false, 2, 0.5); // half internal render resolution
+
+    private final boolean animateBackPalms;
+    private final boolean animateWater;
+    private final int maxSmallClouds;
+    private final double renderScale;
+
+    QualityTier(boolean animateBackPalms, boolean animateWater, int maxSmallClouds, double renderScale) {
+        this.animateBackPalms = animateBackPalms;
+        this.animateWater = animateWater;
+        this.maxSmallClouds = maxSmallClouds;
+        this.renderScale = renderScale;
+    }
+
+    /**
+     * Returns the next lower tier, or this tier if it is already the lowest.
+     *
+     * @return the lower tier.
+     */
+    public QualityTier lower() {
+        return this == LOWEST ? this : values()[ordinal() + 1];
+    }
+
+    /**
+     * Returns the next higher tier, or this tier if it is already the highest.
+     *
+     * @return the higher tier.
+     */
+    public QualityTier higher() {
+        return this == HIGH ? this : values()[ordinal() - 1];
+    }
+
+    public boolean isAnimateBackPalms() {return animateBackPalms;}
+    public boolean isAnimateWater() {return animateWater;}
+    public int getMaxSmallClouds() {return maxSmallClouds;}
+    public double getRenderScale() {return renderScale;}
+}
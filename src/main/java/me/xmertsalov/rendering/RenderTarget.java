@@ -0,0 +1,77 @@
+package me.xmertsalov.rendering;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * The {@code RenderTarget} class is an offscreen image used to draw a frame at a lower internal resolution.
+ * The frame is drawn into the image with a scaled {@link Graphics2D}, so game code keeps using window coordinates,
+ * and the image is then stretched onto the screen in one draw call.
+ */
+public class RenderTarget {
+    private BufferedImage image;
+
+    /**
+     * Returns a graphics context for drawing a frame of the given window size at the given scale.
+     * The image is (re)created only when the required size changes.
+     *
+     * @param width  the width of the window.
+     * @param height the height of the window.
+     * @param scale  the internal resolution relative to the window.
+     * @return the graphics context; must be disposed by the caller.
+     */
+    public Graphics2D begin(int width, int height, double scale) {
+        int targetWidth = Math.max(1, (int) Math.ceil(width * scale));
+        int targetHeight = Math.max(1, (int) Math.ceil(height * scale));
+
+        if (image == null || image.getWidth() != targetWidth || image.getHeight() != targetHeight) {
+            GraphicsConfiguration configuration = GraphicsEnvironment.isHeadless() ? null
+                    : GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+            image = configuration == null
+                    ? new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB)
+                    : configuration.createCompatibleImage(targetWidth, targetHeight, Transparency.OPAQUE);
+        }
+
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.BLACK);
+        g.fillRect(0, 0, targetWidth, targetHeight);
+        g.scale(scale, scale);
+        return g;
+    }
+
+    /**
+     * Returns the image the last frame was drawn into, at the internal resolution.
+     *
+     * @return the image, or {@code null} before the first frame.
+     */
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    /**
+     * Draws the last frame stretched to the window size.
+     *
+     * @param g      the graphics context of the screen.
+     * @param width  the width of the window.
+     * @param height the height of the window.
+     */
+    public void present(Graphics g, int width, int height) {
+        g.drawImage(image, 0, 0, width, height, null);
+    }
+
+    /**
+     * Draws the last frame scaled with nearest neighbour into the given area of the screen.
+     *
+     * @param g      the graphics context of the screen.
+     * @param x      the x position of the area.
+     * @param y      the y position of the area.
+     * @param width  the width of the area.
+     * @param height the height of the area.
+     */
+    public void present(Graphics g, int x, int y, int width, int height) {
+        if (g instanceof Graphics2D) {
+            ((Graphics2D) g).setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        }
+        g.drawImage(image, x, y, width, height, null);
+    }
+}
@@ -0,0 +1,103 @@
+package me.xmertsalov.rendering;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * The {@code Renderer} interface is the set of drawing commands that scenes, UI managers and game objects draw with.
+ * Drawing code does not use AWT {@link Graphics} directly, so frames can also be drawn by a backend without a screen,
+ * see {@link Java2DRenderer} and {@link HeadlessRenderer}.
+ */
+public interface Renderer {
+
+    /**
+     * Draws a sprite scaled to the given size. A negative width or height mirrors the sprite.
+     *
+     * @param sprite the sprite to draw, may be {@code null}.
+     * @param x      the x position.
+     * @param y      the y position.
+     * @param width  the width on screen.
+     * @param height the height on screen.
+     */
+    void drawSprite(BufferedImage sprite, int x, int y, int width, int height);
+
+    /**
+     * Draws a pre-rendered image 1:1.
+     *
+     * @param image the image to draw.
+     * @param x     the x position.
+     * @param y     the y position.
+     */
+    void drawImage(BufferedImage image, int x, int y);
+
+    /**
+     * Draws a line of text with its baseline at the given position.
+     *
+     * @param text  the text to draw.
+     * @param x     the x position.
+     * @param y     the y position of the baseline.
+     * @param font  the font, or {@code null} to keep the current one.
+     * @param color the color.
+     */
+    void drawText(String text, int x, int y, Font font, Color color);
+
+    /**
+     * Fills a rectangle.
+     *
+     * @param x      the x position.
+     * @param y      the y position.
+     * @param width  the width.
+     * @param height the height.
+     * @param color  the color.
+     */
+    void fillRect(int x, int y, int width, int height, Color color);
+
+    /**
+     * Draws the outline of a rectangle.
+     *
+     * @param x      the x position.
+     * @param y      the y position.
+     * @param width  the width.
+     * @param height the height.
+     * @param color  the color.
+     */
+    void drawRect(int x, int y, int width, int height, Color color);
+
+    /**
+     * Fills an oval inside a rectangle.
+     *
+     * @param x      the x position of the rectangle.
+     * @param y      the y position of the rectangle.
+     * @param width  the width of the rectangle.
+     * @param height the height of the rectangle.
+     * @param color  the color.
+     */
+    void fillOval(int x, int y, int width, int height, Color color);
+
+    /**
+     * Draws a line.
+     *
+     * @param x1    the x position of the start.
+     * @param y1    the y position of the start.
+     * @param x2    the x position of the end.
+     * @param y2    the y position of the end.
+     * @param color the color.
+     */
+    void drawLine(int x1, int y1, int x2, int y2, Color color);
+
+    /**
+     * Fills a polygon.
+     *
+     * @param polygon the polygon.
+     * @param color   the color.
+     */
+    void fillPolygon(Polygon polygon, Color color);
+
+    /**
+     * Draws the outline of a polygon.
+     *
+     * @param polygon the polygon.
+     * @param color   the color.
+     */
+    void drawPolygon(Polygon polygon, Color color);
+}
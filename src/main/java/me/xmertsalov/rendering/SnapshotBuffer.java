@@ -0,0 +1,50 @@
+package me.xmertsalov.rendering;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The {@code SnapshotBuffer} class hands world snapshots from the simulation thread to the drawing thread
+ * without locks. It uses three preallocated snapshots: one being written, one being drawn and one
+ * waiting in between. Publishing and acquiring are single atomic swaps, so neither side ever waits
+ * for the other and the drawing side always gets the most recent complete snapshot.
+ *
+ * <p>There must be only one writing thread and one drawing thread at a time.
+ */
+public class SnapshotBuffer {
+    private final AtomicReference<WorldSnapshot> ready = new AtomicReference<>(new WorldSnapshot());
+    private WorldSnapshot back = new WorldSnapshot(); // owned by the writer
+    private WorldSnapshot front = new WorldSnapshot(); // owned by the reader
+
+    /**
+     * Returns an empty snapshot to fill for the current tick. Called by the simulation thread.
+     *
+     * @return the snapshot to write into.
+     */
+    public WorldSnapshot beginWrite() {
+        back.clear();
+        return back;
+    }
+
+    /**
+     * Publishes the snapshot returned by {@link #beginWrite()}. Called by the simulation thread.
+     *
+     * @param tick the number of the tick the snapshot was taken at.
+     */
+    public void publish(long tick) {
+        back.setTick(tick, System.nanoTime());
+        back = ready.getAndSet(back);
+    }
+
+    /**
+     * Returns the most recent published snapshot. Called by the drawing thread.
+     * The returned snapshot stays valid until the next call.
+     *
+     * @return the snapshot to draw.
+     */
+    public WorldSnapshot acquire() {
+        if (ready.get().getTick() > front.getTick()) {
+            front = ready.getAndSet(front);
+        }
+        return front;
+    }
+}
@@ -0,0 +1,73 @@
+package me.xmertsalov.rendering;
+
+import me.xmertsalov.Game;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * The {@code SnapshotRenderer} class draws a {@link WorldSnapshot}.
+ * It reads only the snapshot and the registered sprite sheets, never the objects of the simulation.
+ * Positions are interpolated between the previous and the current tick by the time passed since the snapshot was published.
+ * Sprites are drawn from the {@link SpriteCache}, already scaled to their size on screen.
+ * Entries outside the window are skipped, see {@link Culling}.
+ */
+public class SnapshotRenderer {
+
+    private SnapshotRenderer() {}
+
+    /**
+     * Draws all entries of the snapshot, layer by layer.
+     *
+     * @param renderer the {@link Renderer} used for rendering.
+     * @param snapshot the snapshot to draw.
+     */
+    public static void draw(Renderer renderer, WorldSnapshot snapshot) {
+        draw(renderer, snapshot, 0, WorldSnapshot.LAYERS - 1);
+    }
+
+    /**
+     * Draws the entries of a range of layers, layer by layer and in the order they were added within a layer.
+     *
+     * @param renderer   the {@link Renderer} used for rendering.
+     * @param snapshot   the snapshot to draw.
+     * @param firstLayer the first layer to draw.
+     * @param lastLayer  the last layer to draw, inclusive.
+     */
+    public static void draw(Renderer renderer, WorldSnapshot snapshot, int firstLayer, int lastLayer) {
+        double alpha = Interpolation.alpha(snapshot.getTime());
+        int end = snapshot.getLayerEnd(lastLayer);
+
+        for (int position = snapshot.getLayerStart(firstLayer); position < end; position++) {
+            int i = snapshot.getEntry(position);
+            int x = (int) Interpolation.lerp(snapshot.getPrevX(i), snapshot.getX(i), alpha);
+            int y = (int) Interpolation.lerp(snapshot.getPrevY(i), snapshot.getY(i), alpha);
+            int width = snapshot.getWidth(i);
+            int height = snapshot.getHeight(i);
+
+            if (!Culling.isVisible(x, y, width, height)) continue;
+
+            switch (snapshot.getKind(i)) {
+                case WorldSnapshot.KIND_SPRITE: {
+                    BufferedImage sprite = SpriteSheets.getFrame(snapshot.getSheet(i), snapshot.getRow(i), snapshot.getColumn(i));
+                    renderer.drawSprite(sprite, x, y, width, height);
+                    break;
+                }
+                case WorldSnapshot.KIND_IMAGE:
+                    renderer.drawImage(snapshot.getImage(i), x, y);
+                    break;
+                case WorldSnapshot.KIND_DEBUG_RECT:
+                    renderer.fillRect(x, y, width, height, Game.DEBUG_COLOR);
+                    renderer.drawRect(x, y, width, height, Game.DEBUG_COLOR_SECOND);
+                    break;
+                case WorldSnapshot.KIND_DEBUG_OVAL:
+                    renderer.fillOval(x, y, width, height, Game.DEBUG_COLOR);
+                    break;
+                case WorldSnapshot.KIND_DEBUG_LINE:
+                    renderer.drawLine(x, y, x + width, y + height, Game.DEBUG_COLOR);
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+}
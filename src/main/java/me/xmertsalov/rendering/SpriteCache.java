@@ -0,0 +1,254 @@
+package me.xmertsalov.rendering;
+
+import me.xmertsalov.Game;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * The {@code SpriteCache} class keeps copies of sprites that are already scaled to the size they are drawn at
+ * and stored in the pixel format of the screen. Drawing a cached copy is a plain 1:1 blit, instead of
+ * scaling and converting the image returned by {@code ImageIO} on every frame.
+ *
+ * <p>Copies are keyed by the identity of the source image and the target size. A source is expected to be
+ * drawn at only a few sizes; a source whose size keeps changing is drawn directly instead of being cached.
+ * The cache is cleared when {@link Game#SCALE} changes, so all copies are rebuilt at the new size.
+ * Copies of sprites evicted from the {@code SpriteRegistry} are removed with them, see {@link #removeAll(Collection)},
+ * and a frame that was already being drawn when its sprite was evicted is drawn without making a new copy.
+ *
+ * <p>Sprites that are regions of a texture atlas page, see {@link #addAtlasPage(BufferedImage)}, are cached like
+ * any other sprite. Only a region whose size keeps changing is drawn from one copy of its page in the pixel format
+ * of the screen, by its source rectangle, which scales it on every draw.
+ */
+public class SpriteCache {
+    private static final int MAX_SIZES_PER_SOURCE = 4;
+    private static final int MAX_MISSES_PER_SOURCE = 16; // after that many rebuilds the source is not cached anymore
+
+    private static final IdentityHashMap<BufferedImage, Entry> cache = new IdentityHashMap<>();
+    private static final IdentityHashMap<DataBuffer, BufferedImage> pages = new IdentityHashMap<>(); // pixels of a page, its copy
+    // Pixels of evicted sprites, until they are collected; data buffers are compared by identity
+    private static final Set<DataBuffer> evicted = Collections.newSetFromMap(new WeakHashMap<>());
+    private static final Set<BufferedImage> evictedViews = Collections.newSetFromMap(new WeakHashMap<>()); // of atlas pages
+    private static float cachedScale = Game.SCALE;
+    private static GraphicsConfiguration configuration;
+
+    private SpriteCache() {}
+
+    /**
+     * Draws an image at the given position and size, using a cached copy at that size.
+     * A negative width or height mirrors the image, like {@link Graphics#drawImage(Image, int, int, int, int, java.awt.image.ImageObserver)}.
+     *
+     * @param g      the {@link Graphics} object used for rendering.
+     * @param source the image to draw, may be {@code null}.
+     * @param x      the x position.
+     * @param y      the y position.
+     * @param width  the width on screen.
+     * @param height the height on screen.
+     */
+    public static void draw(Graphics g, BufferedImage source, int x, int y, int width, int height) {
+        if (source == null || width == 0 || height == 0) return;
+
+        BufferedImage scaled = get(source, Math.abs(width), Math.abs(height));
+
+        if (scaled == null) drawUncached(g, source, x, y, width, height);
+        else if (width > 0 && height > 0) g.drawImage(scaled, x, y, null);
+        else g.drawImage(scaled, x, y, width, height, null);
+    }
+
+    /**
+     * Draws an image that is not cached, from the copy of its atlas page if it is a region of one.
+     */
+    private static void drawUncached(Graphics g, BufferedImage source, int x, int y, int width, int height) {
+        BufferedImage page = getAtlasPage(source);
+        if (page == null) {
+            g.drawImage(source, x, y, width, height, null);
+            return;
+        }
+
+        // The offset of a sub-image in the pixels it shares with its page
+        int sx = -source.getRaster().getSampleModelTranslateX();
+        int sy = -source.getRaster().getSampleModelTranslateY();
+        g.drawImage(page, x, y, x + width, y + height, sx, sy, sx + source.getWidth(), sy + source.getHeight(), null);
+    }
+
+    /**
+     * Returns a copy of the image scaled to the given size in the pixel format of the screen.
+     *
+     * @param source the image to scale.
+     * @param width  the target width, must be positive.
+     * @param height the target height, must be positive.
+     * @return the scaled copy, or {@code null} if the source is not cached because its size keeps changing
+     * or it was evicted.
+     */
+    public static synchronized BufferedImage get(BufferedImage source, int width, int height) {
+        if (cachedScale != Game.SCALE) {
+            Game.logger.info("Scale changed from {} to {}, rebuilding {} cached sprites", cachedScale, Game.SCALE, cache.size());
+            cache.clear();
+            cachedScale = Game.SCALE;
+        }
+
+        Entry entry = cache.get(source);
+        if (entry == null) {
+            // A copy made after the eviction would keep the evicted pixels alive
+            if (evicted.contains(source.getRaster().getDataBuffer()) || evictedViews.contains(source)) return null;
+            entry = new Entry();
+            cache.put(source, entry);
+        }
+
+        for (int i = 0; i < entry.count; i++) {
+            if (entry.widths[i] == width && entry.heights[i] == height) return entry.images[i];
+        }
+
+        if (entry.misses >= MAX_MISSES_PER_SOURCE) return null;
+        entry.misses++;
+
+        // Replace the oldest size when all slots are taken
+        int slot = entry.count < MAX_SIZES_PER_SOURCE ? entry.count++ : entry.next;
+        entry.next = (slot + 1) % MAX_SIZES_PER_SOURCE;
+        entry.widths[slot] = width;
+        entry.heights[slot] = height;
+        entry.images[slot] = createScaled(source, width, height);
+        return entry.images[slot];
+    }
+
+    /**
+     * Registers a texture atlas page, so its regions and the frames sliced from them that are not cached are drawn
+     * from the page. The page must stay loaded, as its regions are never evicted. Registering a page again does nothing.
+     *
+     * @param page the decoded page.
+     */
+    public static synchronized void addAtlasPage(BufferedImage page) {
+        DataBuffer buffer = page.getRaster().getDataBuffer();
+        if (!pages.containsKey(buffer)) pages.put(buffer, createScaled(page, page.getWidth(), page.getHeight()));
+    }
+
+    /**
+     * Returns the page copy a sprite is a region of.
+     *
+     * @param source the sprite.
+     * @return the copy of its atlas page, or {@code null} if the sprite is not a region of a registered page.
+     */
+    public static synchronized BufferedImage getAtlasPage(BufferedImage source) {
+        return pages.isEmpty() ? null : pages.get(source.getRaster().getDataBuffer());
+    }
+
+    /**
+     * Removes all cached copies. Atlas pages stay registered.
+     */
+    public static synchronized void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Removes the cached copies of the given images and of every source that shares its pixels with one of them,
+     * such as all frames sliced from an evicted atlas. Sources with these pixels are not cached again.
+     * Views of a texture atlas page share its pixels with every other region of the page, which stays loaded,
+     * so only the copies of those views themselves are removed.
+     *
+     * @param images the evicted images.
+     */
+    public static synchronized void removeAll(Collection<BufferedImage> images) {
+        Set<DataBuffer> buffers = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (BufferedImage image : images) {
+            DataBuffer buffer = image.getRaster().getDataBuffer();
+            if (pages.containsKey(buffer)) {
+                cache.remove(image);
+                evictedViews.add(image);
+            }
+            else buffers.add(buffer);
+        }
+
+        evicted.addAll(buffers);
+        Iterator<BufferedImage> sources = cache.keySet().iterator();
+        while (sources.hasNext()) {
+            if (buffers.contains(sources.next().getRaster().getDataBuffer())) sources.remove();
+        }
+    }
+
+    /**
+     * Returns the number of bytes the pixels of all cached copies take in memory.
+     *
+     * @return the size of the cached copies in bytes.
+     */
+    public static synchronized long getBytes() {
+        long bytes = 0;
+        for (Entry entry : cache.values()) {
+            for (int i = 0; i < entry.count; i++) bytes += getBytes(entry.images[i]);
+        }
+        for (BufferedImage page : pages.values()) bytes += getBytes(page);
+        return bytes;
+    }
+
+    private static long getBytes(BufferedImage image) {
+        DataBuffer buffer = image.getRaster().getDataBuffer();
+        return (long) buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
+    }
+
+    /**
+     * Creates a copy of the image at the given size. Pixel art is scaled with nearest neighbour, like a scaled {@code drawImage}.
+     *
+     * @param source the image to scale.
+     * @param width  the target width.
+     * @param height the target height.
+     * @return the scaled copy.
+     */
+    private static BufferedImage createScaled(BufferedImage source, int width, int height) {
+        BufferedImage image = createCompatibleImage(width, height, source.getTransparency());
+
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setComposite(AlphaComposite.Src);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    /**
+     * Creates an empty image in the pixel format of the screen, or a plain RGB or ARGB image when running headless.
+     *
+     * @param width        the width of the image.
+     * @param height       the height of the image.
+     * @param transparency the transparency of the image, see {@link Transparency}.
+     * @return the new image.
+     */
+    public static BufferedImage createCompatibleImage(int width, int height, int transparency) {
+        GraphicsConfiguration gc = getConfiguration();
+        return gc != null
+                ? gc.createCompatibleImage(width, height, transparency)
+                : new BufferedImage(width, height, transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+    }
+
+    /**
+     * Returns the configuration of the default screen, or {@code null} when running headless.
+     *
+     * @return the graphics configuration.
+     */
+    private static synchronized GraphicsConfiguration getConfiguration() {
+        if (configuration == null && !GraphicsEnvironment.isHeadless()) {
+            configuration = GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+        }
+        return configuration;
+    }
+
+    /**
+     * The cached sizes of one source image.
+     */
+    private static class Entry {
+        private final int[] widths = new int[MAX_SIZES_PER_SOURCE];
+        private final int[] heights = new int[MAX_SIZES_PER_SOURCE];
+        private final BufferedImage[] images = new BufferedImage[MAX_SIZES_PER_SOURCE];
+        private int count;
+        private int next;
+        private int misses;
+    }
+}
@@ -0,0 +1,84 @@
+package me.xmertsalov.rendering;
+
+import me.xmertsalov.Game;
+import me.xmertsalov.exceptions.BundleLoadException;
+import me.xmertsalov.utils.SpriteHandle;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+
+/**
+ * The {@code SpriteSheets} class assigns integer ids to sliced sprite sheets.
+ * The world snapshot stores sprites as a sheet id with a row and column instead of image references,
+ * so the render thread can look the frame up without touching the objects of the simulation.
+ *
+ * <p>Sheets are registered by identity: cloned animators share their frames and therefore their id.
+ * Sheets of sprite atlases are registered as {@link SpriteHandle}s, so frames that were evicted are loaded again
+ * in the background when they are drawn.
+ */
+public class SpriteSheets {
+    private static final IdentityHashMap<Object, Integer> ids = new IdentityHashMap<>();
+    @SuppressWarnings("unchecked")
+    private static volatile SpriteHandle<BufferedImage[][]>[] sheets = (SpriteHandle<BufferedImage[][]>[]) new SpriteHandle<?>[0];
+
+    private SpriteSheets() {}
+
+    /**
+     * Registers a sprite sheet and returns its id. Registering the same sheet again returns the same id.
+     *
+     * @param frames the frames of the sheet, indexed by row and column.
+     * @return the id of the sheet.
+     */
+    public static synchronized int register(BufferedImage[][] frames) {
+        Integer id = ids.get(frames);
+        if (id != null) return id;
+
+        id = add(SpriteHandle.of("sprite sheet", frames));
+        ids.put(frames, id);
+        return id;
+    }
+
+    /**
+     * Registers the handle of a sprite sheet and returns its id. Registering the same handle again returns the same id.
+     *
+     * @param frames the handle of the frames of the sheet.
+     * @return the id of the sheet.
+     */
+    public static synchronized int register(SpriteHandle<BufferedImage[][]> frames) {
+        Integer id = ids.get(frames);
+        if (id != null) return id;
+
+        id = add(frames);
+        ids.put(frames, id);
+        return id;
+    }
+
+    private static int add(SpriteHandle<BufferedImage[][]> frames) {
+        int id = sheets.length;
+        SpriteHandle<BufferedImage[][]>[] grown = Arrays.copyOf(sheets, id + 1);
+        grown[id] = frames;
+        sheets = grown;
+        return id;
+    }
+
+    /**
+     * Returns a frame of a registered sheet.
+     *
+     * @param id     the id of the sheet.
+     * @param row    the row of the frame.
+     * @param column the column of the frame.
+     * @return the frame, or {@code null} if it does not exist or its sheet was evicted and is being loaded again.
+     */
+    public static BufferedImage getFrame(int id, int row, int column) {
+        BufferedImage[][] frames;
+        try {
+            frames = sheets[id].getOrReload();
+        } catch (BundleLoadException e) {
+            Game.logger.error(e.getMessage());
+            throw new RuntimeException(e);
+        }
+        if (frames == null || row >= frames.length || column >= frames[row].length) return null;
+        return frames[row][column];
+    }
+}
@@ -0,0 +1,193 @@
+package me.xmertsalov.rendering;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * The {@code WorldSnapshot} class holds everything needed to draw the world of one simulation tick:
+ * positions, sizes, sprite sheet ids, animation frames and layers of players, tiles and game objects.
+ * Each entry also keeps its position at the previous tick, so the renderer can interpolate between the two.
+ *
+ * <p>Entries are stored in parallel arrays that are allocated once and reused every tick. The arrays only grow
+ * when a tick produces more entries than ever before. When the snapshot is published its entries are ordered by layer
+ * with a counting sort, so they are drawn layer by layer and, within a layer, in the order they were added.
+ */
+public class WorldSnapshot {
+    // Layers, in drawing order
+    public static final int LAYER_BACKGROUND = 0;
+    public static final int LAYER_PLAYERS = 1;
+    public static final int LAYER_OBJECTS = 2;
+    public static final int LAYER_TILES = 3;
+    public static final int LAYER_FOREGROUND = 4;
+    public static final int LAYER_PARTICLES = 5;
+    public static final int LAYERS = 6;
+
+    // Entry kinds
+    public static final int KIND_SPRITE = 0;
+    public static final int KIND_DEBUG_RECT = 1;
+    public static final int KIND_DEBUG_OVAL = 2;
+    public static final int KIND_DEBUG_LINE = 3;
+    public static final int KIND_IMAGE = 4;
+
+    private static final int INITIAL_CAPACITY = 512;
+
+    // Entries
+    private int size;
+    private int[] kind = new int[INITIAL_CAPACITY];
+    private double[] x = new double[INITIAL_CAPACITY];
+    private double[] y = new double[INITIAL_CAPACITY];
+    private double[] prevX = new double[INITIAL_CAPACITY];
+    private double[] prevY = new double[INITIAL_CAPACITY];
+    private int[] width = new int[INITIAL_CAPACITY]; // negative to draw flipped
+    private int[] height = new int[INITIAL_CAPACITY]; // negative to draw flipped
+    private int[] sheet = new int[INITIAL_CAPACITY];
+    private int[] row = new int[INITIAL_CAPACITY];
+    private int[] column = new int[INITIAL_CAPACITY];
+    private int[] layer = new int[INITIAL_CAPACITY];
+    private int[] order = new int[INITIAL_CAPACITY]; // entry indices in drawing order, filled on publish
+    private final int[] layerStart = new int[LAYERS + 1]; // position of the first entry of each layer in the order
+    private BufferedImage[] image = new BufferedImage[INITIAL_CAPACITY]; // only for KIND_IMAGE
+
+    // States
+    private volatile long tick = -1;
+    private long time; // System.nanoTime() when the snapshot was published
+
+    /**
+     * Removes all entries before the snapshot is filled again.
+     */
+    public void clear() {
+        Arrays.fill(image, 0, size, null); // do not keep released images alive
+        size = 0;
+    }
+
+    /**
+     * Adds a sprite to the snapshot.
+     *
+     * @param sheet  the id of the sprite sheet, see {@link SpriteSheets}.
+     * @param row    the row of the frame in the sheet.
+     * @param column the column of the frame in the sheet.
+     * @param prevX  the x-coordinate of the sprite at the previous tick.
+     * @param prevY  the y-coordinate of the sprite at the previous tick.
+     * @param x      the x-coordinate of the sprite.
+     * @param y      the y-coordinate of the sprite.
+     * @param width  the drawn width of the sprite.
+     * @param height the drawn height of the sprite.
+     * @param layer  the layer of the sprite.
+     */
+    public void addSprite(int sheet, int row, int column, double prevX, double prevY, double x, double y, int width, int height, int layer) {
+        int i = add(KIND_SPRITE, prevX, prevY, x, y, width, height, layer);
+        this.sheet[i] = sheet;
+        this.row[i] = row;
+        this.column[i] = column;
+    }
+
+    /**
+     * Adds a pre-rendered image to the snapshot. The image is drawn 1:1, so it must already have its size on screen.
+     *
+     * @param image  the image to draw, must not change after it was added.
+     * @param prevX  the x-coordinate of the image at the previous tick.
+     * @param prevY  the y-coordinate of the image at the previous tick.
+     * @param x      the x-coordinate of the image.
+     * @param y      the y-coordinate of the image.
+     * @param layer  the layer of the image.
+     */
+    public void addImage(BufferedImage image, double prevX, double prevY, double x, double y, int layer) {
+        int i = add(KIND_IMAGE, prevX, prevY, x, y, image.getWidth(), image.getHeight(), layer);
+        this.image[i] = image;
+    }
+
+    /**
+     * Adds a debug shape to the snapshot. For lines, {@code width} and {@code height} are the offset of the end point.
+     * Debug shapes are not interpolated.
+     *
+     * @param kind   one of {@link #KIND_DEBUG_RECT}, {@link #KIND_DEBUG_OVAL} or {@link #KIND_DEBUG_LINE}.
+     * @param x      the x-coordinate of the shape.
+     * @param y      the y-coordinate of the shape.
+     * @param width  the width of the shape.
+     * @param height the height of the shape.
+     * @param layer  the layer of the shape.
+     */
+    public void addDebugShape(int kind, double x, double y, int width, int height, int layer) {
+        add(kind, x, y, x, y, width, height, layer);
+    }
+
+    private int add(int kind, double prevX, double prevY, double x, double y, int width, int height, int layer) {
+        if (size == this.kind.length) grow();
+
+        int i = size++;
+        this.kind[i] = kind;
+        this.x[i] = x;
+        this.y[i] = y;
+        this.prevX[i] = prevX;
+        this.prevY[i] = prevY;
+        this.width[i] = width;
+        this.height[i] = height;
+        this.layer[i] = layer;
+        return i;
+    }
+
+    /**
+     * Orders the entries by layer. A stable counting sort: entries of one layer keep the order they were added in.
+     */
+    private void sortByLayer() {
+        Arrays.fill(layerStart, 0);
+        for (int i = 0; i < size; i++) {
+            layerStart[layer[i] + 1]++;
+        }
+        for (int l = 0; l < LAYERS; l++) {
+            layerStart[l + 1] += layerStart[l];
+        }
+
+        // Use the end of each layer as its insertion cursor, then shift the starts back
+        for (int i = 0; i < size; i++) {
+            order[layerStart[layer[i]]++] = i;
+        }
+        for (int l = LAYERS; l > 0; l--) {
+            layerStart[l] = layerStart[l - 1];
+        }
+        layerStart[0] = 0;
+    }
+
+    private void grow() {
+        int capacity = kind.length * 2;
+        kind = Arrays.copyOf(kind, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        prevX = Arrays.copyOf(prevX, capacity);
+        prevY = Arrays.copyOf(prevY, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        sheet = Arrays.copyOf(sheet, capacity);
+        row = Arrays.copyOf(row, capacity);
+        column = Arrays.copyOf(column, capacity);
+        layer = Arrays.copyOf(layer, capacity);
+        order = Arrays.copyOf(order, capacity);
+        image = Arrays.copyOf(image, capacity);
+    }
+
+    public int size() {return size;}
+    public int getEntry(int position) {return order[position];} // index of the entry drawn at a position
+    public int getLayerStart(int layer) {return layerStart[layer];} // first position of the layer in drawing order
+    public int getLayerEnd(int layer) {return layerStart[layer + 1];}
+    public int getKind(int i) {return kind[i];}
+    public double getX(int i) {return x[i];}
+    public double getY(int i) {return y[i];}
+    public double getPrevX(int i) {return prevX[i];}
+    public double getPrevY(int i) {return prevY[i];}
+    public int getWidth(int i) {return width[i];}
+    public int getHeight(int i) {return height[i];}
+    public int getSheet(int i) {return sheet[i];}
+    public int getRow(int i) {return row[i];}
+    public int getColumn(int i) {return column[i];}
+    public int getLayer(int i) {return layer[i];}
+    public BufferedImage getImage(int i) {return image[i];}
+
+    public long getTick() {return tick;}
+    public long getTime() {return time;}
+
+    void setTick(long tick, long time) {
+        sortByLayer();
+        this.time = time;
+        this.tick = tick; // written last: publishes the entries to the reader
+    }
+}
@@ -1,6 +1,7 @@
 package me.xmertsalov.scenes;
 
-import java.awt.Graphics;
+import me.xmertsalov.rendering.Renderer;
+
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 
@@ -19,11 +20,11 @@ public interface IScene {
 
     /**
      * Renders the scene onto the screen. This method is called to draw the visual
-     * representation of the scene using the provided {@link Graphics} object.
+     * representation of the scene using the provided {@link Renderer}.
      *
-     * @param g the {@link Graphics} object used for rendering
+     * @param renderer the {@link Renderer} used for rendering
      */
-    void draw(Graphics g);
+    void draw(Renderer renderer);
 
     /**
      * Handles a mouse click event. This method is triggered when the user clicks the mouse.
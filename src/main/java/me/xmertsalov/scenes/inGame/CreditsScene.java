@@ -1,11 +1,11 @@
 package me.xmertsalov.scenes.inGame;
 
 import me.xmertsalov.Game;
+import me.xmertsalov.rendering.Renderer;
 import me.xmertsalov.scenes.IScene;
 import me.xmertsalov.scenes.Scene;
 import me.xmertsalov.ui.CreditsManager;
 
-import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 
@@ -42,11 +42,11 @@ public class CreditsScene extends Scene implements IScene {
      * Draws the credits scene on the screen.
      * This method delegates the drawing logic to the {@link CreditsManager}.
      *
-     * @param g the {@link Graphics} object used for rendering.
+     * @param renderer the {@link Renderer} used for rendering.
      */
     @Override
-    public void draw(Graphics g) {
-        creditsManager.draw(g);
+    public void draw(Renderer renderer) {
+        creditsManager.draw(renderer);
     }
 
     /**
@@ -2,9 +2,11 @@ package me.xmertsalov.scenes.inGame;
 
 import me.xmertsalov.Game;
 import me.xmertsalov.exceptions.BundleLoadException;
+import me.xmertsalov.rendering.Renderer;
 import me.xmertsalov.scenes.GameScene;
 import me.xmertsalov.scenes.IScene;
 import me.xmertsalov.scenes.Scene;
+import me.xmertsalov.utils.AssetManager;
 import me.xmertsalov.utils.BundleLoader;
 
 import java.awt.*;
@@ -14,21 +16,15 @@ import java.awt.image.BufferedImage;
 
 /**
  * The {@code LoadingScene} class represents the loading screen of the game.
- * It displays a logo and waits for a specified amount of time before transitioning
- * to the main menu scene.
+ * It displays a logo and the progress of the {@link AssetManager}, and transitions
+ * to the main menu scene as soon as every required asset is loaded.
+ * It is also shown in place of a scene that is still being built in the background.
  */
 public class LoadingScene extends Scene implements IScene {
 
     // Images
     private BufferedImage background;
 
-    // States
-    private final int timeToWait = 3; // Time to wait in seconds before transitioning
-    private int currentTimeToWait = 0; // Tracks the elapsed waiting time
-
-    // Other
-    private int ticksToWait = 0; // Tracks the number of ticks elapsed
-
     // UI Settings
     private int initLogoWidth = 76; // Initial width of the logo
     private int initLogoHeight = 25; // Initial height of the logo
@@ -36,6 +32,9 @@ public class LoadingScene extends Scene implements IScene {
     private int logoWidth = (int)(initLogoWidth * Game.SCALE * 3); // Scaled width of the logo
     private int logoHeight = (int)(initLogoHeight * Game.SCALE * 3); // Scaled height of the logo
 
+    private int progressHeight = (int)(4 * Game.SCALE); // Height of the progress bar
+    private int progressGap = (int)(8 * Game.SCALE); // Gap between the logo and the progress bar
+
     /**
      * Constructs a new {@code LoadingScene}.
      *
@@ -54,30 +53,41 @@ public class LoadingScene extends Scene implements IScene {
 
     /**
      * Updates the state of the loading scene.
-     * Tracks the elapsed time and transitions to the menu scene
-     * once the waiting time has been reached.
+     * Transitions to the menu scene once every required asset is loaded.
+     *
+     * @throws RuntimeException if a required asset failed to load.
      */
     @Override
     public void update() {
-        ticksToWait++;
-        if (ticksToWait >= Game.UPS_LIMIT) {
-            ticksToWait = 0;
-            currentTimeToWait++;
+        AssetManager assetManager = game.getAssetManager();
+        if (assetManager.getFailure() != null) {
+            throw new RuntimeException(assetManager.getFailure());
         }
-        if (game.getMenuScene() != null && currentTimeToWait >= timeToWait) {
+        if (!game.isLoaded() && assetManager.isRequiredLoaded()) {
+            game.finishLoading();
             GameScene.scene = GameScene.MENU;
         }
     }
 
     /**
      * Draws the loading scene on the screen.
-     * Displays the logo centered on the screen.
+     * Displays the logo centered on the screen with the loading progress below it: the progress of the required
+     * assets at startup, and of all assets while a scene waits for the background loading.
      *
-     * @param g The {@code Graphics} object used for rendering.
+     * @param renderer The {@link Renderer} used for rendering.
      */
     @Override
-    public void draw(Graphics g) {
-        g.drawImage(background, (int)(Game.WINDOW_WIDTH / 2 - logoWidth / 2), (int)(Game.WINDOW_HEIGHT / 2 - logoHeight / 2 - 25 * Game.SCALE), logoWidth, logoHeight, null);
+    public void draw(Renderer renderer) {
+        int logoX = Game.WINDOW_WIDTH / 2 - logoWidth / 2;
+        int logoY = (int)(Game.WINDOW_HEIGHT / 2 - logoHeight / 2 - 25 * Game.SCALE);
+        renderer.drawSprite(background, logoX, logoY, logoWidth, logoHeight);
+
+        int progressY = logoY + logoHeight + progressGap;
+        AssetManager assetManager = game.getAssetManager();
+        float progress = game.isLoaded() ? assetManager.getTotalProgress() : assetManager.getProgress();
+        int progressWidth = (int)(logoWidth * progress);
+        renderer.fillRect(logoX, progressY, progressWidth, progressHeight, Color.WHITE);
+        renderer.drawRect(logoX, progressY, logoWidth, progressHeight, Color.WHITE);
     }
 
     /**
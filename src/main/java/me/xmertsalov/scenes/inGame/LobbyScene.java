@@ -1,11 +1,11 @@
 package me.xmertsalov.scenes.inGame;
 
 import me.xmertsalov.Game;
+import me.xmertsalov.rendering.Renderer;
 import me.xmertsalov.scenes.IScene;
 import me.xmertsalov.scenes.Scene;
 import me.xmertsalov.ui.lobby.LobbyManager;
 
-import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 
@@ -51,11 +51,11 @@ public class LobbyScene extends Scene implements IScene {
      * <p>
      * Delegates the drawing logic to the {@link LobbyManager}.
      *
-     * @param g The {@link Graphics} object used for rendering.
+     * @param renderer The {@link Renderer} used for rendering.
      */
     @Override
-    public void draw(Graphics g) {
-        lobbyManager.draw(g);
+    public void draw(Renderer renderer) {
+        lobbyManager.draw(renderer);
     }
 
     /**
@@ -1,12 +1,12 @@
 package me.xmertsalov.scenes.inGame;
 
 import me.xmertsalov.Game;
+import me.xmertsalov.rendering.Renderer;
 import me.xmertsalov.scenes.GameScene;
 import me.xmertsalov.scenes.IScene;
 import me.xmertsalov.scenes.Scene;
 import me.xmertsalov.ui.MenuManager;
 
-import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 
@@ -49,11 +49,11 @@ public class MenuScene extends Scene implements IScene {
     /**
      * Draws the menu scene on the screen.
      *
-     * @param g the {@link Graphics} object used for rendering
+     * @param renderer the {@link Renderer} used for rendering
      */
     @Override
-    public void draw(Graphics g) {
-        menuManager.draw(g);
+    public void draw(Renderer renderer) {
+        menuManager.draw(renderer);
     }
 
     /**
@@ -1,11 +1,11 @@
 package me.xmertsalov.scenes.inGame;
 
 import me.xmertsalov.Game;
+import me.xmertsalov.rendering.Renderer;
 import me.xmertsalov.scenes.GameScene;
 import me.xmertsalov.scenes.IScene;
 import me.xmertsalov.scenes.Scene;
 
-import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 
@@ -36,10 +36,10 @@ public class PanoramaScene extends Scene implements IScene {
      * Draws the scene on the screen.
      * Currently, this method does not perform any drawing.
      *
-     * @param g The Graphics object used for rendering.
+     * @param renderer The {@link Renderer} used for rendering.
      */
     @Override
-    public void draw(Graphics g) {}
+    public void draw(Renderer renderer) {}
 
     /**
      * Handles mouse click events.
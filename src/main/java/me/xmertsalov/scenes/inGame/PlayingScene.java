@@ -2,15 +2,20 @@ package me.xmertsalov.scenes.inGame;
 
 import me.xmertsalov.Game;
 import me.xmertsalov.audio.AudioPlayer;
+import me.xmertsalov.components.Animator.AnimationClock;
+import me.xmertsalov.components.particles.ParticleSystem;
 import me.xmertsalov.components.phisics.PhysicsController;
 import me.xmertsalov.entities.Player;
+import me.xmertsalov.rendering.Renderer;
+import me.xmertsalov.rendering.SnapshotBuffer;
+import me.xmertsalov.rendering.SnapshotRenderer;
+import me.xmertsalov.rendering.WorldSnapshot;
 import me.xmertsalov.score.Score;
 import me.xmertsalov.ui.PlayingUIManager;
 import me.xmertsalov.world.LevelsManager;
 import me.xmertsalov.scenes.IScene;
 import me.xmertsalov.scenes.Scene;
 
-import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.util.ArrayList;
@@ -26,6 +31,7 @@ public class PlayingScene extends Scene implements IScene {
     private ArrayList<Player> players;
     private LevelsManager levelsManager;
     private PhysicsController phisicsControler;
+    private ParticleSystem particles;
 
     private boolean reseted = false;
 
@@ -40,13 +46,21 @@ public class PlayingScene extends Scene implements IScene {
     // UI
     private PlayingUIManager uiManager;
 
+    // Rendering
+    private final SnapshotBuffer snapshotBuffer = new SnapshotBuffer();
+    private long tick = 0;
+
     // Nums
+    private static final int PARTICLE_STRESS_COUNT = 50_000;
     private int numPlayers = 0;
     private double reservedSpeed;
 
     // States
     private boolean canMove = false;
     private boolean continuedSpeed = false;
+    private volatile boolean paused = false;
+    private volatile boolean pauseRequested = false; // set from the Swing event thread, applied on the game thread
+    private volatile boolean resumeRequested = false;
 
     /**
      * Constructs a new PlayingScene instance.
@@ -68,17 +82,44 @@ public class PlayingScene extends Scene implements IScene {
         this.players = new ArrayList<>();
         levelsManager = new LevelsManager(this);
         phisicsControler = new PhysicsController(this);
+
+        // The stress benchmark keeps 50k particles alive and draws all of them
+        particles = Game.DEBUG_PARTICLE_STRESS
+                ? new ParticleSystem(PARTICLE_STRESS_COUNT, PARTICLE_STRESS_COUNT, PARTICLE_STRESS_COUNT)
+                : new ParticleSystem();
     }
 
     /**
      * Updates the state of the scene, including players, levels, physics, and UI.
      * Handles game speed adjustments and player controls based on the current game state.
+     * While the game is paused only the resume countdown is updated.
      */
     @Override
     public void update() {
         startGame();
+
+        if (pauseRequested) {
+            pauseRequested = false;
+            paused = true;
+            uiManager.stopResumeCountDown();
+            Game.logger.info("Game paused");
+        }
+        if (paused) {
+            if (resumeRequested) {
+                resumeRequested = false;
+                uiManager.startResumeCountDown();
+            }
+            uiManager.updateResumeCountDown();
+            return;
+        }
+        resumeRequested = false;
+
         for (Player player : players) {
             player.update();
+
+            if (player.takeGravityFlip()) {
+                particles.emit(ParticleSystem.EFFECT_SPARK, player.getCenterX(), player.getCenterY(), 12, 1);
+            }
         }
         // Count Down started
         if (!canMove) {
@@ -112,29 +153,55 @@ public class PlayingScene extends Scene implements IScene {
             continuedSpeed = false;
         }
 
+        AnimationClock.updateAll();
         levelsManager.update();
         phisicsControler.update();
+
+        if (Game.DEBUG_PARTICLE_STRESS) particles.fillForStress();
+        particles.update();
+
         uiManager.update();
     }
 
     /**
-     * Renders the scene, including players, levels, and UI components.
-     *
-     * @param g The Graphics object used for rendering.
+     * Captures the players and levels of the current tick into a world snapshot and hands it to the renderer.
+     * Called on the game thread after {@link #update()}.
      */
-    @Override
-    public void draw(Graphics g) {
-        levelsManager.render(g, -1); // background layer
+    public void publishSnapshot() {
+        WorldSnapshot snapshot = snapshotBuffer.beginWrite();
+
+        levelsManager.writeSnapshot(snapshot, -1); // background layer
 
         for (Player player : players) {
-            player.render(g);
+            player.writeSnapshot(snapshot);
         }
 
-        levelsManager.render(g, 0); // tile layer (interaction layer)
+        levelsManager.writeSnapshot(snapshot, 0); // tile layer (interaction layer)
+
+        levelsManager.writeSnapshot(snapshot, 1); // foreground layer
+
+        particles.writeSnapshot(snapshot, WorldSnapshot.LAYER_PARTICLES);
+
+        snapshotBuffer.publish(tick++);
+    }
+
+    /**
+     * Renders the scene: the world from the latest snapshot, then the UI components.
+     *
+     * @param renderer The {@link Renderer} used for rendering.
+     */
+    @Override
+    public void draw(Renderer renderer) {
+        WorldSnapshot snapshot = snapshotBuffer.acquire();
+
+        SnapshotRenderer.draw(renderer, snapshot, WorldSnapshot.LAYER_BACKGROUND, WorldSnapshot.LAYER_FOREGROUND);
 
-        levelsManager.render(g, 1); // foreground layer
+        long particlesDrawStart = System.nanoTime();
+        SnapshotRenderer.draw(renderer, snapshot, WorldSnapshot.LAYER_PARTICLES, WorldSnapshot.LAYER_PARTICLES);
+        particles.getStats().recordDraw(System.nanoTime() - particlesDrawStart,
+                snapshot.getLayerEnd(WorldSnapshot.LAYER_PARTICLES) - snapshot.getLayerStart(WorldSnapshot.LAYER_PARTICLES));
 
-        uiManager.draw(g);
+        uiManager.draw(renderer);
     }
 
     /**
@@ -148,6 +215,7 @@ public class PlayingScene extends Scene implements IScene {
         continuedSpeed = false;
 
         players.clear();
+        particles.clear();
 
         for (Player player : game.getPlayers()) {
             if (!player.isInActive()) {
@@ -219,6 +287,8 @@ public class PlayingScene extends Scene implements IScene {
             default: break;
         }
 
+        players.forEach(Player::resetInterpolation);
+
         uiManager.startCountDown();
         game.getAudioPlayer().playNextMusic();
 
@@ -290,6 +360,8 @@ public class PlayingScene extends Scene implements IScene {
      */
     @Override
     public void keyReleased(KeyEvent e) {
+        if (paused) return;
+
         for (Player player : players) {
             if (e.getKeyCode() == player.getChangeGravityKey()) {
                 game.getAudioPlayer().setSfxCurrentVolume(AudioPlayer.SFX_JUMP, 0.6f);
@@ -299,10 +371,36 @@ public class PlayingScene extends Scene implements IScene {
         }
     }
 
+    /**
+     * Pauses the game at the next tick. Called when the game window loses focus.
+     */
+    public void pause() {
+        if (reseted) pauseRequested = true;
+    }
+
+    /**
+     * Resumes a paused game after a countdown. Called when the game window gains focus.
+     */
+    public void resume() {
+        resumeRequested = true;
+    }
+
+    /**
+     * Ends the pause. Called by the resume countdown when it finishes.
+     */
+    public void endPause() {
+        paused = false;
+        Game.logger.info("Game resumed");
+    }
+
     // Getters and setters for various properties of the PlayingScene.
     public ArrayList<Player> getPlayers() { return game.getPlayers(); }
     public LevelsManager getLevelsManager() { return levelsManager; }
-    public void reset() { reseted = false; }
+    public PhysicsController getPhysicsController() { return phisicsControler; }
+    public ParticleSystem getParticleSystem() { return particles; }
+    public void reset() { reseted = false; paused = false; pauseRequested = false; }
+    public boolean isPaused() { return paused; }
+    public boolean isWaitingForResume() { return paused && !uiManager.isResumeCountingDown(); } // nothing moves until input
     public boolean isGhostMode() { return ghostMode; }
     public void setGhostMode(boolean ghostMode) { this.ghostMode = ghostMode; }
     public boolean isIncreasedGameSpeedMode() { return increasedGameSpeedMode; }
@@ -1,12 +1,12 @@
 package me.xmertsalov.scenes.inGame;
 
 import me.xmertsalov.Game;
+import me.xmertsalov.rendering.Renderer;
 import me.xmertsalov.scenes.GameScene;
 import me.xmertsalov.scenes.IScene;
 import me.xmertsalov.scenes.Scene;
 import me.xmertsalov.ui.SettingsManager;
 
-import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 
@@ -44,11 +44,11 @@ public class SettingsScene extends Scene implements IScene {
     /**
      * Draws the settings scene on the screen.
      *
-     * @param g the {@link Graphics} object used for rendering the scene.
+     * @param renderer the {@link Renderer} used for rendering the scene.
      */
     @Override
-    public void draw(Graphics g) {
-        settingsManager.draw(g);
+    public void draw(Renderer renderer) {
+        settingsManager.draw(renderer);
     }
 
     /**
@@ -1,11 +1,11 @@
 package me.xmertsalov.scenes.inGame;
 
 import me.xmertsalov.Game;
+import me.xmertsalov.rendering.Renderer;
 import me.xmertsalov.scenes.IScene;
 import me.xmertsalov.scenes.Scene;
 import me.xmertsalov.ui.TutorialManager;
 
-import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 
@@ -42,11 +42,11 @@ public class TutorialScene extends Scene implements IScene {
      * Draws the tutorial scene on the screen.
      * Delegates the drawing logic to the {@link TutorialManager}.
      *
-     * @param g The {@link Graphics} object used for rendering.
+     * @param renderer The {@link Renderer} used for rendering.
      */
     @Override
-    public void draw(Graphics g) {
-        tutorialManager.draw(g);
+    public void draw(Renderer renderer) {
+        tutorialManager.draw(renderer);
     }
 
     /**
@@ -52,7 +52,7 @@ public class Score {
 
         for (int i = 0; i < players.size(); i++) {
             if (!players.get(i).isDead() && started) {
-                scores.set(i, scores.get(i) + levelsManager.getSpeed() / 10);
+                scores.set(i, scores.get(i) + levelsManager.getSpeed() / 10 * Game.TICK_SCALE);
 
                 // Check if the score is a multiple of 10000 and play the sound
                 if (scores.get(i) == 10000 && !playedSound) {
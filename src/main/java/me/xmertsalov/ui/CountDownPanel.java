@@ -3,15 +3,16 @@ package me.xmertsalov.ui;
 import me.xmertsalov.Game;
 import me.xmertsalov.audio.AudioPlayer;
 import me.xmertsalov.exceptions.BundleLoadException;
+import me.xmertsalov.rendering.Renderer;
 import me.xmertsalov.scenes.inGame.PlayingScene;
 import me.xmertsalov.utils.BundleLoader;
 
-import java.awt.*;
 import java.awt.image.BufferedImage;
 
 /**
  * The CountDownPanel class manages the countdown UI before the game starts.
  * It displays countdown numbers and plays corresponding sound effects.
+ * In resume mode the same countdown ends a pause instead of starting the game.
  */
 public class CountDownPanel {
 
@@ -22,7 +23,7 @@ public class CountDownPanel {
     BufferedImage[] countDownImages;
 
     // Constants
-    private final int ticksPerSecond = (int)(Game.UPS_LIMIT * 1.2);
+    private final double secondsPerCount = 1.2;
     private final double k = 3.5;
 
     // States
@@ -30,9 +31,10 @@ public class CountDownPanel {
     private boolean show;
     private boolean setMove = false;
     private boolean sounded = false;
+    private final boolean resume;
 
     // Other
-    private int ticks;
+    private double seconds;
 
     // UI Settings
     int width = (int)(22 * k * Game.SCALE);
@@ -44,10 +46,21 @@ public class CountDownPanel {
      * @param playingScene The PlayingScene instance to which this panel belongs.
      */
     public CountDownPanel(PlayingScene playingScene) {
+        this(playingScene, false);
+    }
+
+    /**
+     * Constructs a CountDownPanel instance.
+     *
+     * @param playingScene The PlayingScene instance to which this panel belongs.
+     * @param resume       True if the countdown ends a pause instead of starting the game.
+     */
+    public CountDownPanel(PlayingScene playingScene, boolean resume) {
         this.playingScene = playingScene;
+        this.resume = resume;
 
         currentTime = 0;
-        ticks = 0;
+        seconds = 0;
 
         loadImages();
     }
@@ -62,22 +75,28 @@ public class CountDownPanel {
                 playingScene.getGame().getAudioPlayer().playSfx(AudioPlayer.SFX_COUNTDOWN_F);
                 sounded = true;
             }
-            ticks++;
-            if (ticks >= ticksPerSecond) {
-                ticks = 0;
+            seconds += Game.TICK_SECONDS;
+            if (seconds >= secondsPerCount) {
+                seconds = 0;
 
                 if (currentTime == 3) playingScene.getGame().getAudioPlayer().playSfx(AudioPlayer.SFX_COUNTDOWN_S);
                 else if(currentTime != 4) playingScene.getGame().getAudioPlayer().playSfx(AudioPlayer.SFX_COUNTDOWN_F);
 
-                Game.logger.info("Game starts in {} seconds", 4 - currentTime);
+                if (resume) Game.logger.info("Game resumes in {} seconds", 4 - currentTime);
+                else Game.logger.info("Game starts in {} seconds", 4 - currentTime);
                 currentTime++;
             }
         }
         else currentTime = 0;
 
-        if (!setMove && currentTime >= 3 && ticks >= ticksPerSecond * 0.9) {
-            playingScene.setCanMove(true);
-            playingScene.setContinuedSpeed(true);
+        if (!setMove && currentTime >= 3 && seconds >= secondsPerCount * 0.9) {
+            if (resume) {
+                playingScene.endPause();
+            }
+            else {
+                playingScene.setCanMove(true);
+                playingScene.setContinuedSpeed(true);
+            }
             setMove = true;
         }
 
@@ -91,14 +110,14 @@ public class CountDownPanel {
     /**
      * Renders the countdown panel components on the screen.
      *
-     * @param g The Graphics object used for drawing.
+     * @param renderer The {@link Renderer} used for drawing.
      */
-    public void draw(Graphics g) {
+    public void draw(Renderer renderer) {
         if (show && currentTime != 0) {
-            g.drawImage(countDownImages[currentTime - 1],
+            renderer.drawSprite(countDownImages[currentTime - 1],
                     (int)(Game.WINDOW_WIDTH / 2 - width / 2),
                     (int)(Game.WINDOW_HEIGHT / 2 - height / 2),
-                    width, height, null);
+                    width, height);
         }
     }
 
@@ -133,4 +152,22 @@ public class CountDownPanel {
      * @param show True to display the panel, false to hide it.
      */
     public void setShow(boolean show) {this.show = show;}
+
+    /**
+     * Returns whether the panel is displayed.
+     *
+     * @return True if the countdown is shown, false otherwise.
+     */
+    public boolean isShow() {return show;}
+
+    /**
+     * Starts the countdown from the beginning, including its first sound.
+     */
+    public void restart() {
+        currentTime = 0;
+        seconds = 0;
+        setMove = false;
+        sounded = false;
+        show = true;
+    }
 }
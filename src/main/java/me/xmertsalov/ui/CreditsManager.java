@@ -2,12 +2,12 @@ package me.xmertsalov.ui;
 
 import me.xmertsalov.Game;
 import me.xmertsalov.exceptions.BundleLoadException;
+import me.xmertsalov.rendering.Renderer;
 import me.xmertsalov.scenes.GameScene;
 import me.xmertsalov.ui.buttons.IButton;
 import me.xmertsalov.ui.buttons.SmallButtonFactory;
 import me.xmertsalov.utils.BundleLoader;
 
-import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
@@ -54,18 +54,18 @@ public class CreditsManager implements UIManager {
     /**
      * Renders the credits UI components on the screen.
      *
-     * @param g The Graphics object used for drawing.
+     * @param renderer The {@link Renderer} used for drawing.
      */
     @Override
-    public void draw(Graphics g) {
-        g.drawImage(background,
+    public void draw(Renderer renderer) {
+        renderer.drawSprite(background,
                 (int)(Game.WINDOW_WIDTH / 2 - (1.8 * Game.SCALE * background.getWidth()) / 2),
                 (int)(Game.WINDOW_HEIGHT / 2 - Game.SCALE * 125),
                 (int)(1.8 * Game.SCALE * background.getWidth()),
-                (int)(1.8 * Game.SCALE * background.getHeight()), null);
+                (int)(1.8 * Game.SCALE * background.getHeight()));
 
         for (IButton button : buttons) {
-            button.draw(g);
+            button.draw(renderer);
         }
     }
 
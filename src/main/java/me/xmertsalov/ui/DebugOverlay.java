@@ -0,0 +1,102 @@
+package me.xmertsalov.ui;
+
+import me.xmertsalov.Game;
+import me.xmertsalov.components.particles.ParticleStats;
+import me.xmertsalov.components.phisics.PhysicsStats;
+import me.xmertsalov.loop.LoopStats;
+import me.xmertsalov.rendering.Culling;
+import me.xmertsalov.rendering.FrameRecorder;
+import me.xmertsalov.rendering.Java2DRenderer;
+import me.xmertsalov.rendering.Renderer;
+import me.xmertsalov.rendering.SpriteCache;
+import me.xmertsalov.scenes.GameScene;
+import me.xmertsalov.utils.AssetManager;
+import me.xmertsalov.utils.SpriteRegistry;
+
+import java.awt.*;
+
+/**
+ * The {@code DebugOverlay} class draws the performance statistics of the game loop
+ * in the top right corner of the screen. It is shown when the game is started with {@code --show-fps}.
+ * The memory line sums up the decoded sprites; {@code F8} logs them one by one.
+ */
+public class DebugOverlay {
+	private static final int LINE_HEIGHT = 10;
+	private static final int WIDTH = 120;
+	private static final float MB = 1024 * 1024;
+
+	private Font font;
+	private float fontScale;
+
+	/**
+	 * Draws the overlay.
+	 *
+	 * @param renderer the {@link Renderer} used for rendering
+	 * @param game     the game to show the statistics of
+	 */
+	public void draw(Renderer renderer, Game game) {
+		LoopStats stats = game.getLoopStats();
+
+		if (font == null || fontScale != Game.SCALE) {
+			font = new Font("Arial", Font.BOLD, (int) (8 * Game.SCALE));
+			fontScale = Game.SCALE;
+		}
+
+		int x = (int) (Game.WINDOW_WIDTH - WIDTH * Game.SCALE);
+		int y = (int) (12 * Game.SCALE);
+		int step = (int) (LINE_HEIGHT * Game.SCALE);
+
+		if (stats == null) {
+			renderer.drawText("FPS: 0", x, y, font, Color.GREEN);
+			return;
+		}
+
+		renderer.drawText("FPS: " + stats.getFramesPerSecond() + "  UPS: " + stats.getUpdatesPerSecond(), x, y, font, Color.GREEN);
+		y += step;
+		renderer.drawText(String.format("UPD: %.2f ms", stats.getAverageUpdateMillis()), x, y, font, Color.GREEN);
+		y += step;
+		renderer.drawText(String.format("DRW: %.2f ms", stats.getAverageDrawMillis()), x, y, font, Color.GREEN);
+		y += step;
+		renderer.drawText(String.format("PRS: %.2f ms", stats.getAveragePresentMillis()), x, y, font, Color.GREEN);
+		y += step;
+		if (game.isLoaded()) {
+			renderer.drawText(String.format("BGD: %.3f ms", game.getBackgroundManager().getAverageDrawMillis()), x, y, font, Color.GREEN);
+		}
+		else {
+			AssetManager assets = game.getAssetManager();
+			renderer.drawText("LDG: " + assets.getRequiredDone() + "/" + assets.getRequiredCount() + " required, "
+					+ assets.getTotalDone() + "/" + assets.getTotalCount() + " total", x, y, font, Color.GREEN);
+		}
+		y += step;
+		renderer.drawText(String.format("QLT: %s (p95 %.2f ms)", Game.QUALITY_TIER, game.getQualityGovernor().getLastP95Millis()), x, y, font, Color.GREEN);
+		y += step;
+		renderer.drawText("PWR: " + game.getPowerSaver().getState(), x, y, font, Color.GREEN);
+		y += step;
+		renderer.drawText("CUL: " + Culling.getLastDrawn() + " drawn, " + Culling.getLastCulled() + " culled", x, y, font, Color.GREEN);
+		y += step;
+		Java2DRenderer commands = game.getRenderer();
+		renderer.drawText("CMD: " + commands.getLastCommandCount() + " (" + commands.getLastSpriteCount() + " sprites, "
+				+ commands.getLastTextCount() + " texts)", x, y, font, Color.GREEN);
+		y += step;
+		renderer.drawText(String.format("MEM: %.1f/%.0f MB, scaled %.1f MB, %d evicted", SpriteRegistry.getResidentBytes() / MB,
+				SpriteRegistry.getBudget() / MB, SpriteCache.getBytes() / MB, SpriteRegistry.getEvictions()), x, y, font, Color.GREEN);
+
+		FrameRecorder recorder = game.getFrameRecorder();
+		if (recorder.isRecording()) {
+			y += step;
+			renderer.drawText(String.format("REC: %d saved, %d dropped, %.2f ms", recorder.getEncodedFrames(), recorder.getDroppedFrames(),
+					recorder.getAverageOverheadMillis()), x, y, font, Color.GREEN);
+		}
+
+		if (GameScene.scene == GameScene.PLAYING && game.isSceneReady(GameScene.PLAYING)) {
+			PhysicsStats physics = game.getPlayingScene().getPhysicsController().getStats();
+			y += step;
+			renderer.drawText(String.format("PHY: %d tests, %.2f ms /s", physics.getTestsPerGameSecond(), physics.getMillisPerGameSecond()), x, y, font, Color.GREEN);
+
+			ParticleStats particles = game.getPlayingScene().getParticleSystem().getStats();
+			y += step;
+			renderer.drawText(String.format("PTC: %d, upd %.2f ms, drw %.2f ms", particles.getPeakCount(),
+					particles.getAverageUpdateMillis(), particles.getAverageDrawMillis()), x, y, font, Color.GREEN);
+		}
+	}
+}
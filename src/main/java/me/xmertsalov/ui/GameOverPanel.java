@@ -3,6 +3,7 @@ package me.xmertsalov.ui;
 import me.xmertsalov.Game;
 import me.xmertsalov.entities.Player;
 import me.xmertsalov.exceptions.BundleLoadException;
+import me.xmertsalov.rendering.Renderer;
 import me.xmertsalov.scenes.GameScene;
 import me.xmertsalov.scenes.inGame.PlayingScene;
 import me.xmertsalov.ui.buttons.BigButtonFactory;
@@ -69,38 +70,38 @@ public class GameOverPanel {
     /**
      * Renders the game-over panel components on the screen.
      *
-     * @param g The Graphics object used for drawing.
+     * @param renderer The {@link Renderer} used for drawing.
      */
-    public void draw(Graphics g) {
+    public void draw(Renderer renderer) {
         if (!isShown) return;
 
-        g.drawImage(background,
+        renderer.drawSprite(background,
                 (int)((float) Game.WINDOW_WIDTH / 2 - (128 * 2 * Game.SCALE) / 2),
                 yBackground,
                 (int)(128 * 2 * Game.SCALE),
-                (int)(96 * 2 * Game.SCALE), null);
+                (int)(96 * 2 * Game.SCALE));
 
-        g.drawImage(gameOverText,
+        renderer.drawSprite(gameOverText,
                 (int)((float) Game.WINDOW_WIDTH / 2 - (43 * 2 * Game.SCALE) / 2),
                 yText,
                 (int)(43 * 2 * Game.SCALE),
-                (int)(25 * 2 * Game.SCALE), null);
+                (int)(25 * 2 * Game.SCALE));
 
         for (int i = 0; i < playingScene.getNumPlayers(); i++) {
-            g.drawImage(playerIndexesTexts[i],
+            renderer.drawSprite(playerIndexesTexts[i],
                     xMargin,
                     yMargin + (i * (6 + yGap)),
                     (int)(52 * Game.SCALE) ,
-                    (int)(6 * Game.SCALE), null);
-            g.setColor(new Color(51, 50, 61));
-            g.setFont(new Font("Arial", Font.BOLD, (int)(8 * Game.SCALE)));
-            g.drawString(String.valueOf(Math.round(playingScene.getScore().getScore(i))),
+                    (int)(6 * Game.SCALE));
+            renderer.drawText(String.valueOf(Math.round(playingScene.getScore().getScore(i))),
                     xMargin + (int)(52 * Game.SCALE) + xGap,
-                    yMargin + (i * (6 + yGap)) + (int)(5.5 * Game.SCALE));
+                    yMargin + (i * (6 + yGap)) + (int)(5.5 * Game.SCALE),
+                    new Font("Arial", Font.BOLD, (int)(8 * Game.SCALE)),
+                    new Color(51, 50, 61));
         }
 
         for(IButton button : buttons) {
-            button.draw(g);
+            button.draw(renderer);
         }
     }
 
@@ -2,12 +2,12 @@ package me.xmertsalov.ui;
 
 import me.xmertsalov.Game;
 import me.xmertsalov.exceptions.BundleLoadException;
+import me.xmertsalov.rendering.Renderer;
 import me.xmertsalov.scenes.GameScene;
 import me.xmertsalov.ui.buttons.BigButtonFactory;
 import me.xmertsalov.ui.buttons.IButton;
 import me.xmertsalov.utils.BundleLoader;
 
-import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
@@ -70,14 +70,14 @@ public class MenuManager implements UIManager {
     /**
      * Renders the menu UI components on the screen.
      *
-     * @param g The Graphics object used for drawing.
+     * @param renderer The {@link Renderer} used for drawing.
      */
-    public void draw(Graphics g) {
-        g.drawImage(background, (int)((double) Game.WINDOW_WIDTH / 2 - backgroundWidth / 2), backgroundY, (int)backgroundWidth, (int)backgroundHeight, null);
-        g.drawImage(logo, (int)((double) Game.WINDOW_WIDTH / 2 - logoWidth / 2), logoY , (int)logoWidth, (int)logoHeight, null);
+    public void draw(Renderer renderer) {
+        renderer.drawSprite(background, (int)((double) Game.WINDOW_WIDTH / 2 - backgroundWidth / 2), backgroundY, (int)backgroundWidth, (int)backgroundHeight);
+        renderer.drawSprite(logo, (int)((double) Game.WINDOW_WIDTH / 2 - logoWidth / 2), logoY , (int)logoWidth, (int)logoHeight);
 
         for (IButton button : buttons) {
-            button.draw(g);
+            button.draw(renderer);
         }
     }
 
@@ -2,6 +2,7 @@ package me.xmertsalov.ui;
 
 import me.xmertsalov.Game;
 import me.xmertsalov.exceptions.BundleLoadException;
+import me.xmertsalov.rendering.Renderer;
 import me.xmertsalov.scenes.inGame.PlayingScene;
 import me.xmertsalov.utils.BundleLoader;
 
@@ -31,6 +32,7 @@ public class PlayingUIManager implements UIManager {
     // Panels
     GameOverPanel gameOverPanel;
     CountDownPanel countDownPanel;
+    CountDownPanel resumeCountDownPanel;
 
     // States
     private boolean alldead;
@@ -45,6 +47,7 @@ public class PlayingUIManager implements UIManager {
 
         gameOverPanel = new GameOverPanel(playingScene);
         countDownPanel = new CountDownPanel(playingScene);
+        resumeCountDownPanel = new CountDownPanel(playingScene, true);
 
         loadImages();
         countPlayers = playingScene.getNumPlayers();
@@ -67,27 +70,28 @@ public class PlayingUIManager implements UIManager {
 
         gameOverPanel.update();
         countDownPanel.update();
+        resumeCountDownPanel.update();
     }
 
     /**
      * Renders the gameplay UI components on the screen.
      *
-     * @param g The Graphics object used for drawing.
+     * @param renderer The {@link Renderer} used for drawing.
      */
     @Override
-    public void draw(Graphics g) {
+    public void draw(Renderer renderer) {
         for (int i = 0; i < countPlayers; i++) {
             if (!alldead) {
-                g.drawImage(textPlayers[i], xMargin, yMargin + (i * (6 + yGap)), (int)(52 * Game.SCALE) , (int)(6 * Game.SCALE), null);
+                renderer.drawSprite(textPlayers[i], xMargin, yMargin + (i * (6 + yGap)), (int)(52 * Game.SCALE) , (int)(6 * Game.SCALE));
 
-                g.setColor(new Color(51, 50, 61));
-                g.setFont(new Font("Arial", Font.BOLD, (int)(8 * Game.SCALE)));
-                g.drawString(String.valueOf(Math.round(playingScene.getScore().getScore(i))), xMargin + (int)(52 * Game.SCALE) + xGap, yMargin + (i * (6 + yGap)) + (int)(5.5 * Game.SCALE));
+                renderer.drawText(String.valueOf(Math.round(playingScene.getScore().getScore(i))), xMargin + (int)(52 * Game.SCALE) + xGap, yMargin + (i * (6 + yGap)) + (int)(5.5 * Game.SCALE),
+                        new Font("Arial", Font.BOLD, (int)(8 * Game.SCALE)), new Color(51, 50, 61));
             }
         }
 
-        countDownPanel.draw(g);
-        gameOverPanel.draw(g);
+        countDownPanel.draw(renderer);
+        resumeCountDownPanel.draw(renderer);
+        gameOverPanel.draw(renderer);
     }
 
     /**
@@ -175,4 +179,34 @@ public class PlayingUIManager implements UIManager {
     public void startCountDown() {
         countDownPanel.setShow(true);
     }
+
+    /**
+     * Starts the countdown that ends a pause.
+     */
+    public void startResumeCountDown() {
+        resumeCountDownPanel.restart();
+    }
+
+    /**
+     * Hides the countdown that ends a pause.
+     */
+    public void stopResumeCountDown() {
+        resumeCountDownPanel.setShow(false);
+    }
+
+    /**
+     * Returns whether the countdown that ends a pause is running.
+     *
+     * @return {@code true} if the resume countdown is shown.
+     */
+    public boolean isResumeCountingDown() {
+        return resumeCountDownPanel.isShow();
+    }
+
+    /**
+     * Updates only the countdown that ends a pause. Called instead of {@link #update()} while the game is paused.
+     */
+    public void updateResumeCountDown() {
+        resumeCountDownPanel.update();
+    }
 }
@@ -2,6 +2,7 @@ package me.xmertsalov.ui;
 
 import me.xmertsalov.Game;
 import me.xmertsalov.exceptions.BundleLoadException;
+import me.xmertsalov.rendering.Renderer;
 import me.xmertsalov.scenes.GameScene;
 import me.xmertsalov.scenes.inGame.SettingsScene;
 import me.xmertsalov.ui.buttons.*;
@@ -87,18 +88,17 @@ public class SettingsManager implements UIManager {
     /**
      * Draws the settings UI on the screen.
      *
-     * @param g the {@code Graphics} object used for rendering
+     * @param renderer the {@link Renderer} used for rendering
      */
     @Override
-    public void draw(Graphics g) {
-        g.drawImage(background, backX, backY, (int)(96 * 2 * Game.SCALE), (int)(160 * 2 * Game.SCALE), null);
+    public void draw(Renderer renderer) {
+        renderer.drawSprite(background, backX, backY, (int)(96 * 2 * Game.SCALE), (int)(160 * 2 * Game.SCALE));
 
-        g.setColor(new Color(51, 50, 61));
-        g.setFont(new Font("Arial", Font.BOLD, (int)(10 * Game.SCALE)));
-        g.drawString(resolutions.get(currentResolutionIndex), (int)(backX + 54 * Game.SCALE), (int)(backY + 73 * Game.SCALE) + 10);
+        renderer.drawText(resolutions.get(currentResolutionIndex), (int)(backX + 54 * Game.SCALE), (int)(backY + 73 * Game.SCALE) + 10,
+                new Font("Arial", Font.BOLD, (int)(10 * Game.SCALE)), new Color(51, 50, 61));
 
         for (IButton button : buttons) {
-            button.draw(g);
+            button.draw(renderer);
         }
     }
 
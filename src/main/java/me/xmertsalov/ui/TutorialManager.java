@@ -2,16 +2,20 @@ package me.xmertsalov.ui;
 
 import me.xmertsalov.Game;
 import me.xmertsalov.exceptions.BundleLoadException;
+import me.xmertsalov.rendering.Renderer;
 import me.xmertsalov.scenes.GameScene;
 import me.xmertsalov.ui.buttons.BigButtonFactory;
 import me.xmertsalov.ui.buttons.IButton;
 import me.xmertsalov.utils.BundleLoader;
+import me.xmertsalov.utils.SpriteHandle;
+import me.xmertsalov.utils.SpriteRegistry;
 
-import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 /**
  * The TutorialManager class manages the tutorial UI for the game.
@@ -29,7 +33,8 @@ public class TutorialManager implements UIManager {
     // Images
     private BufferedImage background;
     private BufferedImage[] texts;
-    private BufferedImage[] images;
+    private SpriteHandle<BufferedImage[][]> images; // loaded in the background when shown, evicted once the tutorial is left
+    private Future<?> imagesRequest;
 
     // Constants
     private final int countCases = 14;
@@ -99,15 +104,19 @@ public class TutorialManager implements UIManager {
     /**
      * Renders the tutorial UI components on the screen.
      *
-     * @param g The Graphics object used for drawing.
+     * @param renderer The {@link Renderer} used for drawing.
      */
     @Override
-    public void draw(Graphics g) {
-        g.drawImage(background, backgroundX, backgorundY, (int)backgroundWidth, (int)backgroundHeight, null);
-        g.drawImage(texts[currentState], textX, textY, (int)textWidth, (int)textHeight, null);
-        g.drawImage(images[currentState], (int)(backgroundX + imageXOffset), (int)(backgorundY + 20 * Game.SCALE), (int)imageWidth, (int)imageHeight, null);
+    public void draw(Renderer renderer) {
+        renderer.drawSprite(background, backgroundX, backgorundY, (int)backgroundWidth, (int)backgroundHeight);
+        renderer.drawSprite(texts[currentState], textX, textY, (int)textWidth, (int)textHeight);
+        BufferedImage[][] frames = images.peek();
+        if (frames == null) requestImages();
+        else {
+            renderer.drawSprite(frames[currentState][0], (int)(backgroundX + imageXOffset), (int)(backgorundY + 20 * Game.SCALE), (int)imageWidth, (int)imageHeight);
+        }
         for (IButton button : buttons) {
-            button.draw(g);
+            button.draw(renderer);
         }
     }
 
@@ -256,30 +265,43 @@ public class TutorialManager implements UIManager {
      */
     private void loadImages(){
         texts = new BufferedImage[countCases];
-        images = new BufferedImage[countCases];
 
-        BufferedImage bigTextsImg, bigImagesImg;
+        BufferedImage bigTextsImg;
 
         try {
             background = BundleLoader.getSpriteAtlas(BundleLoader.TUTORIAL_BACKGROUND);
 
             bigTextsImg = BundleLoader.getSpriteAtlas(BundleLoader.TUTORIAL_TEXTS);
-            bigImagesImg = BundleLoader.getSpriteAtlas(BundleLoader.TUTORIAL_IMAGES);
 
         } catch (BundleLoadException e) {
             Game.logger.error(e.getMessage());
             throw new RuntimeException(e);
         }
 
-        int imgWidth = 1710;
-        int imgHeight = 1112;
+        // The images are the largest atlas of the game, they are decoded in the background and shown once ready
+        images = SpriteRegistry.getGridHandle(BundleLoader.TUTORIAL_IMAGES, imageInitWidth, imageInitHeight, countCases, 1);
 
         int textWidth = 192;
         int textHeight = 96;
 
         for (int i = 0; i < countCases; i++) {
             texts[i] = bigTextsImg.getSubimage(0, i * textHeight, textWidth, textHeight);
-            images[i] = bigImagesImg.getSubimage(0, i * imgHeight, imgWidth, imgHeight);
         }
     }
+
+    /**
+     * Loads the tutorial images in the background, when they are first shown or after they were evicted.
+     * A load that failed is not retried.
+     */
+    private void requestImages() {
+        if (imagesRequest != null) {
+            if (!imagesRequest.isDone()) return;
+            try {
+                imagesRequest.get();
+            } catch (InterruptedException | ExecutionException e) {
+                return;
+            }
+        }
+        imagesRequest = game.getAssetManager().loadSprite(images, false);
+    }
 }
@@ -1,6 +1,7 @@
 package me.xmertsalov.ui;
 
-import java.awt.*;
+import me.xmertsalov.rendering.Renderer;
+
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 
@@ -20,9 +21,9 @@ public interface UIManager {
     /**
      * Renders the UI components on the screen.
      *
-     * @param g The Graphics object used for drawing.
+     * @param renderer The {@link Renderer} used for drawing.
      */
-    void draw(Graphics g);
+    void draw(Renderer renderer);
 
     /**
      * Handles mouse click events.
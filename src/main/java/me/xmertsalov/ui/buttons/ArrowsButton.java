@@ -3,9 +3,10 @@ package me.xmertsalov.ui.buttons;
 import me.xmertsalov.Game;
 import me.xmertsalov.audio.AudioPlayer;
 import me.xmertsalov.exceptions.BundleLoadException;
+import me.xmertsalov.rendering.Renderer;
 import me.xmertsalov.utils.BundleLoader;
+import me.xmertsalov.utils.SpriteRegistry;
 
-import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.awt.geom.Rectangle2D;
@@ -53,11 +54,11 @@ public class ArrowsButton implements IButton {
     /**
      * Draws the button on the screen using the current state and variant.
      *
-     * @param g The Graphics object used for rendering.
+     * @param renderer The {@link Renderer} used for rendering.
      */
     @Override
-    public void draw(Graphics g) {
-        g.drawImage(images[variant][state], (int) rectangle.x, (int) rectangle.y, (int) rectangle.width, (int) rectangle.height, null);
+    public void draw(Renderer renderer) {
+        renderer.drawSprite(images[variant][state], (int) rectangle.x, (int) rectangle.y, (int) rectangle.width, (int) rectangle.height);
     }
 
     /**
@@ -206,26 +207,12 @@ public class ArrowsButton implements IButton {
      */
     @Override
     public void loadImage() {
-        BufferedImage image = null;
         try {
-            image = BundleLoader.getSpriteAtlas(BundleLoader.ARROWS_BUTTONS);
+            images = SpriteRegistry.getGrid(BundleLoader.ARROWS_BUTTONS, 12, 12, 2, 3);
         } catch (BundleLoadException e) {
             System.err.println(e.getMessage());
             throw new RuntimeException(e);
         }
-
-        int rows = 2;
-        int cols = 3;
-        int width = 12;
-        int height = 12;
-
-        images = new BufferedImage[rows][cols];
-
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                images[i][j] = image.getSubimage(j * width, i * height, width, height);
-            }
-        }
     }
 
     /**
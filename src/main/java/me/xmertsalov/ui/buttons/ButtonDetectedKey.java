@@ -3,7 +3,9 @@ package me.xmertsalov.ui.buttons;
 import me.xmertsalov.Game;
 import me.xmertsalov.audio.AudioPlayer;
 import me.xmertsalov.exceptions.BundleLoadException;
+import me.xmertsalov.rendering.Renderer;
 import me.xmertsalov.utils.BundleLoader;
+import me.xmertsalov.utils.SpriteRegistry;
 
 import java.awt.*;
 import java.awt.event.KeyEvent;
@@ -56,13 +58,12 @@ public class ButtonDetectedKey implements IButton {
     /**
      * Draws the button on the screen, including the detected key text.
      *
-     * @param g The Graphics object used for drawing.
+     * @param renderer The {@link Renderer} used for drawing.
      */
     @Override
-    public void draw(Graphics g) {
-        g.drawImage(images[variant][state], (int) rectangle.x, (int) rectangle.y, (int) rectangle.width, (int) rectangle.height, null);
-        g.setColor(Color.BLACK);
-        g.drawString(KeyEvent.getKeyText(keyCode), (int) (rectangle.x + rectangle.getWidth() / 2 - 5), (int) (rectangle.y + rectangle.getHeight() / 2));
+    public void draw(Renderer renderer) {
+        renderer.drawSprite(images[variant][state], (int) rectangle.x, (int) rectangle.y, (int) rectangle.width, (int) rectangle.height);
+        renderer.drawText(KeyEvent.getKeyText(keyCode), (int) (rectangle.x + rectangle.getWidth() / 2 - 5), (int) (rectangle.y + rectangle.getHeight() / 2), null, Color.BLACK);
     }
 
     /**
@@ -172,26 +173,12 @@ public class ButtonDetectedKey implements IButton {
      */
     @Override
     public void loadImage() {
-        BufferedImage image = null;
         try {
-            image = BundleLoader.getSpriteAtlas(BundleLoader.EMPTY_BUTTON);
+            images = SpriteRegistry.getGrid(BundleLoader.EMPTY_BUTTON, 56, 14, 1, 3);
         } catch (BundleLoadException e) {
             Game.logger.error(e.getMessage());
             throw new RuntimeException(e);
         }
-
-        int rows = 1;
-        int cols = 3;
-        int width = 56;
-        int height = 14;
-
-        images = new BufferedImage[rows][cols];
-
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                images[i][j] = image.getSubimage(j * width, i * height, width, height);
-            }
-        }
     }
 
     /**
@@ -1,6 +1,7 @@
 package me.xmertsalov.ui.buttons;
 
-import java.awt.*;
+import me.xmertsalov.rendering.Renderer;
+
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.awt.geom.Rectangle2D;
@@ -15,9 +16,9 @@ public interface IButton {
     /**
      * Draws the button on the screen.
      *
-     * @param g the {@link Graphics} object used for rendering the button.
+     * @param renderer the {@link Renderer} used for rendering the button.
      */
-    void draw(Graphics g);
+    void draw(Renderer renderer);
 
     /**
      * Updates the button's state. This method is typically called in the game loop.
@@ -3,9 +3,10 @@ package me.xmertsalov.ui.buttons;
 import me.xmertsalov.Game;
 import me.xmertsalov.audio.AudioPlayer;
 import me.xmertsalov.exceptions.BundleLoadException;
+import me.xmertsalov.rendering.Renderer;
 import me.xmertsalov.utils.BundleLoader;
+import me.xmertsalov.utils.SpriteRegistry;
 
-import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.awt.geom.Rectangle2D;
@@ -62,12 +63,12 @@ public class SliderButton implements IButton {
     /**
      * Draws the slider and its track on the screen.
      *
-     * @param g The Graphics object used for drawing.
+     * @param renderer The {@link Renderer} used for drawing.
      */
     @Override
-    public void draw(Graphics g) {
-        g.drawImage(slider, (int)rectangle.x, (int)rectangle.y, (int)(rectangle.width), (int)(rectangle.height * Game.SCALE), null);
-        g.drawImage(track[state], (int) trackRectangle.x, (int) (trackRectangle.y), (int) (trackRectangle.width), (int) (trackRectangle.height), null);
+    public void draw(Renderer renderer) {
+        renderer.drawSprite(slider, (int)rectangle.x, (int)rectangle.y, (int)(rectangle.width), (int)(rectangle.height * Game.SCALE));
+        renderer.drawSprite(track[state], (int) trackRectangle.x, (int) (trackRectangle.y), (int) (trackRectangle.width), (int) (trackRectangle.height));
     }
 
     /**
@@ -177,14 +178,6 @@ public class SliderButton implements IButton {
      */
     @Override
     public void loadImage() {
-        BufferedImage image = null;
-        try {
-            image = BundleLoader.getSpriteAtlas(BundleLoader.SLIDER_BUTTON);
-        } catch (BundleLoadException e) {
-            Game.logger.error(e.getMessage());
-            throw new RuntimeException(e);
-        }
-
         // for track
         int cols = 3;
         int tWidth = 7;
@@ -194,12 +187,13 @@ public class SliderButton implements IButton {
 
         int height = 11;
 
-        track = new BufferedImage[cols];
-
-        for (int i = 0; i < cols; i++) {
-            track[i] = image.getSubimage(i * tWidth, 0, tWidth, height);
+        try {
+            track = SpriteRegistry.getGrid(BundleLoader.SLIDER_BUTTON, tWidth, height, 1, cols)[0];
+            slider = BundleLoader.getSpriteAtlas(BundleLoader.SLIDER_BUTTON).getSubimage(cols * tWidth, 0, sWdith, height);
+        } catch (BundleLoadException e) {
+            Game.logger.error(e.getMessage());
+            throw new RuntimeException(e);
         }
-        slider = image.getSubimage(3 * tWidth, 0, sWdith, height);
     }
 
     private int getTrackXFromData() {
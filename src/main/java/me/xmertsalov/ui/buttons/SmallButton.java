@@ -3,9 +3,10 @@ package me.xmertsalov.ui.buttons;
 import me.xmertsalov.Game;
 import me.xmertsalov.audio.AudioPlayer;
 import me.xmertsalov.exceptions.BundleLoadException;
+import me.xmertsalov.rendering.Renderer;
 import me.xmertsalov.utils.BundleLoader;
+import me.xmertsalov.utils.SpriteRegistry;
 
-import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.awt.geom.Rectangle2D;
@@ -51,11 +52,11 @@ public class SmallButton implements IButton {
     /**
      * Draws the button on the screen.
      *
-     * @param g The Graphics object used for drawing.
+     * @param renderer The {@link Renderer} used for drawing.
      */
     @Override
-    public void draw(Graphics g) {
-        g.drawImage(images[variant][state], (int) rectangle.x, (int) rectangle.y, (int) rectangle.width, (int) rectangle.height, null);
+    public void draw(Renderer renderer) {
+        renderer.drawSprite(images[variant][state], (int) rectangle.x, (int) rectangle.y, (int) rectangle.width, (int) rectangle.height);
     }
 
     /**
@@ -147,25 +148,12 @@ public class SmallButton implements IButton {
      */
     @Override
     public void loadImage() {
-        BufferedImage image = null;
         try {
-            image = BundleLoader.getSpriteAtlas(BundleLoader.SMALL_BUTTONS);
+            images = SpriteRegistry.getGrid(BundleLoader.SMALL_BUTTONS, 14, 14, 5, 3);
         } catch (BundleLoadException e) {
             Game.logger.error(e.getMessage());
             throw new RuntimeException(e);
         }
-
-        int rows = 5;
-        int cols = 3;
-        int width = 14;
-        int height = 14;
-
-        images = new BufferedImage[rows][cols];
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                images[i][j] = image.getSubimage(j * width, i * height, width, height);
-            }
-        }
     }
 
     /**
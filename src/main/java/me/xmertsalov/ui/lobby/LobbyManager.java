@@ -4,6 +4,7 @@ import me.xmertsalov.Game;
 import me.xmertsalov.entities.Player;
 import me.xmertsalov.exceptions.BundleLoadException;
 import me.xmertsalov.exceptions.LobbyException;
+import me.xmertsalov.rendering.Renderer;
 import me.xmertsalov.scenes.GameScene;
 import me.xmertsalov.ui.UIManager;
 import me.xmertsalov.ui.buttons.BigButtonFactory;
@@ -12,7 +13,6 @@ import me.xmertsalov.ui.buttons.SmallButtonFactory;
 import me.xmertsalov.utils.BundleLoader;
 import me.xmertsalov.utils.ListUtils;
 
-import java.awt.*;
 import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
@@ -126,21 +126,21 @@ public class LobbyManager implements UIManager {
     /**
      * Draws the lobby UI, including the background, player placeholders, buttons, and text.
      *
-     * @param g The Graphics object used for rendering.
+     * @param renderer The {@link Renderer} used for rendering.
      */
     @Override
-    public void draw(Graphics g) {
-        g.drawImage(longBackgoundImage, 100, (int)(Game.SCALE * 290), Game.WINDOW_WIDTH - 200, (int)(96 * 1.5 * Game.SCALE), null);
+    public void draw(Renderer renderer) {
+        renderer.drawSprite(longBackgoundImage, 100, (int)(Game.SCALE * 290), Game.WINDOW_WIDTH - 200, (int)(96 * 1.5 * Game.SCALE));
 
         for (PlayerPlaceholder placeholder : playerPlaceholders) {
-            placeholder.draw(g);
+            placeholder.draw(renderer);
         }
 
         for (IButton button : buttons) {
-            button.draw(g);
+            button.draw(renderer);
         }
 
-        drawText(g);
+        drawText(renderer);
     }
 
     /**
@@ -159,14 +159,14 @@ public class LobbyManager implements UIManager {
     /**
      * Draws the text labels for the game modes on the lobby UI.
      *
-     * @param g The Graphics object used for rendering.
+     * @param renderer The {@link Renderer} used for rendering.
      */
-    private void drawText(Graphics g) {
-        g.drawImage(textSpeedModeImage, (firstColBtnX + paddingXText), (firstRowBtnY + paddingYText), (int)(textSpeedModeImage.getWidth() * btn_scale * Game.SCALE), (int)(textSpeedModeImage.getHeight() * btn_scale * Game.SCALE), null);
-        g.drawImage(textGhostModeImage, (firstColBtnX + paddingXText), (secondRowBtnY + paddingYText), (int)(textGhostModeImage.getWidth() * btn_scale * Game.SCALE), (int)(textGhostModeImage.getHeight() * btn_scale * Game.SCALE), null);
-        g.drawImage(textGodModeImage, (firstColBtnX + paddingXText), (thirdRowBtnY + paddingYText), (int)(textGodModeImage.getWidth() * btn_scale * Game.SCALE), (int)(textGodModeImage.getHeight() * btn_scale * Game.SCALE), null);
-        g.drawImage(textSlowModeImage, (secondColBtnX + paddingXText), (firstRowBtnY + paddingYText), (int)(textSlowModeImage.getWidth() * btn_scale * Game.SCALE), (int)(textSlowModeImage.getHeight() * btn_scale * Game.SCALE), null);
-        g.drawImage(textBorderlessModeImage, (secondColBtnX + paddingXText), (secondRowBtnY + paddingYText), (int)(textBorderlessModeImage.getWidth() * btn_scale * Game.SCALE), (int)(textBorderlessModeImage.getHeight() * btn_scale * Game.SCALE), null);
+    private void drawText(Renderer renderer) {
+        renderer.drawSprite(textSpeedModeImage, (firstColBtnX + paddingXText), (firstRowBtnY + paddingYText), (int)(textSpeedModeImage.getWidth() * btn_scale * Game.SCALE), (int)(textSpeedModeImage.getHeight() * btn_scale * Game.SCALE));
+        renderer.drawSprite(textGhostModeImage, (firstColBtnX + paddingXText), (secondRowBtnY + paddingYText), (int)(textGhostModeImage.getWidth() * btn_scale * Game.SCALE), (int)(textGhostModeImage.getHeight() * btn_scale * Game.SCALE));
+        renderer.drawSprite(textGodModeImage, (firstColBtnX + paddingXText), (thirdRowBtnY + paddingYText), (int)(textGodModeImage.getWidth() * btn_scale * Game.SCALE), (int)(textGodModeImage.getHeight() * btn_scale * Game.SCALE));
+        renderer.drawSprite(textSlowModeImage, (secondColBtnX + paddingXText), (firstRowBtnY + paddingYText), (int)(textSlowModeImage.getWidth() * btn_scale * Game.SCALE), (int)(textSlowModeImage.getHeight() * btn_scale * Game.SCALE));
+        renderer.drawSprite(textBorderlessModeImage, (secondColBtnX + paddingXText), (secondRowBtnY + paddingYText), (int)(textBorderlessModeImage.getWidth() * btn_scale * Game.SCALE), (int)(textBorderlessModeImage.getHeight() * btn_scale * Game.SCALE));
 //        g.drawImage(textViewerModeImage, (secondColBtnX + paddingXText), (thirdRowBtnY + paddingYText), (int)(textViewerModeImage.getWidth() * btn_scale * Game.SCALE), (int)(textViewerModeImage.getHeight() * btn_scale * Game.SCALE), null);
     }
 
@@ -2,6 +2,7 @@ package me.xmertsalov.ui.lobby;
 
 import me.xmertsalov.Game;
 import me.xmertsalov.entities.Player;
+import me.xmertsalov.rendering.Renderer;
 import me.xmertsalov.ui.buttons.*;
 
 import java.awt.*;
@@ -104,19 +105,18 @@ public class PlayerPlaceholder {
     /**
      * Draws the player placeholder, including the background, buttons, and player avatar.
      *
-     * @param g The Graphics object used for rendering.
+     * @param renderer The {@link Renderer} used for rendering.
      */
-    public void draw(Graphics g) {
-        g.drawImage(playerPlaceholderImage, getXById(), placeholderY, placeholderWidth, placeholderHeight, null);
+    public void draw(Renderer renderer) {
+        renderer.drawSprite(playerPlaceholderImage, getXById(), placeholderY, placeholderWidth, placeholderHeight);
         for (IButton button : buttons) {
-            button.draw(g);
+            button.draw(renderer);
         }
 
-        g.setColor(new Color(51, 50, 61));
-        g.setFont(new Font("Arial", Font.BOLD, (int)(8 * Game.SCALE)));
-        g.drawString(currentSkinName, (int)(getXById() + 30 * Game.SCALE), (int)(placeholderY + 117.5 * Game.SCALE));
+        renderer.drawText(currentSkinName, (int)(getXById() + 30 * Game.SCALE), (int)(placeholderY + 117.5 * Game.SCALE),
+                new Font("Arial", Font.BOLD, (int)(8 * Game.SCALE)), new Color(51, 50, 61));
 
-        player.render(g);
+        player.render(renderer);
     }
 
     /**
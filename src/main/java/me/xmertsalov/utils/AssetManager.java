@@ -0,0 +1,162 @@
+package me.xmertsalov.utils;
+
+import me.xmertsalov.Game;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The {@code AssetManager} class loads the assets of the game on a pool of worker threads.
+ * Loading jobs are submitted as required or non-critical: the game waits in the {@code LoadingScene}
+ * until every required job is done, while non-critical jobs finish in the background.
+ *
+ * <p>Sprite atlases are decoded through the {@link SpriteRegistry}, so an atlas that is prefetched here
+ * is shared with every later {@link BundleLoader#getSpriteAtlas(String)} call.
+ * The futures of sprites do not keep the decoded images, so prefetched sprites can still be evicted;
+ * evicted sprites that are drawn again are reloaded here too, see {@link #reloadSprite(SpriteHandle)}.
+ * A failed required job is logged and reported by {@link #getFailure()}.
+ */
+public class AssetManager {
+    private final ExecutorService workers;
+    private final ConcurrentHashMap<SpriteHandle<?>, Future<?>> sprites = new ConcurrentHashMap<>();
+
+    // Progress
+    private final AtomicInteger requiredCount = new AtomicInteger();
+    private final AtomicInteger requiredDone = new AtomicInteger();
+    private final AtomicInteger totalCount = new AtomicInteger();
+    private final AtomicInteger totalDone = new AtomicInteger();
+    private volatile Throwable failure;
+
+    /**
+     * Creates an asset manager with one worker thread per available processor, but at least two.
+     */
+    public AssetManager() {
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+        AtomicInteger threadIndex = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "Asset Loader " + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Submits a loading job to the worker pool.
+     *
+     * @param name     the name of the job, used in the log if it fails.
+     * @param job      the job.
+     * @param required whether the game has to wait for the job before leaving the loading screen.
+     * @param <T>      the type of the loaded asset.
+     * @return the future result of the job.
+     */
+    public <T> Future<T> submit(String name, Callable<T> job, boolean required) {
+        totalCount.incrementAndGet();
+        if (required) requiredCount.incrementAndGet();
+
+        return workers.submit(() -> {
+            try {
+                return job.call();
+            } catch (Exception | Error e) {
+                Game.logger.error("Failed to load {}: {}", name, e.getMessage());
+                if (required && failure == null) failure = e;
+                throw e;
+            } finally {
+                totalDone.incrementAndGet();
+                if (required) requiredDone.incrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Decodes a sprite atlas on the worker pool, see {@link #loadSprite(SpriteHandle, boolean)}.
+     *
+     * @param fileName the path to the sprite atlas resource.
+     * @param required whether the game has to wait for the atlas before leaving the loading screen.
+     * @return the future that completes once the atlas is loaded.
+     */
+    public Future<?> loadSprite(String fileName, boolean required) {
+        return loadSprite(SpriteRegistry.getImageHandle(fileName), required);
+    }
+
+    /**
+     * Loads a sprite asset on the worker pool. While the asset is being loaded, later calls return
+     * the future of the running job, whether it was required or not; once it is done, an evicted asset
+     * is loaded again.
+     *
+     * @param sprite   the handle of the sprite asset.
+     * @param required whether the game has to wait for the asset before leaving the loading screen.
+     * @return the future that completes once the asset is loaded.
+     */
+    public Future<?> loadSprite(SpriteHandle<?> sprite, boolean required) {
+        return sprites.compute(sprite, (key, running) -> running != null && !running.isDone() ? running : submit(key.getName(), () -> {
+            key.get();
+            return null;
+        }, required));
+    }
+
+    /**
+     * Loads an evicted sprite asset again on the worker pool, as a non-critical job. Does nothing while the asset
+     * is being loaded, or if its last load failed, so a missing resource is not loaded again on every frame.
+     *
+     * @param sprite the handle of the sprite asset.
+     */
+    public void reloadSprite(SpriteHandle<?> sprite) {
+        Future<?> last = sprites.get(sprite);
+        if (last != null && last.isDone()) {
+            try {
+                last.get();
+            } catch (InterruptedException | ExecutionException e) {
+                return;
+            }
+        }
+        loadSprite(sprite, false);
+    }
+
+    /**
+     * Returns whether every required job is done.
+     *
+     * @return {@code true} if the game can leave the loading screen.
+     */
+    public boolean isRequiredLoaded() {
+        return requiredDone.get() == requiredCount.get();
+    }
+
+    /**
+     * Returns the part of the required jobs that is done.
+     *
+     * @return the progress, from 0 to 1.
+     */
+    public float getProgress() {
+        int count = requiredCount.get();
+        return count == 0 ? 1 : (float) requiredDone.get() / count;
+    }
+
+    /**
+     * Returns the part of all jobs that is done, including the ones loaded in the background.
+     *
+     * @return the progress, from 0 to 1.
+     */
+    public float getTotalProgress() {
+        int count = totalCount.get();
+        return count == 0 ? 1 : (float) totalDone.get() / count;
+    }
+
+    /**
+     * Returns the error of the first required job that failed.
+     *
+     * @return the error, or {@code null} if no required job failed.
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    public int getTotalCount() {return totalCount.get();}
+    public int getTotalDone() {return totalDone.get();}
+    public int getRequiredCount() {return requiredCount.get();}
+    public int getRequiredDone() {return requiredDone.get();}
+}
@@ -0,0 +1,288 @@
+package me.xmertsalov.utils;
+
+import me.xmertsalov.Game;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * The {@code AssetPack} class reads the packed asset file written by {@link AssetPacker} at build time.
+ * The file is memory-mapped and holds the assets already decoded: sprites as ARGB pixels, sounds as PCM frames
+ * and level data as UTF-8 text. Loading an asset is a copy out of the mapping instead of a zip inflate and a decode.
+ *
+ * <p>The pack is looked up at the path in the {@code gravityrunner.assets} system property, or as {@value #FILE_NAME}
+ * next to the game classes or jar. Assets that are not in the pack, or all assets when there is no pack,
+ * are loaded from the classpath as before. The pack records the length and CRC-32 of the resource each asset was
+ * decoded from; when a resource of the game classes or jar no longer matches, the pack is stale and not used at all.
+ *
+ * <p>File format, big-endian:
+ * <ul>
+ *     <li>Header: magic, version and the offset of the index.</li>
+ *     <li>Payloads, each aligned to 8 bytes: ARGB ints for images, a {@value #SOUND_HEADER_SIZE} bytes audio format
+ *     followed by the PCM frames for sounds, UTF-8 bytes for text.</li>
+ *     <li>Index: the entry count, then per entry its name, type, offset, length, width and height for images,
+ *     and the length and CRC-32 of its source resource.</li>
+ * </ul>
+ */
+public final class AssetPack {
+    static final int MAGIC = 0x47525041; // "GRPA"
+    static final int VERSION = 2;
+    static final int HEADER_SIZE = 16;
+    static final int SOUND_HEADER_SIZE = 25;
+    static final String FILE_NAME = "assets.pack";
+
+    static final byte TYPE_IMAGE = 1;
+    static final byte TYPE_SOUND = 2;
+    static final byte TYPE_TEXT = 3;
+
+    static final int ENCODING_PCM_SIGNED = 0;
+    static final int ENCODING_PCM_UNSIGNED = 1;
+
+    private static AssetPack instance;
+    private static boolean lookedUp;
+
+    private final MappedByteBuffer buffer;
+    private final HashMap<String, Entry> entries = new HashMap<>();
+    private final File file;
+
+    /**
+     * Maps a pack file and reads its index.
+     *
+     * @param file the pack file.
+     * @throws IOException if the file cannot be read or is not a pack of this version.
+     */
+    public AssetPack(File file) throws IOException {
+        this.file = file;
+
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r"); FileChannel channel = raf.getChannel()) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (buffer.getInt(0) != MAGIC) throw new IOException("Not an asset pack: " + file);
+        if (buffer.getInt(4) != VERSION) throw new IOException("Unsupported asset pack version " + buffer.getInt(4) + ": " + file);
+
+        ByteBuffer index = buffer.duplicate();
+        index.position((int) buffer.getLong(8));
+        int count = index.getInt();
+        for (int i = 0; i < count; i++) {
+            byte[] name = new byte[index.getShort()];
+            index.get(name);
+
+            Entry entry = new Entry();
+            entry.type = index.get();
+            entry.offset = (int) index.getLong();
+            entry.length = index.getInt();
+            entry.width = index.getInt();
+            entry.height = index.getInt();
+            entry.sourceLength = index.getLong();
+            entry.sourceCrc = index.getInt() & 0xFFFFFFFFL;
+            entries.put(new String(name, StandardCharsets.UTF_8), entry);
+        }
+    }
+
+    /**
+     * Returns the pack of the game, opening it on the first call.
+     *
+     * @return the pack, or {@code null} if there is no pack or it is disabled with {@code --no-asset-pack}.
+     */
+    public static synchronized AssetPack getInstance() {
+        if (lookedUp) return instance;
+        lookedUp = true;
+
+        if (!Game.USE_ASSET_PACK) return null;
+
+        File codeSource = getCodeSource();
+        File file = findPackFile(codeSource);
+        if (file == null) {
+            Game.logger.info("No asset pack found, loading assets from the classpath");
+            return null;
+        }
+
+        try {
+            long start = System.nanoTime();
+            AssetPack pack = new AssetPack(file);
+            String stale = codeSource != null ? pack.findStaleEntry(codeSource) : null;
+            if (stale != null) {
+                Game.logger.warn("Asset pack {} is older than {}, loading assets from the classpath; rebuild it with mvn package", file, stale);
+                return null;
+            }
+
+            instance = pack;
+            Game.logger.info("Loaded asset pack {} with {} assets ({} KB), checked in {} ms",
+                    file, instance.size(), instance.buffer.capacity() / 1024, (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException e) {
+            Game.logger.warn("Cannot open asset pack {}, loading assets from the classpath: {}", file, e.getMessage());
+        }
+        return instance;
+    }
+
+    /**
+     * Compares the source resources recorded in the pack with the resources of the game classes or jar.
+     * A jar is checked by the sizes and CRC-32s of its zip entries, a directory by reading the files.
+     *
+     * @param codeSource the directory of the game classes, or the game jar.
+     * @return the name of the first resource that changed or was removed since the pack was built, or {@code null}
+     * if the pack is up to date.
+     * @throws IOException if the jar or a resource cannot be read.
+     */
+    public String findStaleEntry(File codeSource) throws IOException {
+        if (codeSource.isDirectory()) {
+            for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                File source = new File(codeSource, entry.getKey());
+                if (!source.isFile() || source.length() != entry.getValue().sourceLength
+                        || crc(source) != entry.getValue().sourceCrc) return entry.getKey();
+            }
+            return null;
+        }
+
+        try (ZipFile jar = new ZipFile(codeSource)) {
+            for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                ZipEntry source = jar.getEntry(entry.getKey());
+                if (source == null || source.getSize() != entry.getValue().sourceLength
+                        || source.getCrc() != entry.getValue().sourceCrc) return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns a decoded image from the pack.
+     *
+     * @param name the path of the image resource.
+     * @return a new image with the packed pixels, or {@code null} if the image is not in the pack.
+     */
+    public BufferedImage getImage(String name) {
+        Entry entry = entries.get(name);
+        if (entry == null || entry.type != TYPE_IMAGE) return null;
+
+        BufferedImage image = new BufferedImage(entry.width, entry.height, BufferedImage.TYPE_INT_ARGB);
+        int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        slice(entry).asIntBuffer().get(pixels);
+        return image;
+    }
+
+    /**
+     * Returns a sound from the pack as a stream of PCM frames.
+     *
+     * @param name the path of the sound resource.
+     * @return a stream over a copy of the packed frames, or {@code null} if the sound is not in the pack.
+     */
+    public AudioInputStream getSound(String name) {
+        Entry entry = entries.get(name);
+        if (entry == null || entry.type != TYPE_SOUND) return null;
+
+        ByteBuffer data = slice(entry);
+        AudioFormat.Encoding encoding = data.getInt() == ENCODING_PCM_UNSIGNED ? AudioFormat.Encoding.PCM_UNSIGNED : AudioFormat.Encoding.PCM_SIGNED;
+        float sampleRate = data.getFloat();
+        int sampleSizeInBits = data.getInt();
+        int channels = data.getInt();
+        int frameSize = data.getInt();
+        float frameRate = data.getFloat();
+        boolean bigEndian = data.get() != 0;
+        AudioFormat format = new AudioFormat(encoding, sampleRate, sampleSizeInBits, channels, frameSize, frameRate, bigEndian);
+
+        byte[] frames = new byte[data.remaining()];
+        data.get(frames);
+        return new AudioInputStream(new ByteArrayInputStream(frames), format, frames.length / frameSize);
+    }
+
+    /**
+     * Returns a text file from the pack.
+     *
+     * @param name the path of the text resource.
+     * @return the content of the file, or {@code null} if the file is not in the pack.
+     */
+    public String getText(String name) {
+        Entry entry = entries.get(name);
+        if (entry == null || entry.type != TYPE_TEXT) return null;
+
+        byte[] bytes = new byte[entry.length];
+        slice(entry).get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public int size() {return entries.size();}
+    public File getFile() {return file;}
+
+    /**
+     * Returns a view of the payload of an entry. Each call returns its own view, so payloads can be read
+     * from several threads at the same time.
+     */
+    private ByteBuffer slice(Entry entry) {
+        ByteBuffer view = buffer.duplicate();
+        view.position(entry.offset);
+        view.limit(entry.offset + entry.length);
+        return view.slice();
+    }
+
+    /**
+     * Looks for the pack file at the path of the {@code gravityrunner.assets} system property,
+     * then next to the game classes or jar.
+     *
+     * @param codeSource the directory of the game classes or the game jar, or {@code null} if unknown.
+     */
+    private static File findPackFile(File codeSource) {
+        String property = System.getProperty("gravityrunner.assets");
+        if (property != null) {
+            File file = new File(property);
+            return file.isFile() ? file : null;
+        }
+        if (codeSource == null) return null;
+
+        File file = new File(codeSource.getParentFile(), FILE_NAME);
+        return file.isFile() ? file : null;
+    }
+
+    /**
+     * Returns the directory of the game classes or the game jar.
+     *
+     * @return the code source, or {@code null} if it is not a local file.
+     */
+    private static File getCodeSource() {
+        try {
+            return new File(AssetPack.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (URISyntaxException | SecurityException | NullPointerException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the CRC-32 of the content of a file, the checksum zip entries are stored with.
+     *
+     * @param file the file.
+     * @return the checksum.
+     * @throws IOException if the file cannot be read.
+     */
+    static long crc(File file) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(Files.readAllBytes(file.toPath()));
+        return crc.getValue();
+    }
+
+    private static final class Entry {
+        private byte type;
+        private int offset;
+        private int length;
+        private int width;
+        private int height;
+        private long sourceLength;
+        private long sourceCrc;
+    }
+}
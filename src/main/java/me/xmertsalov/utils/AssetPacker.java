@@ -0,0 +1,196 @@
+package me.xmertsalov.utils;
+
+import javax.imageio.ImageIO;
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The {@code AssetPacker} class writes the packed asset file read by {@link AssetPack}.
+ * It runs at build time, after the resources are copied, and decodes every sprite, sound and level file
+ * below the {@code res} directory once, so the game does not have to. The length and CRC-32 of every source file
+ * are recorded, so the game can tell when the pack is older than its resources.
+ *
+ * <p>Usage: {@code AssetPacker <resources directory> <output file>}.
+ */
+public final class AssetPacker {
+    private final File root;
+    private final List<String> names = new ArrayList<>();
+    private final List<Byte> types = new ArrayList<>();
+    private final List<long[]> locations = new ArrayList<>(); // offset, length, width, height, source length, source CRC-32
+
+    private AssetPacker(File root) {
+        this.root = root;
+    }
+
+    public static void main(String[] args) throws IOException, UnsupportedAudioFileException {
+        if (args.length != 2) {
+            System.err.println("Usage: AssetPacker <resources directory> <output file>");
+            System.exit(1);
+        }
+
+        long start = System.nanoTime();
+        File output = new File(args[1]);
+        int count = new AssetPacker(new File(args[0])).write(output);
+        System.out.printf("Packed %d assets into %s (%d KB) in %d ms%n",
+                count, output, output.length() / 1024, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Writes all assets below the {@code res} directory of the root into a pack file.
+     *
+     * @param output the pack file to write.
+     * @return the number of packed assets.
+     */
+    private int write(File output) throws IOException, UnsupportedAudioFileException {
+        List<File> files = new ArrayList<>();
+        collect(new File(root, "res"), files);
+
+        File temporary = new File(output.getPath() + ".tmp");
+        try (RandomAccessFile raf = new RandomAccessFile(temporary, "rw"); FileChannel channel = raf.getChannel()) {
+            raf.setLength(0);
+            channel.position(AssetPack.HEADER_SIZE);
+
+            for (File file : files) {
+                String name = root.toURI().relativize(file.toURI()).getPath();
+                String extension = name.substring(name.lastIndexOf('.') + 1).toLowerCase();
+
+                switch (extension) {
+                    case "png": {
+                        BufferedImage image = ImageIO.read(file);
+                        if (image == null) throw new IOException("Cannot decode " + file);
+
+                        int width = image.getWidth();
+                        int height = image.getHeight();
+                        ByteBuffer payload = ByteBuffer.allocate(width * height * 4);
+                        payload.asIntBuffer().put(image.getRGB(0, 0, width, height, null, 0, width));
+                        add(channel, name, AssetPack.TYPE_IMAGE, payload, width, height, file);
+                        break;
+                    }
+                    case "wav": {
+                        add(channel, name, AssetPack.TYPE_SOUND, readSound(file), 0, 0, file);
+                        break;
+                    }
+                    case "level": {
+                        add(channel, name, AssetPack.TYPE_TEXT, ByteBuffer.wrap(Files.readAllBytes(file.toPath())), 0, 0, file);
+                        break;
+                    }
+                    default:
+                        break;
+                }
+            }
+
+            // Index
+            long indexOffset = channel.position();
+            ByteArrayOutputStream index = new ByteArrayOutputStream();
+            ByteBuffer entry = ByteBuffer.allocate(4);
+            entry.putInt(names.size());
+            index.write(entry.array());
+            for (int i = 0; i < names.size(); i++) {
+                byte[] name = names.get(i).getBytes(StandardCharsets.UTF_8);
+                long[] location = locations.get(i);
+
+                entry = ByteBuffer.allocate(2 + name.length + 1 + 8 + 4 + 4 + 4 + 8 + 4);
+                entry.putShort((short) name.length).put(name).put(types.get(i))
+                        .putLong(location[0]).putInt((int) location[1]).putInt((int) location[2]).putInt((int) location[3])
+                        .putLong(location[4]).putInt((int) location[5]);
+                index.write(entry.array());
+            }
+            writeFully(channel, ByteBuffer.wrap(index.toByteArray()));
+
+            ByteBuffer header = ByteBuffer.allocate(AssetPack.HEADER_SIZE);
+            header.putInt(AssetPack.MAGIC).putInt(AssetPack.VERSION).putLong(indexOffset);
+            header.flip();
+            channel.position(0);
+            writeFully(channel, header);
+        }
+
+        Files.deleteIfExists(output.toPath());
+        if (!temporary.renameTo(output)) throw new IOException("Cannot write " + output);
+        return names.size();
+    }
+
+    /**
+     * Decodes a sound file to PCM frames, preceded by its audio format.
+     */
+    private static ByteBuffer readSound(File file) throws IOException, UnsupportedAudioFileException {
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(file)) {
+            AudioInputStream stream = source;
+            AudioFormat format = source.getFormat();
+            boolean unsigned = format.getEncoding() == AudioFormat.Encoding.PCM_UNSIGNED;
+            if (!unsigned && format.getEncoding() != AudioFormat.Encoding.PCM_SIGNED) {
+                format = new AudioFormat(format.getSampleRate(), 16, format.getChannels(), true, false);
+                stream = AudioSystem.getAudioInputStream(format, source);
+            }
+
+            ByteArrayOutputStream frames = new ByteArrayOutputStream();
+            byte[] chunk = new byte[8192];
+            int read;
+            while ((read = stream.read(chunk)) > 0) {
+                frames.write(chunk, 0, read);
+            }
+
+            ByteBuffer payload = ByteBuffer.allocate(AssetPack.SOUND_HEADER_SIZE + frames.size());
+            payload.putInt(unsigned ? AssetPack.ENCODING_PCM_UNSIGNED : AssetPack.ENCODING_PCM_SIGNED)
+                    .putFloat(format.getSampleRate())
+                    .putInt(format.getSampleSizeInBits())
+                    .putInt(format.getChannels())
+                    .putInt(format.getFrameSize())
+                    .putFloat(format.getFrameRate())
+                    .put((byte) (format.isBigEndian() ? 1 : 0))
+                    .put(frames.toByteArray());
+            payload.flip();
+            return payload;
+        }
+    }
+
+    /**
+     * Appends a payload, aligned to 8 bytes, and records its entry with the length and checksum of its source file.
+     */
+    private void add(FileChannel channel, String name, byte type, ByteBuffer payload, int width, int height, File source) throws IOException {
+        long offset = (channel.position() + 7) & ~7L;
+        channel.position(offset);
+        payload.rewind();
+        int length = payload.remaining();
+        writeFully(channel, payload);
+
+        names.add(name);
+        types.add(type);
+        locations.add(new long[]{offset, length, width, height, source.length(), AssetPack.crc(source)});
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Collects the files of a directory and its subdirectories in a stable order.
+     */
+    private static void collect(File directory, List<File> files) {
+        File[] children = directory.listFiles();
+        if (children == null) return;
+
+        List<File> sorted = new ArrayList<>();
+        Collections.addAll(sorted, children);
+        Collections.sort(sorted);
+        for (File child : sorted) {
+            if (child.isDirectory()) collect(child, files);
+            else files.add(child);
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package me.xmertsalov.utils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The {@code AtlasPacker} class packs groups of small sprites into a few power-of-two texture atlases at build time
+ * and writes the index read by {@link TextureAtlases}. Sprites are sorted by height and placed on shelves,
+ * with transparent padding around each of them and, optionally, their transparent borders trimmed.
+ * Sprites larger than half of the maximum atlas size in either dimension are left out.
+ *
+ * <p>Usage: {@code AtlasPacker <resources directory> [--max-size=2048] [--padding=2] [--trim=false] [--remove-packed]
+ * <group>=<dir>[,<dir>]...} where every directory is relative to the resources directory. A report of the occupancy
+ * of each atlas is printed. With {@code --remove-packed}, the packed sprites are deleted from the resources directory,
+ * so they are not shipped twice; it must only be used on a copy of the resources, such as the build output.
+ */
+public final class AtlasPacker {
+    private final File root;
+    private final int maxSize;
+    private final int padding;
+    private final boolean trim;
+
+    private final List<String> index = new ArrayList<>();
+    private final List<File> packed = new ArrayList<>();
+
+    private AtlasPacker(File root, int maxSize, int padding, boolean trim) {
+        this.root = root;
+        this.maxSize = maxSize;
+        this.padding = padding;
+        this.trim = trim;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: AtlasPacker <resources directory> [--max-size=2048] [--padding=2] [--trim=false] [--remove-packed] <group>=<dir>[,<dir>]...");
+            System.exit(1);
+        }
+
+        int maxSize = 2048;
+        int padding = 2;
+        boolean trim = false;
+        boolean removePacked = false;
+        List<String> groups = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.startsWith("--max-size=")) maxSize = Integer.parseInt(arg.substring("--max-size=".length()));
+            else if (arg.startsWith("--padding=")) padding = Integer.parseInt(arg.substring("--padding=".length()));
+            else if (arg.startsWith("--trim=")) trim = Boolean.parseBoolean(arg.substring("--trim=".length()));
+            else if (arg.equals("--remove-packed")) removePacked = true;
+            else groups.add(arg);
+        }
+
+        AtlasPacker packer = new AtlasPacker(new File(args[0]), maxSize, padding, trim);
+        for (String group : groups) {
+            String[] parts = group.split("=", 2);
+            packer.packGroup(parts[0], parts[1].split(","));
+        }
+        packer.writeIndex();
+        if (removePacked) packer.removePacked();
+    }
+
+    /**
+     * Packs the sprites of some directories into as many atlases as needed.
+     *
+     * @param group       the name of the group, used for the atlas file names.
+     * @param directories the directories of the sprites, relative to the resources directory.
+     */
+    private void packGroup(String group, String[] directories) throws IOException {
+        List<Sprite> sprites = new ArrayList<>();
+        int skipped = 0;
+        for (String directory : directories) {
+            List<File> files = new ArrayList<>();
+            collect(new File(root, directory), files);
+            for (File file : files) {
+                BufferedImage image = ImageIO.read(file);
+                if (image == null) throw new IOException("Cannot decode " + file);
+                if (image.getWidth() > maxSize / 2 || image.getHeight() > maxSize / 2) {
+                    skipped++;
+                    continue;
+                }
+                sprites.add(new Sprite(root.toURI().relativize(file.toURI()).getPath(), image, trim));
+                packed.add(file);
+            }
+        }
+
+        // Tallest first keeps the shelves full
+        sprites.sort((a, b) -> b.height != a.height ? b.height - a.height : b.width - a.width);
+
+        int page = 0;
+        while (!sprites.isEmpty()) {
+            long area = 0;
+            int widest = 0;
+            int tallest = 0;
+            for (Sprite sprite : sprites) {
+                area += (long) (sprite.width + 2 * padding) * (sprite.height + 2 * padding);
+                widest = Math.max(widest, sprite.width + 2 * padding);
+                tallest = Math.max(tallest, sprite.height + 2 * padding);
+            }
+
+            // Smallest power of two that can hold everything, grown until the sprites fit or the maximum is reached
+            int width = Math.min(maxSize, powerOfTwo(Math.max(widest, (int) Math.ceil(Math.sqrt(area)))));
+            int height = Math.min(maxSize, powerOfTwo(tallest));
+            while ((long) width * height < area && height < maxSize) height *= 2;
+            List<Sprite> rest = place(sprites, width, height);
+            while (!rest.isEmpty() && (width < maxSize || height < maxSize)) {
+                if (height <= width && height < maxSize) height *= 2;
+                else width *= 2;
+                rest = place(sprites, width, height);
+            }
+
+            List<Sprite> placed = new ArrayList<>(sprites);
+            placed.removeAll(rest);
+            if (placed.isEmpty()) throw new IOException("Sprites do not fit into a " + maxSize + " px atlas: " + rest.size());
+            writePage(group + "-" + page, placed, width, height);
+            sprites = rest;
+            page++;
+        }
+
+        if (skipped > 0) System.out.printf("  %s: %d sprites larger than %d px left out%n", group, skipped, maxSize / 2);
+    }
+
+    /**
+     * Places sprites on shelves of an atlas.
+     *
+     * @return the sprites that do not fit.
+     */
+    private List<Sprite> place(List<Sprite> sprites, int width, int height) {
+        List<Sprite> rest = new ArrayList<>();
+        int x = 0;
+        int y = 0;
+        int shelfHeight = 0;
+        for (Sprite sprite : sprites) {
+            int cellWidth = sprite.width + 2 * padding;
+            int cellHeight = sprite.height + 2 * padding;
+            if (x + cellWidth > width) {
+                x = 0;
+                y += shelfHeight;
+                shelfHeight = 0;
+            }
+            if (cellWidth > width || y + cellHeight > height) {
+                rest.add(sprite);
+                continue;
+            }
+            sprite.x = x + padding;
+            sprite.y = y + padding;
+            x += cellWidth;
+            shelfHeight = Math.max(shelfHeight, cellHeight);
+        }
+        return rest;
+    }
+
+    private void writePage(String name, List<Sprite> sprites, int width, int height) throws IOException {
+        String path = TextureAtlases.DIRECTORY + name + ".png";
+        BufferedImage atlas = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+
+        long used = 0;
+        long trimmed = 0;
+        for (Sprite sprite : sprites) {
+            // Pixels are copied rather than drawn, so blending cannot change translucent pixels
+            int[] pixels = sprite.image.getRGB(sprite.offsetX, sprite.offsetY, sprite.width, sprite.height, null, 0, sprite.width);
+            atlas.setRGB(sprite.x, sprite.y, sprite.width, sprite.height, pixels, 0, sprite.width);
+            used += (long) sprite.width * sprite.height;
+            trimmed += (long) sprite.sourceWidth * sprite.sourceHeight - (long) sprite.width * sprite.height;
+
+            index.add(String.join("\t", path, sprite.name, String.valueOf(sprite.x), String.valueOf(sprite.y),
+                    String.valueOf(sprite.width), String.valueOf(sprite.height), String.valueOf(sprite.offsetX),
+                    String.valueOf(sprite.offsetY), String.valueOf(sprite.sourceWidth), String.valueOf(sprite.sourceHeight)));
+        }
+
+        File file = new File(root, path);
+        if (!file.getParentFile().isDirectory() && !file.getParentFile().mkdirs()) throw new IOException("Cannot create " + file.getParent());
+        ImageIO.write(atlas, "png", file);
+
+        long transparent = countTransparentBorders(sprites);
+        System.out.printf("  %s: %dx%d, %d sprites, %.1f%% occupied, %d px trimmed%s%n", path, width, height, sprites.size(),
+                100.0 * used / ((long) width * height), trimmed, trim ? "" : " (trimming would save " + transparent + " px)");
+    }
+
+    private void writeIndex() throws IOException {
+        File file = new File(root, TextureAtlases.INDEX);
+        try (PrintWriter writer = new PrintWriter(file, StandardCharsets.UTF_8.name())) {
+            writer.println("# atlas\tsprite\tx\ty\twidth\theight\toffset x\toffset y\tsource width\tsource height");
+            for (String line : index) {
+                writer.println(line);
+            }
+        }
+        System.out.printf("Packed %d sprites into texture atlases, index %s%n", index.size(), file);
+    }
+
+    /**
+     * Deletes the packed sprites, and the directories left empty, from the resources directory.
+     */
+    private void removePacked() throws IOException {
+        long bytes = 0;
+        for (File file : packed) {
+            bytes += file.length();
+            if (!file.delete()) throw new IOException("Cannot delete packed sprite " + file);
+
+            File directory = file.getParentFile();
+            String[] children = directory.list();
+            if (children != null && children.length == 0 && !directory.delete()) throw new IOException("Cannot delete " + directory);
+        }
+        System.out.printf("Removed %d packed sprites (%d KB) from %s%n", packed.size(), bytes / 1024, root);
+    }
+
+    private static long countTransparentBorders(List<Sprite> sprites) {
+        long pixels = 0;
+        for (Sprite sprite : sprites) {
+            int[] bounds = opaqueBounds(sprite.image);
+            pixels += (long) sprite.sourceWidth * sprite.sourceHeight - (long) bounds[2] * bounds[3];
+        }
+        return pixels;
+    }
+
+    /**
+     * Returns the smallest rectangle that holds all non-transparent pixels of an image.
+     *
+     * @return x, y, width and height; a fully transparent image keeps a 1x1 pixel.
+     */
+    private static int[] opaqueBounds(BufferedImage image) {
+        int minX = image.getWidth();
+        int minY = image.getHeight();
+        int maxX = -1;
+        int maxY = -1;
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                if ((image.getRGB(x, y) >>> 24) == 0) continue;
+                minX = Math.min(minX, x);
+                minY = Math.min(minY, y);
+                maxX = Math.max(maxX, x);
+                maxY = Math.max(maxY, y);
+            }
+        }
+        if (maxX < 0) return new int[]{0, 0, 1, 1};
+        return new int[]{minX, minY, maxX - minX + 1, maxY - minY + 1};
+    }
+
+    private static int powerOfTwo(int value) {
+        int result = 1;
+        while (result < value) result *= 2;
+        return result;
+    }
+
+    private static void collect(File directory, List<File> files) {
+        File[] children = directory.listFiles();
+        if (children == null) return;
+
+        List<File> sorted = new ArrayList<>();
+        Collections.addAll(sorted, children);
+        Collections.sort(sorted);
+        for (File child : sorted) {
+            if (child.isDirectory()) collect(child, files);
+            else if (child.getName().endsWith(".png")) files.add(child);
+        }
+    }
+
+    private static final class Sprite {
+        private final String name;
+        private final BufferedImage image;
+        private final int sourceWidth;
+        private final int sourceHeight;
+        private final int offsetX;
+        private final int offsetY;
+        private final int width;
+        private final int height;
+        private int x;
+        private int y;
+
+        private Sprite(String name, BufferedImage image, boolean trim) {
+            this.name = name;
+            this.image = image;
+            this.sourceWidth = image.getWidth();
+            this.sourceHeight = image.getHeight();
+
+            int[] bounds = trim ? opaqueBounds(image) : new int[]{0, 0, sourceWidth, sourceHeight};
+            this.offsetX = bounds[0];
+            this.offsetY = bounds[1];
+            this.width = bounds[2];
+            this.height = bounds[3];
+        }
+    }
+}
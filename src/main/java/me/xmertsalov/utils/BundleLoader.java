@@ -6,9 +6,15 @@ import me.xmertsalov.exceptions.BundleLoadException;
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * The {@code BundleLoader} class provides utility methods for loading various game resources,
@@ -115,18 +121,37 @@ public class BundleLoader {
 
     /**
      * Loads a sprite atlas image from the specified file path.
+     * Each atlas is decoded only once, see {@link SpriteRegistry}; the returned image is shared and must not be modified.
      *
      * @param fileName the path to the sprite atlas resource.
      * @return the loaded {@link BufferedImage}.
      * @throws BundleLoadException if the resource cannot be found or an I/O error occurs.
      */
     public static BufferedImage getSpriteAtlas(String fileName) throws BundleLoadException {
-        BufferedImage img;
+        return SpriteRegistry.getImage(fileName);
+    }
+
+    /**
+     * Decodes a sprite atlas image from the specified file path, or copies it out of the {@link AssetPack} when it is packed.
+     * Atlases that are not packed are kept decoded in the {@link SpriteDiskCache} for the next launch.
+     *
+     * @param fileName the path to the sprite atlas resource.
+     * @return the decoded {@link BufferedImage}.
+     * @throws BundleLoadException if the resource cannot be found or an I/O error occurs.
+     */
+    static BufferedImage readSpriteAtlas(String fileName) throws BundleLoadException {
+        AssetPack pack = AssetPack.getInstance();
+        if (pack != null) {
+            BufferedImage packed = pack.getImage(fileName);
+            if (packed != null) return packed;
+        }
+
+        byte[] png;
 
         try {
             InputStream inputStream = BundleLoader.class.getClassLoader().getResourceAsStream(fileName);
             if (inputStream != null) {
-                img = ImageIO.read(inputStream);
+                png = readAllBytes(inputStream);
                 inputStream.close();
             } else {
                 throw new BundleLoadException("Resource not found", fileName);
@@ -134,17 +159,63 @@ public class BundleLoader {
         } catch (IOException e) {
             throw new BundleLoadException(e, fileName);
         }
+
+        BufferedImage img = SpriteDiskCache.load(fileName, png);
+        if (img != null) return img;
+
+        try {
+            img = ImageIO.read(new ByteArrayInputStream(png));
+        } catch (IOException e) {
+            throw new BundleLoadException(e, fileName);
+        }
+        if (img == null) throw new BundleLoadException("Unsupported image format", fileName);
+
+        SpriteDiskCache.store(fileName, png, img);
         return img;
     }
 
+    private static byte[] readAllBytes(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] chunk = new byte[8192];
+        int read;
+        while ((read = inputStream.read(chunk)) > 0) {
+            bytes.write(chunk, 0, read);
+        }
+        return bytes.toByteArray();
+    }
+
     /**
-     * Reads the content of a text file from the specified file path.
+     * Returns the paths of all sprite atlases defined in this class, so they can be loaded ahead of time.
+     *
+     * @return the paths of the sprite atlas resources.
+     */
+    public static List<String> getSpriteAtlasNames() {
+        List<String> names = new ArrayList<>();
+        for (Field field : BundleLoader.class.getFields()) {
+            if (!Modifier.isStatic(field.getModifiers()) || field.getType() != String.class) continue;
+            try {
+                String value = (String) field.get(null);
+                if (value.endsWith(".png")) names.add(value);
+            } catch (IllegalAccessException e) {
+                Game.logger.warn("Cannot read resource path {}", field.getName());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Reads the content of a text file from the specified file path, or from the {@link AssetPack} when it is packed.
      *
      * @param fileName the path to the text file resource.
      * @return the content of the file as a {@link String}.
      * @throws BundleLoadException if the resource cannot be found or an I/O error occurs.
      */
     public static String getFileContent(String fileName) throws BundleLoadException {
+        AssetPack pack = AssetPack.getInstance();
+        if (pack != null) {
+            String packed = pack.getText(fileName);
+            if (packed != null) return packed;
+        }
 
         StringBuilder content = new StringBuilder();
         try {
@@ -0,0 +1,198 @@
+package me.xmertsalov.utils;
+
+import me.xmertsalov.Game;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * The {@code SpriteDiskCache} class keeps decoded sprite atlases on disk as raw ARGB pixels, so later launches
+ * read them back instead of inflating and filtering the PNG again. It is used for atlases that are not in the
+ * {@link AssetPack}, for example when the game runs from the IDE.
+ *
+ * <p>Each entry is named after the resource, the SHA-1 of the PNG bytes and the format version of the cache,
+ * and stores the size of the image and a CRC32 of its pixels. An entry that does not match the current PNG,
+ * or whose header, length or checksum is wrong, is decoded again and rewritten; entries of older versions
+ * of the same resource are deleted when it is rewritten.
+ *
+ * <p>The cache lives in {@code cache/sprites} in the working directory, like {@code settings.ser},
+ * or in the directory of the {@code gravityrunner.sprite.cache} system property.
+ */
+public final class SpriteDiskCache {
+    private static final int MAGIC = 0x47525343; // "GRSC"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_SIZE = 24; // magic, version, width, height, crc
+    private static final String EXTENSION = ".argb";
+
+    private static final File directory = new File(System.getProperty("gravityrunner.sprite.cache", "cache/sprites"));
+
+    // Statistics
+    private static final AtomicLong hits = new AtomicLong();
+    private static final AtomicLong misses = new AtomicLong();
+    private static final AtomicLong rebuilds = new AtomicLong();
+
+    private SpriteDiskCache() {}
+
+    /**
+     * Returns the cached pixels of a PNG.
+     *
+     * @param fileName the path of the sprite atlas resource.
+     * @param png      the bytes of the PNG.
+     * @return a new image with the cached pixels, or {@code null} if the entry is missing or invalid.
+     */
+    static BufferedImage load(String fileName, byte[] png) {
+        if (!Game.USE_SPRITE_DISK_CACHE) return null;
+
+        File file = getFile(fileName, png);
+        if (!file.isFile()) {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        // The file is read rather than mapped: a mapped file cannot be replaced on Windows until the mapping is collected
+        int width;
+        int height;
+        long checksum;
+        byte[] pixels;
+        String problem = null;
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r"); FileChannel channel = raf.getChannel()) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            readFully(channel, header);
+            width = header.getInt(8);
+            height = header.getInt(12);
+            checksum = header.getLong(16);
+
+            if (header.getInt(0) != MAGIC || header.getInt(4) != FORMAT_VERSION || width <= 0 || height <= 0
+                    || channel.size() != HEADER_SIZE + 4L * width * height) {
+                pixels = null;
+                problem = "invalid header or length";
+            }
+            else {
+                pixels = new byte[4 * width * height];
+                readFully(channel, ByteBuffer.wrap(pixels));
+            }
+        } catch (IOException e) {
+            return rebuild(file, e.getMessage());
+        }
+        if (problem != null) return rebuild(file, problem);
+
+        CRC32 crc = new CRC32();
+        crc.update(pixels);
+        if (crc.getValue() != checksum) return rebuild(file, "checksum mismatch");
+
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        ByteBuffer.wrap(pixels).asIntBuffer().get(((DataBufferInt) image.getRaster().getDataBuffer()).getData());
+        hits.incrementAndGet();
+        return image;
+    }
+
+    /**
+     * Stores the decoded pixels of a PNG and deletes the entries of older versions of the same resource.
+     *
+     * @param fileName the path of the sprite atlas resource.
+     * @param png      the bytes of the PNG.
+     * @param image    the decoded image.
+     */
+    static void store(String fileName, byte[] png, BufferedImage image) {
+        if (!Game.USE_SPRITE_DISK_CACHE) return;
+
+        int width = image.getWidth();
+        int height = image.getHeight();
+        ByteBuffer pixels = ByteBuffer.allocate(4 * width * height);
+        pixels.asIntBuffer().put(image.getRGB(0, 0, width, height, null, 0, width));
+
+        CRC32 crc = new CRC32();
+        crc.update(pixels.array());
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(FORMAT_VERSION).putInt(width).putInt(height).putLong(crc.getValue());
+        header.flip();
+
+        File file = getFile(fileName, png);
+        File temporary = new File(file.getPath() + ".tmp");
+        try {
+            Files.createDirectories(directory.toPath());
+            try (RandomAccessFile raf = new RandomAccessFile(temporary, "rw"); FileChannel channel = raf.getChannel()) {
+                raf.setLength(0);
+                channel.write(new ByteBuffer[]{header, pixels});
+            }
+            Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Game.logger.warn("Cannot write sprite cache entry {}: {}", file, e.getMessage());
+            temporary.delete();
+            return;
+        }
+
+        // Older entries of the same resource
+        String prefix = getPrefix(fileName);
+        File[] siblings = directory.listFiles((dir, name) -> name.startsWith(prefix) && name.endsWith(EXTENSION));
+        if (siblings != null) {
+            for (File sibling : siblings) {
+                if (!sibling.equals(file) && !sibling.delete()) {
+                    Game.logger.warn("Cannot delete stale sprite cache entry {}", sibling);
+                }
+            }
+        }
+    }
+
+    /**
+     * Logs how many atlases were read from the disk cache and how many had to be decoded.
+     */
+    public static void logStats() {
+        if (!Game.USE_SPRITE_DISK_CACHE || hits.get() + misses.get() == 0) return;
+        Game.logger.info("Sprite disk cache: {} atlases read, {} decoded, {} invalid entries rebuilt",
+                hits.get(), misses.get(), rebuilds.get());
+    }
+
+    public static long getHits() {return hits.get();}
+    public static long getMisses() {return misses.get();}
+    public static long getRebuilds() {return rebuilds.get();}
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) throw new IOException("unexpected end of file");
+        }
+    }
+
+    private static BufferedImage rebuild(File file, String reason) {
+        Game.logger.warn("Rebuilding sprite cache entry {}: {}", file.getName(), reason);
+        rebuilds.incrementAndGet();
+        misses.incrementAndGet();
+        file.delete();
+        return null;
+    }
+
+    /**
+     * Returns the entry of a PNG, whether it exists or not.
+     */
+    static File getFile(String fileName, byte[] png) {
+        return new File(directory, getPrefix(fileName) + sha1(png) + "-v" + FORMAT_VERSION + EXTENSION);
+    }
+
+    private static String getPrefix(String fileName) {
+        return fileName.replaceAll("[^A-Za-z0-9._-]", "_") + "-";
+    }
+
+    private static String sha1(byte[] bytes) {
+        try {
+            StringBuilder hex = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-1").digest(bytes)) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
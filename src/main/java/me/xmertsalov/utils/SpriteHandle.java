@@ -0,0 +1,145 @@
+package me.xmertsalov.utils;
+
+import me.xmertsalov.exceptions.BundleLoadException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The {@code SpriteHandle} class is a reference to a sprite asset of the {@link SpriteRegistry} that may be evicted
+ * when the decoded sprites exceed their memory budget. Holders keep the handle instead of the image and call
+ * {@link #get()} whenever they use it, so an evicted asset is loaded again on its next use.
+ * The render thread calls {@link #getOrReload()} instead, which never waits for a decode.
+ *
+ * <p>A handle is pinned when its value is handed out by {@link SpriteRegistry#getImage(String)} or
+ * {@link SpriteRegistry#getGrid(String, int, int, int, int)}: the caller keeps the value, so evicting it would free nothing.
+ *
+ * @param <T> the type of the asset, an image or frames indexed by row and column.
+ */
+public final class SpriteHandle<T> {
+    private final String name;
+    private final String fileName;
+    private final Loader<T> loader;
+    private final Sizer<T> sizer;
+
+    private final AtomicReference<T> value = new AtomicReference<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private volatile long bytes;
+    private volatile long lastUsed;
+    private volatile boolean pinned;
+
+    /**
+     * Creates a handle that loads its value on first use.
+     *
+     * @param name     the key of the asset in the registry.
+     * @param fileName the resource the asset is made from; assets of the same resource are evicted together.
+     * @param loader   loads the value.
+     * @param sizer    returns the number of bytes the value adds to the heap.
+     */
+    SpriteHandle(String name, String fileName, Loader<T> loader, Sizer<T> sizer) {
+        this.name = name;
+        this.fileName = fileName;
+        this.loader = loader;
+        this.sizer = sizer;
+        this.lastUsed = System.nanoTime();
+    }
+
+    /**
+     * Creates a pinned handle for a value that is not loaded from a resource, such as generated frames.
+     *
+     * @param name  the name of the asset.
+     * @param value the value.
+     * @param <T>   the type of the asset.
+     * @return the handle.
+     */
+    public static <T> SpriteHandle<T> of(String name, T value) {
+        SpriteHandle<T> handle = new SpriteHandle<>(name, name, () -> value, v -> 0);
+        handle.value.set(value);
+        handle.pinned = true;
+        return handle;
+    }
+
+    /**
+     * Returns the value, loading it again if it was evicted, and marks it as used.
+     *
+     * @return the value.
+     * @throws BundleLoadException if the resource cannot be found or an I/O error occurs.
+     */
+    public T get() throws BundleLoadException {
+        lastUsed = System.nanoTime();
+        T current = value.get();
+        return current != null ? current : load();
+    }
+
+    /**
+     * Returns the value if it is loaded, without loading it, and marks it as used.
+     *
+     * @return the value, or {@code null} if it is not loaded.
+     */
+    public T peek() {
+        lastUsed = System.nanoTime();
+        return value.get();
+    }
+
+    /**
+     * Returns the value if it is loaded, and otherwise has it loaded again on the worker pool of the reloader of the
+     * {@link SpriteRegistry}, so drawing never waits for a decode. Without a reloader, the value is loaded now.
+     * An evicted asset was not drawn for a while, so there is no previous frame to keep on screen: callers draw
+     * nothing, or a variant that is loaded, until the value is back.
+     *
+     * @return the value, or {@code null} while it is being loaded.
+     * @throws BundleLoadException if there is no reloader and the resource cannot be found or an I/O error occurs.
+     */
+    public T getOrReload() throws BundleLoadException {
+        T current = peek();
+        if (current != null) return current;
+
+        AssetManager reloader = SpriteRegistry.getReloader();
+        if (reloader == null) return get();
+        reloader.reloadSprite(this);
+        return null;
+    }
+
+    public boolean isLoaded() {return value.get() != null;}
+    public boolean isPinned() {return pinned;}
+    public String getName() {return name;}
+    public String getFileName() {return fileName;}
+    public long getBytes() {return bytes;}
+    public long getLastUsed() {return lastUsed;}
+    public int getLoads() {return loads.get();}
+
+    void pin() {
+        pinned = true;
+    }
+
+    private synchronized T load() throws BundleLoadException {
+        T current = value.get();
+        if (current != null) return current;
+
+        current = loader.load();
+        bytes = sizer.sizeOf(current);
+        value.set(current);
+        SpriteRegistry.onLoaded(this, loads.incrementAndGet() > 1);
+        return current;
+    }
+
+    /**
+     * Drops the value, unless the handle is pinned. The next {@link #get()} loads it again.
+     *
+     * @return {@code true} if the value was dropped.
+     */
+    boolean evict() {
+        T current = value.get();
+        if (current == null || pinned || !value.compareAndSet(current, null)) return false;
+        SpriteRegistry.onEvicted(this, current);
+        return true;
+    }
+
+    interface Loader<T> {
+        T load() throws BundleLoadException;
+    }
+
+    interface Sizer<T> {
+        long sizeOf(T value);
+    }
+}
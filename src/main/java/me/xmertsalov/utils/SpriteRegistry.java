@@ -0,0 +1,399 @@
+package me.xmertsalov.utils;
+
+import me.xmertsalov.Game;
+import me.xmertsalov.exceptions.BundleLoadException;
+import me.xmertsalov.rendering.SpriteCache;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The {@code SpriteRegistry} class decodes every sprite atlas of the game once and hands out shared references.
+ * {@link BundleLoader#getSpriteAtlas(String)} goes through it, so all buttons of a kind, all prototypes of a game object
+ * and every screen that shows the same image get the same {@link BufferedImage}.
+ * Atlases sliced into a grid of frames are cached too, so the sub-images are also created only once.
+ * Sprites packed into a texture atlas at build time are views of that atlas, see {@link TextureAtlases}.
+ *
+ * <p>Every asset keeps the number of bytes it adds to the heap. Assets handed out through a {@link SpriteHandle},
+ * such as the player skins and the tutorial images, are evicted in least recently used order when the decoded
+ * sprites exceed their budget and have not been used for a while; they are loaded again on their next use.
+ * The budget is 96 MB, or the number of megabytes in the {@code gravityrunner.sprite.budget} system property.
+ *
+ * <p>The returned images and frame arrays are shared and must not be modified.
+ * Different atlases can be decoded on different threads at the same time; the same atlas is decoded once.
+ */
+public final class SpriteRegistry {
+    private static final long BUDGET = Long.getLong("gravityrunner.sprite.budget", 96) * 1024 * 1024;
+    private static final long COLD_NANOS = 2_000_000_000L; // assets used more recently are never evicted
+    private static final long TRIM_INTERVAL_NANOS = 1_000_000_000L;
+
+    private static final ConcurrentHashMap<String, SpriteHandle<BufferedImage>> images = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, SpriteHandle<BufferedImage[][]>> grids = new ConcurrentHashMap<>();
+
+    private static final AtomicLong residentBytes = new AtomicLong();
+    private static volatile long lastTrim;
+    private static volatile AssetManager reloader;
+
+    // Statistics
+    private static final AtomicLong imageHits = new AtomicLong();
+    private static final AtomicLong imageMisses = new AtomicLong();
+    private static final AtomicLong gridHits = new AtomicLong();
+    private static final AtomicLong gridMisses = new AtomicLong();
+    private static final AtomicLong decodes = new AtomicLong();
+    private static final AtomicLong decodedBytes = new AtomicLong();
+    private static final AtomicLong decodeNanos = new AtomicLong();
+    private static final AtomicLong regions = new AtomicLong();
+    private static final AtomicLong evictions = new AtomicLong();
+    private static final AtomicLong reloads = new AtomicLong();
+
+    private SpriteRegistry() {}
+
+    /**
+     * Returns the decoded image of a sprite atlas, decoding it on the first request.
+     * The image is never evicted, as the caller keeps it.
+     *
+     * @param fileName the path to the sprite atlas resource.
+     * @return the shared image.
+     * @throws BundleLoadException if the resource cannot be found or an I/O error occurs.
+     */
+    public static BufferedImage getImage(String fileName) throws BundleLoadException {
+        SpriteHandle<BufferedImage> handle = getImageHandle(fileName);
+        handle.pin();
+        (handle.isLoaded() ? imageHits : imageMisses).incrementAndGet();
+        return handle.get();
+    }
+
+    /**
+     * Returns the frames of a sprite atlas laid out in a grid, slicing them on the first request.
+     * Frames outside the atlas are {@code null}. The frames are never evicted, as the caller keeps them.
+     *
+     * @param fileName    the path to the sprite atlas resource.
+     * @param frameWidth  the width of a frame.
+     * @param frameHeight the height of a frame.
+     * @param rows        the number of rows.
+     * @param columns     the number of columns.
+     * @return the shared frames, indexed by row and column.
+     * @throws BundleLoadException if the resource cannot be found or an I/O error occurs.
+     */
+    public static BufferedImage[][] getGrid(String fileName, int frameWidth, int frameHeight, int rows, int columns) throws BundleLoadException {
+        SpriteHandle<BufferedImage[][]> handle = getGridHandle(fileName, frameWidth, frameHeight, rows, columns);
+        handle.pin();
+        (handle.isLoaded() ? gridHits : gridMisses).incrementAndGet();
+        return handle.get();
+    }
+
+    /**
+     * Returns an evictable handle to the decoded image of a sprite atlas. Nothing is decoded until it is used.
+     *
+     * @param fileName the path to the sprite atlas resource.
+     * @return the shared handle.
+     */
+    public static SpriteHandle<BufferedImage> getImageHandle(String fileName) {
+        return images.computeIfAbsent(fileName, key -> new SpriteHandle<>(key, key, () -> {
+            BufferedImage region = TextureAtlases.getRegion(fileName);
+            if (region != null) {
+                regions.incrementAndGet();
+                return region;
+            }
+
+            long start = System.nanoTime();
+            BufferedImage image = BundleLoader.readSpriteAtlas(fileName);
+            decodeNanos.addAndGet(System.nanoTime() - start);
+            decodes.incrementAndGet();
+            decodedBytes.addAndGet(sizeOf(image));
+            return image;
+        }, image -> isView(image) ? 0 : sizeOf(image)));
+    }
+
+    /**
+     * Returns an evictable handle to the frames of a sprite atlas laid out in a grid, see
+     * {@link #getGrid(String, int, int, int, int)}. Nothing is decoded until it is used.
+     *
+     * @param fileName    the path to the sprite atlas resource.
+     * @param frameWidth  the width of a frame.
+     * @param frameHeight the height of a frame.
+     * @param rows        the number of rows.
+     * @param columns     the number of columns.
+     * @return the shared handle.
+     */
+    public static SpriteHandle<BufferedImage[][]> getGridHandle(String fileName, int frameWidth, int frameHeight, int rows, int columns) {
+        String key = fileName + '#' + frameWidth + 'x' + frameHeight + '#' + rows + 'x' + columns;
+        return grids.computeIfAbsent(key, k -> new SpriteHandle<>(k, fileName, () -> {
+            BufferedImage image = getImageHandle(fileName).get();
+
+            BufferedImage[][] frames = new BufferedImage[rows][columns];
+            for (int row = 0; row < rows; row++) {
+                for (int column = 0; column < columns; column++) {
+                    int x = column * frameWidth;
+                    int y = row * frameHeight;
+                    if (x + frameWidth <= image.getWidth() && y + frameHeight <= image.getHeight()) {
+                        frames[row][column] = image.getSubimage(x, y, frameWidth, frameHeight);
+                    } else {
+                        Game.logger.warn("ERR: Sub-image coordinates are out of bounds in {}: ({}, {})", fileName, x, y);
+                    }
+                }
+            }
+            return frames;
+        }, frames -> 0));
+    }
+
+    /**
+     * Returns an evictable handle to vertically mirrored copies of the frames of a grid, so upside-down sprites
+     * are drawn with a plain blit instead of a {@code drawImage} with a negative height.
+     *
+     * @param fileName    the path to the sprite atlas resource.
+     * @param frameWidth  the width of a frame.
+     * @param frameHeight the height of a frame.
+     * @param rows        the number of rows.
+     * @param columns     the number of columns.
+     * @return the shared handle.
+     */
+    public static SpriteHandle<BufferedImage[][]> getMirroredGridHandle(String fileName, int frameWidth, int frameHeight, int rows, int columns) {
+        SpriteHandle<BufferedImage[][]> grid = getGridHandle(fileName, frameWidth, frameHeight, rows, columns);
+        return grids.computeIfAbsent(grid.getName() + "#mirrored",
+                key -> new SpriteHandle<>(key, fileName, () -> mirrorVertically(grid.get()), SpriteRegistry::sizeOf));
+    }
+
+    /**
+     * Returns a handle to vertically mirrored copies of frames that are not sliced from a sprite atlas, such as
+     * generated frames. The frames are mirrored on the first {@link SpriteHandle#get()}.
+     *
+     * @param frames the handle of the frames to mirror.
+     * @return a new handle, shared by passing it on.
+     */
+    public static SpriteHandle<BufferedImage[][]> getMirroredHandle(SpriteHandle<BufferedImage[][]> frames) {
+        return new SpriteHandle<>(frames.getName() + "#mirrored", frames.getFileName(),
+                () -> mirrorVertically(frames.get()), SpriteRegistry::sizeOf);
+    }
+
+    /**
+     * Creates vertically mirrored copies of all frames.
+     *
+     * @param frames the frames to mirror, indexed by row and column.
+     * @return the mirrored frames in the same layout; missing frames stay {@code null}.
+     */
+    public static BufferedImage[][] mirrorVertically(BufferedImage[][] frames) {
+        BufferedImage[][] flipped = new BufferedImage[frames.length][];
+
+        for (int j = 0; j < frames.length; j++) {
+            flipped[j] = new BufferedImage[frames[j].length];
+            for (int i = 0; i < frames[j].length; i++) {
+                BufferedImage frame = frames[j][i];
+                if (frame == null) continue;
+
+                int width = frame.getWidth();
+                int height = frame.getHeight();
+                BufferedImage mirrored = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+                for (int y = 0; y < height; y++) {
+                    for (int x = 0; x < width; x++) {
+                        mirrored.setRGB(x, height - 1 - y, frame.getRGB(x, y));
+                    }
+                }
+                flipped[j][i] = mirrored;
+            }
+        }
+        return flipped;
+    }
+
+    /**
+     * Evicts the least recently used assets that have not been used for two seconds, until the decoded sprites
+     * fit in their budget again. Called on every update; it looks at the assets at most once per second.
+     * All assets made from the same resource are evicted together, and none of them while one is pinned.
+     */
+    public static void trim() {
+        long now = System.nanoTime();
+        if (residentBytes.get() <= BUDGET || now - lastTrim < TRIM_INTERVAL_NANOS) return;
+        lastTrim = now;
+
+        List<List<SpriteHandle<?>>> candidates = new ArrayList<>();
+        for (List<SpriteHandle<?>> handles : getResources()) {
+            if (getBytes(handles) > 0 && !isPinned(handles) && now - getLastUsed(handles) > COLD_NANOS) candidates.add(handles);
+        }
+        candidates.sort((a, b) -> Long.compare(getLastUsed(a), getLastUsed(b)));
+
+        for (List<SpriteHandle<?>> handles : candidates) {
+            if (residentBytes.get() <= BUDGET) break;
+            // Frames first, their atlas last, so nothing keeps a view of an evicted atlas
+            for (int i = handles.size() - 1; i >= 0; i--) {
+                handles.get(i).evict();
+            }
+        }
+    }
+
+    /**
+     * Forgets every handle, so the next request of an asset creates and loads a new one. Holders of the old handles
+     * keep them, but they no longer count against the budget. For tests that count loads.
+     */
+    static void reset() {
+        images.clear();
+        grids.clear();
+        residentBytes.set(0);
+    }
+
+    static void onLoaded(SpriteHandle<?> handle, boolean reload) {
+        residentBytes.addAndGet(handle.getBytes());
+        if (reload) {
+            reloads.incrementAndGet();
+            Game.logger.debug("Reloaded evicted sprite {}", handle.getName());
+        }
+    }
+
+    static void onEvicted(SpriteHandle<?> handle, Object value) {
+        residentBytes.addAndGet(-handle.getBytes());
+        evictions.incrementAndGet();
+        Game.logger.debug("Evicted sprite {} ({} KB)", handle.getName(), handle.getBytes() / 1024);
+
+        // Scaled copies of the asset, or of views of it, are dropped with it
+        List<BufferedImage> images = new ArrayList<>();
+        if (value instanceof BufferedImage) {
+            images.add((BufferedImage) value);
+        }
+        else {
+            for (BufferedImage[] row : (BufferedImage[][]) value) {
+                for (BufferedImage frame : row) {
+                    if (frame != null) images.add(frame);
+                }
+            }
+        }
+        SpriteCache.removeAll(images);
+    }
+
+    /**
+     * Sets the asset manager that loads evicted assets again when they are drawn, see {@link SpriteHandle#getOrReload()}.
+     *
+     * @param assets the asset manager, or {@code null} to load evicted assets on the thread that draws them.
+     */
+    public static void setReloader(AssetManager assets) {
+        reloader = assets;
+    }
+
+    static AssetManager getReloader() {
+        return reloader;
+    }
+
+    /**
+     * Logs how many atlases were decoded, how much memory they take and how often a decoded atlas was reused.
+     */
+    public static void logStats() {
+        Game.logger.info("Sprites: {} atlases decoded ({} KB) in {} ms, {} served from texture atlases, {} reused; {} grids sliced, {} reused",
+                decodes.get(), decodedBytes.get() / 1024, decodeNanos.get() / 1_000_000, regions.get(),
+                imageHits.get(), gridMisses.get(), gridHits.get());
+    }
+
+    /**
+     * Logs the decoded bytes of every resource, largest first, with whether it is loaded or evicted, pinned,
+     * how often it was loaded and when it was last used. The bytes of a resource include its mirrored frames.
+     */
+    public static void logMemoryReport() {
+        List<List<SpriteHandle<?>>> resources = getResources();
+        resources.sort((a, b) -> Long.compare(getDecodedBytes(b), getDecodedBytes(a)));
+
+        long now = System.nanoTime();
+        int views = 0;
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Sprite memory: %d KB of %d KB budget, %d KB in scaled copies, %d evicted, %d reloaded",
+                residentBytes.get() / 1024, BUDGET / 1024, SpriteCache.getBytes() / 1024, evictions.get(), reloads.get()));
+        for (List<SpriteHandle<?>> handles : resources) {
+            if (handles.get(0).getLoads() == 0) continue;
+            if (getDecodedBytes(handles) == 0) {
+                views++;
+                continue;
+            }
+            boolean loaded = getBytes(handles) > 0;
+            report.append(String.format("%n  %8d KB  %-8s %-6s loaded %dx, used %d ms ago  %s", getDecodedBytes(handles) / 1024,
+                    loaded ? "resident" : "evicted", isPinned(handles) ? "pinned" : "", handles.get(0).getLoads(),
+                    (now - getLastUsed(handles)) / 1_000_000, handles.get(0).getFileName()));
+        }
+        report.append(String.format("%n  %d sprites are views of texture atlases and take no memory of their own", views));
+        Game.logger.info(report.toString());
+    }
+
+    public static long getImageHits() {return imageHits.get();}
+    public static long getImageMisses() {return imageMisses.get();}
+    public static long getGridHits() {return gridHits.get();}
+    public static long getGridMisses() {return gridMisses.get();}
+    public static long getDecodedBytes() {return decodedBytes.get();}
+    public static long getRegions() {return regions.get();}
+    public static long getResidentBytes() {return residentBytes.get();}
+    public static long getBudget() {return BUDGET;}
+    public static long getEvictions() {return evictions.get();}
+    public static long getReloads() {return reloads.get();}
+
+    /**
+     * Returns the number of bytes the pixels of an image take in memory.
+     *
+     * @param image the image.
+     * @return the size of its pixel data in bytes.
+     */
+    public static long sizeOf(BufferedImage image) {
+        DataBuffer buffer = image.getRaster().getDataBuffer();
+        return (long) buffer.getSize() * buffer.getNumBanks() * DataBuffer.getDataTypeSize(buffer.getDataType()) / 8;
+    }
+
+    private static long sizeOf(BufferedImage[][] frames) {
+        long bytes = 0;
+        for (BufferedImage[] row : frames) {
+            for (BufferedImage frame : row) {
+                if (frame != null) bytes += sizeOf(frame);
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns whether an image shares the pixels of another one, like a sprite packed into a texture atlas.
+     */
+    private static boolean isView(BufferedImage image) {
+        return image.getRaster().getParent() != null;
+    }
+
+    /**
+     * Returns the handles grouped by the resource they are made from, each group starting with the image of the resource.
+     */
+    private static List<List<SpriteHandle<?>>> getResources() {
+        HashMap<String, List<SpriteHandle<?>>> resources = new HashMap<>();
+        for (SpriteHandle<?> handle : images.values()) {
+            resources.computeIfAbsent(handle.getFileName(), key -> new ArrayList<>()).add(handle);
+        }
+        for (SpriteHandle<?> handle : grids.values()) {
+            resources.computeIfAbsent(handle.getFileName(), key -> new ArrayList<>()).add(handle);
+        }
+        return new ArrayList<>(resources.values());
+    }
+
+    private static long getBytes(List<SpriteHandle<?>> handles) {
+        long bytes = 0;
+        for (SpriteHandle<?> handle : handles) {
+            if (handle.isLoaded()) bytes += handle.getBytes();
+        }
+        return bytes;
+    }
+
+    private static long getDecodedBytes(List<SpriteHandle<?>> handles) {
+        long bytes = 0;
+        for (SpriteHandle<?> handle : handles) {
+            bytes += handle.getBytes();
+        }
+        return bytes;
+    }
+
+    private static boolean isPinned(List<SpriteHandle<?>> handles) {
+        for (SpriteHandle<?> handle : handles) {
+            if (handle.isPinned()) return true;
+        }
+        return false;
+    }
+
+    private static long getLastUsed(List<SpriteHandle<?>> handles) {
+        long lastUsed = Long.MIN_VALUE;
+        for (SpriteHandle<?> handle : handles) {
+            lastUsed = Math.max(lastUsed, handle.getLastUsed());
+        }
+        return lastUsed;
+    }
+}
@@ -0,0 +1,121 @@
+package me.xmertsalov.utils;
+
+import me.xmertsalov.Game;
+import me.xmertsalov.exceptions.BundleLoadException;
+import me.xmertsalov.rendering.SpriteCache;
+
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+
+/**
+ * The {@code TextureAtlases} class resolves sprite resources to regions of the texture atlases packed by
+ * {@link AtlasPacker} at build time. A packed sprite is a view of its atlas, so the UI and object sprites
+ * share a few decoded images instead of one image per file. The build removes the files of packed sprites, so the
+ * atlases are the only source of those sprites in a packaged game.
+ *
+ * <p>Sprites whose transparent borders were trimmed are copied back into an image of their original size,
+ * because callers slice atlases by their original coordinates.
+ * Without the index, for example when the game runs from sources that were only compiled, every sprite is loaded
+ * from its own file.
+ */
+public final class TextureAtlases {
+    static final String DIRECTORY = "res/atlases/";
+    static final String INDEX = DIRECTORY + "atlases.index";
+
+    private static HashMap<String, Region> regions;
+
+    private TextureAtlases() {}
+
+    /**
+     * Returns a packed sprite.
+     *
+     * @param fileName the path of the sprite resource.
+     * @return the sprite as a view of its atlas, or {@code null} if the sprite is not packed.
+     * @throws BundleLoadException if the atlas cannot be loaded.
+     */
+    static BufferedImage getRegion(String fileName) throws BundleLoadException {
+        Region region = find(fileName);
+        if (region == null) return null;
+
+        BufferedImage page = SpriteRegistry.getImage(region.atlas);
+        SpriteCache.addAtlasPage(page);
+        BufferedImage view = page.getSubimage(region.x, region.y, region.width, region.height);
+        if (!region.isTrimmed()) return view;
+
+        BufferedImage image = new BufferedImage(region.sourceWidth, region.sourceHeight, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(region.offsetX, region.offsetY, region.width, region.height,
+                view.getRGB(0, 0, region.width, region.height, null, 0, region.width), 0, region.width);
+        return image;
+    }
+
+    /**
+     * Returns whether a resource is one of the atlases.
+     *
+     * @param fileName the path of the resource.
+     * @return {@code true} if the resource is a texture atlas.
+     */
+    static boolean isAtlas(String fileName) {
+        return fileName.startsWith(DIRECTORY);
+    }
+
+    private static synchronized Region find(String fileName) {
+        if (regions == null) regions = loadIndex();
+        return regions.get(fileName);
+    }
+
+    private static HashMap<String, Region> loadIndex() {
+        HashMap<String, Region> regions = new HashMap<>();
+        if (TextureAtlases.class.getClassLoader().getResource(INDEX) == null) {
+            Game.logger.info("No texture atlas index found, loading every sprite from its own file");
+            return regions;
+        }
+
+        String index;
+        try {
+            index = BundleLoader.getFileContent(INDEX);
+        } catch (BundleLoadException e) {
+            Game.logger.warn("Cannot read the texture atlas index, loading every sprite from its own file: {}", e.getMessage());
+            return regions;
+        }
+
+        for (String line : index.split("\n")) {
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            String[] values = line.split("\t");
+            if (values.length != 10) {
+                Game.logger.warn("Invalid texture atlas index line: {}", line);
+                continue;
+            }
+
+            Region region = new Region();
+            region.atlas = values[0];
+            region.x = Integer.parseInt(values[2]);
+            region.y = Integer.parseInt(values[3]);
+            region.width = Integer.parseInt(values[4]);
+            region.height = Integer.parseInt(values[5]);
+            region.offsetX = Integer.parseInt(values[6]);
+            region.offsetY = Integer.parseInt(values[7]);
+            region.sourceWidth = Integer.parseInt(values[8]);
+            region.sourceHeight = Integer.parseInt(values[9]);
+            regions.put(values[1], region);
+        }
+        Game.logger.info("Loaded texture atlas index with {} sprites", regions.size());
+        return regions;
+    }
+
+    private static final class Region {
+        private String atlas;
+        private int x;
+        private int y;
+        private int width;
+        private int height;
+        private int offsetX;
+        private int offsetY;
+        private int sourceWidth;
+        private int sourceHeight;
+
+        private boolean isTrimmed() {
+            return width != sourceWidth || height != sourceHeight;
+        }
+    }
+}
@@ -4,14 +4,17 @@ import me.xmertsalov.gameObjects.Tile;
 import me.xmertsalov.Game;
 import me.xmertsalov.gameObjects.GameObject;
 import me.xmertsalov.gameObjects.saws.MovableSaw;
+import me.xmertsalov.rendering.WorldSnapshot;
 
-import java.awt.*;
+import java.awt.image.BufferedImage;
 import java.util.ArrayList;
-import java.util.stream.Collectors;
 
 /**
  * Represents a level in the game, containing tiles and game objects.
  * Handles rendering, updating, and copying of levels.
+ * Active levels draw their tiles from a {@link LevelChunk} once it is built.
+ * Game objects are sorted into background, interaction and foreground lists when they are added,
+ * so writing a layer to the snapshot does not filter or allocate.
  */
 public class Level {
     // Level coordinates of x
@@ -25,9 +28,19 @@ public class Level {
     private ArrayList<Tile> lvlData;
     private ArrayList<GameObject> gameObjects; // all game objects without tiles
 
+    // Game objects by layer, each ordered by sprite sheet so objects sharing an atlas are drawn together
+    private final ArrayList<GameObject> backgroundObjects = new ArrayList<>();
+    private final ArrayList<GameObject> interactionObjects = new ArrayList<>();
+    private final ArrayList<GameObject> foregroundObjects = new ArrayList<>();
+
     // dependencies
     private final LevelsManager levelsManager;
 
+    // Rendering
+    private LevelChunk chunk;
+    private double chunkPrevX;
+    private boolean hasChunkPrev = false;
+
 
     /**
      * Creates a copy of the current level, including its tiles and game objects.
@@ -41,6 +54,7 @@ public class Level {
         }
         for (GameObject gameObject : this.gameObjects) {
             GameObject clone = gameObject.clone();
+            clone.setAnimationPhase(gameObject.getAnimationPhase());
             newLevel.setGameObject(clone);
         }
         return newLevel;
@@ -68,36 +82,93 @@ public class Level {
      * @param tileType    The type of the tile.
      */
     public void setTile(double x, double y, int spriteIndex, String tileType) {
-        lvlData.add(new Tile(x, y, spriteIndex, tileType));
+        Tile tile = new Tile(x, y, spriteIndex, tileType);
+
+        int index = Math.max(spriteIndex - 1, 0);
+        tile.setImage(levelsManager.getLevelSprite(index));
+        tile.setSprite(levelsManager.getTilesetSheetId(), index);
+
+        lvlData.add(tile);
     }
 
     /**
-     * Renders the level, including all tiles and game objects.
+     * Adds one layer of the level, including its tiles and game objects, to a world snapshot.
      *
-     * @param g The Graphics object used for rendering.
+     * @param snapshot The snapshot to write into.
+     * @param zIndex   The layer to add: negative for background, 0 for the tile layer, positive for foreground.
      */
-    public void render(Graphics g, int zIndex) {
+    public void writeSnapshot(WorldSnapshot snapshot, int zIndex) {
         // background layer
         if (zIndex < 0){
-            for (GameObject gameObject : gameObjects.stream().filter(gameObject -> gameObject.getZIndex() < 0).collect(Collectors.toList()) ) {
-                gameObject.draw(g);
-            }
+            writeObjectsSnapshot(snapshot, backgroundObjects, WorldSnapshot.LAYER_BACKGROUND);
         }
         else if (zIndex == 0){
-            for (GameObject gameObject : gameObjects.stream().filter(gameObject -> gameObject.getZIndex() == 0).collect(Collectors.toList()) ) {
-                gameObject.draw(g);
-            }
-            for (Tile tile : lvlData) {
-                int index = Math.max(tile.getTileIndex() - 1, 0);
-                tile.setImage(levelsManager.getLevelSprite(index));
-                tile.draw(g);
-            }
+            writeObjectsSnapshot(snapshot, interactionObjects, WorldSnapshot.LAYER_OBJECTS);
+            writeTilesSnapshot(snapshot);
         }
         // foreground layer
         else {
-            for (GameObject gameObject : gameObjects.stream().filter(gameObject -> gameObject.getZIndex() > 0).collect(Collectors.toList()) ) {
-                gameObject.draw(g);
+            writeObjectsSnapshot(snapshot, foregroundObjects, WorldSnapshot.LAYER_FOREGROUND);
+        }
+    }
+
+    /**
+     * Adds the game objects of one layer to a world snapshot.
+     * Iterates by index, so no iterator is allocated per frame.
+     *
+     * @param snapshot The snapshot to write into.
+     * @param objects  The game objects of the layer.
+     * @param layer    The layer of the snapshot.
+     */
+    private void writeObjectsSnapshot(WorldSnapshot snapshot, ArrayList<GameObject> objects, int layer) {
+        for (int i = 0; i < objects.size(); i++) {
+            objects.get(i).writeSnapshot(snapshot, layer);
+        }
+    }
+
+    /**
+     * Adds the tiles to a world snapshot: as one image when the chunk is ready, otherwise tile by tile.
+     *
+     * @param snapshot The snapshot to write into.
+     */
+    private void writeTilesSnapshot(WorldSnapshot snapshot) {
+        BufferedImage chunkImage = chunk == null ? null : chunk.getImage();
+
+        if (chunkImage == null) {
+            for (int i = 0; i < lvlData.size(); i++) {
+                lvlData.get(i).writeSnapshot(snapshot, WorldSnapshot.LAYER_TILES);
             }
+            return;
+        }
+
+        if (!hasChunkPrev) {
+            chunkPrevX = xOffset;
+            hasChunkPrev = true;
+        }
+        snapshot.addImage(chunkImage, chunkPrevX, 0, xOffset, 0, WorldSnapshot.LAYER_TILES);
+        chunkPrevX = xOffset;
+
+        // For debugging colliders
+        for (int i = 0; i < lvlData.size(); i++) {
+            Tile tile = lvlData.get(i);
+            if (tile.getCollider() != null) tile.getCollider().writeSnapshot(snapshot, WorldSnapshot.LAYER_TILES);
+        }
+    }
+
+    /**
+     * Starts building the pre-rendered tile layer. Called when the level becomes active and its offset is set.
+     */
+    public void buildChunk() {
+        if (chunk == null) chunk = new LevelChunk(lvlData, xOffset, levelsManager);
+    }
+
+    /**
+     * Frees the pre-rendered tile layer. Called when the level is no longer active.
+     */
+    public void releaseChunk() {
+        if (chunk != null) {
+            chunk.release();
+            chunk = null;
         }
     }
 
@@ -134,14 +205,15 @@ public class Level {
         for (Tile tile : lvlData) {
             tile.getTilePhisicsComponents().setVelocity_x(xOffsetVelocity);
         }
+        double step = xOffsetVelocity * Game.TICK_SCALE; // velocity is defined per tick at Game.REFERENCE_UPS
         for (GameObject gameObject : gameObjects) {
-            gameObject.updatePos(gameObject.getX() + xOffsetVelocity, gameObject.getY());
+            gameObject.updatePos(gameObject.getX() + step, gameObject.getY());
 
             if (gameObject instanceof MovableSaw) {
                 ((MovableSaw) gameObject).setVelocityOffset(xOffsetVelocity);
             }
         }
-        xOffset += xOffsetVelocity;
+        xOffset += step;
     }
 
     /**
@@ -193,6 +265,25 @@ public class Level {
      */
     public void setGameObject(GameObject gameObject) {
         this.gameObjects.add(gameObject);
+
+        if (gameObject.getZIndex() < 0) addToLayer(backgroundObjects, gameObject);
+        else if (gameObject.getZIndex() == 0) addToLayer(interactionObjects, gameObject);
+        else addToLayer(foregroundObjects, gameObject);
+    }
+
+    /**
+     * Inserts a game object into a layer after the last object with the same or a lower sprite sheet id,
+     * keeping the layer ordered by sprite sheet and objects of the same sheet in the order they were added.
+     *
+     * @param objects    The game objects of the layer.
+     * @param gameObject The game object to add.
+     */
+    private static void addToLayer(ArrayList<GameObject> objects, GameObject gameObject) {
+        int index = objects.size();
+        while (index > 0 && objects.get(index - 1).getSpriteSheetId() > gameObject.getSpriteSheetId()) {
+            index--;
+        }
+        objects.add(index, gameObject);
     }
 
     /**
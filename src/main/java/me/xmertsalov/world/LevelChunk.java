@@ -0,0 +1,114 @@
+package me.xmertsalov.world;
+
+import me.xmertsalov.Game;
+import me.xmertsalov.gameObjects.Tile;
+import me.xmertsalov.rendering.SpriteCache;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The {@code LevelChunk} class holds the tiles of one level rasterised into a single image.
+ * Tiles never change within a level, so the whole tile layer can be drawn with one blit at the level's offset
+ * instead of one scaled draw call per tile.
+ *
+ * <p>The image is built on a background thread from a copy of the tile positions taken on the game thread.
+ * Until it is ready, {@link #getImage()} returns {@code null} and the level draws its tiles one by one.
+ * {@link #release()} frees the image when the level scrolls out.
+ */
+public class LevelChunk {
+    private static final ExecutorService builder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Level Chunk Builder");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Tile data, copied on the game thread
+    private final int[] tileX;
+    private final int[] tileY;
+    private final BufferedImage[] tileSprites;
+    private final int width;
+    private final int height;
+
+    // States
+    private final Future<?> task;
+    private volatile BufferedImage image;
+    private volatile boolean released = false;
+
+    /**
+     * Copies the tile positions relative to the level's offset and starts building the image.
+     *
+     * @param tiles         the tiles of the level.
+     * @param xOffset       the current x-offset of the level.
+     * @param levelsManager the manager that holds the tileset.
+     */
+    public LevelChunk(List<Tile> tiles, double xOffset, LevelsManager levelsManager) {
+        int size = Game.TILES_SIZE;
+
+        tileX = new int[tiles.size()];
+        tileY = new int[tiles.size()];
+        tileSprites = new BufferedImage[tiles.size()];
+
+        int maxX = size * Game.TILES_IN_WIDTH;
+        int maxY = size * Game.TILES_IN_HEIGHT;
+        for (int i = 0; i < tiles.size(); i++) {
+            Tile tile = tiles.get(i);
+            tileX[i] = (int) Math.round(tile.getX() - xOffset);
+            tileY[i] = (int) Math.round(tile.getY());
+            tileSprites[i] = levelsManager.getLevelSprite(tile.getSpriteIndex());
+
+            maxX = Math.max(maxX, tileX[i] + size);
+            maxY = Math.max(maxY, tileY[i] + size);
+        }
+        width = maxX;
+        height = maxY;
+
+        task = builder.submit(this::build);
+    }
+
+    /**
+     * Rasterises all tiles into a new image. Runs on the builder thread.
+     */
+    private void build() {
+        if (released) return;
+
+        BufferedImage chunk = SpriteCache.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        Graphics2D g = chunk.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+            for (int i = 0; i < tileSprites.length; i++) {
+                g.drawImage(tileSprites[i], tileX[i], tileY[i], Game.TILES_SIZE, Game.TILES_SIZE, null);
+            }
+        } finally {
+            g.dispose();
+        }
+
+        if (released) chunk.flush();
+        else image = chunk;
+    }
+
+    /**
+     * Returns the rasterised tiles, positioned relative to the level's x-offset.
+     *
+     * @return the image, or {@code null} if it is not built yet or was released.
+     */
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    /**
+     * Stops building the image if it has not started yet and frees it.
+     */
+    public void release() {
+        released = true;
+        task.cancel(false);
+
+        BufferedImage old = image;
+        image = null;
+        if (old != null) old.flush();
+    }
+}
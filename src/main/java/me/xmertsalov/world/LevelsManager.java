@@ -7,11 +7,12 @@ import me.xmertsalov.gameObjects.powerUps.SpeedDown;
 import me.xmertsalov.gameObjects.powerUps.SpeedUp;
 import me.xmertsalov.gameObjects.saws.MovableSaw;
 import me.xmertsalov.gameObjects.saws.Saw;
+import me.xmertsalov.rendering.SpriteSheets;
+import me.xmertsalov.rendering.WorldSnapshot;
 import me.xmertsalov.scenes.inGame.PlayingScene;
 import me.xmertsalov.utils.Aggregation;
 import me.xmertsalov.utils.BundleLoader;
 
-import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.util.ArrayList;
 
@@ -25,6 +26,7 @@ public class LevelsManager {
 
     // Images
     private BufferedImage[] tilesetAtlas;
+    private int tilesetSheetId;
 
     // Constants
     private final int maxCurrentLevels = 3;
@@ -42,7 +44,7 @@ public class LevelsManager {
     private ArrayList<Level> toAddActiveLevels;
 
     // Other
-    private int ticksBeforeIncreaseSpeed = 0;
+    private double secondsBeforeIncreaseSpeed = 0;
 
     /**
      * Constructor for the LevelsManager.
@@ -68,15 +70,14 @@ public class LevelsManager {
     }
 
     /**
-     * Renders all active levels.
+     * Adds one layer of all active levels to a world snapshot.
      *
-     * @param g The Graphics object used for rendering.
+     * @param snapshot The snapshot to write into.
+     * @param zIndex   The layer to add: negative for background, 0 for the tile layer, positive for foreground.
      */
-    public void render(Graphics g, int zIndex) {
-        ArrayList<Level> levelsToRender = new ArrayList<>(activeLevels);
-
-        for (Level level : levelsToRender) {
-            level.render(g, zIndex);
+    public void writeSnapshot(WorldSnapshot snapshot, int zIndex) {
+        for (int i = 0; i < activeLevels.size(); i++) {
+            activeLevels.get(i).writeSnapshot(snapshot, zIndex);
         }
     }
 
@@ -129,6 +130,8 @@ public class LevelsManager {
                     Game.logger.error(e.getMessage());
                 }
             }
+
+        tilesetSheetId = SpriteSheets.register(new BufferedImage[][]{tilesetAtlas});
     }
 
 
@@ -152,6 +155,7 @@ public class LevelsManager {
                     Game.logger.info("Spawn level added: {}", level.getParams());
                     Level newLevel = level.copyLevel();
                     newLevel.setXOffset(activeLevels.size() * Game.TILES_SIZE * Game.TILES_IN_WIDTH);
+                    newLevel.buildChunk();
                     activeLevels.add(newLevel);
                 }
             }
@@ -179,6 +183,7 @@ public class LevelsManager {
             level.setXOffsetVelocity(velocity_x);
 
             if (level.getXOffset() <= Game.TILES_SIZE * Game.TILES_IN_WIDTH * -1){
+                level.releaseChunk();
                 toRemoveActiveLevels.add(level);
             }
         }
@@ -194,6 +199,7 @@ public class LevelsManager {
 
         Level newLevel = levels.get(random).copyLevel();
         newLevel.setXOffset(activeLevels.size() * Game.TILES_SIZE * Game.TILES_IN_WIDTH);
+        newLevel.buildChunk();
 
         toAddActiveLevels.add(newLevel);
 
@@ -204,13 +210,13 @@ public class LevelsManager {
      * Increases the speed of the levels over time.
      */
     private void increaseSpeed() {
-        ticksBeforeIncreaseSpeed++;
-        if (playingScene.isIncreasedGameSpeedMode() && ticksBeforeIncreaseSpeed >= Game.UPS_LIMIT * SECONDS_TO_SPEED) {
+        secondsBeforeIncreaseSpeed += Game.TICK_SECONDS;
+        if (playingScene.isIncreasedGameSpeedMode() && secondsBeforeIncreaseSpeed >= SECONDS_TO_SPEED) {
 
             if (speed >= 1.5) speed += 0.02 * Game.SCALE;
             else speed += 0.08f * Game.SCALE;
 
-            ticksBeforeIncreaseSpeed = 0;
+            secondsBeforeIncreaseSpeed = 0;
         }
     }
 
@@ -218,6 +224,7 @@ public class LevelsManager {
      * Resets the level manager, clearing active levels and resetting speed.
      */
     public void resetLevelManager() {
+        activeLevels.forEach(Level::releaseChunk);
         activeLevels.clear();
         toRemoveActiveLevels.clear();
         toAddActiveLevels.clear();
@@ -238,6 +245,15 @@ public class LevelsManager {
         return tilesetAtlas[index];
     }
 
+    /**
+     * Gets the id of the tileset atlas in {@link SpriteSheets}.
+     *
+     * @return The id of the tileset.
+     */
+    public int getTilesetSheetId() {
+        return tilesetSheetId;
+    }
+
     /**
      * Gets the list of active levels.
      *
@@ -0,0 +1,48 @@
+package me.xmertsalov;
+
+import me.xmertsalov.config.Config;
+import me.xmertsalov.scenes.GameScene;
+
+/**
+ * Builds one {@link Game} without a window for the tests of a run and drives its loading screen until the menu
+ * and the scenes loaded in the background are ready. Tests update and draw the game themselves; the game is shared because loading it takes seconds.
+ */
+public final class HeadlessGame {
+    private static final long LOADING_TIMEOUT_NANOS = 60_000_000_000L;
+
+    private static Game game;
+
+    private HeadlessGame() {}
+
+    /**
+     * Returns the loaded game, loading it on the first call.
+     *
+     * @return the game, in the menu scene after the first call.
+     */
+    public static synchronized Game get() {
+        if (game != null) return game;
+
+        game = new Game(new Config());
+        long start = System.nanoTime();
+        while (!game.isLoaded() || !game.isSceneReady(GameScene.PLAYING)) {
+            if (System.nanoTime() - start > LOADING_TIMEOUT_NANOS) throw new IllegalStateException("The game did not load in time");
+            game.updateGame();
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+        return game;
+    }
+
+    /**
+     * Sets the number of updates per second and the per-tick movement scale derived from it.
+     *
+     * @param ups the number of updates per second.
+     */
+    public static void setUpdateRate(int ups) {
+        Game.setUpdateRate(ups);
+    }
+}
@@ -0,0 +1,86 @@
+package me.xmertsalov.components.Animator;
+
+import me.xmertsalov.components.PlayerAnimator;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that clips are played by their loop mode: looping clips wrap around, clips played once stay on their
+ * last frame, both on an animator's own ticks and on a shared {@link AnimationClock}.
+ */
+class AnimationClipTest {
+    private static final int FRAMES = 4;
+
+    @Test
+    void playOnceStatesBecomeOnceClips() {
+        AnimationClipSet clips = AnimationClipSet.of(states(), 10, Collections.singleton("DEATH"));
+
+        assertEquals(AnimationClip.LoopMode.LOOP, clips.get(clips.getId("RUNNING")).getLoopMode());
+        assertEquals(AnimationClip.LoopMode.ONCE, clips.get(clips.getId("DEATH")).getLoopMode());
+        assertEquals(1, clips.get(clips.getId("DEATH")).getRow());
+        assertEquals(-1, clips.getId("FLYING"));
+        // A copy with another speed keeps the loop modes
+        assertEquals(AnimationClip.LoopMode.ONCE, clips.withSpeed(3).get(clips.getId("DEATH")).getLoopMode());
+    }
+
+    @Test
+    void loopingClipWrapsAndOnceClipStaysOnItsLastFrame() {
+        Animator animator = new Animator.Builder(new BufferedImage[2][FRAMES])
+                .setAnimationStates(states())
+                .setPlayOnce("DEATH")
+                .setCurrentState("RUNNING")
+                .setAnimationSpeed(10)
+                .build_and_load();
+
+        tickFrames(animator, FRAMES);
+        assertEquals(0, animator.aniIndex, "a looping clip starts over after its last frame");
+
+        animator.setAnimationState("DEATH");
+        assertEquals(0, animator.aniIndex, "switching clips starts the new one from its first frame");
+        tickFrames(animator, FRAMES * 3);
+        assertEquals(FRAMES - 1, animator.aniIndex, "a clip played once stays on its last frame");
+    }
+
+    @Test
+    void sharedClockFollowsTheLoopModes() {
+        AnimationClipSet clips = AnimationClipSet.of(states(), 10, Collections.singleton("DEATH"));
+        AnimationClip running = clips.get(clips.getId("RUNNING"));
+        AnimationClip death = clips.get(clips.getId("DEATH"));
+        AnimationClock clock = AnimationClock.create();
+
+        for (int tick = 0; tick < FRAMES + 1; tick++) AnimationClock.updateAll(); // one tick per frame
+
+        assertEquals(1, clock.getFrameIndex(running, 1, 0));
+        assertEquals(3, clock.getFrameIndex(running, 1, 2), "the phase moves an object ahead of the clock");
+        assertEquals(FRAMES - 1, clock.getFrameIndex(death, 1, 0));
+        assertEquals(FRAMES - 1, clock.getFrameIndex(death, 1, 2));
+    }
+
+    @Test
+    void playerDeathIsPlayedOnce() {
+        Animator animator = new PlayerAnimator().clone().getAnimator("Adventure Boy A");
+        animator.setAnimationState("DEATH");
+        int frames = animator.getCurrentClip().getFrameCount();
+
+        tickFrames(animator, frames * 2);
+        assertEquals(frames - 1, animator.aniIndex);
+    }
+
+    private static void tickFrames(Animator animator, int frames) {
+        for (int tick = 0; tick < frames * animator.getTicksPerFrame(); tick++) animator.update();
+    }
+
+    private static HashMap<String, List<Integer>> states() {
+        HashMap<String, List<Integer>> states = new HashMap<>();
+        states.put("RUNNING", Arrays.asList(0, FRAMES));
+        states.put("DEATH", Arrays.asList(1, FRAMES));
+        return states;
+    }
+}
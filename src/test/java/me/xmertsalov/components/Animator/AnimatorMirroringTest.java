@@ -0,0 +1,110 @@
+package me.xmertsalov.components.Animator;
+
+import me.xmertsalov.Game;
+import me.xmertsalov.rendering.HeadlessRenderer;
+import me.xmertsalov.rendering.SpriteCache;
+import me.xmertsalov.utils.BundleLoader;
+import me.xmertsalov.utils.SpriteHandle;
+import me.xmertsalov.utils.SpriteRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that only flippable animators make mirrored frames, and only on their first upside-down draw, and compares
+ * drawing a frame upside down with a negative height against a plain blit of its pre-mirrored copy.
+ */
+class AnimatorMirroringTest {
+    private static final int FRAME = 32; // frames of the saw atlas, which the game never draws upside down
+    private static final int SIZE = 135; // a player at 1440x900
+    private static final int DRAWS = 20_000;
+
+    @Test
+    void onlyFlippableAnimatorsMirrorTheirFramesOnTheFirstUpsideDownDraw() {
+        SpriteHandle<BufferedImage[][]> mirrored = SpriteRegistry.getMirroredGridHandle(BundleLoader.SAW_ATLAS, FRAME, FRAME, 1, 8);
+        int size = FRAME * 4; // an integer scale, so nearest neighbour picks the same rows in both directions
+        HeadlessRenderer renderer = new HeadlessRenderer(size, size);
+
+        Animator plain = build(false);
+        renderer.clear();
+        plain.draw(renderer, 0, size, size, -size);
+        int[] mirroredByTheRenderer = pixels(renderer.getImage());
+        assertFalse(mirrored.isLoaded(), "an animator that does not flip made mirrored frames");
+
+        Animator flippable = build(true);
+        assertFalse(mirrored.isLoaded(), "mirrored frames were made before the first upside-down draw");
+        renderer.clear();
+        flippable.draw(renderer, 0, size, size, -size);
+        assertTrue(mirrored.isLoaded(), "the upside-down draw did not use the mirrored frames");
+
+        // Both ways show the same picture
+        assertArrayEquals(mirroredByTheRenderer, pixels(renderer.getImage()));
+    }
+
+    @Test
+    void mirroredBlitIsNotSlowerThanANegativeHeightDraw() {
+        BufferedImage frame = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D frameGraphics = frame.createGraphics();
+        frameGraphics.setColor(Color.ORANGE);
+        frameGraphics.fillOval(10, 10, SIZE - 20, SIZE - 40);
+        frameGraphics.dispose();
+        BufferedImage mirroredFrame = SpriteRegistry.mirrorVertically(new BufferedImage[][]{{frame}})[0][0];
+
+        BufferedImage target = new BufferedImage(SIZE * 2, SIZE * 2, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            // Warm up both paths and the scaled copies
+            time(g, frame, -SIZE, DRAWS / 4);
+            time(g, mirroredFrame, SIZE, DRAWS / 4);
+
+            double negative = time(g, frame, -SIZE, DRAWS);
+            double mirrored = time(g, mirroredFrame, SIZE, DRAWS);
+            Game.logger.info(String.format("Upside-down %d px frame: negative height %.2f us, pre-mirrored blit %.2f us per draw",
+                    SIZE, negative, mirrored));
+
+            // The plain blit skips the flipping transform; allow for scheduler noise on a loaded machine
+            assertTrue(mirrored < negative * 1.25, "pre-mirrored " + mirrored + " us, negative height " + negative + " us");
+        } finally {
+            g.dispose();
+        }
+    }
+
+    private static Animator build(boolean flippable) {
+        HashMap<String, List<Integer>> states = new HashMap<>();
+        states.put("ROTATING", Arrays.asList(0, 8));
+        return new Animator.Builder()
+                .setImageURL(BundleLoader.SAW_ATLAS)
+                .setSpriteWidth(FRAME)
+                .setSpriteHeight(FRAME)
+                .setRows(1)
+                .setColumns(8)
+                .setAnimationStates(states)
+                .setCurrentState("ROTATING")
+                .setFlippable(flippable)
+                .build_and_load();
+    }
+
+    /**
+     * Draws a frame through the {@link SpriteCache} like the game does and returns the time per draw in microseconds.
+     */
+    private static double time(Graphics2D g, BufferedImage frame, int height, int draws) {
+        int y = height < 0 ? SIZE * 2 : 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < draws; i++) {
+            SpriteCache.draw(g, frame, i % SIZE, y, SIZE, height);
+        }
+        return (System.nanoTime() - start) / 1000.0 / draws;
+    }
+
+    private static int[] pixels(BufferedImage image) {
+        return image.getRGB(0, 0, image.getWidth(), image.getHeight(), null, 0, image.getWidth());
+    }
+}
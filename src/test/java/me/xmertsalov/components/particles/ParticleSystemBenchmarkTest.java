@@ -0,0 +1,112 @@
+package me.xmertsalov.components.particles;
+
+import me.xmertsalov.Game;
+import me.xmertsalov.rendering.HeadlessRenderer;
+import me.xmertsalov.rendering.SnapshotBuffer;
+import me.xmertsalov.rendering.SnapshotRenderer;
+import me.xmertsalov.rendering.WorldSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Keeps 50 000 particles alive and measures the update, the snapshot and the software draw of all of them at the
+ * default window size, and checks that the budgets of a default system bound the work of normal play.
+ */
+class ParticleSystemBenchmarkTest {
+    private static final int STRESS_COUNT = 50_000;
+    private static final int WARM_UP_TICKS = 100;
+    private static final int TICKS = 400;
+    private static final int FRAMES = 5;
+
+    @Test
+    void fiftyThousandParticles() {
+        ParticleSystem particles = new ParticleSystem(STRESS_COUNT, STRESS_COUNT, STRESS_COUNT);
+        SnapshotBuffer buffer = new SnapshotBuffer();
+
+        for (int tick = 0; tick < WARM_UP_TICKS; tick++) {
+            particles.fillForStress();
+            particles.update();
+            write(particles, buffer);
+        }
+
+        long updateNanos = 0;
+        long snapshotNanos = 0;
+        long allocatedBefore = allocatedBytes();
+        for (int tick = 0; tick < TICKS; tick++) {
+            particles.fillForStress(); // dead particles are replaced, like the --particle-stress mode does
+            long start = System.nanoTime();
+            particles.update();
+            updateNanos += System.nanoTime() - start;
+        }
+        long allocated = allocatedBytes() - allocatedBefore;
+
+        particles.fillForStress();
+        assertEquals(STRESS_COUNT, particles.getCount());
+        for (int tick = 0; tick < TICKS; tick++) {
+            long start = System.nanoTime();
+            write(particles, buffer);
+            snapshotNanos += System.nanoTime() - start;
+        }
+        WorldSnapshot snapshot = buffer.acquire();
+        assertEquals(STRESS_COUNT, snapshot.getLayerEnd(WorldSnapshot.LAYER_PARTICLES) - snapshot.getLayerStart(WorldSnapshot.LAYER_PARTICLES));
+
+        HeadlessRenderer renderer = new HeadlessRenderer(Game.WINDOW_WIDTH, Game.WINDOW_HEIGHT);
+        SnapshotRenderer.draw(renderer, snapshot); // builds the scaled copies of the particle frames
+        long drawNanos = 0;
+        int drawn = 0;
+        for (int frame = 0; frame < FRAMES; frame++) {
+            renderer.clear();
+            long start = System.nanoTime();
+            SnapshotRenderer.draw(renderer, snapshot);
+            drawNanos += System.nanoTime() - start;
+            drawn = renderer.getCommandCount();
+        }
+        assertTrue(drawn > STRESS_COUNT / 2, "drew " + drawn + " particles"); // the ones that left the window are culled
+
+        double updateMillis = updateNanos / 1e6 / TICKS;
+        Game.logger.info(String.format("%d particles at %dx%d: update %.3f ms, snapshot %.3f ms, software draw of %d %.1f ms, %s",
+                STRESS_COUNT, Game.WINDOW_WIDTH, Game.WINDOW_HEIGHT, updateMillis, snapshotNanos / 1e6 / TICKS,
+                drawn, drawNanos / 1e6 / FRAMES, allocated < 0 ? "allocation not measured" : allocated / TICKS + " bytes allocated per update"));
+
+        // The update is one pass over flat arrays: well within a 5 ms tick, and it allocates nothing
+        assertTrue(updateMillis < Game.TICK_SECONDS * 1000, "update takes " + updateMillis + " ms");
+        if (allocated >= 0) assertTrue(allocated < 64 * 1024, allocated + " bytes allocated by " + TICKS + " updates");
+    }
+
+    @Test
+    void budgetsBoundTheWorkOfNormalPlay() {
+        ParticleSystem particles = new ParticleSystem();
+        particles.emit(ParticleSystem.EFFECT_DEATH, 100, 100, ParticleSystem.DEFAULT_SPAWN_BUDGET * 2, 1);
+        assertEquals(ParticleSystem.DEFAULT_SPAWN_BUDGET, particles.getCount(), "spawned over the budget of a tick");
+
+        for (int tick = 0; tick < 8; tick++) {
+            particles.update();
+            particles.emit(ParticleSystem.EFFECT_DUST, 100, 100, ParticleSystem.DEFAULT_SPAWN_BUDGET, 1);
+        }
+        assertTrue(particles.getCount() > ParticleSystem.DEFAULT_DRAW_BUDGET);
+
+        SnapshotBuffer buffer = new SnapshotBuffer();
+        write(particles, buffer);
+        WorldSnapshot snapshot = buffer.acquire();
+        assertEquals(ParticleSystem.DEFAULT_DRAW_BUDGET, snapshot.size(), "drew over the budget of a snapshot");
+    }
+
+    private static void write(ParticleSystem particles, SnapshotBuffer buffer) {
+        WorldSnapshot snapshot = buffer.beginWrite();
+        particles.writeSnapshot(snapshot, WorldSnapshot.LAYER_PARTICLES);
+        buffer.publish(0);
+    }
+
+    /**
+     * Returns the number of bytes the current thread allocated so far, or -1 if the JVM cannot tell.
+     */
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) return -1;
+        return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,96 @@
+package me.xmertsalov.components.phisics;
+
+import me.xmertsalov.Game;
+import me.xmertsalov.HeadlessGame;
+import me.xmertsalov.components.PlayerAnimator;
+import me.xmertsalov.entities.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.awt.event.KeyEvent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that gravity, gravity flips and applied forces move a player the same distance per second of game time
+ * at 60, 120 and 200 updates per second.
+ */
+class PhisicsComponentTest {
+    private static final int[] UPDATE_RATES = {60, 120, 200};
+
+    private static PlayerAnimator playerAnimator;
+
+    @BeforeAll
+    static void loadAnimations() {
+        playerAnimator = new PlayerAnimator();
+    }
+
+    @AfterEach
+    void resetUpdateRate() {
+        setUpdateRate(Game.REFERENCE_UPS);
+    }
+
+    @Test
+    void fallsTheSameDistancePerSecondAtEveryTickRate() {
+        double reference = fall(Game.REFERENCE_UPS, 0.5);
+        assertEquals(3.2 * Game.REFERENCE_UPS * 0.5, reference, 1e-3); // the tuned fall speed, reached in the first tick
+
+        for (int ups : UPDATE_RATES) {
+            // Accelerating to the fall speed takes one reference tick, at lower rates it is reached within the first tick
+            assertEquals(reference, fall(ups, 0.5), 3.2, "fall distance at " + ups + " UPS");
+        }
+    }
+
+    @Test
+    void flippedGravityRisesAtTheSameSpeed() {
+        for (int ups : UPDATE_RATES) {
+            setUpdateRate(ups);
+            Player player = newPlayer();
+            player.changeGravity();
+
+            runFor(player, 0.25);
+            assertEquals(-3.2 * Game.REFERENCE_UPS * 0.25, player.getPosY(), 3.2, "rise distance at " + ups + " UPS");
+        }
+    }
+
+    @Test
+    void appliedForceGivesTheSameVelocityAtEveryTickRate() {
+        for (int ups : UPDATE_RATES) {
+            setUpdateRate(ups);
+            Player player = newPlayer();
+            player.setDisableGravity(true);
+            PhisicsComponent physics = player.getPhisicsComponent();
+
+            for (int tick = 0; tick < ups / 2; tick++) { // half a second
+                physics.applyForce(0.01, 0);
+                physics.update();
+            }
+
+            // a = F / m = 0.02 per reference tick squared, for 100 reference ticks
+            assertEquals(2.0, physics.getVelocityX(), 1e-9, "velocity at " + ups + " UPS");
+        }
+    }
+
+    private static double fall(int ups, double seconds) {
+        setUpdateRate(ups);
+        Player player = newPlayer();
+        runFor(player, seconds);
+        return player.getPosY();
+    }
+
+    private static void runFor(Player player, double seconds) {
+        int ticks = (int) Math.round(seconds * Game.UPS_LIMIT);
+        for (int tick = 0; tick < ticks; tick++) {
+            player.update();
+        }
+    }
+
+    private static Player newPlayer() {
+        return new Player(0, 0, KeyEvent.VK_SPACE, playerAnimator.clone(), "Adventure Boy A");
+    }
+
+    private static void setUpdateRate(int ups) {
+        HeadlessGame.setUpdateRate(ups);
+    }
+}
@@ -0,0 +1,78 @@
+package me.xmertsalov.components.phisics;
+
+import me.xmertsalov.Game;
+import me.xmertsalov.HeadlessGame;
+import me.xmertsalov.scenes.GameScene;
+import me.xmertsalov.scenes.inGame.PlayingScene;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Measures the cost of collision detection per second of game time across level speeds at a low and at the
+ * reference tick rate, on a headless game with four players.
+ * At a lower tick rate the sweeps take more samples per tick as the speed grows, but there are fewer ticks per game
+ * second, so over the range of speeds the cost per game second must not grow.
+ */
+class PhysicsBenchmarkTest {
+    private static final double[] SPEEDS = {0.8, 2, 4, 8}; // multiplied by Game.SCALE, like the speeds of the modes
+    private static final int[] UPDATE_RATES = {60, Game.REFERENCE_UPS};
+    private static final int GAME_SECONDS = 3; // the first one warms up, the last published window is measured
+
+    @AfterAll
+    static void restore() {
+        HeadlessGame.setUpdateRate(Game.REFERENCE_UPS);
+        GameScene.scene = GameScene.MENU;
+    }
+
+    @Test
+    void collisionCostPerGameSecondDoesNotGrowAtALowerTickRate() {
+        Game game = HeadlessGame.get();
+        PlayingScene scene = game.getPlayingScene();
+        GameScene.scene = GameScene.PLAYING;
+
+        StringBuilder report = new StringBuilder("Collision cost per game second:");
+        report.append(String.format("%n  UPS  speed  tests/game s  ms/game s  sweep samples/tick"));
+        long[][] tests = new long[UPDATE_RATES.length][SPEEDS.length];
+        double[][] samples = new double[UPDATE_RATES.length][SPEEDS.length];
+        for (int r = 0; r < UPDATE_RATES.length; r++) {
+            for (int s = 0; s < SPEEDS.length; s++) {
+                PhysicsStats stats = run(scene, UPDATE_RATES[r], SPEEDS[s] * Game.SCALE);
+                tests[r][s] = stats.getTestsPerGameSecond();
+                samples[r][s] = stats.getAverageSweepSamples();
+                report.append(String.format("%n  %3d  %5.1f  %12d  %9.3f  %18.1f", UPDATE_RATES[r], SPEEDS[s],
+                        stats.getTestsPerGameSecond(), stats.getMillisPerGameSecond(), stats.getAverageSweepSamples()));
+            }
+        }
+        Game.logger.info(report.toString());
+
+        // The levels are random, so single speeds vary with the layout; the sweep over all speeds must not cost more
+        long[] total = new long[UPDATE_RATES.length];
+        for (int r = 0; r < UPDATE_RATES.length; r++) {
+            for (int s = 0; s < SPEEDS.length; s++) total[r] += tests[r][s];
+        }
+        assertTrue(total[0] <= total[1], "collision tests per game second over all speeds: " + total[0] + " at "
+                + UPDATE_RATES[0] + " UPS, " + total[1] + " at " + UPDATE_RATES[1] + " UPS");
+        // Fast movement is split into more samples instead of being tested only at its end
+        assertTrue(samples[0][SPEEDS.length - 1] > samples[0][0], "sweep samples do not grow with the speed");
+    }
+
+    /**
+     * Runs the playing scene at a fixed speed in god mode, so no player dies and the work stays comparable.
+     */
+    private static PhysicsStats run(PlayingScene scene, int ups, double speed) {
+        HeadlessGame.setUpdateRate(ups);
+        scene.reset();
+        scene.update(); // spawns the players and levels
+        scene.setCanMove(true);
+        scene.setGodMode(true);
+        scene.setIncreasedGameSpeedMode(false);
+
+        for (int tick = 0; tick < GAME_SECONDS * ups; tick++) {
+            scene.getLevelsManager().setSpeed(speed);
+            scene.update();
+        }
+        return scene.getPhysicsController().getStats();
+    }
+}
@@ -0,0 +1,166 @@
+package me.xmertsalov.loop;
+
+import me.xmertsalov.Game;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives the {@link GameLoop} headless with an empty update and compares the spread of the tick intervals and the
+ * CPU time of the loop thread with the busy-spinning loop it replaced.
+ */
+class GameLoopTest {
+    private static final int UPS = 200;
+    private static final int TICKS = UPS; // one second of game time
+    private static final long NANOS_PER_UPDATE = 1_000_000_000L / UPS;
+
+    @Test
+    void parkedLoopKeepsTheTickRateWithLessCpuThanTheBusyLoop() throws InterruptedException {
+        Measurement busy = measure(new BusySpinLoop());
+        Measurement parked = measure(new ParkedLoop());
+
+        Game.logger.info(String.format("Busy-spinning loop: interval spread %.1f us, max deviation %.1f us, CPU %.1f%%",
+                busy.spreadMicros, busy.maxDeviationMicros, busy.cpuPercent));
+        Game.logger.info(String.format("Parked loop:        interval spread %.1f us, max deviation %.1f us, CPU %.1f%%",
+                parked.spreadMicros, parked.maxDeviationMicros, parked.cpuPercent));
+
+        assertEquals(TICKS, parked.ticks);
+        // The schedule is kept: the average interval is the tick length, a late tick is followed by an early one
+        assertEquals(NANOS_PER_UPDATE / 1000.0, parked.averageIntervalMicros, 250);
+        // Parking may oversleep by a scheduler slice, but the spread stays well below one tick
+        assertTrue(parked.spreadMicros < NANOS_PER_UPDATE / 1000.0, "interval spread " + parked.spreadMicros + " us");
+        // The thread is parked most of the time instead of spinning
+        if (parked.cpuPercent >= 0) {
+            assertTrue(parked.cpuPercent < busy.cpuPercent / 2,
+                    "parked loop CPU " + parked.cpuPercent + "%, busy loop " + busy.cpuPercent + "%");
+        }
+    }
+
+    @Test
+    void dropsUpdatesBeyondTheCatchUpLimit() throws InterruptedException {
+        int[] updates = new int[1];
+        long start = System.nanoTime();
+        GameLoop[] loop = new GameLoop[1];
+        loop[0] = new GameLoop(() -> {
+            if (++updates[0] == 1) sleep(200); // 40 ticks behind after the first update
+            if (System.nanoTime() - start > 1_100_000_000L) loop[0].stop(); // after the first one-second window
+        }, UPS, 5, 1000);
+
+        Thread thread = new Thread(loop[0], "Game Loop Test");
+        thread.start();
+        thread.join(5000);
+
+        // 4 catch-up updates follow the slow one, the other ~36 missed ticks are dropped instead of run back to back
+        int dropped = loop[0].getStats().getDroppedUpdatesPerSecond();
+        assertTrue(dropped >= 30, "dropped " + dropped + " updates");
+        assertTrue(loop[0].getStats().getUpdatesPerSecond() <= UPS - 30, "ran " + loop[0].getStats().getUpdatesPerSecond() + " updates");
+    }
+
+    private static Measurement measure(TestLoop testLoop) throws InterruptedException {
+        long[] starts = new long[TICKS];
+        Measurement measurement = new Measurement();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+        Thread thread = new Thread(() -> {
+            long cpuStart = threads.isCurrentThreadCpuTimeSupported() ? threads.getCurrentThreadCpuTime() : -1;
+            long start = System.nanoTime();
+            testLoop.run(() -> {
+                if (measurement.ticks == TICKS) return; // the rest of a catch-up batch after the stop
+                starts[measurement.ticks++] = System.nanoTime();
+                if (measurement.ticks == TICKS) testLoop.stop();
+            });
+            long elapsed = System.nanoTime() - start;
+            measurement.cpuPercent = cpuStart < 0 ? -1 : (threads.getCurrentThreadCpuTime() - cpuStart) * 100.0 / elapsed;
+        }, "Game Loop Test");
+        thread.start();
+        thread.join(10_000);
+
+        double sum = 0;
+        double sumOfSquares = 0;
+        double maxDeviation = 0;
+        for (int i = 1; i < TICKS; i++) {
+            double interval = (starts[i] - starts[i - 1]) / 1000.0;
+            sum += interval;
+            sumOfSquares += interval * interval;
+            maxDeviation = Math.max(maxDeviation, Math.abs(interval - NANOS_PER_UPDATE / 1000.0));
+        }
+        int intervals = TICKS - 1;
+        measurement.averageIntervalMicros = sum / intervals;
+        measurement.spreadMicros = Math.sqrt(Math.max(0, sumOfSquares / intervals - measurement.averageIntervalMicros * measurement.averageIntervalMicros));
+        measurement.maxDeviationMicros = maxDeviation;
+        return measurement;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private interface TestLoop {
+        void run(Runnable update);
+        void stop();
+    }
+
+    /**
+     * The new loop.
+     */
+    private static final class ParkedLoop implements TestLoop {
+        private GameLoop loop;
+
+        @Override
+        public void run(Runnable update) {
+            loop = new GameLoop(update, UPS, 5, 1000);
+            loop.run();
+        }
+
+        @Override
+        public void stop() {
+            loop.stop();
+        }
+    }
+
+    /**
+     * The update part of the loop {@code Game.run()} used before, which spins on {@code System.nanoTime()}.
+     */
+    private static final class BusySpinLoop implements TestLoop {
+        private volatile boolean running = true;
+
+        @Override
+        public void run(Runnable update) {
+            double timePerUpdate = 1000000000.0 / UPS;
+            long previousTime = System.nanoTime();
+            double deltaUpdate = 0;
+
+            while (running) {
+                long currentTime = System.nanoTime();
+                deltaUpdate += (currentTime - previousTime) / timePerUpdate;
+                previousTime = currentTime;
+
+                if (deltaUpdate >= 1) {
+                    update.run();
+                    deltaUpdate--;
+                }
+            }
+        }
+
+        @Override
+        public void stop() {
+            running = false;
+        }
+    }
+
+    private static final class Measurement {
+        private int ticks;
+        private double averageIntervalMicros;
+        private double spreadMicros;
+        private double maxDeviationMicros;
+        private double cpuPercent;
+    }
+}
@@ -0,0 +1,141 @@
+package me.xmertsalov.loop;
+
+import me.xmertsalov.Game;
+import me.xmertsalov.scenes.GameScene;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives the {@link GameLoop} with a {@link PowerSaver} and checks that an unfocused window or an idle menu runs only
+ * a few ticks per second, that a minimized window or a paused game in an unfocused window parks the update thread,
+ * and that input wakes it.
+ */
+class PowerSaverTest {
+    private static final int UPS = 200;
+
+    private final PowerSaver powerSaver = new PowerSaver(true);
+    private final List<Long> updates = new ArrayList<>();
+    private GameLoop loop;
+    private Thread thread;
+
+    @AfterEach
+    void stopLoop() throws InterruptedException {
+        loop.stop();
+        powerSaver.wake();
+        thread.join(2000);
+    }
+
+    @AfterEach
+    void restoreScene() {
+        GameScene.scene = GameScene.MENU;
+    }
+
+    @Test
+    void unfocusedWindowUpdatesAtTheReducedRate() throws InterruptedException {
+        powerSaver.setFocused(false);
+        startLoop();
+        Thread.sleep(1200);
+
+        List<Long> times = snapshot();
+        int batches = countBatches(times);
+        Game.logger.info("Unfocused: {} updates in {} wake-ups in 1.2 s", times.size(), batches);
+
+        // One tick per wake-up, about UNFOCUSED_FPS per second, the skipped ticks are not caught up on
+        assertTrue(times.size() >= 1, "no updates while unfocused");
+        assertTrue(times.size() <= PowerSaver.UNFOCUSED_FPS * 2 + 2, "ran " + times.size() + " updates");
+        assertEquals(times.size(), batches, "ran updates back to back");
+    }
+
+    @Test
+    void idleMenuUpdatesAtTheIdleRate() throws InterruptedException {
+        GameScene.scene = GameScene.MENU;
+        startLoop();
+        Thread.sleep((long) (PowerSaver.IDLE_DELAY_SECONDS * 1000) + 1000);
+
+        long idleSince = System.nanoTime() - 900_000_000L;
+        int idle = 0;
+        for (long time : snapshot()) if (time >= idleSince) idle++;
+        assertTrue(idle <= PowerSaver.IDLE_FPS + 2, idle + " updates in 0.9 s of an idle menu");
+    }
+
+    @Test
+    void pausedGameInAnUnfocusedWindowIsNotUpdated() throws InterruptedException {
+        GameScene.scene = GameScene.PLAYING;
+        powerSaver.setGamePaused(true);
+        powerSaver.setFocused(false);
+        startLoop();
+        Thread.sleep(500);
+        assertEquals(0, snapshot().size(), "updates of a paused game while unfocused");
+
+        powerSaver.setFocused(true);
+        Thread.sleep(100);
+        assertTrue(snapshot().size() >= 10, "no updates after focusing the window");
+    }
+
+    @Test
+    void minimizedWindowParksUntilRestored() throws InterruptedException {
+        startLoop();
+        Thread.sleep(200);
+        powerSaver.setMinimized(true);
+        Thread.sleep(100); // let the current iteration finish
+        int beforeParking = snapshot().size();
+
+        Thread.sleep(500);
+        assertEquals(beforeParking, snapshot().size(), "updates while minimized");
+
+        long restored = System.nanoTime();
+        powerSaver.setMinimized(false);
+        Thread.sleep(100);
+        List<Long> times = snapshot();
+        assertTrue(times.size() > beforeParking, "no updates after restoring");
+        assertTrue(times.get(beforeParking) - restored < 50_000_000L, "woke up after " + (times.get(beforeParking) - restored) / 1_000_000 + " ms");
+    }
+
+    @Test
+    void inputWakesAThrottledLoopImmediately() throws InterruptedException {
+        powerSaver.setFocused(false);
+        startLoop();
+        Thread.sleep(300);
+
+        powerSaver.setFocused(true); // restores the full rate and wakes the sleeping thread
+        long woken = System.nanoTime();
+        Thread.sleep(100);
+
+        int afterWake = 0;
+        for (long time : snapshot()) if (time >= woken) afterWake++;
+        assertTrue(afterWake >= 10, afterWake + " updates in the first 100 ms after input"); // about 20 at full rate
+    }
+
+    private void startLoop() {
+        loop = new GameLoop(() -> {
+            synchronized (updates) {
+                updates.add(System.nanoTime());
+            }
+        }, powerSaver, UPS, 5, 1000);
+        thread = new Thread(loop, "Game Loop Test");
+        thread.start();
+    }
+
+    private List<Long> snapshot() {
+        synchronized (updates) {
+            return new ArrayList<>(updates);
+        }
+    }
+
+    /**
+     * Counts groups of updates that ran back to back, separated by gaps longer than two ticks.
+     */
+    private static int countBatches(List<Long> times) {
+        int batches = times.isEmpty() ? 0 : 1;
+        for (int i = 1; i < times.size(); i++) {
+            if (times.get(i) - times.get(i - 1) > 2 * 1_000_000_000L / UPS) batches++;
+        }
+        return batches;
+    }
+}
@@ -0,0 +1,111 @@
+package me.xmertsalov.rendering;
+
+import me.xmertsalov.config.RecordingFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.w3c.dom.Node;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Records frames from a back buffer and checks the size of the written frames and the timing of a GIF.
+ */
+class FrameRecorderTest {
+    @TempDir
+    File directory;
+
+    @Test
+    void recordsAScaledBackBufferAtItsOwnSize() throws IOException {
+        RenderTarget target = new RenderTarget();
+        FrameRecorder recorder = new FrameRecorder(RecordingFormat.PNG_SEQUENCE, 1, directory);
+        recorder.start();
+
+        for (int i = 0; i < 3; i++) {
+            Graphics2D g = target.begin(400, 300, 0.5);
+            g.setColor(Color.RED);
+            g.fillRect(0, 0, 400, 150); // the top half in window coordinates
+            g.dispose();
+            recorder.capture(target.getImage());
+        }
+        recorder.close();
+
+        File[] frames = recording().listFiles((dir, name) -> name.endsWith(".png"));
+        assertNotNull(frames);
+        assertEquals(3, frames.length);
+        BufferedImage frame = ImageIO.read(frames[0]);
+        assertEquals(200, frame.getWidth());
+        assertEquals(150, frame.getHeight());
+        assertEquals(Color.RED.getRGB(), frame.getRGB(100, 10));
+        assertEquals(Color.BLACK.getRGB(), frame.getRGB(100, 140));
+    }
+
+    @Test
+    void gifDelaysFollowTheCaptureTimes() throws IOException, InterruptedException {
+        BufferedImage backBuffer = new BufferedImage(64, 48, BufferedImage.TYPE_INT_RGB);
+        FrameRecorder recorder = new FrameRecorder(RecordingFormat.GIF, 1, directory);
+        recorder.start();
+
+        int frames = 8;
+        long first = 0;
+        long last = 0;
+        for (int i = 0; i < frames; i++) {
+            if (i > 0) Thread.sleep(60);
+            long now = System.nanoTime();
+            if (i == 0) first = now;
+            last = now;
+            recorder.capture(backBuffer);
+        }
+        recorder.close();
+
+        List<Integer> delays = readGifDelays(new File(recording(), "recording.gif"));
+        assertEquals(frames, delays.size());
+
+        // Each frame is shown until the next one was captured, whatever the frame rate of the game
+        int shown = 0;
+        for (int i = 0; i < frames - 1; i++) shown += delays.get(i);
+        int captured = (int) Math.round((last - first) / 10_000_000.0);
+        assertTrue(Math.abs(shown - captured) <= 1, "frames shown for " + shown + " cs, captured over " + captured + " cs");
+        for (int delay : delays) assertTrue(delay >= 5, "delay " + delay + " cs for frames 60 ms apart");
+    }
+
+    private File recording() {
+        File[] recordings = directory.listFiles(File::isDirectory);
+        assertNotNull(recordings);
+        assertEquals(1, recordings.length);
+        return recordings[0];
+    }
+
+    private static List<Integer> readGifDelays(File file) throws IOException {
+        List<Integer> delays = new ArrayList<>();
+        ImageReader reader = ImageIO.getImageReadersByFormatName("gif").next();
+        try (ImageInputStream input = ImageIO.createImageInputStream(file)) {
+            reader.setInput(input);
+            int count = reader.getNumImages(true);
+            for (int i = 0; i < count; i++) {
+                IIOMetadata metadata = reader.getImageMetadata(i);
+                Node root = metadata.getAsTree(metadata.getNativeMetadataFormatName());
+                for (Node node = root.getFirstChild(); node != null; node = node.getNextSibling()) {
+                    if (node.getNodeName().equals("GraphicControlExtension")) {
+                        delays.add(Integer.parseInt(node.getAttributes().getNamedItem("delayTime").getNodeValue()));
+                    }
+                }
+            }
+        } finally {
+            reader.dispose();
+        }
+        return delays;
+    }
+}
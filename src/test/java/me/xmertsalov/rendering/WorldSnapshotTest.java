@@ -0,0 +1,67 @@
+package me.xmertsalov.rendering;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that published snapshots are drawn layer by layer, whatever order the entries were added in.
+ */
+class WorldSnapshotTest {
+
+    @Test
+    void ordersEntriesByLayerAndKeepsTheAddingOrderWithinALayer() {
+        SnapshotBuffer buffer = new SnapshotBuffer();
+        WorldSnapshot snapshot = buffer.beginWrite();
+
+        add(snapshot, 0, WorldSnapshot.LAYER_PARTICLES);
+        add(snapshot, 1, WorldSnapshot.LAYER_TILES);
+        add(snapshot, 2, WorldSnapshot.LAYER_BACKGROUND);
+        add(snapshot, 3, WorldSnapshot.LAYER_TILES);
+        add(snapshot, 4, WorldSnapshot.LAYER_PLAYERS);
+        add(snapshot, 5, WorldSnapshot.LAYER_BACKGROUND);
+        buffer.publish(0);
+
+        WorldSnapshot drawn = buffer.acquire();
+        int[] expected = {2, 5, 4, 1, 3, 0};
+        for (int position = 0; position < expected.length; position++) {
+            assertEquals(expected[position], (int) drawn.getX(drawn.getEntry(position)), "entry at position " + position);
+        }
+
+        assertEquals(0, drawn.getLayerStart(WorldSnapshot.LAYER_BACKGROUND));
+        assertEquals(2, drawn.getLayerEnd(WorldSnapshot.LAYER_BACKGROUND));
+        assertEquals(3, drawn.getLayerStart(WorldSnapshot.LAYER_OBJECTS));
+        assertEquals(3, drawn.getLayerEnd(WorldSnapshot.LAYER_OBJECTS)); // empty layer
+        assertEquals(5, drawn.getLayerStart(WorldSnapshot.LAYER_PARTICLES));
+        assertEquals(6, drawn.getLayerEnd(WorldSnapshot.LAYER_PARTICLES));
+    }
+
+    @Test
+    void reusedSnapshotIsOrderedAgainOnTheNextPublish() {
+        SnapshotBuffer buffer = new SnapshotBuffer();
+        for (int tick = 0; tick < 4; tick++) {
+            WorldSnapshot snapshot = buffer.beginWrite();
+            for (int i = 0; i < 600; i++) { // more than the initial capacity
+                add(snapshot, i, (i + tick) % WorldSnapshot.LAYERS);
+            }
+            buffer.publish(tick);
+
+            WorldSnapshot drawn = buffer.acquire();
+            int previousLayer = -1;
+            int previousIndex = -1;
+            for (int position = 0; position < drawn.size(); position++) {
+                int i = drawn.getEntry(position);
+                int layer = drawn.getLayer(i);
+                if (layer == previousLayer) assertTrue(i > previousIndex, "stable within layer " + layer);
+                assertTrue(layer >= previousLayer, "layers in drawing order");
+                previousLayer = layer;
+                previousIndex = i;
+            }
+        }
+    }
+
+    private static void add(WorldSnapshot snapshot, int id, int layer) {
+        snapshot.addDebugShape(WorldSnapshot.KIND_DEBUG_RECT, id, 0, 1, 1, layer);
+    }
+}
@@ -0,0 +1,88 @@
+package me.xmertsalov.scenes;
+
+import me.xmertsalov.Game;
+import me.xmertsalov.HeadlessGame;
+import me.xmertsalov.rendering.Culling;
+import me.xmertsalov.rendering.HeadlessRenderer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Draws every scene of a headless game through the {@link HeadlessRenderer} and reports the draw commands and the
+ * time per frame, rasterised at the window size and only counted. Each scene must draw something visible.
+ */
+class SceneRenderingBenchmarkTest {
+    private static final GameScene[] SCENES = {
+            GameScene.MENU, GameScene.LOBBY, GameScene.SETTINGS, GameScene.CREDITS,
+            GameScene.PANORAMA, GameScene.TUTORIAL, GameScene.PLAYING
+    };
+    private static final int UPDATES = 50; // before drawing, so the scene is past its first tick
+    private static final int WARM_UP_FRAMES = 5;
+    private static final int FRAMES = 20;
+    private static final double MAX_FRAME_MILLIS = 50; // far above the measured times, catches a scene that stalls
+
+    @AfterAll
+    static void restore() {
+        GameScene.scene = GameScene.MENU;
+    }
+
+    @Test
+    void everySceneDrawsHeadless() {
+        Game game = HeadlessGame.get();
+        HeadlessRenderer raster = new HeadlessRenderer(Game.WINDOW_WIDTH, Game.WINDOW_HEIGHT);
+        HeadlessRenderer counter = HeadlessRenderer.countingOnly();
+
+        StringBuilder report = new StringBuilder("Headless scene rendering:");
+        report.append(String.format("%n  %-9s %8s %8s %6s %6s %10s %10s", "scene", "commands", "sprites", "texts", "shapes", "raster ms", "count ms"));
+        for (GameScene scene : SCENES) {
+            GameScene.scene = scene;
+            if (scene == GameScene.PLAYING) game.getPlayingScene().reset();
+            for (int i = 0; i < UPDATES; i++) game.updateGame();
+
+            for (int i = 0; i < WARM_UP_FRAMES; i++) {
+                draw(game, raster);
+                draw(game, counter);
+            }
+            double rasterMillis = time(game, raster);
+            double countMillis = time(game, counter);
+
+            report.append(String.format("%n  %-9s %8d %8d %6d %6d %10.3f %10.3f", scene, raster.getCommandCount(), raster.getSpriteCount(),
+                    raster.getTextCount(), raster.getShapeCount(), rasterMillis, countMillis));
+
+            assertTrue(raster.getCommandCount() > 0, scene + " drew nothing");
+            assertTrue(counter.getCommandCount() == raster.getCommandCount(), scene + " counted a different frame than it drew");
+            assertTrue(hasPixels(raster.getImage()), scene + " left the frame black");
+            assertTrue(rasterMillis < MAX_FRAME_MILLIS, scene + " took " + rasterMillis + " ms per frame");
+        }
+        Game.logger.info(report.toString());
+    }
+
+    /**
+     * Draws frames of the current scene and returns the average time per frame in milliseconds.
+     * The counters of the renderer hold the commands of the last frame.
+     */
+    private static double time(Game game, HeadlessRenderer renderer) {
+        long start = System.nanoTime();
+        for (int i = 0; i < FRAMES; i++) draw(game, renderer);
+        return (System.nanoTime() - start) / 1e6 / FRAMES;
+    }
+
+    private static void draw(Game game, HeadlessRenderer renderer) {
+        renderer.clear();
+        game.renderGame(renderer);
+        Culling.endFrame();
+    }
+
+    private static boolean hasPixels(BufferedImage image) {
+        for (int y = 0; y < image.getHeight(); y += 7) {
+            for (int x = 0; x < image.getWidth(); x += 7) {
+                if ((image.getRGB(x, y) & 0xFFFFFF) != 0) return true;
+            }
+        }
+        return false;
+    }
+}
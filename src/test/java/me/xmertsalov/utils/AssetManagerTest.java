@@ -0,0 +1,128 @@
+package me.xmertsalov.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the progress the loading screen shows: only required jobs count, failed jobs count as done and are
+ * reported, and a sprite that is already being loaded is not loaded twice.
+ */
+class AssetManagerTest {
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Test
+    void progressCountsOnlyRequiredJobs() throws Exception {
+        AssetManager assets = new AssetManager();
+        CountDownLatch background = new CountDownLatch(1);
+        List<CountDownLatch> gates = new ArrayList<>();
+        List<Future<Integer>> required = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            CountDownLatch gate = new CountDownLatch(1);
+            int value = i;
+            gates.add(gate);
+            required.add(assets.submit("required " + i, () -> {
+                gate.await();
+                return value;
+            }, true));
+        }
+        Future<?> optional = assets.submit("optional", () -> {
+            background.await();
+            return null;
+        }, false);
+
+        assertEquals(0, assets.getProgress());
+        assertFalse(assets.isRequiredLoaded());
+        assertEquals(4, assets.getRequiredCount());
+        assertEquals(5, assets.getTotalCount());
+
+        gates.get(0).countDown();
+        gates.get(1).countDown();
+        assertEquals(0, (int) required.get(0).get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(1, (int) required.get(1).get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        waitFor(() -> assets.getRequiredDone() == 2);
+        assertEquals(0.5f, assets.getProgress());
+
+        gates.get(2).countDown();
+        gates.get(3).countDown();
+        waitFor(assets::isRequiredLoaded);
+        assertEquals(1f, assets.getProgress());
+        // The game leaves the loading screen while the optional job is still running
+        assertFalse(optional.isDone());
+        assertEquals(4, assets.getTotalDone());
+        assertEquals(0.8f, assets.getTotalProgress());
+
+        background.countDown();
+        optional.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        waitFor(() -> assets.getTotalDone() == 5);
+        assertNull(assets.getFailure());
+    }
+
+    @Test
+    void failedRequiredJobIsDoneAndReported() throws Exception {
+        AssetManager assets = new AssetManager();
+        Future<?> optional = assets.submit("optional", () -> {
+            throw new IllegalStateException("optional failed");
+        }, false);
+        assertThrows(ExecutionException.class, () -> optional.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        waitFor(() -> assets.getTotalDone() == 1);
+        assertNull(assets.getFailure(), "a failed optional job stopped the loading");
+
+        Future<?> required = assets.submit("required", () -> {
+            throw new IllegalStateException("required failed");
+        }, true);
+        assertThrows(ExecutionException.class, () -> required.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        waitFor(assets::isRequiredLoaded);
+
+        assertEquals(1f, assets.getProgress());
+        assertEquals("required failed", assets.getFailure().getMessage());
+    }
+
+    @Test
+    void spriteBeingLoadedIsNotLoadedTwice() throws Exception {
+        AssetManager assets = new AssetManager();
+        CountDownLatch gate = new CountDownLatch(1);
+        SpriteHandle<String> sprite = new SpriteHandle<>("slow sprite", "slow sprite", () -> {
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "pixels";
+        }, value -> 0);
+
+        Future<?> optional = assets.loadSprite(sprite, false);
+        Future<?> required = assets.loadSprite(sprite, true);
+        assertSame(optional, required);
+        assertEquals(1, assets.getTotalCount());
+
+        gate.countDown();
+        required.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertTrue(sprite.isLoaded());
+        assertEquals(1, sprite.getLoads());
+    }
+
+    private static void waitFor(Condition condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (!condition.isMet()) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            Thread.sleep(1);
+        }
+    }
+
+    private interface Condition {
+        boolean isMet();
+    }
+}
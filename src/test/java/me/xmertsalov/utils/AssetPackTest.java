@@ -0,0 +1,156 @@
+package me.xmertsalov.utils;
+
+import me.xmertsalov.Game;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Packs a copy of the player sprites, checks that a pack older than its resources is recognised in a classes
+ * directory and in a jar, and compares the startup cost of decoding the sprites with reading them from the pack.
+ */
+class AssetPackTest {
+    private static final String PLAYERS = "res/Players";
+    private static final String LEVEL = "res/world.level";
+    private static final int ROUNDS = 5;
+
+    @TempDir
+    File temporary;
+
+    @Test
+    void packOlderThanItsResourcesIsStale() throws Exception {
+        File classes = copyResources();
+        AssetPack pack = pack(classes);
+        File jar = jar(classes, new File(temporary, "game.jar"));
+
+        assertNull(pack.findStaleEntry(classes));
+        assertNull(pack.findStaleEntry(jar));
+
+        // A sprite was edited after the pack was built
+        File sprite = firstSprite(classes);
+        String name = PLAYERS + "/" + sprite.getName();
+        Files.write(sprite.toPath(), new byte[]{0}, StandardOpenOption.APPEND);
+        assertEquals(name, pack.findStaleEntry(classes));
+        assertEquals(name, pack.findStaleEntry(jar(classes, jar)));
+
+        pack = pack(classes);
+        assertNull(pack.findStaleEntry(classes), "a rebuilt pack is up to date");
+
+        // A resource was edited without changing its length
+        byte[] level = Files.readAllBytes(new File(classes, LEVEL).toPath());
+        level[level.length - 1] ^= 1;
+        Files.write(new File(classes, LEVEL).toPath(), level);
+        assertEquals(LEVEL, pack.findStaleEntry(classes));
+        assertEquals(LEVEL, pack.findStaleEntry(jar(classes, jar)));
+
+        // A resource was removed
+        pack = pack(classes);
+        assertTrue(new File(classes, LEVEL).delete());
+        assertEquals(LEVEL, pack.findStaleEntry(classes));
+        assertEquals(LEVEL, pack.findStaleEntry(jar(classes, jar)));
+    }
+
+    @Test
+    void packedSpritesLoadFasterThanDecodedOnes() throws Exception {
+        File classes = copyResources();
+        AssetPack pack = pack(classes);
+        File[] sprites = new File(classes, PLAYERS).listFiles();
+        assertNotNull(sprites);
+
+        long decodeNanos = Long.MAX_VALUE;
+        long packNanos = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (File sprite : sprites) ImageIO.read(sprite);
+            decodeNanos = Math.min(decodeNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            for (File sprite : sprites) assertNotNull(pack.getImage(PLAYERS + "/" + sprite.getName()));
+            packNanos = Math.min(packNanos, System.nanoTime() - start);
+        }
+
+        long checkStart = System.nanoTime();
+        assertNull(pack.findStaleEntry(classes));
+        long checkNanos = System.nanoTime() - checkStart;
+
+        Game.logger.info(String.format("%d player sprites: decoded %.1f ms, from the pack %.1f ms, staleness check %.1f ms",
+                sprites.length, decodeNanos / 1e6, packNanos / 1e6, checkNanos / 1e6));
+        assertTrue(packNanos + checkNanos < decodeNanos, "the pack is not faster than decoding the sprites");
+
+        BufferedImage decoded = ImageIO.read(sprites[0]);
+        BufferedImage packed = pack.getImage(PLAYERS + "/" + sprites[0].getName());
+        assertEquals(decoded.getRGB(10, 10), packed.getRGB(10, 10));
+    }
+
+    /**
+     * Copies the player sprites and the level into a classes directory below the temporary directory.
+     */
+    private File copyResources() throws IOException {
+        File classes = new File(temporary, "classes");
+        File players = new File(classes, PLAYERS);
+        assertTrue(players.mkdirs());
+
+        File source = new File("src/main/resources");
+        File[] sprites = new File(source, PLAYERS).listFiles();
+        assertNotNull(sprites);
+        for (File sprite : sprites) {
+            Files.copy(sprite.toPath(), new File(players, sprite.getName()).toPath());
+        }
+        Files.copy(new File(source, LEVEL).toPath(), new File(classes, LEVEL).toPath(), StandardCopyOption.REPLACE_EXISTING);
+        return classes;
+    }
+
+    private AssetPack pack(File classes) throws Exception {
+        File file = new File(temporary, System.nanoTime() + ".pack");
+        AssetPacker.main(new String[]{classes.getPath(), file.getPath()});
+        return new AssetPack(file);
+    }
+
+    /**
+     * Writes the resources of a classes directory into a jar, as the jar plugin does.
+     */
+    private static File jar(File classes, File jar) throws IOException {
+        List<File> files = new ArrayList<>();
+        collect(new File(classes, "res"), files);
+        try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar))) {
+            for (File file : files) {
+                out.putNextEntry(new ZipEntry(classes.toPath().relativize(file.toPath()).toString().replace(File.separatorChar, '/')));
+                out.write(Files.readAllBytes(file.toPath()));
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    private static void collect(File directory, List<File> files) {
+        File[] children = directory.listFiles();
+        if (children == null) return;
+        for (File child : children) {
+            if (child.isDirectory()) collect(child, files);
+            else files.add(child);
+        }
+    }
+
+    private static File firstSprite(File classes) {
+        File[] sprites = new File(classes, PLAYERS).listFiles();
+        assertNotNull(sprites);
+        return sprites[0];
+    }
+}
@@ -0,0 +1,125 @@
+package me.xmertsalov.utils;
+
+import me.xmertsalov.Game;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the sprite disk cache returns the stored pixels, and that an entry with a wrong checksum, format
+ * version or length is deleted and reported as a miss instead of being drawn.
+ */
+class SpriteDiskCacheTest {
+    private static final String NAME = "res/test/disk-cache.png";
+    private static final int WIDTH = 7;
+    private static final int HEIGHT = 5;
+    private static final int HEADER_SIZE = 24;
+
+    private byte[] png;
+    private File entry;
+
+    @BeforeEach
+    void store() {
+        Game.USE_SPRITE_DISK_CACHE = true;
+        png = ("png " + System.nanoTime()).getBytes(); // only the name of the entry depends on the bytes
+        entry = SpriteDiskCache.getFile(NAME, png);
+        SpriteDiskCache.store(NAME, png, image());
+        assertTrue(entry.isFile());
+    }
+
+    @Test
+    void storedPixelsAreReadBack() {
+        long hits = SpriteDiskCache.getHits();
+        BufferedImage cached = SpriteDiskCache.load(NAME, png);
+
+        assertNotNull(cached);
+        assertEquals(hits + 1, SpriteDiskCache.getHits());
+        BufferedImage expected = image();
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) assertEquals(expected.getRGB(x, y), cached.getRGB(x, y));
+        }
+    }
+
+    @Test
+    void otherPngBytesMiss() {
+        long misses = SpriteDiskCache.getMisses();
+        assertNull(SpriteDiskCache.load(NAME, "changed png".getBytes()));
+        assertEquals(misses + 1, SpriteDiskCache.getMisses());
+        assertTrue(entry.isFile(), "the entry of the other bytes was deleted");
+    }
+
+    @Test
+    void checksumMismatchIsRejected() throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(entry, "rw")) {
+            raf.seek(HEADER_SIZE + 4L * WIDTH * 2);
+            int pixel = raf.readInt();
+            raf.seek(HEADER_SIZE + 4L * WIDTH * 2);
+            raf.writeInt(pixel ^ 0x00010000);
+        }
+        assertRejected();
+    }
+
+    @Test
+    void otherFormatVersionIsRejected() throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(entry, "rw")) {
+            raf.seek(4);
+            int version = raf.readInt();
+            raf.seek(4);
+            raf.writeInt(version + 1);
+        }
+        assertRejected();
+    }
+
+    @Test
+    void truncatedEntryIsRejected() throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(entry, "rw")) {
+            raf.setLength(raf.length() - 4);
+        }
+        assertRejected();
+
+        Files.write(entry.toPath(), new byte[HEADER_SIZE / 2]);
+        assertRejected();
+    }
+
+    @Test
+    void disabledCacheIsNotUsed() {
+        Game.USE_SPRITE_DISK_CACHE = false;
+        try {
+            assertNull(SpriteDiskCache.load(NAME, png));
+        } finally {
+            Game.USE_SPRITE_DISK_CACHE = true;
+        }
+    }
+
+    /**
+     * Loads the current entry and checks that it was rejected and deleted, and that storing it again repairs it.
+     */
+    private void assertRejected() {
+        long rebuilds = SpriteDiskCache.getRebuilds();
+        assertNull(SpriteDiskCache.load(NAME, png));
+        assertEquals(rebuilds + 1, SpriteDiskCache.getRebuilds());
+        assertFalse(entry.isFile(), "the invalid entry was kept");
+
+        SpriteDiskCache.store(NAME, png, image());
+        assertNotNull(SpriteDiskCache.load(NAME, png));
+    }
+
+    private static BufferedImage image() {
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) image.setRGB(x, y, (x * 31 + y * 7) << 8 | 0x80000000 | y);
+        }
+        return image;
+    }
+}
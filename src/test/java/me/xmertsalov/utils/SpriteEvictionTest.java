@@ -0,0 +1,187 @@
+package me.xmertsalov.utils;
+
+import me.xmertsalov.rendering.SpriteCache;
+import me.xmertsalov.rendering.SpriteSheets;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks what happens to an evicted sprite: its scaled copies are dropped and not made again by a frame that was
+ * still being drawn, and its next draw has it loaded on the worker pool instead of decoding it on the render thread.
+ */
+class SpriteEvictionTest {
+    private static final long TIMEOUT_SECONDS = 10;
+    private static final int SIZE = 16;
+    private static final int SCALED_SIZE = 48;
+
+    private AssetManager previousReloader;
+
+    @BeforeEach
+    void setUp() {
+        previousReloader = SpriteRegistry.getReloader();
+    }
+
+    @AfterEach
+    void restore() {
+        SpriteRegistry.setReloader(previousReloader);
+    }
+
+    @Test
+    void scaledCopiesOfAnEvictedSpriteAreDroppedAndNotRebuilt() throws Exception {
+        SpriteHandle<BufferedImage> handle = handle("evicted sprite", () -> new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_ARGB));
+        BufferedImage sprite = handle.get();
+        BufferedImage frame = sprite.getSubimage(0, 0, SIZE / 2, SIZE / 2);
+        long before = SpriteCache.getBytes();
+
+        assertNotNull(SpriteCache.get(sprite, SCALED_SIZE, SCALED_SIZE));
+        assertNotNull(SpriteCache.get(frame, SCALED_SIZE, SCALED_SIZE));
+        assertTrue(SpriteCache.getBytes() > before);
+
+        assertTrue(handle.evict());
+        assertEquals(before, SpriteCache.getBytes(), "the copies of the evicted sprite were kept");
+
+        // The render thread may still draw the frame it looked up before the eviction
+        assertNull(SpriteCache.get(sprite, SCALED_SIZE, SCALED_SIZE));
+        assertNull(SpriteCache.get(frame, SCALED_SIZE, SCALED_SIZE));
+        assertEquals(before, SpriteCache.getBytes(), "a copy of the evicted sprite was made again");
+
+        // The reloaded sprite has new pixels, which are cached again
+        SpriteRegistry.setReloader(null);
+        BufferedImage reloaded = handle.getOrReload();
+        assertNotSame(sprite, reloaded);
+        assertNotNull(SpriteCache.get(reloaded, SCALED_SIZE, SCALED_SIZE));
+        assertTrue(handle.evict());
+    }
+
+    @Test
+    void evictionWhileDrawingLeavesNoCopy() throws Exception {
+        SpriteHandle<BufferedImage> handle = handle("raced sprite", () -> new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_ARGB));
+        BufferedImage sprite = handle.get();
+        long before = SpriteCache.getBytes();
+
+        AtomicBoolean evicted = new AtomicBoolean();
+        Thread render = new Thread(() -> {
+            // Keeps drawing the frame it looked up, at changing sizes, until after the eviction
+            for (int i = 0; !evicted.get() || i % 2 != 0; i++) SpriteCache.get(sprite, SCALED_SIZE + i % 3, SCALED_SIZE);
+        }, "Render");
+        render.start();
+        Thread.sleep(5);
+        assertTrue(handle.evict());
+        evicted.set(true);
+        render.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+
+        assertFalse(render.isAlive());
+        assertNull(SpriteCache.get(sprite, SCALED_SIZE, SCALED_SIZE));
+        assertEquals(before, SpriteCache.getBytes(), "a copy of the evicted sprite was left in the cache");
+    }
+
+    @Test
+    void evictedSheetIsReloadedOnTheWorkerPool() throws Exception {
+        AssetManager assets = new AssetManager();
+        SpriteRegistry.setReloader(assets);
+
+        CountDownLatch gate = new CountDownLatch(1);
+        AtomicBoolean loadedOnce = new AtomicBoolean();
+        BufferedImage frame = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_ARGB);
+        SpriteHandle<BufferedImage[][]> sheet = new SpriteHandle<>("evicted sheet", "evicted sheet", () -> {
+            // Reloads wait for the gate, so the test sees the sheet while it is being loaded again
+            if (loadedOnce.getAndSet(true)) {
+                try {
+                    gate.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return new BufferedImage[][]{{frame}};
+        }, frames -> SIZE * SIZE * 4);
+        int id = SpriteSheets.register(sheet);
+        sheet.get(); // loaded with the game
+        assertSame(frame, SpriteSheets.getFrame(id, 0, 0));
+
+        assertTrue(sheet.evict());
+        assertFalse(sheet.isLoaded());
+
+        // The draw does not wait for the load, which is running on the worker pool
+        int jobs = assets.getTotalCount();
+        assertNull(SpriteSheets.getFrame(id, 0, 0));
+        assertNull(SpriteSheets.getFrame(id, 0, 0));
+        assertEquals(jobs + 1, assets.getTotalCount(), "the sheet was not reloaded once on the worker pool");
+        assertFalse(sheet.isLoaded());
+
+        gate.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (!sheet.isLoaded()) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            Thread.sleep(1);
+        }
+        assertSame(frame, SpriteSheets.getFrame(id, 0, 0));
+        assertEquals(2, sheet.getLoads());
+    }
+
+    @Test
+    void failedReloadIsNotRetriedOnEveryFrame() throws Exception {
+        AssetManager assets = new AssetManager();
+        SpriteRegistry.setReloader(assets);
+
+        AtomicBoolean missing = new AtomicBoolean();
+        SpriteHandle<BufferedImage> handle = handle("missing sprite", () -> {
+            if (missing.get()) throw new IllegalStateException("the resource is gone");
+            return new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_ARGB);
+        });
+        handle.get();
+        assertTrue(handle.evict());
+        missing.set(true);
+
+        assertNull(handle.getOrReload());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (assets.getTotalDone() < 1) {
+            assertTrue(System.nanoTime() < deadline, "timed out");
+            Thread.sleep(1);
+        }
+
+        for (int frame = 0; frame < 10; frame++) assertNull(handle.getOrReload());
+        assertEquals(1, assets.getTotalCount());
+    }
+
+    @Test
+    void evictedViewOfAnAtlasPageLeavesTheOtherRegionsCached() throws Exception {
+        BufferedImage page = new BufferedImage(SIZE * 2, SIZE, BufferedImage.TYPE_INT_ARGB);
+        SpriteCache.addAtlasPage(page);
+        BufferedImage region = page.getSubimage(0, 0, SIZE, SIZE);
+        SpriteHandle<BufferedImage> handle = handle("evicted region", () -> page.getSubimage(SIZE, 0, SIZE, SIZE));
+        BufferedImage view = handle.get();
+
+        assertNotNull(SpriteCache.get(view, SCALED_SIZE, SCALED_SIZE));
+        assertTrue(handle.evict());
+
+        // The page stays loaded, so only the evicted view is not cached again
+        assertNull(SpriteCache.get(view, SCALED_SIZE, SCALED_SIZE));
+        assertNotNull(SpriteCache.get(region, SCALED_SIZE, SCALED_SIZE));
+    }
+
+    @Test
+    void pinnedSpriteIsNotEvicted() throws Exception {
+        SpriteHandle<BufferedImage> handle = SpriteHandle.of("generated sprite", new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_INT_ARGB));
+        assertFalse(handle.evict());
+        assertTrue(handle.isLoaded());
+        assertNotNull(handle.getOrReload());
+    }
+
+    private static SpriteHandle<BufferedImage> handle(String name, SpriteHandle.Loader<BufferedImage> loader) {
+        return new SpriteHandle<>(name, name, loader, image -> (long) image.getWidth() * image.getHeight() * 4);
+    }
+}
@@ -0,0 +1,107 @@
+package me.xmertsalov.utils;
+
+import me.xmertsalov.components.Animator.Animator;
+import me.xmertsalov.exceptions.BundleLoadException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Checks that every caller of the {@link SpriteRegistry} gets the same decoded atlas and the same sliced frames,
+ * also when they ask for the same atlas from several threads at once.
+ */
+class SpriteRegistryTest {
+    private static final int THREADS = 8;
+
+    @BeforeEach
+    void forgetLoadedSprites() {
+        // Other tests of the same JVM may have loaded the atlases already, and the budget may have evicted them since
+        SpriteRegistry.reset();
+    }
+
+    @Test
+    void callersShareTheDecodedAtlas() throws BundleLoadException {
+        BufferedImage image = BundleLoader.getSpriteAtlas(BundleLoader.PLAYER_WORKER_D_ATLAS);
+        long misses = SpriteRegistry.getImageMisses();
+        long hits = SpriteRegistry.getImageHits();
+
+        assertSame(image, BundleLoader.getSpriteAtlas(BundleLoader.PLAYER_WORKER_D_ATLAS));
+        assertSame(image, SpriteRegistry.getImage(BundleLoader.PLAYER_WORKER_D_ATLAS));
+        assertEquals(misses, SpriteRegistry.getImageMisses(), "a shared atlas was decoded again");
+        assertEquals(hits + 2, SpriteRegistry.getImageHits());
+    }
+
+    @Test
+    void gridsAreSlicedOnceAsViewsOfTheAtlas() throws BundleLoadException {
+        BufferedImage[][] frames = SpriteRegistry.getGrid(BundleLoader.PLAYER_WORKER_C_ATLAS, 48, 48, 12, 8);
+        long misses = SpriteRegistry.getGridMisses();
+
+        assertSame(frames, SpriteRegistry.getGrid(BundleLoader.PLAYER_WORKER_C_ATLAS, 48, 48, 12, 8));
+        assertEquals(misses, SpriteRegistry.getGridMisses());
+
+        // The frames share the pixels of the atlas instead of copying them
+        BufferedImage atlas = SpriteRegistry.getImage(BundleLoader.PLAYER_WORKER_C_ATLAS);
+        assertSame(atlas.getRaster().getDataBuffer(), frames[3][5].getRaster().getDataBuffer());
+    }
+
+    @Test
+    void animatorsOfTheSameSheetShareTheirFrames() {
+        Animator first = buildAnimator(BundleLoader.PLAYER_WORKER_B_ATLAS);
+        Animator second = buildAnimator(BundleLoader.PLAYER_WORKER_B_ATLAS);
+        Animator other = buildAnimator(BundleLoader.PLAYER_WORKER_A_ATLAS);
+
+        assertEquals(first.getSpriteSheetId(), second.getSpriteSheetId());
+        assertNotEquals(first.getSpriteSheetId(), other.getSpriteSheetId());
+    }
+
+    @Test
+    void concurrentRequestsGetOneImage() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<BufferedImage>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                Callable<BufferedImage> request = () -> {
+                    start.await();
+                    return SpriteRegistry.getImage(BundleLoader.PLAYER_SPECIAL_KNIGHT_4_ATLAS);
+                };
+                results.add(pool.submit(request));
+            }
+            start.countDown();
+
+            BufferedImage image = results.get(0).get();
+            for (Future<BufferedImage> result : results) assertSame(image, result.get());
+            assertEquals(1, SpriteRegistry.getImageHandle(BundleLoader.PLAYER_SPECIAL_KNIGHT_4_ATLAS).getLoads());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static Animator buildAnimator(String atlas) {
+        HashMap<String, List<Integer>> states = new HashMap<>();
+        states.put("IDLE", Arrays.asList(0, 4));
+        return new Animator.Builder()
+                .setImageURL(atlas)
+                .setSpriteWidth(48)
+                .setSpriteHeight(48)
+                .setRows(12)
+                .setColumns(8)
+                .setAnimationStates(states)
+                .setCurrentState("IDLE")
+                .build_and_load();
+    }
+}
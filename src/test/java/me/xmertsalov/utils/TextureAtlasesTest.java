@@ -0,0 +1,118 @@
+package me.xmertsalov.utils;
+
+import me.xmertsalov.exceptions.BundleLoadException;
+import me.xmertsalov.rendering.SpriteCache;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Looks up every sprite of the texture atlas index and checks that its region holds the pixels of its own file,
+ * that the build left the file out, and that the {@link SpriteCache} draws regions like the file from a scaled copy.
+ */
+class TextureAtlasesTest {
+    private static final File SOURCES = new File("src/main/resources");
+    private static final int SCALE = 3;
+
+    @Test
+    void everyIndexedSpriteIsARegionOfItsPage() throws Exception {
+        List<String> sprites = readIndex();
+        assertFalse(sprites.isEmpty());
+
+        for (String sprite : sprites) {
+            BufferedImage region = TextureAtlases.getRegion(sprite);
+            BufferedImage file = ImageIO.read(new File(SOURCES, sprite));
+            assertNotNull(region, sprite);
+            assertPixelsEqual(file, region, sprite);
+
+            // The file is not shipped, and the region shares the pixels of its page
+            assertNull(getClass().getClassLoader().getResource(sprite), sprite + " is packed but still shipped");
+            assertNotNull(SpriteCache.getAtlasPage(region), sprite + " is not drawn from its page");
+        }
+    }
+
+    @Test
+    void spritesThatAreNotPackedHaveNoRegion() throws BundleLoadException {
+        assertNull(TextureAtlases.getRegion(BundleLoader.PLAYER_WORKER_A_ATLAS));
+        assertNull(TextureAtlases.getRegion("res/UI/missing.png"));
+        assertNull(SpriteCache.getAtlasPage(BundleLoader.getSpriteAtlas(BundleLoader.PLAYER_WORKER_A_ATLAS)));
+    }
+
+    @Test
+    void regionsAreDrawnLikeTheirFile() throws Exception {
+        for (String sprite : readIndex()) {
+            BufferedImage region = TextureAtlases.getRegion(sprite);
+            BufferedImage file = ImageIO.read(new File(SOURCES, sprite));
+            assertDrawnAlike(file, region, sprite);
+
+            // Each region has its own scaled copy, a plain blit instead of scaling a part of the page on every draw
+            BufferedImage scaled = SpriteCache.get(region, file.getWidth() * SCALE, file.getHeight() * SCALE);
+            assertNotNull(scaled, sprite + " is not cached");
+            assertEquals(file.getWidth() * SCALE, scaled.getWidth(), sprite);
+
+            // A frame sliced from a region is drawn alike too
+            int width = Math.max(1, region.getWidth() / 2);
+            int height = Math.max(1, region.getHeight() / 2);
+            int x = region.getWidth() - width;
+            int y = region.getHeight() - height;
+            assertDrawnAlike(file.getSubimage(x, y, width, height), region.getSubimage(x, y, width, height), sprite + " frame");
+        }
+    }
+
+    /**
+     * Draws a file with {@code drawImage} and its region through the {@link SpriteCache}, scaled and mirrored,
+     * and compares the frames.
+     */
+    private static void assertDrawnAlike(BufferedImage file, BufferedImage region, String name) {
+        int width = file.getWidth() * SCALE;
+        int height = file.getHeight() * SCALE;
+        BufferedImage expected = new BufferedImage(width, height * 2, BufferedImage.TYPE_INT_ARGB);
+        BufferedImage actual = new BufferedImage(width, height * 2, BufferedImage.TYPE_INT_ARGB);
+
+        Graphics2D g = expected.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g.drawImage(file, 0, 0, width, height, null);
+        g.drawImage(file, 0, height * 2, width, -height, null);
+        g.dispose();
+
+        g = actual.createGraphics();
+        SpriteCache.draw(g, region, 0, 0, width, height);
+        SpriteCache.draw(g, region, 0, height * 2, width, -height);
+        g.dispose();
+
+        assertPixelsEqual(expected, actual, name);
+    }
+
+    private static void assertPixelsEqual(BufferedImage expected, BufferedImage actual, String name) {
+        assertEquals(expected.getWidth(), actual.getWidth(), name);
+        assertEquals(expected.getHeight(), actual.getHeight(), name);
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                int pixel = expected.getRGB(x, y);
+                // Fully transparent pixels may keep any color
+                if (pixel >>> 24 == 0 && actual.getRGB(x, y) >>> 24 == 0) continue;
+                if (pixel != actual.getRGB(x, y)) {
+                    assertEquals(Integer.toHexString(pixel), Integer.toHexString(actual.getRGB(x, y)), name + " at " + x + ", " + y);
+                }
+            }
+        }
+    }
+
+    private static List<String> readIndex() throws BundleLoadException {
+        List<String> sprites = new ArrayList<>();
+        for (String line : BundleLoader.getFileContent(TextureAtlases.INDEX).split("\n")) {
+            if (!line.isEmpty() && !line.startsWith("#")) sprites.add(line.split("\t")[1]);
+        }
+        return sprites;
+    }
+}